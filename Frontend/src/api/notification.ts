@@ -317,14 +317,14 @@ export const notificationApi = {
     page?: number;
     size?: number;
     sort?: string[];
+    cursor?: string;
   }): Promise<GetNotificationPageResponseDto> => {
     try {
-      // API 명세에 맞춰 파라미터 구성
+      // API 명세에 맞춰 파라미터 구성 (목록은 커서 방식: 다음 페이지는 직전 응답의 nextCursor)
       const queryParams: any = {};
       if (params?.type) queryParams.type = params.type;
-      if (params?.page !== undefined) queryParams.page = params.page;
+      if (params?.cursor) queryParams.cursor = params.cursor;
       if (params?.size !== undefined) queryParams.size = params.size;
-      if (params?.sort) queryParams.sort = params.sort;
 
   const response = await apiClient.get(API_ENDPOINTS.NOTIFICATIONS, queryParams);
       console.log('[NOTIF_API] getNotifications response:', response);
@@ -364,15 +364,19 @@ export const notificationApi = {
       const isFirst = typeof rawPageObj?.first === 'boolean'
         ? rawPageObj.first
         : (topFirst ?? (pageNumber <= 0));
-      const isLast = typeof rawPageObj?.last === 'boolean'
-        ? rawPageObj.last
-        : (topLast ?? (totalPages <= 1 || pageNumber >= (totalPages - 1)));
+      const nextCursor = typeof rawData?.nextCursor === 'string' ? rawData.nextCursor : undefined;
+      const isLast = typeof rawData?.hasNext === 'boolean'
+        ? !rawData.hasNext
+        : typeof rawPageObj?.last === 'boolean'
+          ? rawPageObj.last
+          : (topLast ?? (totalPages <= 1 || pageNumber >= (totalPages - 1)));
 
       return {
         ...safeResponse,
         data: {
           ...rawData,
           content: normalizedContent,
+          nextCursor,
           page: {
             number: pageNumber,
             size: pageSize,
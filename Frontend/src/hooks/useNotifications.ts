@@ -22,28 +22,26 @@ export const useNotifications = (params?: {
     size?: number;
     sort?: string[];
   };
-  const startPage = typeof baseParams.page === 'number' ? baseParams.page : 0;
   const requestedSize = typeof baseParams.size === 'number' ? baseParams.size : undefined;
-  // Query Key는 페이지를 포함하지 않음 (무한 스크롤에서 내부적으로 페이지 이동)
+  // Query Key는 커서를 포함하지 않음 (무한 스크롤에서 내부적으로 다음 페이지로 이동)
   const keyParams = { ...baseParams } as any;
   delete keyParams.page;
 
   return useInfiniteQuery({
     queryKey: queryKeys.notifications.list(keyParams),
-    initialPageParam: startPage,
+    initialPageParam: undefined as string | undefined,
     queryFn: async ({ pageParam }) => {
       const res = await notificationApi.getNotifications({
         ...keyParams,
-        page: typeof pageParam === 'number' ? pageParam : startPage,
+        ...(pageParam ? { cursor: pageParam } : {}),
         ...(requestedSize !== undefined ? { size: requestedSize } : {}),
       });
       return res;
     },
     getNextPageParam: (lastPage) => {
-      const pg = (lastPage as any)?.data?.page;
-      if (!pg) return undefined;
-      const isLast = pg.last === true || (typeof pg.totalPages === 'number' && pg.number >= pg.totalPages - 1);
-      return isLast ? undefined : (typeof pg.number === 'number' ? pg.number + 1 : undefined);
+      const data = (lastPage as any)?.data;
+      if (!data || data.page?.last === true) return undefined;
+      return typeof data.nextCursor === 'string' ? data.nextCursor : undefined;
     },
     staleTime: 30 * 1000,
     gcTime: 5 * 60 * 1000,
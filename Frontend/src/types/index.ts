@@ -467,6 +467,7 @@ export interface GetNotificationPageResponseDto {
   message?: string;
   data: {
     content: NotificationItem[];
+    nextCursor?: string; // 다음 페이지 요청 시 cursor 로 넘김 (마지막 페이지면 없음)
     page: {
       number: number;
       size: number;
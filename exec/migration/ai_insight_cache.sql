@@ -0,0 +1,14 @@
+-- =====================================================================
+-- GMS 인사이트 응답 캐시 테이블을 추가합니다. (AiInsightCacheService, 키 = 프롬프트 SHA-256)
+-- 비어 있는 상태로 시작해도 되므로 백필은 없습니다.
+--
+-- 적용 순서: README.md 참고
+-- =====================================================================
+
+CREATE TABLE IF NOT EXISTS `ai_insight_cache` (
+  `cache_key` CHAR(64) NOT NULL PRIMARY KEY COMMENT '프롬프트 SHA-256',
+  `response` JSON NOT NULL,
+  `created_at` DATETIME NOT NULL,
+  `expires_at` DATETIME NOT NULL,
+  KEY `idx_ai_insight_cache_expires` (`expires_at`)
+) ENGINE=InnoDB;
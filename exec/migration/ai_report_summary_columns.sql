@@ -0,0 +1,39 @@
+-- =====================================================================
+-- ai_report 에 아카이브 목록용 요약 컬럼과 월 컬럼(report_month, created_at 기준 생성 컬럼)을 추가하고,
+-- 기존 보고서는 content JSON 의 period / summary 에서 요약 컬럼을 채웁니다.
+-- 백필이 끝나면 7-3-2 detail=false 요청은 기존 보고서도 content 를 열지 않습니다.
+-- (요약 컬럼이 NULL 인 행은 애플리케이션이 content 를 읽어서 채우는 fallback 이 남아 있지만, 백필 후에는 타지 않음)
+--
+-- 적용 순서: README.md 참고
+-- =====================================================================
+
+ALTER TABLE `ai_report`
+  ADD COLUMN `report_month` CHAR(7) AS (DATE_FORMAT(`created_at`, '%Y-%m')) STORED COMMENT 'YYYY-MM',
+  ADD COLUMN `period_start_at` DATETIME NULL,
+  ADD COLUMN `period_end_at` DATETIME NULL,
+  ADD COLUMN `total_budget` BIGINT NULL,
+  ADD COLUMN `total_spent` BIGINT NULL,
+  ADD COLUMN `total_overspent` BIGINT NULL,
+  ADD COLUMN `total_underspent` BIGINT NULL,
+  ADD KEY `idx_ai_report_account_month` (`account_id`, `report_month`, `created_at`);
+
+-- 기간: "yyyy-MM-dd HH:mm:ss" 형식일 때만 변환 (strict 모드에서 STR_TO_DATE 실패가 오류가 되지 않도록)
+UPDATE `ai_report`
+   SET `period_start_at` = CASE
+         WHEN JSON_UNQUOTE(JSON_EXTRACT(`content`, '$.period.startAt')) REGEXP '^[0-9]{4}-[0-9]{2}-[0-9]{2} [0-9]{2}:[0-9]{2}:[0-9]{2}$'
+         THEN STR_TO_DATE(JSON_UNQUOTE(JSON_EXTRACT(`content`, '$.period.startAt')), '%Y-%m-%d %H:%i:%s')
+       END,
+       `period_end_at` = CASE
+         WHEN JSON_UNQUOTE(JSON_EXTRACT(`content`, '$.period.endAt')) REGEXP '^[0-9]{4}-[0-9]{2}-[0-9]{2} [0-9]{2}:[0-9]{2}:[0-9]{2}$'
+         THEN STR_TO_DATE(JSON_UNQUOTE(JSON_EXTRACT(`content`, '$.period.endAt')), '%Y-%m-%d %H:%i:%s')
+       END
+ WHERE `period_start_at` IS NULL;
+
+-- 합계: summary 가 있는 보고서만 (없으면 NULL 로 두고 fallback)
+UPDATE `ai_report`
+   SET `total_budget`     = CAST(JSON_UNQUOTE(JSON_EXTRACT(`content`, '$.summary.totalBudget')) AS SIGNED),
+       `total_spent`      = CAST(JSON_UNQUOTE(JSON_EXTRACT(`content`, '$.summary.totalSpent')) AS SIGNED),
+       `total_overspent`  = CAST(JSON_UNQUOTE(JSON_EXTRACT(`content`, '$.summary.totalOverspent')) AS SIGNED),
+       `total_underspent` = CAST(JSON_UNQUOTE(JSON_EXTRACT(`content`, '$.summary.totalUnderspent')) AS SIGNED)
+ WHERE `total_budget` IS NULL
+   AND JSON_TYPE(JSON_EXTRACT(`content`, '$.summary.totalBudget')) IN ('INTEGER', 'UNSIGNED INTEGER');
@@ -0,0 +1,21 @@
+-- =====================================================================
+-- AI 리포트 야간 배치의 작업 체크포인트 테이블을 추가합니다. (AiReportBatchServiceImpl)
+-- 서버마다 같은 작업을 조건부 UPDATE(status = PENDING → RUNNING)로 선점하므로 여러 대가 동시에 돌아도 한 번만 처리됩니다.
+--
+-- 적용 순서: README.md 참고
+-- =====================================================================
+
+CREATE TABLE IF NOT EXISTS `ai_report_work_item` (
+  `id` BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY,
+  `run_date` DATE NOT NULL,
+  `user_id` INT UNSIGNED NOT NULL,
+  `account_id` INT UNSIGNED NOT NULL,
+  `period_start` DATE NOT NULL,
+  `period_end` DATE NOT NULL,
+  `status` ENUM('PENDING','RUNNING','DONE','FAILED','SKIPPED') NOT NULL DEFAULT 'PENDING',
+  `attempts` INT NOT NULL DEFAULT 0,
+  `last_error` VARCHAR(255) NULL,
+  `updated_at` DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  UNIQUE KEY `uq_ai_report_work_item_run_account` (`run_date`, `account_id`),
+  KEY `idx_ai_report_work_item_run_status` (`run_date`, `status`)
+) ENGINE=InnoDB;
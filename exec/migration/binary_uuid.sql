@@ -0,0 +1,65 @@
+-- =====================================================================
+-- 외부 노출 UUID 컬럼을 VARCHAR(64) → BINARY(16) 로 바꾸고 uuid 단독 유니크 인덱스를 추가합니다.
+-- 대상: account, account_slot, slot_history, transaction, notification, notification_archive
+-- (애플리케이션은 UuidBinaryConverter 로 계속 문자열 UUID 를 주고받음)
+--
+-- 적용 순서: 애플리케이션 중지 → 이 스크립트 실행 → 새 버전 배포
+-- 기존 값이 UUID 형식이 아니면 UUID_TO_BIN 이 실패하므로, 먼저 아래 점검 쿼리로 0건인지 확인하세요.
+--   SELECT 'account', COUNT(*) FROM account WHERE NOT IS_UUID(uuid)
+--   UNION ALL SELECT 'account_slot', COUNT(*) FROM account_slot WHERE NOT IS_UUID(uuid)
+--   UNION ALL SELECT 'slot_history', COUNT(*) FROM slot_history WHERE NOT IS_UUID(uuid)
+--   UNION ALL SELECT 'transaction', COUNT(*) FROM `transaction` WHERE NOT IS_UUID(uuid)
+--   UNION ALL SELECT 'notification', COUNT(*) FROM notification WHERE NOT IS_UUID(uuid)
+--   UNION ALL SELECT 'notification_archive', COUNT(*) FROM notification_archive WHERE NOT IS_UUID(uuid);
+-- =====================================================================
+
+-- account
+ALTER TABLE `account` ADD COLUMN `uuid_bin` BINARY(16) NULL AFTER `uuid`;
+UPDATE `account` SET `uuid_bin` = UUID_TO_BIN(`uuid`);
+ALTER TABLE `account`
+  ADD KEY `idx_account_user_id` (`user_id`),
+  DROP INDEX `uk_account_user_uuid`;
+ALTER TABLE `account` DROP COLUMN `uuid`;
+ALTER TABLE `account`
+  CHANGE COLUMN `uuid_bin` `uuid` BINARY(16) NOT NULL COMMENT 'UUID_TO_BIN(UUID())',
+  ADD UNIQUE KEY `uq_account_uuid` (`uuid`);
+
+-- account_slot
+ALTER TABLE `account_slot` ADD COLUMN `uuid_bin` BINARY(16) NULL AFTER `uuid`;
+UPDATE `account_slot` SET `uuid_bin` = UUID_TO_BIN(`uuid`);
+ALTER TABLE `account_slot` DROP COLUMN `uuid`;
+ALTER TABLE `account_slot`
+  CHANGE COLUMN `uuid_bin` `uuid` BINARY(16) NOT NULL COMMENT 'UUID_TO_BIN(UUID())',
+  ADD UNIQUE KEY `uq_account_slot_uuid` (`uuid`);
+
+-- slot_history
+ALTER TABLE `slot_history` ADD COLUMN `uuid_bin` BINARY(16) NULL AFTER `uuid`;
+UPDATE `slot_history` SET `uuid_bin` = UUID_TO_BIN(`uuid`);
+ALTER TABLE `slot_history` DROP COLUMN `uuid`;
+ALTER TABLE `slot_history`
+  CHANGE COLUMN `uuid_bin` `uuid` BINARY(16) NOT NULL COMMENT 'UUID_TO_BIN(UUID())',
+  ADD UNIQUE KEY `uq_slot_history_uuid` (`uuid`);
+
+-- transaction (행이 많으면 이 구간이 가장 오래 걸림)
+ALTER TABLE `transaction` ADD COLUMN `uuid_bin` BINARY(16) NULL AFTER `uuid`;
+UPDATE `transaction` SET `uuid_bin` = UUID_TO_BIN(`uuid`);
+ALTER TABLE `transaction` DROP COLUMN `uuid`;
+ALTER TABLE `transaction`
+  CHANGE COLUMN `uuid_bin` `uuid` BINARY(16) NOT NULL COMMENT 'UUID_TO_BIN(UUID())',
+  ADD UNIQUE KEY `uq_transaction_uuid` (`uuid`);
+
+-- notification
+ALTER TABLE `notification` ADD COLUMN `uuid_bin` BINARY(16) NULL AFTER `uuid`;
+UPDATE `notification` SET `uuid_bin` = UUID_TO_BIN(`uuid`);
+ALTER TABLE `notification` DROP COLUMN `uuid`;
+ALTER TABLE `notification`
+  CHANGE COLUMN `uuid_bin` `uuid` BINARY(16) NOT NULL COMMENT 'UUID_TO_BIN(UUID())',
+  ADD UNIQUE KEY `uq_notification_uuid` (`uuid`);
+
+-- notification_archive (notification 에서 uuid 를 그대로 복사해 오므로 같은 타입)
+ALTER TABLE `notification_archive` ADD COLUMN `uuid_bin` BINARY(16) NULL AFTER `uuid`;
+UPDATE `notification_archive` SET `uuid_bin` = UUID_TO_BIN(`uuid`);
+ALTER TABLE `notification_archive` DROP INDEX `uq_notification_archive_uuid`, DROP COLUMN `uuid`;
+ALTER TABLE `notification_archive`
+  CHANGE COLUMN `uuid_bin` `uuid` BINARY(16) NOT NULL,
+  ADD UNIQUE KEY `uq_notification_archive_uuid` (`uuid`);
@@ -0,0 +1,16 @@
+-- =====================================================================
+-- 슬롯/은행 카탈로그(SlotCatalog, BankCatalog) 갱신 신호 테이블을 추가합니다.
+-- slot, bank 테이블을 바꾼 뒤 version 을 올리면 서버가 다음 확인 주기(catalog.refresh-check-ms)에 다시 읽어갑니다.
+--   INSERT INTO catalog_version (name, version) VALUES ('slot', 1) ON DUPLICATE KEY UPDATE version = version + 1;
+-- 이 스크립트 적용 전에도 서버는 version 0 으로 보고 max-age-ms 주기로만 다시 읽으므로 배포 순서는 상관없습니다.
+--
+-- 적용 순서: README.md 참고
+-- =====================================================================
+
+CREATE TABLE IF NOT EXISTS `catalog_version` (
+  `name` VARCHAR(32) NOT NULL PRIMARY KEY COMMENT 'slot | bank',
+  `version` BIGINT NOT NULL DEFAULT 0,
+  `updated_at` DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+) ENGINE=InnoDB;
+
+INSERT IGNORE INTO catalog_version (name, version) VALUES ('slot', 0), ('bank', 0);
@@ -0,0 +1,21 @@
+-- =====================================================================
+-- transaction, slot_history, refresh_token 의 id 를 AUTO_INCREMENT 대신 id_sequence 블록 할당으로 바꿉니다.
+-- (엔티티가 @TableGenerator + pooled-lo 로 100개씩 받아 쓰므로 Hibernate JDBC 배치 insert 가 켜짐)
+--
+-- 적용 순서: 애플리케이션 중지 → 이 스크립트 실행 → 새 버전 배포
+-- 기존 AUTO_INCREMENT 속성은 그대로 두지만, 이후 이 테이블들에 id 없이 직접 insert 하면 할당된 블록과 겹칠 수 있으니 주의하세요.
+-- =====================================================================
+
+CREATE TABLE IF NOT EXISTS `id_sequence` (
+  `name` VARCHAR(64) NOT NULL PRIMARY KEY,
+  `next_val` BIGINT NOT NULL
+) ENGINE=InnoDB;
+
+-- 현재 최대 id 다음 값부터 할당 (이미 행이 있으면 더 큰 값으로만 올림)
+INSERT INTO `id_sequence` (name, next_val)
+SELECT * FROM (
+  SELECT 'transaction' AS name, COALESCE(MAX(id), 0) + 1 AS next_val FROM `transaction`
+  UNION ALL SELECT 'slot_history', COALESCE(MAX(id), 0) + 1 FROM `slot_history`
+  UNION ALL SELECT 'refresh_token', COALESCE(MAX(id), 0) + 1 FROM `refresh_token`
+) AS s
+ON DUPLICATE KEY UPDATE next_val = GREATEST(`id_sequence`.next_val, s.next_val);
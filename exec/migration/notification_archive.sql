@@ -0,0 +1,33 @@
+-- =====================================================================
+-- 읽은 지 오래된 알림을 옮겨두는 archive 티어 테이블과, 이동 대상 조회용 인덱스를 추가합니다. (NotificationRetentionScheduler)
+-- id / uuid 는 notification 에서 그대로 복사하고, type 은 notification 과 같이 NULL 을 허용합니다.
+-- uuid 는 이 단계에서는 notification 과 같은 VARCHAR(64) 이고, 뒤의 binary_uuid.sql 이 함께 BINARY(16) 으로 바꿉니다.
+--
+-- 적용 순서: README.md 참고 (binary_uuid.sql 보다 먼저)
+-- =====================================================================
+
+ALTER TABLE `notification`
+  ADD KEY `idx_notification_isread_readat` (`is_read`, `read_at`),
+  ALGORITHM=INPLACE, LOCK=NONE;
+
+CREATE TABLE IF NOT EXISTS `notification_archive` (
+  `id` INT UNSIGNED PRIMARY KEY,
+  `uuid` VARCHAR(64) NOT NULL,
+  `user_id` INT UNSIGNED NOT NULL,
+  `title` VARCHAR(255) NOT NULL,
+  `body` TINYTEXT,
+  `is_delivered` BOOLEAN,
+  `delivered_at` DATETIME,
+  `is_read` BOOLEAN DEFAULT TRUE NOT NULL,
+  `read_at` DATETIME,
+  `type` ENUM('SYSTEM', 'DEVICE', 'BUDGET', 'SLOT', 'UNCATEGORIZED', 'TRANSACTION', 'MARKETING') DEFAULT NULL,
+  `tx_id` INT UNSIGNED NULL,
+  `archived_at` DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  CONSTRAINT `fk_notification_archive_user_id`
+    FOREIGN KEY (`user_id`) REFERENCES `user`(`id`)
+      ON DELETE CASCADE
+      ON UPDATE CASCADE,
+  UNIQUE KEY `uq_notification_archive_uuid` (`uuid`),
+  KEY `idx_notification_archive_user_id` (`user_id`, `id`),
+  KEY `idx_notification_archive_user_type_id` (`user_id`, `type`, `id`)
+) ENGINE=InnoDB;
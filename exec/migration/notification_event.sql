@@ -0,0 +1,29 @@
+-- =====================================================================
+-- 동기화 알림 코얼레싱용 원본 이벤트 테이블을 추가합니다. (NotificationCoalescer)
+-- claimed_by / claimed_at 은 서버가 여러 대일 때 한 묶음을 한 서버만 발송하도록 flush 가 먼저 잡는 표시입니다.
+--
+-- 적용 순서: README.md 참고 (notification 테이블이 있어야 함)
+-- =====================================================================
+
+CREATE TABLE IF NOT EXISTS `notification_event` (
+  `id` INT UNSIGNED AUTO_INCREMENT PRIMARY KEY,
+  `user_id` INT UNSIGNED NOT NULL,
+  `type` ENUM('SYSTEM', 'DEVICE', 'BUDGET', 'SLOT', 'UNCATEGORIZED', 'TRANSACTION', 'MARKETING') NOT NULL,
+  `title` VARCHAR(255) NOT NULL,
+  `body` TINYTEXT,
+  `label` VARCHAR(64) NULL COMMENT '요약문에 쓸 슬롯명/거래처명',
+  `tx_id` INT UNSIGNED NULL,
+  `notification_id` INT UNSIGNED NULL COMMENT 'NULL이면 아직 발송 대기중',
+  `claimed_by` VARCHAR(64) NULL COMMENT '묶음을 발송 중인 서버',
+  `claimed_at` DATETIME NULL,
+  `created_at` DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  CONSTRAINT `fk_notification_event_user_id`
+    FOREIGN KEY (`user_id`) REFERENCES `user`(`id`)
+      ON DELETE CASCADE
+      ON UPDATE CASCADE,
+  CONSTRAINT `fk_notification_event_notification_id`
+    FOREIGN KEY (`notification_id`) REFERENCES `notification`(`id`)
+      ON DELETE CASCADE
+      ON UPDATE CASCADE,
+  KEY `idx_notification_event_pending` (`notification_id`, `user_id`, `type`, `created_at`)
+) ENGINE=InnoDB;
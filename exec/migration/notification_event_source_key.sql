@@ -0,0 +1,21 @@
+-- =====================================================================
+-- notification_event 중복 방지 키를 tx_id 에서 은행 거래 기준 source_key (account_id:transactionUniqueNo) 로 바꿉니다.
+-- 동기화를 재시도하면 transaction 행(tx_id)은 새로 생기지만 source_key 는 같아서 같은 거래 알림이 두 번 쌓이지 않습니다.
+--
+-- 적용 순서: README.md 참고 (notification_event.sql 다음)
+-- =====================================================================
+
+ALTER TABLE `notification_event`
+  ADD COLUMN `source_key` VARCHAR(64) NULL COMMENT '은행 거래 기준 중복 방지 키 (account_id:transactionUniqueNo)' AFTER `tx_id`;
+
+-- 이미 쌓인 이벤트는 연결된 거래에서 키를 채움 (같은 키가 여러 건이면 가장 먼저 쌓인 것만 남김)
+UPDATE `notification_event` e
+  JOIN `transaction` t ON t.id = e.tx_id
+   SET e.source_key = CONCAT(t.account_id, ':', t.unique_no);
+
+DELETE e FROM `notification_event` e
+  JOIN `notification_event` d
+    ON d.user_id = e.user_id AND d.type = e.type AND d.source_key = e.source_key AND d.id < e.id;
+
+ALTER TABLE `notification_event`
+  ADD UNIQUE KEY `uq_notification_event_user_type_source` (`user_id`, `type`, `source_key`);
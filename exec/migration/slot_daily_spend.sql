@@ -0,0 +1,34 @@
+-- =====================================================================
+-- 계좌슬롯 × 일자 거래금액 집계 테이블을 추가하고, 기존 거래 원장 전체로 한 번 채웁니다. (SlotDailySpendService)
+-- total_amount 는 account_slot.spent 와 같은 기준(모든 거래), spend_amount 는 입금을 뺀 지출입니다.
+--
+-- 적용 순서: README.md 참고
+-- 백필은 애플리케이션을 멈춘 상태에서 실행하세요. (실행 중 들어온 거래는 집계에서 빠짐)
+-- 나중에 어긋나면 daily-spend.rebuild.days 를 크게 잡고 SlotDailySpendRebuildScheduler 를 한 번 돌려서 다시 맞출 수 있습니다.
+-- =====================================================================
+
+CREATE TABLE IF NOT EXISTS `slot_daily_spend` (
+  `id` BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY,
+  `account_slot_id` INT UNSIGNED NOT NULL,
+  `spend_date` DATE NOT NULL,
+  `total_amount` BIGINT NOT NULL DEFAULT 0 COMMENT '모든 거래 (account_slot.spent 기준)',
+  `spend_amount` BIGINT NOT NULL DEFAULT 0 COMMENT '입금 제외 지출',
+  `tx_count` INT NOT NULL DEFAULT 0,
+  CONSTRAINT `fk_slot_daily_spend_account_slot_id`
+    FOREIGN KEY (`account_slot_id`) REFERENCES `account_slot`(`id`)
+      ON DELETE CASCADE
+      ON UPDATE CASCADE,
+  UNIQUE KEY `uq_slot_daily_spend_slot_date` (`account_slot_id`, `spend_date`),
+  KEY `idx_slot_daily_spend_date` (`spend_date`)
+) ENGINE=InnoDB;
+
+-- 백필 (SlotDailySpendRepository.rebuildRange 와 같은 식)
+DELETE FROM `slot_daily_spend`;
+INSERT INTO `slot_daily_spend` (account_slot_id, spend_date, total_amount, spend_amount, tx_count)
+SELECT t.account_slot_id,
+       DATE(t.transaction_at),
+       SUM(t.amount),
+       SUM(CASE WHEN t.type IN ('입금', '입금(이체)') THEN 0 ELSE t.amount END),
+       COUNT(*)
+  FROM `transaction` t
+ GROUP BY t.account_slot_id, DATE(t.transaction_at);
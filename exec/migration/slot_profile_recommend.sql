@@ -0,0 +1,36 @@
+-- =====================================================================
+-- 통계 기반 슬롯 추천(ProfileSlotRecommender) 테이블을 추가합니다.
+-- - slot_profile_stat: 프로필 칸(연령대, 성별, 직업)별 슬롯 채택률 / 예산 통계. 파생 데이터라 백필하지 않고
+--   다음 야간 rebuild(scheduling.slot-profile-stat.cron) 때 채워집니다. 그 전까지 추천은 기존처럼 GPT 를 씁니다.
+-- - slot_recommend_sample: 오프라인 평가(ProfileRecommendEvaluator)용 GPT 추천 표본. 과거 추천은 저장된 적이 없어서
+--   적용 이후의 GPT 응답부터 쌓입니다.
+--
+-- 적용 순서: README.md 참고
+-- =====================================================================
+
+CREATE TABLE IF NOT EXISTS `slot_profile_stat` (
+  `id` INT UNSIGNED AUTO_INCREMENT PRIMARY KEY,
+  `age_band` VARCHAR(8) NOT NULL COMMENT '연령대(20, 30 ...), * = 전체',
+  `gender` VARCHAR(10) NOT NULL COMMENT '* = 전체',
+  `job` VARCHAR(20) NOT NULL COMMENT '* = 전체',
+  `slot_id` INT UNSIGNED NOT NULL,
+  `account_count` INT UNSIGNED NOT NULL COMMENT '이 프로필 칸의 계좌 수',
+  `avg_total_budget` BIGINT UNSIGNED NOT NULL COMMENT '이 프로필 칸 계좌들의 예산 합계 평균',
+  `slot_account_count` INT UNSIGNED NOT NULL COMMENT '그 중 이 슬롯을 가진 계좌 수',
+  `avg_budget` BIGINT UNSIGNED NOT NULL COMMENT '이 슬롯을 가진 계좌들의 슬롯 예산 평균',
+  `avg_share` DOUBLE NOT NULL COMMENT '이 슬롯을 가진 계좌들의 (슬롯 예산 / 계좌 예산 합계) 평균',
+  `computed_at` DATETIME NOT NULL,
+  UNIQUE KEY `uq_slot_profile_stat` (`age_band`, `gender`, `job`, `slot_id`)
+) ENGINE=InnoDB;
+
+CREATE TABLE IF NOT EXISTS `slot_recommend_sample` (
+  `id` BIGINT UNSIGNED AUTO_INCREMENT PRIMARY KEY,
+  `age_band` VARCHAR(8) NOT NULL,
+  `gender` VARCHAR(10) NOT NULL,
+  `job` VARCHAR(20) NOT NULL,
+  `income` BIGINT UNSIGNED NULL,
+  `balance` BIGINT UNSIGNED NULL,
+  `recommended` JSON NOT NULL COMMENT 'GPT 추천 결과 [{name, initialBudget}]',
+  `created_at` DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  KEY `idx_slot_recommend_sample_created` (`created_at`)
+) ENGINE=InnoDB;
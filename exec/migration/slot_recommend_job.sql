@@ -0,0 +1,26 @@
+-- =====================================================================
+-- 슬롯 추천 비동기 작업 저장 테이블을 추가합니다. (SlotRecommendJobService)
+-- 작업 상태/결과를 서버 메모리가 아닌 DB 에 두어서 다른 서버로 폴링이 가거나 재배포해도 조회됩니다.
+-- 기존 메모리 저장소의 작업은 옮기지 않습니다. (ttl 30분짜리 임시 결과라 배포 중 진행 중이던 요청만 다시 하면 됨)
+--
+-- 적용 순서: README.md 참고
+-- =====================================================================
+
+CREATE TABLE IF NOT EXISTS `slot_recommend_job` (
+  `id` BIGINT UNSIGNED AUTO_INCREMENT PRIMARY KEY,
+  `uuid` BINARY(16) NOT NULL COMMENT '폴링용 jobId',
+  `kind` ENUM('TRANSACTION','PROFILE') NOT NULL,
+  `user_id` INT UNSIGNED NOT NULL,
+  `account_id` INT UNSIGNED NOT NULL,
+  `active_key` VARCHAR(255) NULL COMMENT '진행 중일 때만 중복 판별 키, 끝나면 NULL',
+  `owner` VARCHAR(64) NOT NULL COMMENT '실행 서버 인스턴스',
+  `status` ENUM('PENDING','RUNNING','DONE','FAILED') NOT NULL DEFAULT 'PENDING',
+  `result` JSON NULL,
+  `error` VARCHAR(255) NULL,
+  `created_at` DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  `finished_at` DATETIME NULL,
+  UNIQUE KEY `uq_slot_recommend_job_uuid` (`uuid`),
+  UNIQUE KEY `uq_slot_recommend_job_active_key` (`active_key`),
+  KEY `idx_slot_recommend_job_status_created` (`status`, `created_at`),
+  KEY `idx_slot_recommend_job_finished` (`finished_at`)
+) ENGINE=InnoDB;
@@ -0,0 +1,12 @@
+-- =====================================================================
+-- 슬롯 거래내역 목록을 (transaction_at, id) 키셋 커서로 페이징하기 위한 인덱스 입니다.
+-- WHERE account_slot_id = ? AND (transaction_at, id) < (?, ?) ORDER BY transaction_at DESC, id DESC LIMIT ?
+-- 가 이 인덱스 하나로 범위 스캔 + 정렬 없이 LIMIT 건에서 멈춥니다.
+-- (계좌 거래내역은 기존 idx_tx_account_time (account_id, transaction_at) 뒤에 PK(id) 가 붙어 있어서 그대로 씁니다)
+--
+-- 확인: EXPLAIN 의 key 가 idx_tx_slot_time_id, type 이 range (첫 페이지는 ref), Extra 에 Using filesort 가 없어야 합니다.
+-- =====================================================================
+
+ALTER TABLE `transaction`
+  ADD KEY `idx_tx_slot_time_id` (`account_slot_id`, `transaction_at`, `id`),
+  ALGORITHM=INPLACE, LOCK=NONE;
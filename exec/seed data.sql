@@ -62,13 +62,13 @@ VALUES
 -- ACCOUNT
 INSERT INTO `account` (id, uuid, user_id, bank_id, alias, encrypted_account_no, balance, is_primary, last_synced_transaction_unique_no)
 VALUES
-(1, UUID(), 1, 3, NULL, 'XBaVgD2G8YWC6otR70CIB+QEUyihPrjpOEKmwzPhgco=', 5000000, TRUE, 0),
-(2, UUID(), 1, 4, '비상금통장', '+XuHwQ48eiy4J3rSoCToieQEUyihPrjpOEKmwzPhgco=', 2000000, FALSE, 0),
-(3, UUID(), 1, 5, NULL, 'iNmlCNGeZOAHc7k6ar6PFOQEUyihPrjpOEKmwzPhgco=', 1000000, TRUE, 0),
-(4, UUID(), 1, 5, NULL, '3zkMX7fMlQXCAsR/mEnkR+QEUyihPrjpOEKmwzPhgco=', 1000000, TRUE, 0),
-(5, UUID(), 1, 5, NULL, 'FqNF3m7Kc6hNMZ5c+22vkuQEUyihPrjpOEKmwzPhgco=', 1000000, TRUE, 0),
-(6, UUID(), 1, 5, NULL, 'tSlPBJlPzR182rcfPeGQleQEUyihPrjpOEKmwzPhgco=', 1000000, TRUE, 0),
-(7, UUID(), 1, 5, NULL, 'E6QSXu7oSvcgX3wr8U8wKuQEUyihPrjpOEKmwzPhgco=', 1000000, TRUE, 0);
+(1, UUID_TO_BIN(UUID()), 1, 3, NULL, 'XBaVgD2G8YWC6otR70CIB+QEUyihPrjpOEKmwzPhgco=', 5000000, TRUE, 0),
+(2, UUID_TO_BIN(UUID()), 1, 4, '비상금통장', '+XuHwQ48eiy4J3rSoCToieQEUyihPrjpOEKmwzPhgco=', 2000000, FALSE, 0),
+(3, UUID_TO_BIN(UUID()), 1, 5, NULL, 'iNmlCNGeZOAHc7k6ar6PFOQEUyihPrjpOEKmwzPhgco=', 1000000, TRUE, 0),
+(4, UUID_TO_BIN(UUID()), 1, 5, NULL, '3zkMX7fMlQXCAsR/mEnkR+QEUyihPrjpOEKmwzPhgco=', 1000000, TRUE, 0),
+(5, UUID_TO_BIN(UUID()), 1, 5, NULL, 'FqNF3m7Kc6hNMZ5c+22vkuQEUyihPrjpOEKmwzPhgco=', 1000000, TRUE, 0),
+(6, UUID_TO_BIN(UUID()), 1, 5, NULL, 'tSlPBJlPzR182rcfPeGQleQEUyihPrjpOEKmwzPhgco=', 1000000, TRUE, 0),
+(7, UUID_TO_BIN(UUID()), 1, 5, NULL, 'E6QSXu7oSvcgX3wr8U8wKuQEUyihPrjpOEKmwzPhgco=', 1000000, TRUE, 0);
 
 -- 0을 명시적으로 넣기 위해 필요 (미분류 슬롯 id=0)
 SET @OLD_SQL_MODE := @@sql_mode;
@@ -103,75 +103,81 @@ VALUES
 (23, UUID(), '후원', FALSE, NULL),
 (24, UUID(), '여행/숙박', FALSE, NULL);
 
+-- CATALOG_VERSION (slot, bank 를 바꾸면 version + 1)
+INSERT INTO `catalog_version` (name, version)
+VALUES
+('slot', 1),
+('bank', 1);
+
 -- ACCOUNT_SLOT
 INSERT INTO `account_slot` (id, uuid, account_id, slot_id, initial_budget, current_budget, spent, budget_change_count, is_budget_exceeded, is_custom, custom_name)
 VALUES
-(1, UUID(), 1, 1, 100000, 150000, 4500, 1, FALSE, FALSE, NULL),
-(2, UUID(), 1, 2, 300000, 300000, 300000, 0, FALSE, FALSE, NULL),
-(3, UUID(), 1, 0, 30000, 30000, 0, 0, FALSE, FALSE, NULL),
-(4, UUID(), 2, 1, 100000, 100000, 0, 0, FALSE, FALSE, NULL),
-(5, UUID(), 2, 2, 50000, 100000, 0, 1, FALSE, FALSE, NULL),
-(6, UUID(), 2, 0, 30000, 30000, 0, 0, FALSE, FALSE, NULL),
-(7, UUID(), 3, 1, 100000, 100000, 0, 0, FALSE, FALSE, NULL),
-(8, UUID(), 3, 0, 50000, 50000, 0, 0, FALSE, FALSE, NULL),
-(9, UUID(), 4, 0, 30000, 60000, 0, 1, FALSE, FALSE, NULL),
-(10, UUID(), 4, 4,  120000, 120000, 0, 0, FALSE, FALSE, NULL),  -- 카페/간식
-(11, UUID(), 5, 14,  15000,  15000,  0, 0, FALSE, FALSE, NULL), -- 구독비
-(12, UUID(), 5, 0,       50200,      0,  0, 0, FALSE, FALSE, NULL), -- 미분류(테스트용)
-(13, UUID(), 6, 5,       2200,      0,  0, 0, FALSE, FALSE, NULL), 
-(14, UUID(), 6, 9,       11131,      0,  0, 0, FALSE, FALSE, NULL), 
-(15, UUID(), 6, 0,       335555,      0,  0, 0, FALSE, FALSE, NULL), 
-(16, UUID(), 7, 1,       552125,      0,  0, 0, FALSE, FALSE, NULL), 
-(17, UUID(), 7, 0,       52222,      0,  0, 0, FALSE, FALSE, NULL), 
-(18, UUID(), 7, 2,       10000,      0,  0, 0, FALSE, FALSE, NULL),
-(19, UUID(), 1, 4, 120000, 120000, 0, 0, FALSE, FALSE, NULL),
-(20, UUID(), 1, 14, 15000, 15000, 0, 0, FALSE, FALSE, NULL);
+(1, UUID_TO_BIN(UUID()), 1, 1, 100000, 150000, 4500, 1, FALSE, FALSE, NULL),
+(2, UUID_TO_BIN(UUID()), 1, 2, 300000, 300000, 300000, 0, FALSE, FALSE, NULL),
+(3, UUID_TO_BIN(UUID()), 1, 0, 30000, 30000, 0, 0, FALSE, FALSE, NULL),
+(4, UUID_TO_BIN(UUID()), 2, 1, 100000, 100000, 0, 0, FALSE, FALSE, NULL),
+(5, UUID_TO_BIN(UUID()), 2, 2, 50000, 100000, 0, 1, FALSE, FALSE, NULL),
+(6, UUID_TO_BIN(UUID()), 2, 0, 30000, 30000, 0, 0, FALSE, FALSE, NULL),
+(7, UUID_TO_BIN(UUID()), 3, 1, 100000, 100000, 0, 0, FALSE, FALSE, NULL),
+(8, UUID_TO_BIN(UUID()), 3, 0, 50000, 50000, 0, 0, FALSE, FALSE, NULL),
+(9, UUID_TO_BIN(UUID()), 4, 0, 30000, 60000, 0, 1, FALSE, FALSE, NULL),
+(10, UUID_TO_BIN(UUID()), 4, 4,  120000, 120000, 0, 0, FALSE, FALSE, NULL),  -- 카페/간식
+(11, UUID_TO_BIN(UUID()), 5, 14,  15000,  15000,  0, 0, FALSE, FALSE, NULL), -- 구독비
+(12, UUID_TO_BIN(UUID()), 5, 0,       50200,      0,  0, 0, FALSE, FALSE, NULL), -- 미분류(테스트용)
+(13, UUID_TO_BIN(UUID()), 6, 5,       2200,      0,  0, 0, FALSE, FALSE, NULL), 
+(14, UUID_TO_BIN(UUID()), 6, 9,       11131,      0,  0, 0, FALSE, FALSE, NULL), 
+(15, UUID_TO_BIN(UUID()), 6, 0,       335555,      0,  0, 0, FALSE, FALSE, NULL), 
+(16, UUID_TO_BIN(UUID()), 7, 1,       552125,      0,  0, 0, FALSE, FALSE, NULL), 
+(17, UUID_TO_BIN(UUID()), 7, 0,       52222,      0,  0, 0, FALSE, FALSE, NULL), 
+(18, UUID_TO_BIN(UUID()), 7, 2,       10000,      0,  0, 0, FALSE, FALSE, NULL),
+(19, UUID_TO_BIN(UUID()), 1, 4, 120000, 120000, 0, 0, FALSE, FALSE, NULL),
+(20, UUID_TO_BIN(UUID()), 1, 14, 15000, 15000, 0, 0, FALSE, FALSE, NULL);
 
 -- SLOT_HISTORY
 INSERT INTO `slot_history` (id, uuid, account_slot_id, old_budget, new_budget)
 VALUES
-(1, UUID(), 1, 100000, 150000),
-(2, UUID(), 5, 50000, 100000),
-(3, UUID(), 9, 30000, 60000),
-(4, UUID(), 10, 100000, 120000);
+(1, UUID_TO_BIN(UUID()), 1, 100000, 150000),
+(2, UUID_TO_BIN(UUID()), 5, 50000, 100000),
+(3, UUID_TO_BIN(UUID()), 9, 30000, 60000),
+(4, UUID_TO_BIN(UUID()), 10, 100000, 120000);
 
 -- TRANSACTION
 INSERT INTO `transaction` (id, uuid, account_id, account_slot_id, unique_no, type, opponent_account_no, summary, amount, balance, transaction_at)
 VALUES
-(1, UUID(), 1, 1, 10001, '출금', NULL, '스타벅스 도안DT점', 4500, 4995500, '2025-09-10 12:30:00'),
-(2, UUID(), 1, 2, 10002, '출금(이체)', 444433332222, '박형복', 300000, 4695500, '2025-09-11 08:10:00'),
-(3,  UUID(), 1, 1, 80001, '출금',         NULL, '맥도날드 둔산점',     12000, 5318000, '2025-08-02 12:10:00'),
-(4,  UUID(), 1, 1, 80002, '출금',         NULL, '스타벅스 둔산점',      5500,  5312500, '2025-08-05 09:05:00'),
-(5,  UUID(), 1, 1, 80003, '출금',         NULL, '버거킹 용문점',        8900,  5303600, '2025-08-10 18:40:00'),
-(6,  UUID(), 1, 1, 80004, '출금',         NULL, '회사 구내식당',        75000, 5228600, '2025-08-14 12:00:00'),
-(7,  UUID(), 1, 1, 80005, '출금',         NULL, 'BBQ 도안점',          68600, 5160000, '2025-08-20 20:15:00'),
+(1, UUID_TO_BIN(UUID()), 1, 1, 10001, '출금', NULL, '스타벅스 도안DT점', 4500, 4995500, '2025-09-10 12:30:00'),
+(2, UUID_TO_BIN(UUID()), 1, 2, 10002, '출금(이체)', 444433332222, '박형복', 300000, 4695500, '2025-09-11 08:10:00'),
+(3,  UUID_TO_BIN(UUID()), 1, 1, 80001, '출금',         NULL, '맥도날드 둔산점',     12000, 5318000, '2025-08-02 12:10:00'),
+(4,  UUID_TO_BIN(UUID()), 1, 1, 80002, '출금',         NULL, '스타벅스 둔산점',      5500,  5312500, '2025-08-05 09:05:00'),
+(5,  UUID_TO_BIN(UUID()), 1, 1, 80003, '출금',         NULL, '버거킹 용문점',        8900,  5303600, '2025-08-10 18:40:00'),
+(6,  UUID_TO_BIN(UUID()), 1, 1, 80004, '출금',         NULL, '회사 구내식당',        75000, 5228600, '2025-08-14 12:00:00'),
+(7,  UUID_TO_BIN(UUID()), 1, 1, 80005, '출금',         NULL, 'BBQ 도안점',          68600, 5160000, '2025-08-20 20:15:00'),
 
 -- [교통비: 총 180,000 = 절약 120,000]
-(8,  UUID(), 1, 2, 80006, '출금',         NULL, '교통카드 충전',        50000, 5110000, '2025-08-01 08:00:00'),
-(9,  UUID(), 1, 2, 80007, '출금',         NULL, 'KTX 서울',            60000, 5050000, '2025-08-09 07:30:00'),
-(10, UUID(), 1, 2, 80008, '출금',         NULL, '택시',                35000, 5015000, '2025-08-15 23:50:00'),
-(11, UUID(), 1, 2, 80009, '출금',         NULL, '버스',                35000, 4980000, '2025-08-28 19:12:00'),
+(8,  UUID_TO_BIN(UUID()), 1, 2, 80006, '출금',         NULL, '교통카드 충전',        50000, 5110000, '2025-08-01 08:00:00'),
+(9,  UUID_TO_BIN(UUID()), 1, 2, 80007, '출금',         NULL, 'KTX 서울',            60000, 5050000, '2025-08-09 07:30:00'),
+(10, UUID_TO_BIN(UUID()), 1, 2, 80008, '출금',         NULL, '택시',                35000, 5015000, '2025-08-15 23:50:00'),
+(11, UUID_TO_BIN(UUID()), 1, 2, 80009, '출금',         NULL, '버스',                35000, 4980000, '2025-08-28 19:12:00'),
 
 -- [의류/잡화: 총 20,000 = 절약 10,000]
-(12, UUID(), 1, 3, 80010, '출금',         NULL, '유니클로 타임월드',    20000, 4960000, '2025-08-18 16:20:00'),
+(12, UUID_TO_BIN(UUID()), 1, 3, 80010, '출금',         NULL, '유니클로 타임월드',    20000, 4960000, '2025-08-18 16:20:00'),
 
 -- TRANSACTION 추가 (8월 카페/간식: 총 160,000 → 예산 120,000 초과 40,000)
-(13, UUID(), 1, 19, 80011, '출금', NULL, '스타벅스 도안DT점', 45000, 4955000, '2025-08-03 10:15:00'),
-(14, UUID(), 1, 19, 80012, '출금', NULL, '투썸플레이스 시청점', 38000, 4917000, '2025-08-07 16:40:00'),
-(15, UUID(), 1, 19, 80013, '출금', NULL, '메가커피 둔산점',    27000, 4890000, '2025-08-12 14:05:00'),
-(16, UUID(), 1, 19, 80014, '출금', NULL, '스타벅스 둔산점',   50000, 4840000, '2025-08-22 08:55:00'),
+(13, UUID_TO_BIN(UUID()), 1, 19, 80011, '출금', NULL, '스타벅스 도안DT점', 45000, 4955000, '2025-08-03 10:15:00'),
+(14, UUID_TO_BIN(UUID()), 1, 19, 80012, '출금', NULL, '투썸플레이스 시청점', 38000, 4917000, '2025-08-07 16:40:00'),
+(15, UUID_TO_BIN(UUID()), 1, 19, 80013, '출금', NULL, '메가커피 둔산점',    27000, 4890000, '2025-08-12 14:05:00'),
+(16, UUID_TO_BIN(UUID()), 1, 19, 80014, '출금', NULL, '스타벅스 둔산점',   50000, 4840000, '2025-08-22 08:55:00'),
 
 -- TRANSACTION 추가 (8월 구독비: 총 14,500 → 예산 15,000 이내)
-(17, UUID(), 1, 20, 80015, '출금', NULL, '넷플릭스',    9500,  4830500, '2025-08-05 03:00:00'),
-(18, UUID(), 1, 20, 80016, '출금', NULL, '유튜브 프리미엄', 5000,  4825500, '2025-08-18 03:00:00'),
+(17, UUID_TO_BIN(UUID()), 1, 20, 80015, '출금', NULL, '넷플릭스',    9500,  4830500, '2025-08-05 03:00:00'),
+(18, UUID_TO_BIN(UUID()), 1, 20, 80016, '출금', NULL, '유튜브 프리미엄', 5000,  4825500, '2025-08-18 03:00:00'),
 
 -- TRANSACTION 추가 (8월 미분류: 총 23,900 → 분배/요약에서 제외되는 케이스)
-(19, UUID(), 1, 3, 80017, '출금', NULL, '편의점 기타',  9900,  4815600, '2025-08-06 21:10:00'),
-(20, UUID(), 1, 3, 80018, '출금', NULL, '기타 소액지출', 14000, 4801600, '2025-08-27 11:22:00'),
+(19, UUID_TO_BIN(UUID()), 1, 3, 80017, '출금', NULL, '편의점 기타',  9900,  4815600, '2025-08-06 21:10:00'),
+(20, UUID_TO_BIN(UUID()), 1, 3, 80018, '출금', NULL, '기타 소액지출', 14000, 4801600, '2025-08-27 11:22:00'),
 
 -- (옵션) 7월 데이터 몇 건 추가 – 월 필터링 잘 되는지 확인용
-(21, UUID(), 1, 19, 70001, '출금', NULL, '스타벅스 도안DT점', 4200,  4797400, '2025-07-25 09:10:00'),
-(22, UUID(), 1,  2, 70002, '출금', NULL, 'KTX 부산',        61000, 4736400, '2025-07-29 06:50:00');
+(21, UUID_TO_BIN(UUID()), 1, 19, 70001, '출금', NULL, '스타벅스 도안DT점', 4200,  4797400, '2025-07-25 09:10:00'),
+(22, UUID_TO_BIN(UUID()), 1,  2, 70002, '출금', NULL, 'KTX 부산',        61000, 4736400, '2025-07-29 06:50:00');
 
 -- CONSENT_FORM
 INSERT INTO `consent_form` (id, uuid, title)
@@ -195,11 +201,11 @@ INSERT INTO `notification`
 (id, uuid, user_id, title, body, is_delivered, delivered_at, is_read, read_at, type, tx_id)
 VALUES
 -- 일반 BUDGET 알림(트랜잭션 연계 없음 → tx_id = NULL)
-(1, UUID(), 1, '예산 초과 알림', '식비 예산을 초과했습니다.', TRUE, '2025-09-20 15:00:03', FALSE, NULL, 'BUDGET', NULL),
+(1, UUID_TO_BIN(UUID()), 1, '예산 초과 알림', '식비 예산을 초과했습니다.', TRUE, '2025-09-20 15:00:03', FALSE, NULL, 'BUDGET', NULL),
 
 -- 미분류 알림 2건: 트랜잭션 id 19/20을 참조 (account_slot_id=3 → 슬롯=미분류)
-(2, UUID(), 1, '분류되지 않은 지출이 있어요', '편의점 기타 9,900원 • 2025-08-06 21:10:00\n카테고리를 지정해 주세요.', FALSE, NULL, FALSE, NULL, 'UNCATEGORIZED', 19),
-(3, UUID(), 1, '분류되지 않은 지출이 있어요', '기타 소액지출 14,000원 • 2025-08-27 11:22:00\n카테고리를 지정해 주세요.', FALSE, NULL, FALSE, NULL, 'UNCATEGORIZED', 20);
+(2, UUID_TO_BIN(UUID()), 1, '분류되지 않은 지출이 있어요', '편의점 기타 9,900원 • 2025-08-06 21:10:00\n카테고리를 지정해 주세요.', FALSE, NULL, FALSE, NULL, 'UNCATEGORIZED', 19),
+(3, UUID_TO_BIN(UUID()), 1, '분류되지 않은 지출이 있어요', '기타 소액지출 14,000원 • 2025-08-27 11:22:00\n카테고리를 지정해 주세요.', FALSE, NULL, FALSE, NULL, 'UNCATEGORIZED', 20);
 
 -- WISHLIST
 INSERT INTO `wishlist` (id, uuid, user_id, name, price, image)
@@ -216,6 +222,12 @@ VALUES
 -- VALUES
 -- (1, UUID(), 1, JSON_OBJECT('summary', '이번달 식비 과다', 'advice', '다음달 식비 예산 상향 또는 지출 절감'));
 
+-- ID_SEQUENCE (위에서 id 를 직접 넣은 테이블은 그 다음 값부터 할당)
+INSERT INTO `id_sequence` (name, next_val)
+SELECT 'transaction', COALESCE(MAX(id), 0) + 1 FROM `transaction`
+UNION ALL SELECT 'slot_history', COALESCE(MAX(id), 0) + 1 FROM `slot_history`
+UNION ALL SELECT 'refresh_token', COALESCE(MAX(id), 0) + 1 FROM `refresh_token`;
+
 -- 확인용
 SELECT * FROM `user`;
 SELECT * FROM `pepper_keys`;
@@ -18,6 +18,7 @@ CREATE TABLE `user` (
   `updated_at` DATETIME NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
   `base_day` TINYINT UNSIGNED COMMENT '기준일 입력받는 시점이 회원가입 이후인 것 같아서 NULLABLE',
   `job` ENUM('STUDENT', 'HOMEMAKER', 'OFFICE_WORKER', 'SOLDIER', 'SELF_EMPLOYED', 'FREELANCER', 'UNEMPLOYED', 'OTHER'),
+  `notification_archive_max_id` INT UNSIGNED NULL COMMENT 'notification_archive 로 옮겨진 이 사용자 알림 중 가장 큰 id (목록 조회가 archive 까지 내려갈지 판단)',
   UNIQUE KEY `uq_user_uuid` (`uuid`)
 ) ENGINE=InnoDB;
 
@@ -123,13 +124,23 @@ CREATE TABLE `bank` (
   `color` VARCHAR(64)
 ) ENGINE=InnoDB;
 
+-- 슬롯/은행 카탈로그(SlotCatalog, BankCatalog) 갱신 신호
+-- slot, bank 테이블을 바꾼 뒤 아래처럼 version 을 올리면 서버가 다음 확인 주기(catalog.refresh-check-ms)에 다시 읽어감
+-- INSERT INTO catalog_version (name, version) VALUES ('slot', 1) ON DUPLICATE KEY UPDATE version = version + 1;
+DROP TABLE IF EXISTS `catalog_version`;
+CREATE TABLE `catalog_version` (
+  `name` VARCHAR(32) NOT NULL PRIMARY KEY COMMENT 'slot | bank',
+  `version` BIGINT NOT NULL DEFAULT 0,
+  `updated_at` DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+) ENGINE=InnoDB;
+
 -- =========================
 -- account
 -- =========================
 DROP TABLE IF EXISTS `account`;
 CREATE TABLE `account` (
   `id` INT UNSIGNED NOT NULL AUTO_INCREMENT PRIMARY KEY,
-  `uuid` VARCHAR(64) NOT NULL,
+  `uuid` BINARY(16) NOT NULL COMMENT 'UUID_TO_BIN(UUID())',
   `user_id` INT UNSIGNED NOT NULL,
   `bank_id` INT UNSIGNED NOT NULL,
   `alias` VARCHAR(128),
@@ -146,7 +157,8 @@ CREATE TABLE `account` (
     FOREIGN KEY (`bank_id`) REFERENCES `bank`(`id`)
       ON DELETE CASCADE
       ON UPDATE CASCADE,
-  UNIQUE KEY `uk_account_user_uuid` (`user_id`, `uuid`)   -- 🔒 사용자별 account.uuid 유니크
+  UNIQUE KEY `uq_account_uuid` (`uuid`),   -- 🔎 uuid 단독 조회 (findByUuid)
+  KEY `idx_account_user_id` (`user_id`)
 ) ENGINE=InnoDB;
 
 -- =========================
@@ -155,7 +167,7 @@ CREATE TABLE `account` (
 DROP TABLE IF EXISTS `account_slot`;
 CREATE TABLE `account_slot` (
   `id` INT UNSIGNED AUTO_INCREMENT PRIMARY KEY,
-  `uuid` VARCHAR(64) NOT NULL,
+  `uuid` BINARY(16) NOT NULL COMMENT 'UUID_TO_BIN(UUID())',
   `account_id` INT UNSIGNED NOT NULL,
   `slot_id` INT UNSIGNED NOT NULL,
   `initial_budget` BIGINT UNSIGNED NOT NULL DEFAULT 0,
@@ -175,13 +187,14 @@ CREATE TABLE `account_slot` (
   CONSTRAINT `fk_account_slot_slot_id`
     FOREIGN KEY (`slot_id`) REFERENCES `slot`(`id`)
       ON DELETE CASCADE
-      ON UPDATE CASCADE
+      ON UPDATE CASCADE,
+  UNIQUE KEY `uq_account_slot_uuid` (`uuid`)
 ) ENGINE=InnoDB;
 
 DROP TABLE IF EXISTS `slot_history`;
 CREATE TABLE `slot_history` (
   `id` INT UNSIGNED AUTO_INCREMENT PRIMARY KEY,
-  `uuid` VARCHAR(64) NOT NULL,
+  `uuid` BINARY(16) NOT NULL COMMENT 'UUID_TO_BIN(UUID())',
   `account_slot_id` INT UNSIGNED NOT NULL,
   `changed_at` DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
   `old_budget` BIGINT UNSIGNED NOT NULL DEFAULT 0,
@@ -189,7 +202,54 @@ CREATE TABLE `slot_history` (
   CONSTRAINT `fk_slot_history_account_slot_id`
     FOREIGN KEY (`account_slot_id`) REFERENCES `account_slot`(`id`)
       ON DELETE CASCADE
-      ON UPDATE CASCADE
+      ON UPDATE CASCADE,
+  UNIQUE KEY `uq_slot_history_uuid` (`uuid`)
+) ENGINE=InnoDB;
+
+CREATE TABLE `slot_profile_stat` (
+  `id` INT UNSIGNED AUTO_INCREMENT PRIMARY KEY,
+  `age_band` VARCHAR(8) NOT NULL COMMENT '연령대(20, 30 ...), * = 전체',
+  `gender` VARCHAR(10) NOT NULL COMMENT '* = 전체',
+  `job` VARCHAR(20) NOT NULL COMMENT '* = 전체',
+  `slot_id` INT UNSIGNED NOT NULL,
+  `account_count` INT UNSIGNED NOT NULL COMMENT '이 프로필 칸의 계좌 수',
+  `avg_total_budget` BIGINT UNSIGNED NOT NULL COMMENT '이 프로필 칸 계좌들의 예산 합계 평균',
+  `slot_account_count` INT UNSIGNED NOT NULL COMMENT '그 중 이 슬롯을 가진 계좌 수',
+  `avg_budget` BIGINT UNSIGNED NOT NULL COMMENT '이 슬롯을 가진 계좌들의 슬롯 예산 평균',
+  `avg_share` DOUBLE NOT NULL COMMENT '이 슬롯을 가진 계좌들의 (슬롯 예산 / 계좌 예산 합계) 평균',
+  `computed_at` DATETIME NOT NULL,
+  UNIQUE KEY `uq_slot_profile_stat` (`age_band`, `gender`, `job`, `slot_id`)
+) ENGINE=InnoDB;
+
+CREATE TABLE `slot_recommend_sample` (
+  `id` BIGINT UNSIGNED AUTO_INCREMENT PRIMARY KEY,
+  `age_band` VARCHAR(8) NOT NULL,
+  `gender` VARCHAR(10) NOT NULL,
+  `job` VARCHAR(20) NOT NULL,
+  `income` BIGINT UNSIGNED NULL,
+  `balance` BIGINT UNSIGNED NULL,
+  `recommended` JSON NOT NULL COMMENT 'GPT 추천 결과 [{name, initialBudget}]',
+  `created_at` DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  KEY `idx_slot_recommend_sample_created` (`created_at`)
+) ENGINE=InnoDB;
+
+CREATE TABLE `slot_recommend_job` (
+  `id` BIGINT UNSIGNED AUTO_INCREMENT PRIMARY KEY,
+  `uuid` BINARY(16) NOT NULL COMMENT '폴링용 jobId',
+  `kind` ENUM('TRANSACTION','PROFILE') NOT NULL,
+  `user_id` INT UNSIGNED NOT NULL,
+  `account_id` INT UNSIGNED NOT NULL,
+  `active_key` VARCHAR(255) NULL COMMENT '진행 중일 때만 중복 판별 키, 끝나면 NULL',
+  `owner` VARCHAR(64) NOT NULL COMMENT '실행 서버 인스턴스',
+  `status` ENUM('PENDING','RUNNING','DONE','FAILED') NOT NULL DEFAULT 'PENDING',
+  `result` JSON NULL,
+  `error` VARCHAR(255) NULL,
+  `created_at` DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  `finished_at` DATETIME NULL,
+  UNIQUE KEY `uq_slot_recommend_job_uuid` (`uuid`),
+  UNIQUE KEY `uq_slot_recommend_job_active_key` (`active_key`),          -- 🔒 같은 조건의 진행 중 작업 1건
+  KEY `idx_slot_recommend_job_status_created` (`status`, `created_at`),  -- 🔎 죽은 서버 작업 정리
+  KEY `idx_slot_recommend_job_finished` (`finished_at`)                  -- 🔎 ttl 정리
 ) ENGINE=InnoDB;
 
 -- =========================
@@ -198,7 +258,7 @@ CREATE TABLE `slot_history` (
 DROP TABLE IF EXISTS `transaction`;
 CREATE TABLE `transaction` (
   `id` INT UNSIGNED NOT NULL AUTO_INCREMENT PRIMARY KEY,
-  `uuid` VARCHAR(64) NOT NULL,
+  `uuid` BINARY(16) NOT NULL COMMENT 'UUID_TO_BIN(UUID())',
   `account_id` INT UNSIGNED NOT NULL,
   `account_slot_id` INT UNSIGNED NOT NULL,
   `unique_no` BIGINT UNSIGNED NOT NULL COMMENT 'transactionUniqueNo',
@@ -216,7 +276,28 @@ CREATE TABLE `transaction` (
     FOREIGN KEY (`account_slot_id`) REFERENCES `account_slot`(`id`)
       ON DELETE CASCADE
       ON UPDATE CASCADE,
-  KEY `idx_tx_account_time` (`account_id`, `transaction_at`)   -- 🔎 월별 검색 최적화
+  KEY `idx_tx_account_time` (`account_id`, `transaction_at`),   -- 🔎 월별 검색 최적화
+  KEY `idx_tx_slot_time_id` (`account_slot_id`, `transaction_at`, `id`),   -- 🔎 슬롯 거래내역 키셋 페이징
+  UNIQUE KEY `uq_transaction_uuid` (`uuid`)
+) ENGINE=InnoDB;
+
+-- =========================
+-- slot_daily_spend (계좌슬롯 × 일자 거래금액 집계)
+-- =========================
+DROP TABLE IF EXISTS `slot_daily_spend`;
+CREATE TABLE `slot_daily_spend` (
+  `id` BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY,
+  `account_slot_id` INT UNSIGNED NOT NULL,
+  `spend_date` DATE NOT NULL,
+  `total_amount` BIGINT NOT NULL DEFAULT 0 COMMENT '모든 거래 (account_slot.spent 기준)',
+  `spend_amount` BIGINT NOT NULL DEFAULT 0 COMMENT '입금 제외 지출',
+  `tx_count` INT NOT NULL DEFAULT 0,
+  CONSTRAINT `fk_slot_daily_spend_account_slot_id`
+    FOREIGN KEY (`account_slot_id`) REFERENCES `account_slot`(`id`)
+      ON DELETE CASCADE
+      ON UPDATE CASCADE,
+  UNIQUE KEY `uq_slot_daily_spend_slot_date` (`account_slot_id`, `spend_date`),  -- 🔒 upsert 키 + 🔎 슬롯 기간 조회
+  KEY `idx_slot_daily_spend_date` (`spend_date`)                                   -- 🔎 재집계 범위
 ) ENGINE=InnoDB;
 
 -- =========================
@@ -229,11 +310,50 @@ CREATE TABLE `ai_report` (
   `account_id` INT UNSIGNED NOT NULL,
   `content` JSON NOT NULL,
   `created_at` DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  `report_month` CHAR(7) AS (DATE_FORMAT(`created_at`, '%Y-%m')) STORED COMMENT 'YYYY-MM',
+  `period_start_at` DATETIME NULL,
+  `period_end_at` DATETIME NULL,
+  `total_budget` BIGINT NULL,
+  `total_spent` BIGINT NULL,
+  `total_overspent` BIGINT NULL,
+  `total_underspent` BIGINT NULL,
   CONSTRAINT `fk_ai_report_account_id`
     FOREIGN KEY (`account_id`) REFERENCES `account`(`id`)
       ON DELETE CASCADE
       ON UPDATE CASCADE,
-  KEY `idx_ai_report_account_created` (`account_id`, `created_at`)  -- 🔎 최신 보고서 조회
+  KEY `idx_ai_report_account_created` (`account_id`, `created_at`),  -- 🔎 최신 보고서 조회
+  KEY `idx_ai_report_account_month` (`account_id`, `report_month`, `created_at`)  -- 🔎 월 목록/월별 아카이브
+) ENGINE=InnoDB;
+
+-- =========================
+-- ai_report_work_item (AI 리포트 배치 작업 체크포인트)
+-- =========================
+DROP TABLE IF EXISTS `ai_report_work_item`;
+CREATE TABLE `ai_report_work_item` (
+  `id` BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY,
+  `run_date` DATE NOT NULL,
+  `user_id` INT UNSIGNED NOT NULL,
+  `account_id` INT UNSIGNED NOT NULL,
+  `period_start` DATE NOT NULL,
+  `period_end` DATE NOT NULL,
+  `status` ENUM('PENDING','RUNNING','DONE','FAILED','SKIPPED') NOT NULL DEFAULT 'PENDING',
+  `attempts` INT NOT NULL DEFAULT 0,
+  `last_error` VARCHAR(255) NULL,
+  `updated_at` DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  UNIQUE KEY `uq_ai_report_work_item_run_account` (`run_date`, `account_id`),  -- 🔒 같은 날 같은 계좌 작업 1건
+  KEY `idx_ai_report_work_item_run_status` (`run_date`, `status`)             -- 🔎 남은 작업 조회
+) ENGINE=InnoDB;
+
+-- =========================
+-- ai_insight_cache (GMS 인사이트 응답 캐시)
+-- =========================
+DROP TABLE IF EXISTS `ai_insight_cache`;
+CREATE TABLE `ai_insight_cache` (
+  `cache_key` CHAR(64) NOT NULL PRIMARY KEY COMMENT '프롬프트 SHA-256',
+  `response` JSON NOT NULL,
+  `created_at` DATETIME NOT NULL,
+  `expires_at` DATETIME NOT NULL,
+  KEY `idx_ai_insight_cache_expires` (`expires_at`)  -- 🔎 만료 정리
 ) ENGINE=InnoDB;
 
 -- =========================
@@ -242,7 +362,7 @@ CREATE TABLE `ai_report` (
 DROP TABLE IF EXISTS `notification`;
 CREATE TABLE `notification` (
   `id` INT UNSIGNED AUTO_INCREMENT PRIMARY KEY,
-  `uuid` VARCHAR(64) NOT NULL,
+  `uuid` BINARY(16) NOT NULL COMMENT 'UUID_TO_BIN(UUID())',
   `user_id` INT UNSIGNED NOT NULL,
   `title` VARCHAR(255) NOT NULL,
   `body` TINYTEXT,
@@ -261,7 +381,66 @@ CREATE TABLE `notification` (
       ON DELETE SET NULL
       ON UPDATE CASCADE,
   UNIQUE KEY `uq_notification_user_type_tx` (`user_id`,`type`,`tx_id`),
-  KEY `idx_notification_user_isread_type` (`user_id`,`is_read`,`type`)
+  KEY `idx_notification_user_isread_type` (`user_id`,`is_read`,`type`),
+  KEY `idx_notification_isread_readat` (`is_read`,`read_at`),
+  KEY `idx_notification_user_id` (`user_id`, `id`),   -- 🔎 목록 id 커서 페이징
+  KEY `idx_notification_user_type_id` (`user_id`, `type`, `id`),   -- 🔎 목록 id 커서 페이징 (type 필터)
+  UNIQUE KEY `uq_notification_uuid` (`uuid`)
+) ENGINE=InnoDB;
+
+-- =========================
+-- notification_event (코얼레싱 전 원본 알림 이벤트)
+-- =========================
+DROP TABLE IF EXISTS `notification_event`;
+CREATE TABLE `notification_event` (
+  `id` INT UNSIGNED AUTO_INCREMENT PRIMARY KEY,
+  `user_id` INT UNSIGNED NOT NULL,
+  `type` ENUM('SYSTEM', 'DEVICE', 'BUDGET', 'SLOT', 'UNCATEGORIZED', 'TRANSACTION', 'MARKETING') NOT NULL,
+  `title` VARCHAR(255) NOT NULL,
+  `body` TINYTEXT,
+  `label` VARCHAR(64) NULL COMMENT '요약문에 쓸 슬롯명/거래처명',
+  `tx_id` INT UNSIGNED NULL,
+  `source_key` VARCHAR(64) NULL COMMENT '은행 거래 기준 중복 방지 키 (account_id:transactionUniqueNo)',
+  `notification_id` INT UNSIGNED NULL COMMENT 'NULL이면 아직 발송 대기중',
+  `claimed_by` VARCHAR(64) NULL COMMENT '묶음을 발송 중인 서버',
+  `claimed_at` DATETIME NULL,
+  `created_at` DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  CONSTRAINT `fk_notification_event_user_id`
+    FOREIGN KEY (`user_id`) REFERENCES `user`(`id`)
+      ON DELETE CASCADE
+      ON UPDATE CASCADE,
+  CONSTRAINT `fk_notification_event_notification_id`
+    FOREIGN KEY (`notification_id`) REFERENCES `notification`(`id`)
+      ON DELETE CASCADE
+      ON UPDATE CASCADE,
+  UNIQUE KEY `uq_notification_event_user_type_source` (`user_id`, `type`, `source_key`),
+  KEY `idx_notification_event_pending` (`notification_id`, `user_id`, `type`, `created_at`)
+) ENGINE=InnoDB;
+
+-- =========================
+-- notification_archive (읽은 지 오래된 알림 보관 티어, id/uuid 는 notification 과 동일)
+-- =========================
+DROP TABLE IF EXISTS `notification_archive`;
+CREATE TABLE `notification_archive` (
+  `id` INT UNSIGNED PRIMARY KEY,
+  `uuid` BINARY(16) NOT NULL,
+  `user_id` INT UNSIGNED NOT NULL,
+  `title` VARCHAR(255) NOT NULL,
+  `body` TINYTEXT,
+  `is_delivered` BOOLEAN,
+  `delivered_at` DATETIME,
+  `is_read` BOOLEAN DEFAULT TRUE NOT NULL,
+  `read_at` DATETIME,
+  `type` ENUM('SYSTEM', 'DEVICE', 'BUDGET', 'SLOT', 'UNCATEGORIZED', 'TRANSACTION', 'MARKETING') DEFAULT NULL,
+  `tx_id` INT UNSIGNED NULL,
+  `archived_at` DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  CONSTRAINT `fk_notification_archive_user_id`
+    FOREIGN KEY (`user_id`) REFERENCES `user`(`id`)
+      ON DELETE CASCADE
+      ON UPDATE CASCADE,
+  UNIQUE KEY `uq_notification_archive_uuid` (`uuid`),
+  KEY `idx_notification_archive_user_id` (`user_id`, `id`),
+  KEY `idx_notification_archive_user_type_id` (`user_id`, `type`, `id`)
 ) ENGINE=InnoDB;
 
 
@@ -374,3 +553,14 @@ CREATE TABLE `otp_code` (
   UNIQUE KEY `uq_otp_key` (`phone`,`purpose`,`device_id`),                     -- 단일 활성 OTP 보장
   KEY `idx_otp_expires` (`expires_at`)
 ) ENGINE=InnoDB;
+
+-- =========================
+-- id_sequence
+-- =========================
+-- insert 가 많은 테이블(transaction, slot_history, refresh_token)의 id 블록 할당용 (JPA @TableGenerator, pooled-lo)
+-- next_val = 다음에 나눠줄 블록의 시작 id. 이 테이블들에 직접 insert 할 때는 id 를 비워두지 말고 여기서 받아야 함
+DROP TABLE IF EXISTS `id_sequence`;
+CREATE TABLE `id_sequence` (
+  `name` VARCHAR(64) NOT NULL PRIMARY KEY,
+  `next_val` BIGINT NOT NULL
+) ENGINE=InnoDB;
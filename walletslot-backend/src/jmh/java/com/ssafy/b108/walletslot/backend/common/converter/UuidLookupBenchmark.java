@@ -0,0 +1,156 @@
+package com.ssafy.b108.walletslot.backend.common.converter;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * uuid 단건 조회 벤치마크 입니다 (실제 MySQL 필요).
+ * 예전 transaction.uuid(VARCHAR(64), 인덱스 없음)와 지금 구조(BINARY(16) + 유니크 인덱스, UuidBinaryConverter 로 바인딩)를
+ * 같은 행 수에서 비교합니다. 테이블은 bench_uuid_binary / bench_uuid_varchar 로 따로 만들고,
+ * 이미 rows 만큼 채워져 있으면 다시 만들지 않습니다 (10M 행 적재는 수 분 걸림).
+ *
+ * 실행: ./gradlew jmhJar 후
+ *   java -Dbench.jdbc.url=jdbc:mysql://localhost:3306/bench -Dbench.jdbc.user=root -Dbench.jdbc.password=... \
+ *        -jar build/libs/*-jmh.jar UuidLookupBenchmark
+ * 행 수 바꾸기: -p rows=1000000 / 인덱스 없는 쪽은 한 번에 수 초 걸리므로 -i 3 -wi 1 정도로
+ * bench.jdbc.url 이 없으면 setup 에서 실패하고 다른 벤치마크는 그대로 돕니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UuidLookupBenchmark {
+
+    private static final int KEY_SAMPLE = 1_000;
+    private static final int INSERT_CHUNK = 500_000;
+
+    // Field
+    @Param({"10000000"})
+    private long rows;
+
+    private final UuidBinaryConverter converter = new UuidBinaryConverter();
+    private Connection connection;
+    private PreparedStatement binaryLookup;
+    private PreparedStatement varcharLookup;
+    private String[] keys;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        String url = System.getProperty("bench.jdbc.url");
+        if (url == null) {
+            throw new IllegalStateException("-Dbench.jdbc.url=jdbc:mysql://... 로 벤치마크용 MySQL 을 지정하세요");
+        }
+        connection = DriverManager.getConnection(url, System.getProperty("bench.jdbc.user", "root"), System.getProperty("bench.jdbc.password", ""));
+
+        populate();
+        keys = sampleKeys();
+
+        binaryLookup = connection.prepareStatement("SELECT id, amount FROM bench_uuid_binary WHERE uuid = ?");
+        varcharLookup = connection.prepareStatement("SELECT id, amount FROM bench_uuid_varchar WHERE uuid = ?");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        if (connection != null) connection.close();
+    }
+
+    // Method
+    /** 지금 구조: BINARY(16) 유니크 인덱스, 파라미터는 컨버터로 16바이트 변환 */
+    @Benchmark
+    public long binaryUniqueIndex() throws SQLException {
+        binaryLookup.setBytes(1, converter.convertToDatabaseColumn(nextKey()));
+        return readOne(binaryLookup);
+    }
+
+    /** 예전 구조: VARCHAR(64), 인덱스 없음 → 풀 스캔 */
+    @Benchmark
+    public long varcharNoIndex() throws SQLException {
+        varcharLookup.setString(1, nextKey());
+        return readOne(varcharLookup);
+    }
+
+    private String nextKey() {
+        String key = keys[next];
+        next = (next + 1) % keys.length;
+        return key;
+    }
+
+    private static long readOne(PreparedStatement statement) throws SQLException {
+        try (ResultSet rs = statement.executeQuery()) {
+            return rs.next() ? rs.getLong(2) : -1L;
+        }
+    }
+
+    private void populate() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("""
+                    CREATE TABLE IF NOT EXISTS bench_uuid_binary (
+                      id BIGINT UNSIGNED AUTO_INCREMENT PRIMARY KEY,
+                      uuid BINARY(16) NOT NULL,
+                      amount BIGINT NOT NULL,
+                      UNIQUE KEY uq_bench_uuid_binary (uuid)
+                    ) ENGINE=InnoDB""");
+            statement.execute("""
+                    CREATE TABLE IF NOT EXISTS bench_uuid_varchar (
+                      id BIGINT UNSIGNED PRIMARY KEY,
+                      uuid VARCHAR(64) NOT NULL,
+                      amount BIGINT NOT NULL
+                    ) ENGINE=InnoDB""");
+
+            if (count(statement, "bench_uuid_binary") == rows && count(statement, "bench_uuid_varchar") == rows) return;
+
+            statement.execute("TRUNCATE TABLE bench_uuid_binary");
+            statement.execute("TRUNCATE TABLE bench_uuid_varchar");
+            statement.execute("INSERT INTO bench_uuid_binary (uuid, amount) VALUES (UUID_TO_BIN(UUID()), 1000)");
+            long filled = 1;
+            while (filled < rows) { // 있는 행을 복제하듯 두 배씩 (청크 단위)
+                long add = Math.min(Math.min(filled, rows - filled), INSERT_CHUNK);
+                statement.execute("INSERT INTO bench_uuid_binary (uuid, amount) SELECT UUID_TO_BIN(UUID()), FLOOR(RAND() * 100000) FROM bench_uuid_binary LIMIT " + add);
+                filled += add;
+            }
+            long maxId = maxId(statement); // 일괄 INSERT 는 auto_increment 에 빈 번호가 생길 수 있음
+            for (long from = 0; from < maxId; from += INSERT_CHUNK) {
+                statement.execute("INSERT INTO bench_uuid_varchar (id, uuid, amount) SELECT id, BIN_TO_UUID(uuid), amount FROM bench_uuid_binary WHERE id > "
+                        + from + " AND id <= " + (from + INSERT_CHUNK));
+            }
+            statement.execute("ANALYZE TABLE bench_uuid_binary, bench_uuid_varchar");
+        }
+    }
+
+    private String[] sampleKeys() throws SQLException {
+        Random random = new Random(42);
+        long maxId;
+        try (Statement statement = connection.createStatement()) {
+            maxId = maxId(statement);
+        }
+        List<String> sampled = new ArrayList<>(KEY_SAMPLE);
+        try (PreparedStatement statement = connection.prepareStatement("SELECT uuid FROM bench_uuid_varchar WHERE id = ?")) {
+            while (sampled.size() < KEY_SAMPLE) {
+                statement.setLong(1, 1 + (long) (random.nextDouble() * maxId));
+                try (ResultSet rs = statement.executeQuery()) {
+                    if (rs.next()) sampled.add(rs.getString(1));
+                }
+            }
+        }
+        return sampled.toArray(String[]::new);
+    }
+
+    private static long maxId(Statement statement) throws SQLException {
+        try (ResultSet rs = statement.executeQuery("SELECT COALESCE(MAX(id), 0) FROM bench_uuid_binary")) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    private static long count(Statement statement, String table) throws SQLException {
+        try (ResultSet rs = statement.executeQuery("SELECT COUNT(*) FROM " + table)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+}
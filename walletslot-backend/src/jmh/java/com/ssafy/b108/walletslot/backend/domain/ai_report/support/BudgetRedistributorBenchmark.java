@@ -0,0 +1,98 @@
+package com.ssafy.b108.walletslot.backend.domain.ai_report.support;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * AI 리포트 예산 재배분 벤치마크 입니다.
+ * 슬롯 수백 개 / 절약액 수억 원에서도 BudgetRedistributor 가 금액과 무관하게 O(n log n) 인지,
+ * 이전 구현(슬롯마다 uuid Map 전체 탐색 + 1,000원씩 while 루프)과 비교합니다.
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=BudgetRedistributorBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BudgetRedistributorBenchmark {
+
+    // Field
+    @Param({"20", "200", "800"})
+    private int slotCount;
+
+    @Param({"1000000", "500000000"})
+    private long savedTotal;
+
+    private long[] overspend;
+    private boolean[] eligible;
+    private long oversTotal;
+    private Map<Long, String> asIdToUuid;
+    private String[] slotUuids;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        overspend = new long[slotCount];
+        eligible = new boolean[slotCount];
+        slotUuids = new String[slotCount];
+        asIdToUuid = new HashMap<>();
+        oversTotal = 0;
+        for (int i = 0; i < slotCount; i++) {
+            eligible[i] = i % 3 != 0; // 3개 중 하나는 초과 아님 / 미분류
+            overspend[i] = eligible[i] ? 1_000 + random.nextInt(300_000) : 0;
+            oversTotal += overspend[i];
+            slotUuids[i] = UUID.randomUUID().toString();
+            asIdToUuid.put((long) i + 1, slotUuids[i]);
+        }
+    }
+
+    // Method
+    @Benchmark
+    public BudgetRedistributor.Result largestRemainder() {
+        return BudgetRedistributor.allocate(overspend, eligible, savedTotal, oversTotal);
+    }
+
+    /** 이전 구현 (비교 기준) */
+    @Benchmark
+    public Map<Long, Long> legacy() {
+        long savedPool = floorK(savedTotal);
+        long oversPool = floorK(oversTotal);
+        Map<Long, Long> firstAlloc = new HashMap<>();
+        Map<Long, Double> frac = new HashMap<>();
+        long allocatedSum = 0L;
+
+        for (int i = 0; i < slotCount; i++) {
+            String uuid = slotUuids[i];
+            Long asId = asIdToUuid.entrySet().stream()
+                    .filter(e -> Objects.equals(e.getValue(), uuid))
+                    .map(Map.Entry::getKey)
+                    .findFirst().orElse(null);
+            if (asId == null || !eligible[i] || overspend[i] <= 0) continue;
+
+            double share = ((double) overspend[i] / (double) oversPool) * (double) savedPool;
+            long alloc = floorK(Math.round(share));
+            firstAlloc.put(asId, alloc);
+            allocatedSum += alloc;
+            frac.put(asId, Math.max(0d, share - alloc));
+        }
+
+        long remain = savedPool - allocatedSum;
+        if (remain > 0 && !frac.isEmpty()) {
+            List<Long> order = frac.entrySet().stream()
+                    .sorted((a, b) -> Double.compare(b.getValue(), a.getValue()))
+                    .map(Map.Entry::getKey)
+                    .collect(Collectors.toList());
+            int i = 0;
+            while (remain >= 1_000) {
+                firstAlloc.merge(order.get(i % order.size()), 1_000L, Long::sum);
+                remain -= 1_000L;
+                i++;
+            }
+        }
+        return firstAlloc;
+    }
+
+    private static long floorK(long v) { return (v <= 0) ? 0L : (v / 1000) * 1000; }
+}
@@ -0,0 +1,79 @@
+package com.ssafy.b108.walletslot.backend.domain.slot.support;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.b108.walletslot.backend.domain.slot.dto.external.SSAFYGetTransactionListResponseDto.Transaction;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 슬롯 추천(5-2-1) 거래내역 집계 벤치마크 입니다.
+ * 거래 건수가 늘어도 집계 시간이 선형으로만 늘고, 결과 표 크기(프롬프트 길이)는 고정인지 확인합니다.
+ * 거래처는 zipf 비슷하게 몇 곳에 몰리게 만들고, 그중 절반 정도만 슬롯 매핑이 있다고 가정합니다.
+ * 프롬프트 길이는 SlotService 가 프롬프트에 넣는 부분(slotSpending / merchantSpending JSON)을 같은 방식으로 직렬화해서 잽니다.
+ * 나머지(지시문, 잔액, 슬롯 리스트)는 거래 건수와 상관없이 고정입니다.
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=SpendingAggregatorBenchmark
+ * 프롬프트 길이는 파라미터 조합마다 "[PROMPT] ... chars=" 로 출력됩니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SpendingAggregatorBenchmark {
+
+    private static final LocalDate START = LocalDate.of(2025, 3, 1);
+    private static final LocalDate END = LocalDate.of(2025, 8, 31);
+
+    // Field
+    @Param({"100", "1000", "10000"})
+    private int transactionCount;
+
+    @Param({"50", "500"})
+    private int merchantCount;
+
+    private List<Transaction> transactions;
+    private Map<String, String> merchantSlots;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        String[] slots = {"식비", "카페", "교통", "쇼핑", "구독", "의료", "문화"};
+
+        merchantSlots = new HashMap<>();
+        for (int m = 0; m < merchantCount; m += 2) {
+            merchantSlots.put("가맹점" + m, slots[m % slots.length]);
+        }
+
+        transactions = new ArrayList<>(transactionCount);
+        for (int i = 0; i < transactionCount; i++) {
+            // 앞쪽 거래처에 몰리도록 (자주 가는 곳 몇 군데 + 긴 꼬리)
+            int m = (int) Math.min(merchantCount - 1, Math.abs(random.nextGaussian()) * merchantCount / 4);
+            String merchant = (i % 50 == 0) ? "" : "가맹점" + m;
+            transactions.add(Transaction.builder()
+                    .transactionDate("20250601")
+                    .transactionTime("120000")
+                    .transactionBalance(String.valueOf(1_000 + random.nextInt(50_000)))
+                    .transactionSummary(merchant)
+                    .build());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void report() throws JsonProcessingException {
+        SpendingAggregator.Summary summary = aggregate();
+        ObjectMapper objectMapper = new ObjectMapper();
+        String rendered = "\"slotSpending\" : " + objectMapper.writeValueAsString(summary.slotRows())
+                + "\n\"merchantSpending\" : " + objectMapper.writeValueAsString(summary.merchantRows());
+        System.out.printf("%n[PROMPT] transactions=%d merchants=%d slotRows=%d merchantRows=%d chars=%d%n",
+                transactionCount, merchantCount, summary.slotRows().size(), summary.merchantRows().size(), rendered.length());
+    }
+
+    // Method
+    @Benchmark
+    public SpendingAggregator.Summary aggregate() {
+        return SpendingAggregator.aggregate(transactions, merchantSlots, START, END, 30);
+    }
+}
@@ -0,0 +1,193 @@
+package com.ssafy.b108.walletslot.backend.domain.transaction.support;
+
+import com.ssafy.b108.walletslot.backend.common.converter.UuidBinaryConverter;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.*;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 거래내역 적재 벤치마크 입니다 (실제 MySQL 필요).
+ * 합성 거래 rows 건을 두 방식으로 넣고 걸린 시간과 DB 왕복 수(세션 Questions 증가분)를 비교합니다.
+ * - identityPerRow: 예전 IDENTITY 방식. insert 마다 한 번 보내고 생성된 키를 받아옴 (Hibernate 가 배치를 못 씀)
+ * - pooledBatched: 지금 방식. id_sequence 에서 batchSize 개씩 블록을 받고(pooled-lo, 별도 커넥션),
+ *   batchSize 건을 JDBC 배치로 보냄 (rewriteBatchedStatements=true → multi-row INSERT 한 번)
+ * 두 방식 모두 batchSize 건마다 커밋합니다 (동기화 sweep 이 계좌 단위로 커밋하는 것과 비슷하게).
+ *
+ * 실행: ./gradlew jmhJar 후
+ *   java -Dbench.jdbc.url=jdbc:mysql://localhost:3306/bench -Dbench.jdbc.user=root -Dbench.jdbc.password=... \
+ *        -jar build/libs/*-jmh.jar TransactionIngestBenchmark
+ * 왕복 수는 실행마다 "[INGEST] ... round-trips=" 로 출력됩니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+public class TransactionIngestBenchmark {
+
+    private static final String COLUMNS = "(uuid, account_id, account_slot_id, unique_no, type, summary, amount, balance, transaction_at)";
+
+    // Field
+    @Param({"100000"})
+    private int rows;
+
+    @Param({"100"})
+    private int batchSize;
+
+    private final UuidBinaryConverter converter = new UuidBinaryConverter();
+    private Connection plain;
+    private Connection batched;
+    private Connection sequence;
+    private long questionsBefore;
+    private String current;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        String url = System.getProperty("bench.jdbc.url");
+        if (url == null) {
+            throw new IllegalStateException("-Dbench.jdbc.url=jdbc:mysql://... 로 벤치마크용 MySQL 을 지정하세요");
+        }
+        plain = connect(url);
+        batched = connect(url + (url.contains("?") ? "&" : "?") + "rewriteBatchedStatements=true");
+        sequence = connect(url);
+
+        try (Statement statement = plain.createStatement()) {
+            String body = """
+                      account_id BIGINT NOT NULL,
+                      account_slot_id BIGINT NOT NULL,
+                      uuid BINARY(16) NOT NULL,
+                      unique_no BIGINT NOT NULL,
+                      type VARCHAR(32) NOT NULL,
+                      summary VARCHAR(255),
+                      amount BIGINT NOT NULL,
+                      balance BIGINT NOT NULL,
+                      transaction_at DATETIME NOT NULL,
+                      UNIQUE KEY (uuid)
+                    ) ENGINE=InnoDB""";
+            statement.execute("CREATE TABLE IF NOT EXISTS bench_ingest_identity (id BIGINT AUTO_INCREMENT PRIMARY KEY, " + body);
+            statement.execute("CREATE TABLE IF NOT EXISTS bench_ingest_pooled (id BIGINT PRIMARY KEY, " + body);
+            statement.execute("CREATE TABLE IF NOT EXISTS bench_id_sequence (name VARCHAR(64) NOT NULL PRIMARY KEY, next_val BIGINT NOT NULL) ENGINE=InnoDB");
+        }
+        plain.setAutoCommit(false);
+        batched.setAutoCommit(false);
+    }
+
+    @Setup(Level.Invocation)
+    public void reset() throws SQLException {
+        try (Statement statement = sequence.createStatement()) {
+            statement.execute("TRUNCATE TABLE bench_ingest_identity");
+            statement.execute("TRUNCATE TABLE bench_ingest_pooled");
+            statement.execute("REPLACE INTO bench_id_sequence (name, next_val) VALUES ('transaction', 1)");
+        }
+        questionsBefore = questions(plain) + questions(batched) + questions(sequence);
+    }
+
+    @TearDown(Level.Invocation)
+    public void report() throws SQLException {
+        // 측정용 SHOW STATUS 3번은 빼고 셈
+        long roundTrips = questions(plain) + questions(batched) + questions(sequence) - questionsBefore - 3;
+        System.out.printf("%n[INGEST] %s rows=%d batchSize=%d round-trips=%d%n", current, rows, batchSize, roundTrips);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        for (Connection connection : new Connection[]{plain, batched, sequence}) {
+            if (connection != null) connection.close();
+        }
+    }
+
+    // Method
+    @Benchmark
+    public long identityPerRow() throws SQLException {
+        current = "identityPerRow";
+        long lastId = 0;
+        try (PreparedStatement insert = plain.prepareStatement("INSERT INTO bench_ingest_identity " + COLUMNS + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                Statement.RETURN_GENERATED_KEYS)) {
+            for (int i = 0; i < rows; i++) {
+                bind(insert, i);
+                insert.executeUpdate();
+                try (ResultSet keys = insert.getGeneratedKeys()) {
+                    if (keys.next()) lastId = keys.getLong(1);
+                }
+                if ((i + 1) % batchSize == 0) plain.commit();
+            }
+        }
+        plain.commit();
+        return lastId;
+    }
+
+    @Benchmark
+    public long pooledBatched() throws SQLException {
+        current = "pooledBatched";
+        long nextId = 0;
+        long blockEnd = 0;
+        try (PreparedStatement insert = batched.prepareStatement("INSERT INTO bench_ingest_pooled (id, " + COLUMNS.substring(1) + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < rows; i++) {
+                if (nextId == blockEnd) { // 블록 소진 → id_sequence 에서 다음 블록
+                    nextId = nextBlock();
+                    blockEnd = nextId + batchSize;
+                }
+                insert.setLong(1, nextId++);
+                bind(insert, i, 1);
+                insert.addBatch();
+                if ((i + 1) % batchSize == 0) {
+                    insert.executeBatch();
+                    batched.commit();
+                }
+            }
+            insert.executeBatch();
+        }
+        batched.commit();
+        return nextId;
+    }
+
+    // Hibernate TableGenerator 와 같은 모양: 별도 트랜잭션에서 잠그고 읽은 뒤 올림
+    private long nextBlock() throws SQLException {
+        sequence.setAutoCommit(false);
+        long value;
+        try (PreparedStatement select = sequence.prepareStatement("SELECT next_val FROM bench_id_sequence WHERE name = 'transaction' FOR UPDATE");
+             ResultSet rs = select.executeQuery()) {
+            rs.next();
+            value = rs.getLong(1);
+        }
+        try (PreparedStatement update = sequence.prepareStatement("UPDATE bench_id_sequence SET next_val = ? WHERE name = 'transaction' AND next_val = ?")) {
+            update.setLong(1, value + batchSize);
+            update.setLong(2, value);
+            update.executeUpdate();
+        }
+        sequence.commit();
+        sequence.setAutoCommit(true);
+        return value;
+    }
+
+    private void bind(PreparedStatement statement, int i) throws SQLException {
+        bind(statement, i, 0);
+    }
+
+    private void bind(PreparedStatement statement, int i, int offset) throws SQLException {
+        statement.setBytes(offset + 1, converter.convertToDatabaseColumn(UUID.randomUUID().toString()));
+        statement.setLong(offset + 2, 1 + (i % 10));
+        statement.setLong(offset + 3, 1 + (i % 80));
+        statement.setLong(offset + 4, 1_000_000L + i);
+        statement.setString(offset + 5, "출금");
+        statement.setString(offset + 6, "가맹점" + (i % 500));
+        statement.setLong(offset + 7, 1_000L + (i % 50_000));
+        statement.setLong(offset + 8, 10_000_000L - i);
+        statement.setTimestamp(offset + 9, Timestamp.valueOf(LocalDateTime.of(2025, 6, 1, 0, 0).plusMinutes(i)));
+    }
+
+    private static Connection connect(String url) throws SQLException {
+        return DriverManager.getConnection(url, System.getProperty("bench.jdbc.user", "root"), System.getProperty("bench.jdbc.password", ""));
+    }
+
+    private static long questions(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SHOW SESSION STATUS LIKE 'Questions'")) {
+            rs.next();
+            return rs.getLong(2);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.ssafy.b108.walletslot.backend.infrastructure.fcm.service;
+
+import com.ssafy.b108.walletslot.backend.config.web.WebClientConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * FCM 전송 벤치마크 입니다.
+ * messages 건을 FcmService.send 로 보내고, 처리량(msg/s)과 서버가 동시에 받은 요청 수의 최대값(max in-flight)을 봅니다.
+ * 상대는 같은 프로세스에 띄운 Reactor Netty HttpServer 스텁이며, 요청마다 latencyMs 만큼 늦게 응답해 FCM 왕복을 흉내냅니다.
+ * 커넥션 풀은 운영과 같은 WebClientConfig.fcmConnectionProvider 를 쓰고, TLS 대신 H2C(평문 HTTP/2)로 붙습니다.
+ * - concurrency: 팬아웃 flatMap 동시성 (운영 기본값 8)
+ * - max in-flight 는 min(concurrency, maxConnections * maxConcurrentStreams) 를 넘지 않아야 하고, 나머지는 pending 큐에서 기다림
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=FcmSendBenchmark
+ * 결과는 실행마다 "[FCM] ... throughput= max-in-flight=" 로 출력됩니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class FcmSendBenchmark {
+
+    private static final String RESPONSE = "{\"name\":\"projects/bench/messages/0:1234567890\"}";
+
+    // Field
+    @Param({"10000"})
+    private int messages;
+
+    @Param({"8", "64", "1000"})
+    private int concurrency;
+
+    @Param({"20"})
+    private int latencyMs;
+
+    // 운영 기본값 (fcm.http.*)
+    @Param({"4"})
+    private int maxConnections;
+
+    @Param({"100"})
+    private int maxConcurrentStreams;
+
+    @Param({"2000"})
+    private int pendingAcquireMaxCount;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    private DisposableServer server;
+    private ConnectionProvider provider;
+    private FcmService fcmService;
+    private long startedAt;
+    private long failures;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        server = HttpServer.create()
+                .host("127.0.0.1")
+                .port(0)
+                .protocol(HttpProtocol.H2C)
+                .handle((request, response) -> {
+                    maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                    // 응답을 쓰기 전에 빼야 클라이언트가 그 스트림 자리로 보낸 다음 요청과 겹쳐 세지 않음
+                    return request.receive().aggregate()
+                            .then(Mono.delay(Duration.ofMillis(latencyMs)))
+                            .doOnTerminate(inFlight::decrementAndGet)
+                            .then(response.header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                                    .sendString(Mono.just(RESPONSE))
+                                    .then());
+                })
+                .bindNow();
+
+        provider = WebClientConfig.fcmConnectionProvider(maxConnections, maxConcurrentStreams, pendingAcquireMaxCount);
+        HttpClient httpClient = HttpClient.create(provider)
+                .protocol(HttpProtocol.H2C)
+                .compress(true)
+                .responseTimeout(Duration.ofSeconds(5));
+
+        WebClient webClient = WebClient.builder()
+                .baseUrl("http://127.0.0.1:" + server.port() + "/v1/projects/bench/messages:send")
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .build();
+
+        fcmService = new FcmService(webClient, new SimpleMeterRegistry());
+    }
+
+    @Setup(Level.Invocation)
+    public void reset() {
+        maxInFlight.set(0);
+        failures = 0;
+        startedAt = System.nanoTime();
+    }
+
+    @TearDown(Level.Invocation)
+    public void report() {
+        double seconds = (System.nanoTime() - startedAt) / 1e9;
+        System.out.printf("%n[FCM] messages=%d concurrency=%d throughput=%.0f msg/s max-in-flight=%d failures=%d%n",
+                messages, concurrency, messages / seconds, maxInFlight.get(), failures);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (server != null) server.disposeNow();
+        if (provider != null) provider.disposeLater().block();
+    }
+
+    // Method
+    @Benchmark
+    public long sendAll() {
+        failures = Flux.range(0, messages)
+                .flatMap(i -> fcmService.send("bench-access-token", "bench-token-" + i, "예산 알림", "식비 슬롯 예산의 80%를 사용했어요."), concurrency)
+                .filter(result -> !result.isSuccess())
+                .count()
+                .block();
+        return failures;
+    }
+}
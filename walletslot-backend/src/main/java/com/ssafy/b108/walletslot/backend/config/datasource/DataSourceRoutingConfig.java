@@ -0,0 +1,83 @@
+package com.ssafy.b108.walletslot.backend.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * spring.datasource.replica.url 이 있을 때만 켜지는 읽기/쓰기 DataSource 분리 설정 입니다.
+ * - primary 풀: 기존 spring.datasource.* / spring.datasource.hikari.* 그대로
+ * - replica 풀: spring.datasource.replica.url (계정은 따로 안 주면 primary 와 같음), 풀 옵션은 spring.datasource.replica.hikari.*
+ * - @Transactional(readOnly = true) 안의 쿼리는 replica, 나머지는 primary (ReadWriteRoutingDataSource)
+ * - replica 지연이 max-lag-seconds 를 넘으면 readOnly 도 primary 로 (ReplicaLagGuard)
+ *
+ * 풀 두 개 모두 빈으로 등록되어 있어서 actuator 가 hikaricp.connections.*{pool=primary|replica} 메트릭을 따로 올립니다.
+ * 설정이 없으면 이 클래스는 통째로 빠지고 Spring Boot 기본 DataSource 하나로 동작합니다.
+ *
+ * 로컬 확인 예: spring.datasource.url 과 spring.datasource.replica.url 에 서로 다른 DB 두 개를 주고
+ * spring.datasource.replica.lag-query=SELECT 0 으로 띄우면, readOnly API 는 replica DB 만 읽습니다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "spring.datasource.replica", name = "url")
+public class DataSourceRoutingConfig {
+
+    // Method
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName(ReadWriteRoutingDataSource.PRIMARY);
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(DataSourceProperties properties,
+                                              @Value("${spring.datasource.replica.url}") String url,
+                                              @Value("${spring.datasource.replica.username:${spring.datasource.username:}}") String username,
+                                              @Value("${spring.datasource.replica.password:${spring.datasource.password:}}") String password) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(properties.determineDriverClassName())
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+        dataSource.setPoolName(ReadWriteRoutingDataSource.REPLICA);
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagGuard replicaLagGuard(@Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                           @Value("${spring.datasource.replica.lag-query:SHOW REPLICA STATUS}") String lagQuery,
+                                           @Value("${spring.datasource.replica.max-lag-seconds:5}") long maxLagSeconds,
+                                           MeterRegistry meterRegistry) {
+        return new ReplicaLagGuard(replicaDataSource, lagQuery, maxLagSeconds, meterRegistry);
+    }
+
+    /**
+     * JPA / JdbcTemplate 이 쓰는 기본 DataSource.
+     * 커넥션을 실제 쿼리 시점까지 미뤄야 트랜잭션의 readOnly 여부를 보고 풀을 고를 수 있어서 LazyConnectionDataSourceProxy 로 감쌉니다.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                 ReplicaLagGuard replicaLagGuard,
+                                 MeterRegistry meterRegistry) {
+        return new LazyConnectionDataSourceProxy(
+                new ReadWriteRoutingDataSource(primaryDataSource, replicaDataSource, replicaLagGuard, meterRegistry));
+    }
+}
@@ -0,0 +1,52 @@
+package com.ssafy.b108.walletslot.backend.config.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * 현재 트랜잭션이 readOnly 면 replica 풀, 아니면 primary 풀에서 커넥션을 꺼내는 라우팅 DataSource 입니다.
+ * readOnly 여도 ReplicaLagGuard 가 replica 를 못 쓴다고 판단하면(지연 초과 / 확인 실패) primary 로 보냅니다.
+ * JpaTransactionManager 는 readOnly 표시를 하기 전에 커넥션을 잡으므로, 반드시 LazyConnectionDataSourceProxy 로 감싸서 씁니다.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    // Field
+    public static final String PRIMARY = "primary";
+    public static final String REPLICA = "replica";
+
+    private final ReplicaLagGuard replicaLagGuard;
+    private final Counter writeCounter;
+    private final Counter readCounter;
+    private final Counter fallbackCounter;
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagGuard replicaLagGuard, MeterRegistry meterRegistry) {
+        this.replicaLagGuard = replicaLagGuard;
+        this.writeCounter = meterRegistry.counter("datasource.routing", "target", PRIMARY, "reason", "write");
+        this.readCounter = meterRegistry.counter("datasource.routing", "target", REPLICA, "reason", "read_only");
+        this.fallbackCounter = meterRegistry.counter("datasource.routing", "target", PRIMARY, "reason", "replica_unavailable");
+
+        setTargetDataSources(Map.of(PRIMARY, primary, REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    // Method
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            writeCounter.increment();
+            return PRIMARY;
+        }
+        if (!replicaLagGuard.isReplicaUsable()) {
+            fallbackCounter.increment();
+            return PRIMARY;
+        }
+        readCounter.increment();
+        return REPLICA;
+    }
+}
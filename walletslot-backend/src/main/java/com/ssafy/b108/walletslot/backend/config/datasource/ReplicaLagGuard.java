@@ -0,0 +1,81 @@
+package com.ssafy.b108.walletslot.backend.config.datasource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * replica 의 복제 지연을 주기적으로 확인해서, readOnly 트랜잭션을 replica 로 보내도 되는지 알려주는 가드 입니다.
+ * lag-query(기본 SHOW REPLICA STATUS)의 Seconds_Behind_Source(없으면 첫 번째 컬럼) 값을 초 단위 지연으로 읽고,
+ * max-lag-seconds 를 넘거나 값이 없거나(복제 중단 / 결과 없음) 쿼리가 실패하면 다음 확인까지 primary 로 보냅니다.
+ * 로컬에서 복제 없는 DB 두 개로 띄울 때는 lag-query 를 "SELECT 0" 으로 두면 됩니다.
+ */
+@Slf4j
+public class ReplicaLagGuard {
+
+    // Field
+    private static final long UNKNOWN = -1L;
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final String lagQuery;
+    private final long maxLagSeconds;
+
+    private final AtomicLong lagSeconds = new AtomicLong(UNKNOWN);
+    private volatile boolean replicaUsable = false;
+
+    public ReplicaLagGuard(DataSource replica, String lagQuery, long maxLagSeconds, MeterRegistry meterRegistry) {
+        this.replicaJdbcTemplate = new JdbcTemplate(replica);
+        this.replicaJdbcTemplate.setQueryTimeout(2);
+        this.lagQuery = lagQuery;
+        this.maxLagSeconds = maxLagSeconds;
+
+        meterRegistry.gauge("datasource.replica.lag.seconds", lagSeconds);
+        meterRegistry.gauge("datasource.replica.usable", this, guard -> guard.replicaUsable ? 1 : 0);
+    }
+
+    // Method
+    public boolean isReplicaUsable() {
+        return replicaUsable;
+    }
+
+    /** 지연 확인 (기동 직후 한 번, 이후 lag-check-ms 마다) */
+    @Scheduled(fixedDelayString = "${spring.datasource.replica.lag-check-ms:5000}")
+    public void check() {
+        Long lag;
+        try {
+            lag = replicaJdbcTemplate.query(lagQuery, rs -> rs.next() ? readLag(rs) : null);
+        } catch (Exception e) {
+            lag = null;
+            if (replicaUsable) log.warn("[DATASOURCE][REPLICA] 지연 확인 실패, primary 로 전환: {}", e.toString());
+        }
+
+        boolean usable = (lag != null && lag <= maxLagSeconds);
+        if (usable != replicaUsable) {
+            log.info("[DATASOURCE][REPLICA] usable={} lag={}s (max={}s)", usable, lag, maxLagSeconds);
+        }
+        lagSeconds.set(lag != null ? lag : UNKNOWN);
+        replicaUsable = usable;
+    }
+
+    // Seconds_Behind_Source (8.0.22+) / Seconds_Behind_Master, 없으면 첫 번째 컬럼
+    private static Long readLag(ResultSet rs) throws SQLException {
+        ResultSetMetaData meta = rs.getMetaData();
+        int column = 1;
+        for (int i = 1; i <= meta.getColumnCount(); i++) {
+            String label = meta.getColumnLabel(i);
+            if ("Seconds_Behind_Source".equalsIgnoreCase(label) || "Seconds_Behind_Master".equalsIgnoreCase(label)) {
+                column = i;
+                break;
+            }
+        }
+        long lag = rs.getLong(column);
+        return rs.wasNull() ? null : lag;
+    }
+}
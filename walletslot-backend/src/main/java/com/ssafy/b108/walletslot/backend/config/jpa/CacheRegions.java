@@ -0,0 +1,21 @@
+package com.ssafy.b108.walletslot.backend.config.jpa;
+
+/**
+ * Hibernate 2차 캐시 region 이름 모음 입니다.
+ * 엔티티의 @Cache(region = ...) 와 SecondLevelCacheConfig 의 region 별 정책이 같은 이름을 보도록 한 곳에 둡니다.
+ */
+public final class CacheRegions {
+
+    // Field
+    public static final String PUSH_ENDPOINT = "push_endpoint";
+    public static final String ACCOUNT = "account";
+
+    // 사용자 단위 조회 쿼리(findByUser 등) 결과 캐시
+    public static final String USER_OWNED_QUERY = "query.user_owned";
+
+    // Hibernate 기본 region (쿼리 캐시 / 테이블별 마지막 변경 시각)
+    public static final String DEFAULT_QUERY_RESULTS = "default-query-results-region";
+    public static final String UPDATE_TIMESTAMPS = "default-update-timestamps-region";
+
+    private CacheRegions() {}
+}
@@ -1,8 +1,31 @@
 package com.ssafy.b108.walletslot.backend.config.jpa;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 
 @Configuration
 @EnableJpaAuditing
-public class JpaConfig {}
+public class JpaConfig {
+
+    @Value("${jpa.batch-size:100}")
+    private int batchSize;
+
+    /**
+     * JDBC 배치 insert/update 기본값.
+     * 같은 엔티티끼리 모아서(order_inserts/updates) batch-size 개씩 한 번에 보내고,
+     * id_sequence 를 쓰는 엔티티(Transaction 등)는 pooled-lo 로 블록을 받아 씀.
+     * spring.jpa.properties.hibernate.* 로 따로 지정한 값이 있으면 그 값을 그대로 둡니다.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchingCustomizer() {
+        return properties -> {
+            properties.putIfAbsent("hibernate.jdbc.batch_size", batchSize);
+            properties.putIfAbsent("hibernate.order_inserts", true);
+            properties.putIfAbsent("hibernate.order_updates", true);
+            properties.putIfAbsent("hibernate.id.optimizer.pooled.preferred", "pooled-lo");
+        };
+    }
+}
@@ -0,0 +1,104 @@
+package com.ssafy.b108.walletslot.backend.config.jpa;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.OptionalLong;
+
+/**
+ * Hibernate 2차 캐시(JCache + Caffeine, 프로세스 내 캐시) 설정 입니다.
+ * 요청마다 / 동기화 루프마다 다시 읽던 사용자 단위 엔티티(PushEndpoint, Account)와 findByUser 류 쿼리 결과를
+ * region 별 크기 / 만료 정책으로 캐시합니다.
+ *
+ * User(로그인 전화번호 / 금융 userKey), Email(인증 여부), UserPin(실패횟수 / 잠금)은 캐시하지 않습니다.
+ * 인스턴스마다 캐시가 따로라서 다른 인스턴스의 변경(PIN 실패 누적, PIN 변경, 이메일 인증)이 ttl 동안 안 보이고,
+ * 오래된 사본으로 덮어쓰면 PIN 잠금이 풀리는 식의 보안 문제가 생기기 때문입니다.
+ * AccountSlot(Account.accountSlots 포함)도 캐시하지 않습니다. 지출금액은 거래마다 네이티브 UPDATE 로 바뀌는데,
+ * 네이티브 UPDATE 는 항목 하나가 아니라 account_slot region 전체를 비워서 적중률이 거의 없고, 다른 인스턴스에서는 오래된 지출금액이 보입니다.
+ *
+ * 무효화는 Hibernate 가 처리합니다.
+ * - 엔티티 변경(dirty checking, save, delete)은 READ_WRITE 전략으로 커밋 시 해당 항목만 갱신
+ * - JPQL bulk update 는 해당 엔티티 region 전체 무효화
+ * - 네이티브 update/delete 는 HINT_NATIVE_SPACES 로 건드리는 테이블을 알려줘야 그 테이블만 무효화 (없으면 2차 캐시 전체가 비워짐)
+ * - 쿼리 캐시는 테이블별 마지막 변경 시각(update-timestamps)과 비교해서 오래된 결과를 버림
+ * - 자식 쪽(ManyToOne)만 바꾸고 부모 컬렉션을 안 건드려도 auto_evict_collection_cache 로 부모 컬렉션 캐시를 비움
+ *
+ * 통계는 hibernate.generate_statistics 로 켜고, hibernate-micrometer 를 통해
+ * hibernate.second.level.cache.requests{region, result=hit|miss} 등으로 actuator metrics 에 올라갑니다.
+ * 여러 인스턴스로 띄우면 인스턴스마다 캐시가 따로라서, 다른 인스턴스의 변경은 만료(ttl)될 때까지 안 보일 수 있습니다.
+ */
+@Slf4j
+@Configuration
+public class SecondLevelCacheConfig {
+
+    // Field
+    @Value("${jpa.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${jpa.cache.statistics:true}")
+    private boolean statistics;
+
+    @Value("${jpa.cache.max-entries:10000}")
+    private long maxEntries;
+
+    // Method
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager() {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName()).getCacheManager();
+
+        regionPolicies().forEach((region, policy) -> {
+            if (cacheManager.getCache(region) == null) {
+                cacheManager.createCache(region, policy);
+            }
+        });
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.putIfAbsent("hibernate.cache.use_second_level_cache", enabled);
+            properties.putIfAbsent("hibernate.cache.use_query_cache", enabled);
+            properties.putIfAbsent("hibernate.generate_statistics", statistics);
+            if (!enabled) return;
+
+            properties.putIfAbsent("hibernate.cache.region.factory_class", "jcache");
+            properties.putIfAbsent("hibernate.javax.cache.cache_manager", hibernateCacheManager);
+            properties.putIfAbsent("hibernate.javax.cache.missing_cache_strategy", "create");
+            properties.putIfAbsent("hibernate.cache.auto_evict_collection_cache", true);
+            log.info("[JPA][L2CACHE] regions={}", regionPolicies().keySet());
+        };
+    }
+
+    // region 별 정책 (자주 바뀌는 것일수록 짧게)
+    private Map<String, CaffeineConfiguration<Object, Object>> regionPolicies() {
+        Map<String, CaffeineConfiguration<Object, Object>> policies = new LinkedHashMap<>();
+        policies.put(CacheRegions.PUSH_ENDPOINT, policy(maxEntries, Duration.ofMinutes(30)));
+        policies.put(CacheRegions.ACCOUNT, policy(maxEntries * 2, Duration.ofMinutes(10)));  // 동기화마다 잔액이 바뀜
+        policies.put(CacheRegions.USER_OWNED_QUERY, policy(maxEntries * 2, Duration.ofMinutes(5)));
+        policies.put(CacheRegions.DEFAULT_QUERY_RESULTS, policy(maxEntries, Duration.ofMinutes(5)));
+        // 테이블별 변경 시각은 쿼리 결과보다 먼저 사라지면 안 되므로 만료 없음 (항목 수 = 테이블 수)
+        policies.put(CacheRegions.UPDATE_TIMESTAMPS, policy(1_000, null));
+        return policies;
+    }
+
+    private static CaffeineConfiguration<Object, Object> policy(long maximumSize, Duration expireAfterWrite) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setStoreByValue(false); // Hibernate 캐시 항목은 이미 분해된 상태라 직렬화 복사가 필요 없음
+        configuration.setMaximumSize(OptionalLong.of(maximumSize));
+        if (expireAfterWrite != null) {
+            configuration.setExpireAfterWrite(OptionalLong.of(expireAfterWrite.toNanos()));
+        }
+        return configuration;
+    }
+}
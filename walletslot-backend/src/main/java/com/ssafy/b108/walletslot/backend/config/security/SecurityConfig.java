@@ -1,6 +1,7 @@
 package com.ssafy.b108.walletslot.backend.config.security;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
@@ -29,6 +30,10 @@ public class SecurityConfig {
     private final JwtAuthFilter jwtAuthFilter;
     private final DeviceBindingFilter deviceBindingFilter;
 
+    // 관리 포트 (설정 안 하면 actuator 가 API 와 같은 포트라서 아무 요청도 해당 없음)
+    @Value("${management.server.port:-1}")
+    private int managementPort;
+
     /* ---------------------- 운영/개발용 (test 제외) ---------------------- */
     @Bean
     @Profile("!test")
@@ -75,11 +80,16 @@ public class SecurityConfig {
                         // 헬스체크 & 인증 엔드포인트
                         .requestMatchers(
                                 "/actuator/health",
-                                "/actuator/**",
+                                "/actuator/health/**",
+                                "/actuator/info",
                                 "/api/auth/**",
                                 "/api/ping/public"
                         ).permitAll()
 
+                        // 그 밖의 actuator(metrics 등)는 외부에 열지 않은 관리 포트(management.server.port)로 들어온 요청만
+                        .requestMatchers(request -> request.getLocalPort() == managementPort).permitAll()
+                        .requestMatchers("/actuator/**").denyAll()
+
                         // CORS Preflight 허용
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
 
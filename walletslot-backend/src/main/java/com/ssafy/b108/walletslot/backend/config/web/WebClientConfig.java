@@ -1,38 +1,107 @@
 package com.ssafy.b108.walletslot.backend.config.web;
 
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.Http2AllocationStrategy;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
 
 @Configuration
 public class WebClientConfig {
 
+    /**
+     * LLM(GMS, OpenAI) WebClient 들이 같이 쓰는 커넥션 풀
+     * - 커넥션 수 상한 + 대기열 상한으로 LLM 이 느려져도 요청이 끝없이 쌓이지 않게 함
+     * - responseTimeout 은 최후 안전망 (용도별 마감시간은 LlmGateway 에서 더 짧게 적용)
+     */
+    @Bean
+    public HttpClient llmHttpClient(@Value("${llm.http.max-connections:32}") int maxConnections,
+                                    @Value("${llm.http.pending-acquire-max-count:64}") int pendingAcquireMaxCount,
+                                    @Value("${llm.http.connect-timeout-ms:3000}") int connectTimeoutMs,
+                                    @Value("${llm.http.response-timeout-ms:60000}") long responseTimeoutMs) {
+        ConnectionProvider provider = ConnectionProvider.builder("llm")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(Duration.ofSeconds(5))
+                .maxIdleTime(Duration.ofSeconds(30))
+                .metrics(true)
+                .build();
+
+        return HttpClient.create(provider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMs)
+                .responseTimeout(Duration.ofMillis(responseTimeoutMs));
+    }
+
     @Bean
-    public WebClient ssafyGmsWebClient(@Value("${api.ssafy.gms.key}") String ssafyGmsKey) {
+    public WebClient ssafyGmsWebClient(@Value("${api.ssafy.gms.key}") String ssafyGmsKey,
+                                       @Qualifier("llmHttpClient") HttpClient llmHttpClient) {
         return WebClient.builder()
                 .baseUrl("https://gms.ssafy.io/gmsapi/api.openai.com/v1")
+                .clientConnector(new ReactorClientHttpConnector(llmHttpClient))
                 .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
                 .defaultHeader(HttpHeaders.AUTHORIZATION, "Bearer " + ssafyGmsKey)
                 .build();
     }
 
     @Bean
-    public WebClient gptWebClient(@Value("${api.haeji.openai.key}") String openAiKey) {
+    public WebClient gptWebClient(@Value("${api.haeji.openai.key}") String openAiKey,
+                                  @Qualifier("llmHttpClient") HttpClient llmHttpClient) {
         return WebClient.builder()
                 .baseUrl("https://api.openai.com/v1")
+                .clientConnector(new ReactorClientHttpConnector(llmHttpClient))
                 .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
                 .defaultHeader(HttpHeaders.AUTHORIZATION, "Bearer " + openAiKey)
                 .build();
     }
 
+    /**
+     * FCM 전용 WebClient
+     * - 다른 외부 API 와 커넥션 풀을 공유하지 않도록 전용 ConnectionProvider 사용
+     * - HTTP/2 (ALPN) 로 커넥션 하나에 여러 요청을 멀티플렉싱, 협상 실패 시 HTTP/1.1
+     * - 동시에 날아가는 요청 수 상한 = max-connections * max-concurrent-streams, 초과분은 pending 큐에서 대기
+     */
     @Bean
-    public WebClient fcmWebClient(@Value("${fcm.server.project-id}") String projectId) {
+    public WebClient fcmWebClient(@Value("${fcm.server.project-id}") String projectId,
+                                  @Value("${fcm.http.max-connections:4}") int maxConnections,
+                                  @Value("${fcm.http.max-concurrent-streams:100}") int maxConcurrentStreams,
+                                  @Value("${fcm.http.pending-acquire-max-count:2000}") int pendingAcquireMaxCount,
+                                  @Value("${fcm.http.response-timeout-ms:5000}") long responseTimeoutMs) {
+        HttpClient httpClient = HttpClient.create(fcmConnectionProvider(maxConnections, maxConcurrentStreams, pendingAcquireMaxCount))
+                .protocol(HttpProtocol.H2, HttpProtocol.HTTP11)
+                .secure()
+                .compress(true)
+                .responseTimeout(Duration.ofMillis(responseTimeoutMs));
+
         return WebClient.builder()
                 .baseUrl("https://fcm.googleapis.com/v1/projects/" + projectId + "/messages:send")
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
                 .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
                 .build();
     }
+
+    /** FCM 커넥션 풀 (FcmSendBenchmark 도 같은 설정으로 측정하도록 분리) */
+    public static ConnectionProvider fcmConnectionProvider(int maxConnections, int maxConcurrentStreams, int pendingAcquireMaxCount) {
+        return ConnectionProvider.builder("fcm")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(Duration.ofSeconds(10))
+                .maxIdleTime(Duration.ofMinutes(5))
+                .allocationStrategy(Http2AllocationStrategy.builder()
+                        .maxConnections(maxConnections)
+                        .minConnections(1)
+                        .maxConcurrentStreams(maxConcurrentStreams)
+                        .build())
+                .metrics(true)
+                .build();
+    }
 }
@@ -1,9 +1,13 @@
 package com.ssafy.b108.walletslot.backend.domain.account.entity;
 
+import com.ssafy.b108.walletslot.backend.config.jpa.CacheRegions;
+import com.ssafy.b108.walletslot.backend.common.converter.UuidBinaryConverter;
 import com.ssafy.b108.walletslot.backend.domain.bank.entity.Bank;
 import com.ssafy.b108.walletslot.backend.domain.slot.entity.AccountSlot;
 import com.ssafy.b108.walletslot.backend.domain.user.entity.User;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.*;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -15,6 +19,8 @@ import java.util.UUID;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.ACCOUNT)
 public class Account {
 
     // Field
@@ -22,7 +28,8 @@ public class Account {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(nullable = false, unique = true, length = 64)
+    @Column(nullable = false, unique = true, columnDefinition = "BINARY(16)")
+    @Convert(converter = UuidBinaryConverter.class)
     @Builder.Default
     private String uuid = UUID.randomUUID().toString();
 
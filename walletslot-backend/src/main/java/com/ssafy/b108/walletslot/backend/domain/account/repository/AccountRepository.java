@@ -1,14 +1,24 @@
 package com.ssafy.b108.walletslot.backend.domain.account.repository;
 
+import com.ssafy.b108.walletslot.backend.config.jpa.CacheRegions;
 import com.ssafy.b108.walletslot.backend.domain.account.entity.Account;
 import com.ssafy.b108.walletslot.backend.domain.slot.entity.Slot;
 import com.ssafy.b108.walletslot.backend.domain.user.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
 
 public interface AccountRepository extends JpaRepository<Account, Long> {
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.USER_OWNED_QUERY)
+    })
     List<Account> findByUser(User user);
     Optional<Account> findByUserAndIsPrimaryTrue(User user);
     Optional<Account> findByUuid(String uuid);
@@ -16,6 +26,12 @@ public interface AccountRepository extends JpaRepository<Account, Long> {
 
     Optional<Account> findByUserIdAndUuid(Long userId, String uuid);
 
+    // 소유권 확인용 (AccountAccessGuard), 엔티티 없이 id 만
+    @Query("SELECT a.id FROM Account a WHERE a.user.id = :userId AND a.uuid = :uuid")
+    Optional<Long> findIdByUserIdAndUuid(@Param("userId") Long userId, @Param("uuid") String uuid);
+
+    boolean existsByUuid(String uuid);
+
     // 권한 체크 등에 유용 (선택)
     boolean existsByUuidAndUser_Id(String uuid, Long userId);
 }
@@ -0,0 +1,141 @@
+package com.ssafy.b108.walletslot.backend.domain.account.service;
+
+import com.ssafy.b108.walletslot.backend.domain.account.entity.Account;
+import com.ssafy.b108.walletslot.backend.domain.account.repository.AccountRepository;
+import com.ssafy.b108.walletslot.backend.global.error.AppException;
+import com.ssafy.b108.walletslot.backend.global.error.ErrorCode;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * "이 사용자의 이 계좌가 맞는지" 확인을 한 곳에서 처리하는 접근 가드 입니다.
+ * 기존에는 서비스마다 findByUuid 로 계좌를 읽고 account.getUser().getId() 로 비교했는데,
+ * 여기서는 (userId, accountUuid) 를 한 번의 쿼리(uuid 유니크 인덱스 + user_id 조건)로 확인하고
+ * 확인된 계좌 id 를 사용자별로 ttl-ms 동안 기억해 둡니다.
+ * 캐시는 소유권 판단만 들고 있고, 계좌 엔티티가 필요하면 PK 로 실제로 읽어서 넘깁니다.
+ * (evict 는 이 인스턴스 캐시만 지우므로 다른 인스턴스에서 삭제된 계좌를 프록시로 넘기면 나중에 EntityNotFoundException → 500 이 됨)
+ * 다른 인스턴스의 삭제/해지가 id 만 쓰는 호출에 늦게 보이는 시간은 ttl-ms 로 제한합니다.
+ * 못 찾았을 때만 uuid 존재 여부를 한 번 더 봐서 404 / 403 을 구분합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class AccountAccessGuard {
+
+    // Field
+    private final AccountRepository accountRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${account.access-cache.ttl-ms:10000}")
+    private long ttlMs;
+
+    @Value("${account.access-cache.max-users:10000}")
+    private int maxUsers;
+
+    // userId -> (accountUuid -> 확인된 계좌 id)
+    private final Map<Long, OwnedAccounts> cache = new ConcurrentHashMap<>();
+
+    // Method
+    /**
+     * 사용자의 계좌 엔티티 (없으면 404, 남의 계좌면 403)
+     * 캐시에 있으면 uuid 조회 대신 PK 로 읽고, 그 사이 지워졌거나 주인이 바뀌었으면 캐시를 버리고 처음부터 확인합니다.
+     */
+    public Account getOwnedAccount(Long userId, String accountUuid) {
+        Long cachedId = lookup(userId, accountUuid);
+        if (cachedId != null) {
+            Optional<Account> cached = accountRepository.findById(cachedId);
+            if (cached.isPresent() && userId.equals(cached.get().getUser().getId())) {
+                meterRegistry.counter("account.access.guard", "result", "hit").increment();
+                return cached.get();
+            }
+            meterRegistry.counter("account.access.guard", "result", "stale").increment();
+            evict(userId, accountUuid);
+        }
+
+        Optional<Account> account = accountRepository.findByUserIdAndUuid(userId, accountUuid);
+        if (account.isEmpty()) throw denied(accountUuid);
+
+        meterRegistry.counter("account.access.guard", "result", "miss").increment();
+        remember(userId, accountUuid, account.get().getId());
+        return account.get();
+    }
+
+    /** 사용자의 계좌 id 만 필요할 때 (없으면 404, 남의 계좌면 403) */
+    public Long getOwnedAccountId(Long userId, String accountUuid) {
+        Long cachedId = lookup(userId, accountUuid);
+        if (cachedId != null) {
+            meterRegistry.counter("account.access.guard", "result", "hit").increment();
+            return cachedId;
+        }
+
+        Long accountId = accountRepository.findIdByUserIdAndUuid(userId, accountUuid).orElseThrow(() -> denied(accountUuid));
+
+        meterRegistry.counter("account.access.guard", "result", "miss").increment();
+        remember(userId, accountUuid, accountId);
+        return accountId;
+    }
+
+    /** 소유권 확인만 (없으면 404, 남의 계좌면 403) */
+    public void verify(Long userId, String accountUuid) {
+        getOwnedAccountId(userId, accountUuid);
+    }
+
+    /** 계좌 삭제 등으로 소유 관계가 바뀌었을 때 */
+    public void evict(Long userId, String accountUuid) {
+        OwnedAccounts owned = cache.get(userId);
+        if (owned != null) owned.ids.remove(accountUuid);
+    }
+
+    /** 만료된 사용자 항목 정리 */
+    @Scheduled(fixedDelayString = "${account.access-cache.ttl-ms:10000}")
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        cache.values().removeIf(owned -> owned.expiresAt < now);
+    }
+
+    private Long lookup(Long userId, String accountUuid) {
+        if (userId == null || accountUuid == null) return null;
+        OwnedAccounts owned = cache.get(userId);
+        if (owned == null || owned.expiresAt < System.currentTimeMillis()) return null;
+        return owned.ids.get(accountUuid);
+    }
+
+    private void remember(Long userId, String accountUuid, Long accountId) {
+        if (cache.size() >= maxUsers && !cache.containsKey(userId)) {
+            cache.clear(); // 상한을 넘으면 통째로 비움 (다음 요청부터 다시 채워짐)
+        }
+        long now = System.currentTimeMillis();
+        cache.compute(userId, (key, owned) -> {
+            if (owned == null || owned.expiresAt < now) owned = new OwnedAccounts(now + ttlMs);
+            owned.ids.put(accountUuid, accountId);
+            return owned;
+        });
+    }
+
+    // 못 찾은 경우만 uuid 존재 여부로 404 / 403 구분
+    private AppException denied(String accountUuid) {
+        if (accountUuid != null && accountRepository.existsByUuid(accountUuid)) {
+            meterRegistry.counter("account.access.guard", "result", "forbidden").increment();
+            return new AppException(ErrorCode.FORBIDDEN, "[AccountAccessGuard - 002]");
+        }
+        meterRegistry.counter("account.access.guard", "result", "not_found").increment();
+        return new AppException(ErrorCode.ACCOUNT_NOT_FOUND, "[AccountAccessGuard - 001]");
+    }
+
+    // Nested Class
+    // 한 사용자의 확인된 계좌들 (처음 채운 시점부터 ttl 동안 유효)
+    private static final class OwnedAccounts {
+        private final Map<String, Long> ids = new ConcurrentHashMap<>();
+        private final long expiresAt;
+
+        private OwnedAccounts(long expiresAt) {
+            this.expiresAt = expiresAt;
+        }
+    }
+}
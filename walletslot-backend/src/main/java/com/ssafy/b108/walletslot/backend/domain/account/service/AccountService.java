@@ -8,8 +8,7 @@ import com.ssafy.b108.walletslot.backend.domain.account.dto.*;
 import com.ssafy.b108.walletslot.backend.domain.account.dto.external.*;
 import com.ssafy.b108.walletslot.backend.domain.account.entity.Account;
 import com.ssafy.b108.walletslot.backend.domain.account.repository.AccountRepository;
-import com.ssafy.b108.walletslot.backend.domain.bank.entity.Bank;
-import com.ssafy.b108.walletslot.backend.domain.bank.repository.BankRepository;
+import com.ssafy.b108.walletslot.backend.domain.bank.service.BankCatalog;
 import com.ssafy.b108.walletslot.backend.domain.transaction.dto.external.SSAFYGetAccountBalanceResponseDto;
 import com.ssafy.b108.walletslot.backend.domain.user.entity.Email;
 import com.ssafy.b108.walletslot.backend.domain.user.entity.User;
@@ -37,8 +36,9 @@ public class AccountService {
 
     // Field
     private final AccountRepository accountRepository;
+    private final AccountAccessGuard accountAccessGuard;
     private final UserRepository userRepository;
-    private final BankRepository bankRepository;
+    private final BankCatalog bankCatalog;
     private final EmailRepository emailRepository;
 
     @Value("${api.ssafy.finance.apiKey}")
@@ -91,7 +91,7 @@ public class AccountService {
             bankUuids.add(bankDto.getBankId());
         }
 
-        Set<String> bankCodes = bankRepository.findCodesByUuids(bankUuids);
+        Set<String> bankCodes = bankCatalog.findCodesByUuids(bankUuids);
 
         for(String bankCode : bankCodes) {
             System.out.println(bankCode);
@@ -110,11 +110,11 @@ public class AccountService {
         List<GetAccountsResponseDto.AccountResponseDto> accountResponseDtos = new ArrayList<>();
         for(AccountDto accountDto : filteredAccounts) {
 
-            Bank bank = bankRepository.findByCode(accountDto.getBankCode()).orElseThrow(() -> new AppException(ErrorCode.BANK_NOT_FOUND, "AccountService - 000"));
+            BankCatalog.Item bank = bankCatalog.findByCode(accountDto.getBankCode()).orElseThrow(() -> new AppException(ErrorCode.BANK_NOT_FOUND, "AccountService - 000"));
 
             GetAccountsResponseDto.AccountResponseDto accountResponseDto = GetAccountsResponseDto.AccountResponseDto.builder()
-                    .bankId(bank.getUuid())
-                    .bankName(bank.getName())
+                    .bankId(bank.uuid())
+                    .bankName(bank.name())
                     .accountNo(accountDto.getAccountNo())
                     .accountBalance(accountDto.getAccountBalance())
                     .build();
@@ -188,10 +188,8 @@ public class AccountService {
     // 4-1-3
     public GetAccountResponseDto getAccount(long userId, String accountId) {
 
-        // 존재하지 않는 accountId이면 404 응답
-        Account account = accountRepository.findByUuid(accountId).orElseThrow(() -> new AppException(ErrorCode.NOT_FOUND, "[AccountService - 000]"));
-
-        // 사용자의 userId != 조회한 계좌의 userId 이면 403
+        // 존재하지 않는 accountId이면 404, 사용자의 userId != 조회한 계좌의 userId 이면 403
+        Account account = accountAccessGuard.getOwnedAccount(userId, accountId);
 
         // dto 조립하기
         // dto > data
@@ -261,12 +259,7 @@ public class AccountService {
 
         // user, account 조회 (없으면 404)
         User user = userRepository.findById(userId).orElseThrow(() -> new AppException(ErrorCode.NOT_FOUND, "AccountService - 000"));
-        Account account = accountRepository.findByUuid(accountUuid).orElseThrow(() -> new AppException(ErrorCode.NOT_FOUND, "AccountService - 000"));
-
-        // userId != account userId 이면 403 응답
-        if(userId != account.getUser().getId()) {
-            throw new AppException(ErrorCode.FORBIDDEN, "AccountService - 000");
-        }
+        Account account = accountAccessGuard.getOwnedAccount(userId, accountUuid);
 
         // SSAFY 금융 API >>>>> 2.4.6 예금주 조회
         // 사용할 userKey와 accountNo
@@ -332,13 +325,12 @@ public class AccountService {
     // 4-1-6
     public DeleteLinkedAccountResponseDto deleteLinkedAccount(long userId, String accountId) {
 
-        // 조회 결과가 없으면 404
-        Account account = accountRepository.findByUuid(accountId).orElseThrow(() -> new AppException(ErrorCode.NOT_FOUND, "[AccountService - 000]"));
-        
-        // 조회한 계좌가 이 userId꺼가 아니면 403
-        
+        // 조회 결과가 없으면 404, 조회한 계좌가 이 userId꺼가 아니면 403
+        Account account = accountAccessGuard.getOwnedAccount(userId, accountId);
+
         // account 레포에서 삭제
         accountRepository.deleteByUuid(accountId);
+        accountAccessGuard.evict(userId, accountId);
 
         // dto 조립
         // dto > data
@@ -396,8 +388,8 @@ public class AccountService {
         // 방금 조회한 사용자의 이름 != 예금주 명이면 403 보내야 함
 
         // 1원 송금받는 사용자 통장내역에 찍힐 기업명 만들기
-        Bank bank = bankRepository.findByUuid(bankUuid).orElseThrow(() -> new AppException(ErrorCode.NOT_FOUND, "AccountService - 002"));
-        String bankName = bank.getName();
+        BankCatalog.Item bank = bankCatalog.findByUuid(bankUuid).orElseThrow(() -> new AppException(ErrorCode.NOT_FOUND, "AccountService - 002"));
+        String bankName = bank.name();
 
         // SSAFY 금융 API >>>>> 2.9.1 1원 송금
         // 요청보낼 url
@@ -637,8 +629,8 @@ public class AccountService {
             // 잔액 데이터 확보
             Long balance = httpResponse2.getBody().getREC().getAccountBalance();
 
-            // Bank 객체 조회하기 (없으면 404)
-            Bank bank = bankRepository.findByUuid(accountDto.getBankId()).orElseThrow(() -> new AppException(ErrorCode.NOT_FOUND, "AccountService - 002"));
+            // 은행 조회하기 (없으면 404, 카탈로그에서 찾고 연관관계는 프록시로)
+            BankCatalog.Item bank = bankCatalog.findByUuid(accountDto.getBankId()).orElseThrow(() -> new AppException(ErrorCode.NOT_FOUND, "AccountService - 002"));
 
             // 계좌번호 암호화
             String encryptedAccountNo;
@@ -651,7 +643,7 @@ public class AccountService {
             // Account 객체 만들기
             Account account = Account.builder()
                     .user(user)
-                    .bank(bank)
+                    .bank(bankCatalog.reference(bank.id()))
                     .encryptedAccountNo(encryptedAccountNo)
                     .balance(balance)
                     .lastSyncedAt(LocalDateTime.now())
@@ -666,8 +658,8 @@ public class AccountService {
             try {
                 accountDto2 = AccountDto.builder()
                         .accountId(account.getUuid())
-                        .bankCode(account.getBank().getCode())
-                        .bankName(account.getBank().getName())
+                        .bankCode(bank.code())
+                        .bankName(bank.name())
                         .accountNo(AESUtil.decrypt(account.getEncryptedAccountNo(), encryptionKey))
                         .build();
             } catch(Exception e) {
@@ -690,12 +682,7 @@ public class AccountService {
     public ModifyAccountResponseDto modifyAccount(Long userId, String accountId, ModifyAccountRequestDto request) {
 
         // account 객체 조회 (없으면 404)
-        Account account = accountRepository.findByUuid(accountId).orElseThrow(() -> new AppException(ErrorCode.NOT_FOUND, "[AccountService - 000]"));
-
-        // userId != account의 userId이면 403 응답
-        if(userId != account.getUser().getId()) {
-            new AppException(ErrorCode.FORBIDDEN, "[AccountService - 000]");
-        }
+        Account account = accountAccessGuard.getOwnedAccount(userId, accountId);
 
         // request 돌면서 null 아닌거 있으면 update 메서드 호출
         if(request.getAlias() != null) {
@@ -26,4 +26,11 @@ public class AiReportMonthlyScheduler {
         batchService.generateForAllUsersIfDue(today);
         log.info("[AI-REPORT][SCHED] done for {}", today);
     }
-}
\ No newline at end of file
+
+    // 배치 도중 서버가 죽거나 실패한 작업이 있으면 남은 작업부터 이어서 처리 (오늘 작업만)
+    @Scheduled(fixedDelayString = "${scheduling.ai-report.resume-interval-ms:600000}", initialDelayString = "${scheduling.ai-report.resume-initial-delay-ms:60000}")
+    public void resume() {
+        LocalDate today = LocalDate.now(ZoneId.of(schedulingZone));
+        batchService.resumePending(today);
+    }
+}
@@ -131,6 +131,7 @@ public class AiReportController {
                 - 응답의 prevYearMonth/nextYearMonth로 좌/우 화살표 네비게이션 구현이 쉽습니다.
                 - 같은 달에 여러 개면 reports는 created_at 내림차순(최신→과거)입니다.
                 - reports의 각 아이템은 7-1 응답과 동일 구조(period/summary/slots/redistribution/insights/persist)입니다.
+                - detail=false: 월 이동/목록용 가벼운 응답. period와 summary 합계(totalBudget/totalSpent/totalOverspent/totalUnderspent)만 채워집니다.
                 """,
             extensions = @Extension(name = "x-order", properties = @ExtensionProperty(name = "order", value = "0.5"))
     )
@@ -141,10 +142,12 @@ public class AiReportController {
             @Parameter(description = "조회 월(YYYY-MM). 없으면 offset 사용", example = "2025-09")
             @RequestParam(name = "yearMonth", required = false) String yearMonth,
             @Parameter(description = "0=가장 최신월, 1=이전월 ... (기본 0)", example = "0")
-            @RequestParam(name = "offset", required = false, defaultValue = "0") Integer offset
+            @RequestParam(name = "offset", required = false, defaultValue = "0") Integer offset,
+            @Parameter(description = "true=각 레포트 전체(slots/redistribution/insights 포함), false=요약(period/summary 합계)만 (기본 true)", example = "true")
+            @RequestParam(name = "detail", required = false, defaultValue = "true") boolean detail
     ) {
         return ResponseEntity.ok(
-                service.getArchiveByMonthOrOffset(principal.userId(), accountId, yearMonth, offset)
+                service.getArchiveByMonthOrOffset(principal.userId(), accountId, yearMonth, offset, detail)
         );
     }
 }
@@ -0,0 +1,40 @@
+package com.ssafy.b108.walletslot.backend.domain.ai_report.entity;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.hypersistence.utils.hibernate.type.json.JsonType;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Type;
+
+import java.time.LocalDateTime;
+
+/**
+ * GMS 인사이트(요약/실행항목) 응답 캐시 입니다.
+ * 키는 프롬프트(모델, 시스템/사용자 메시지)를 정규화해서 만든 SHA-256 이라,
+ * 같은 기간/같은 슬롯 표/같은 요약으로 리포트를 다시 만들면 GMS 를 호출하지 않고 저장된 응답을 씁니다.
+ */
+@Entity
+@Table(
+        name = "ai_insight_cache",
+        indexes = @Index(name = "idx_ai_insight_cache_expires", columnList = "expires_at")
+)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AiInsightCache {
+
+    @Id
+    @Column(name = "cache_key", length = 64, nullable = false)
+    private String cacheKey;
+
+    @Type(JsonType.class)
+    @Column(columnDefinition = "json", nullable = false)
+    private JsonNode response;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
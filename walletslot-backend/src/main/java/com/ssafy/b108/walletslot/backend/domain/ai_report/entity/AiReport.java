@@ -11,7 +11,10 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "ai_report")
+@Table(
+        name = "ai_report",
+        indexes = @Index(name = "idx_ai_report_account_month", columnList = "account_id, report_month, created_at")
+)
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -37,6 +40,29 @@ public class AiReport {
     @Column(name = "created_at", nullable = false, insertable = false, updatable = false)
     private LocalDateTime createdAt;
 
+    // created_at 의 연-월 (YYYY-MM, DB 생성 컬럼) → 월 목록/월별 아카이브를 인덱스로 조회
+    @Column(name = "report_month", length = 7, insertable = false, updatable = false)
+    private String reportMonth;
+
+    // ▼ 아카이브 목록용 요약 (content JSON 을 열지 않고 보여줄 값)
+    @Column(name = "period_start_at")
+    private LocalDateTime periodStartAt;
+
+    @Column(name = "period_end_at")
+    private LocalDateTime periodEndAt;
+
+    @Column(name = "total_budget")
+    private Long totalBudget;
+
+    @Column(name = "total_spent")
+    private Long totalSpent;
+
+    @Column(name = "total_overspent")
+    private Long totalOverspent;
+
+    @Column(name = "total_underspent")
+    private Long totalUnderspent;
+
     @PrePersist
     private void ensureUuid() {
         if (this.uuid == null || this.uuid.isBlank()) {
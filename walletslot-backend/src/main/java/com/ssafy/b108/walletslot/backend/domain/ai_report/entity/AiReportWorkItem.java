@@ -0,0 +1,59 @@
+package com.ssafy.b108.walletslot.backend.domain.ai_report.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * AI 리포트 배치의 작업 단위 (실행일, 계좌, 기간) 입니다.
+ * 배치 시작 시 그날 대상 작업을 이 테이블에 먼저 만들어두고, 작업마다 상태를 기록(체크포인트)합니다.
+ * 배치가 중간에 죽거나 재배포되어도 PENDING/FAILED/오래된 RUNNING 작업부터 이어서 처리할 수 있습니다.
+ */
+@Entity
+@Table(
+        name = "ai_report_work_item",
+        uniqueConstraints = @UniqueConstraint(name = "uq_ai_report_work_item_run_account", columnNames = {"run_date", "account_id"}),
+        indexes = @Index(name = "idx_ai_report_work_item_run_status", columnList = "run_date, status")
+)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AiReportWorkItem {
+
+    public enum Status { PENDING, RUNNING, DONE, FAILED, SKIPPED }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "run_date", nullable = false)
+    private LocalDate runDate;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "account_id", nullable = false)
+    private Long accountId;
+
+    @Column(name = "period_start", nullable = false)
+    private LocalDate periodStart;
+
+    @Column(name = "period_end", nullable = false)
+    private LocalDate periodEnd;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Status status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "last_error", length = 255)
+    private String lastError;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,43 @@
+package com.ssafy.b108.walletslot.backend.domain.ai_report.repository;
+
+import com.ssafy.b108.walletslot.backend.domain.ai_report.entity.AiInsightCache;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface AiInsightCacheRepository extends JpaRepository<AiInsightCache, String> {
+
+    Optional<AiInsightCache> findByCacheKeyAndExpiresAtAfter(String cacheKey, LocalDateTime now);
+
+    // 리포트 조회는 readOnly 트랜잭션이라 캐시 저장은 별도 트랜잭션으로
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "ai_insight_cache"))
+    @Query(value = """
+        INSERT INTO ai_insight_cache (cache_key, response, created_at, expires_at)
+        VALUES (:cacheKey, :response, :now, :expiresAt)
+        ON DUPLICATE KEY UPDATE
+            response   = VALUES(response),
+            created_at = VALUES(created_at),
+            expires_at = VALUES(expires_at)
+        """, nativeQuery = true)
+    int upsert(@Param("cacheKey") String cacheKey,
+               @Param("response") String responseJson,
+               @Param("now") LocalDateTime now,
+               @Param("expiresAt") LocalDateTime expiresAt);
+
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "ai_insight_cache"))
+    @Query(value = "DELETE FROM ai_insight_cache WHERE expires_at <= :now LIMIT :limit", nativeQuery = true)
+    int deleteExpired(@Param("now") LocalDateTime now, @Param("limit") int limit);
+}
@@ -13,34 +13,63 @@ public interface AiReportRepository extends JpaRepository<AiReport, Long> {
 
     Optional<AiReport> findByUuid(String uuid);
 
-    // 해당 계좌(UUID)의 레포트가 존재하는 연-월 목록 (최근→과거)
+    // 해당 계좌(UUID)의 레포트가 존재하는 연-월 목록 (최근→과거, report_month 인덱스)
     @Query(value = """
-        SELECT DATE_FORMAT(ar.created_at, '%Y-%m') AS ym
+        SELECT DISTINCT ar.report_month
         FROM ai_report ar
         JOIN account a ON a.id = ar.account_id
         WHERE a.user_id = :userId
-          AND a.uuid = :accountUuid
-        GROUP BY ym
-        ORDER BY ym DESC
+          AND a.uuid = UUID_TO_BIN(:accountUuid)
+        ORDER BY ar.report_month DESC
         """, nativeQuery = true)
     List<String> findAvailableYearMonths(@Param("userId") long userId,
                                          @Param("accountUuid") String accountUuid);
 
-    // 특정 연-월 구간의 레포트 목록 (최근→과거)
+    // 특정 연-월의 레포트 요약 목록 (최근→과거, content 는 읽지 않음)
     @Query(value = """
-        SELECT ar.*
+        SELECT ar.uuid             AS uuid,
+               ar.created_at       AS createdAt,
+               ar.period_start_at  AS periodStartAt,
+               ar.period_end_at    AS periodEndAt,
+               ar.total_budget     AS totalBudget,
+               ar.total_spent      AS totalSpent,
+               ar.total_overspent  AS totalOverspent,
+               ar.total_underspent AS totalUnderspent
         FROM ai_report ar
         JOIN account a ON a.id = ar.account_id
         WHERE a.user_id = :userId
-          AND a.uuid = :accountUuid
-          AND ar.created_at >= :start
-          AND ar.created_at <  :end
+          AND a.uuid = UUID_TO_BIN(:accountUuid)
+          AND ar.report_month = :reportMonth
         ORDER BY ar.created_at DESC
         """, nativeQuery = true)
-    List<AiReport> findByMonth(@Param("userId") long userId,
-                               @Param("accountUuid") String accountUuid,
-                               @Param("start") LocalDateTime start,
-                               @Param("end") LocalDateTime end);
+    List<ReportSummary> findSummariesByMonth(@Param("userId") long userId,
+                                             @Param("accountUuid") String accountUuid,
+                                             @Param("reportMonth") String reportMonth);
+
+    // 상세가 필요할 때만 content 를 원문 JSON 문자열로 (JsonNode 트리를 만들지 않고 스트리밍 파싱)
+    @Query(value = """
+        SELECT ar.uuid                   AS uuid,
+               CAST(ar.content AS CHAR)  AS content
+        FROM ai_report ar
+        WHERE ar.uuid IN (:uuids)
+        """, nativeQuery = true)
+    List<ReportContent> findContentsByUuids(@Param("uuids") List<String> uuids);
+
+    interface ReportSummary {
+        String getUuid();
+        LocalDateTime getCreatedAt();
+        LocalDateTime getPeriodStartAt();
+        LocalDateTime getPeriodEndAt();
+        Long getTotalBudget();
+        Long getTotalSpent();
+        Long getTotalOverspent();
+        Long getTotalUnderspent();
+    }
+
+    interface ReportContent {
+        String getUuid();
+        String getContent();
+    }
 
     boolean existsByAccount_IdAndCreatedAtGreaterThanEqualAndCreatedAtLessThan(
             Long accountId, LocalDateTime start, LocalDateTime end
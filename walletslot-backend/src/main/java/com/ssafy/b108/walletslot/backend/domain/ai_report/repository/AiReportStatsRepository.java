@@ -0,0 +1,67 @@
+package com.ssafy.b108.walletslot.backend.domain.ai_report.repository;
+
+import com.ssafy.b108.walletslot.backend.domain.transaction.entity.Transaction;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * AI 리포트용 지출 통계를 DB에서 바로 집계하는 조회 전용 레포지토리 입니다.
+ * 기간 내 거래 엔티티를 전부 불러와 Java 에서 더하는 대신, GROUP BY 결과(슬롯×요일, 거래처 Top-N)만 가져옵니다.
+ * 거래처 Top-N 은 idx_tx_account_time (account_id, transaction_at) 범위 스캔을 탑니다.
+ */
+public interface AiReportStatsRepository extends Repository<Transaction, Long> {
+
+    /**
+     * 계좌슬롯 × 요일별 거래금액 합계 (요일: 1=월 ~ 7=일, LocalDate#getDayOfWeek 와 동일). 슬롯별 합계는 요일 합으로 구함
+     * 거래 원장이 아니라 일별 집계(slot_daily_spend)를 읽으므로 기간 일수만큼의 행만 봅니다.
+     */
+    @Query(value = """
+        SELECT d.account_slot_id             AS accountSlotId,
+               WEEKDAY(d.spend_date) + 1     AS dayOfWeek,
+               SUM(d.total_amount)           AS amount
+        FROM slot_daily_spend d
+        JOIN account_slot a ON a.id = d.account_slot_id
+        WHERE a.account_id = :accountId
+          AND d.spend_date BETWEEN :startDate AND :endDate
+          AND d.tx_count > 0
+        GROUP BY d.account_slot_id, WEEKDAY(d.spend_date)
+        """, nativeQuery = true)
+    List<SlotDaySpend> sumBySlotAndDayOfWeek(@Param("accountId") Long accountId,
+                                             @Param("startDate") LocalDate startDate,
+                                             @Param("endDate") LocalDate endDate);
+
+    /** 거래처(적요)별 지출 합계 상위 N개 */
+    @Query(value = """
+        SELECT t.summary       AS name,
+               SUM(t.amount)   AS amount,
+               COUNT(*)        AS count
+        FROM transaction t
+        WHERE t.account_id = :accountId
+          AND t.transaction_at BETWEEN :startAt AND :endAt
+          AND TRIM(t.summary) <> ''
+        GROUP BY t.summary
+        ORDER BY amount DESC
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<MerchantSpend> findTopMerchants(@Param("accountId") Long accountId,
+                                         @Param("startAt") LocalDateTime startInclusive,
+                                         @Param("endAt") LocalDateTime endInclusive,
+                                         @Param("limit") int limit);
+
+    interface SlotDaySpend {
+        Long getAccountSlotId();
+        Integer getDayOfWeek();
+        Long getAmount();
+    }
+
+    interface MerchantSpend {
+        String getName();
+        Long getAmount();
+        Long getCount();
+    }
+}
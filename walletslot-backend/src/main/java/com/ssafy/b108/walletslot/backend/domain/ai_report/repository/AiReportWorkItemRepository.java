@@ -0,0 +1,89 @@
+package com.ssafy.b108.walletslot.backend.domain.ai_report.repository;
+
+import com.ssafy.b108.walletslot.backend.domain.ai_report.entity.AiReportWorkItem;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface AiReportWorkItemRepository extends JpaRepository<AiReportWorkItem, Long> {
+
+    // 작업 생성: 같은 날 같은 계좌 작업이 이미 있으면 무시 (재실행해도 중복 생성 X)
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "ai_report_work_item"))
+    @Query(value = """
+           INSERT IGNORE INTO ai_report_work_item
+                  (run_date, user_id, account_id, period_start, period_end, status, attempts, updated_at)
+           VALUES (:runDate, :userId, :accountId, :periodStart, :periodEnd, 'PENDING', 0, NOW())
+           """, nativeQuery = true)
+    int insertIgnore(@Param("runDate") LocalDate runDate,
+                     @Param("userId") Long userId,
+                     @Param("accountId") Long accountId,
+                     @Param("periodStart") LocalDate periodStart,
+                     @Param("periodEnd") LocalDate periodEnd);
+
+    // 처리 대상: PENDING + 재시도 가능한 FAILED
+    @Query("""
+           select w
+             from AiReportWorkItem w
+            where w.runDate = :runDate
+              and (w.status = com.ssafy.b108.walletslot.backend.domain.ai_report.entity.AiReportWorkItem.Status.PENDING
+                   or (w.status = com.ssafy.b108.walletslot.backend.domain.ai_report.entity.AiReportWorkItem.Status.FAILED
+                       and w.attempts < :maxAttempts))
+            order by w.id asc
+           """)
+    List<AiReportWorkItem> findRunnable(@Param("runDate") LocalDate runDate, @Param("maxAttempts") int maxAttempts);
+
+    // 프로세스가 죽어서 RUNNING 으로 남은 작업을 다시 PENDING 으로 (체크포인트 복구)
+    @Transactional
+    @Modifying
+    @Query("""
+           update AiReportWorkItem w
+              set w.status = com.ssafy.b108.walletslot.backend.domain.ai_report.entity.AiReportWorkItem.Status.PENDING,
+                  w.updatedAt = :now
+            where w.runDate = :runDate
+              and w.status = com.ssafy.b108.walletslot.backend.domain.ai_report.entity.AiReportWorkItem.Status.RUNNING
+              and w.updatedAt < :staleBefore
+           """)
+    int resetStaleRunning(@Param("runDate") LocalDate runDate,
+                          @Param("staleBefore") LocalDateTime staleBefore,
+                          @Param("now") LocalDateTime now);
+
+    // 작업 선점: 아직 처리 대상(PENDING / 재시도 가능한 FAILED)일 때만 RUNNING 으로 → 0이면 다른 서버/실행이 이미 가져감
+    @Transactional
+    @Modifying
+    @Query("""
+           update AiReportWorkItem w
+              set w.status = com.ssafy.b108.walletslot.backend.domain.ai_report.entity.AiReportWorkItem.Status.RUNNING,
+                  w.attempts = w.attempts + 1,
+                  w.updatedAt = :now
+            where w.id = :id
+              and (w.status = com.ssafy.b108.walletslot.backend.domain.ai_report.entity.AiReportWorkItem.Status.PENDING
+                   or (w.status = com.ssafy.b108.walletslot.backend.domain.ai_report.entity.AiReportWorkItem.Status.FAILED
+                       and w.attempts < :maxAttempts))
+           """)
+    int claim(@Param("id") Long id, @Param("maxAttempts") int maxAttempts, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("""
+           update AiReportWorkItem w
+              set w.status = :status,
+                  w.lastError = :lastError,
+                  w.updatedAt = :now
+            where w.id = :id
+           """)
+    int markFinished(@Param("id") Long id,
+                     @Param("status") AiReportWorkItem.Status status,
+                     @Param("lastError") String lastError,
+                     @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,158 @@
+package com.ssafy.b108.walletslot.backend.domain.ai_report.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.b108.walletslot.backend.domain.ai_report.repository.AiInsightCacheRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * GMS 인사이트 응답 캐시 (MySQL, TTL) 입니다.
+ * - 조회: 네트워크 호출 전에 캐시부터 확인
+ * - single-flight: 같은 키로 동시에 들어온 요청은 GMS 호출 1번의 결과를 같이 씀
+ * - 메트릭: ai_report.insight.cache{result=hit|shared|miss}, ai_report.insight.cache.hit_ratio
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AiInsightCacheService {
+
+    // Field
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {};
+
+    private final AiInsightCacheRepository cacheRepository;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${ai-report.insight-cache.ttl-hours:24}")
+    private long ttlHours;
+
+    @Value("${ai-report.insight-cache.purge-batch-size:1000}")
+    private int purgeBatchSize;
+
+    // 진행 중인 GMS 호출 (키 → 결과)
+    private final Map<String, CompletableFuture<Map<String, Object>>> inflight = new ConcurrentHashMap<>();
+
+    private Counter hitCounter;
+    private Counter sharedCounter;
+    private Counter missCounter;
+
+    @PostConstruct
+    void registerMeters() {
+        hitCounter = meterRegistry.counter("ai_report.insight.cache", "result", "hit");
+        sharedCounter = meterRegistry.counter("ai_report.insight.cache", "result", "shared");
+        missCounter = meterRegistry.counter("ai_report.insight.cache", "result", "miss");
+        Gauge.builder("ai_report.insight.cache.hit_ratio", this, AiInsightCacheService::hitRatio)
+                .description("GMS 호출 없이 응답한 비율 (hit + shared) / 전체")
+                .register(meterRegistry);
+    }
+
+    // Method
+    /** 프롬프트 구성요소를 순서대로 이어서 SHA-256 (구분자는 프롬프트에 나오지 않는 0 바이트) */
+    public static String keyOf(String... parts) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            for (String part : parts) {
+                md.update((part == null ? "" : part).getBytes(StandardCharsets.UTF_8));
+                md.update((byte) 0);
+            }
+            return HexFormat.of().formatHex(md.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 캐시에 있으면 바로, 없으면 loader 로 GMS 를 호출합니다.
+     * @param cacheable 결과를 저장해도 되는지 (실패/빈 응답은 저장하지 않음)
+     */
+    public Map<String, Object> getOrLoad(String key, Supplier<Map<String, Object>> loader, Predicate<Map<String, Object>> cacheable) {
+        Map<String, Object> cached = lookup(key);
+        if (cached != null) {
+            hitCounter.increment();
+            return cached;
+        }
+
+        CompletableFuture<Map<String, Object>> mine = new CompletableFuture<>();
+        CompletableFuture<Map<String, Object>> running = inflight.putIfAbsent(key, mine);
+        if (running != null) {
+            sharedCounter.increment();
+            try {
+                return running.join();
+            } catch (CompletionException e) {
+                throw (e.getCause() instanceof RuntimeException re) ? re : e;
+            }
+        }
+
+        missCounter.increment();
+        try {
+            Map<String, Object> loaded = loader.get();
+            if (cacheable.test(loaded)) store(key, loaded);
+            mine.complete(loaded);
+            return loaded;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inflight.remove(key, mine);
+        }
+    }
+
+    /** 만료된 캐시 정리 */
+    @Scheduled(cron = "${scheduling.ai-insight-cache-purge.cron:0 20 4 * * *}", zone = "${scheduling.zone:Asia/Seoul}")
+    public void purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        int total = 0, n;
+        do {
+            n = cacheRepository.deleteExpired(now, purgeBatchSize);
+            total += n;
+        } while (n == purgeBatchSize);
+        log.info("[AI-REPORT][INSIGHT-CACHE] purged {}", total);
+    }
+
+    private Map<String, Object> lookup(String key) {
+        try {
+            return cacheRepository.findByCacheKeyAndExpiresAtAfter(key, LocalDateTime.now())
+                    .map(entry -> objectMapper.convertValue(entry.getResponse(), MAP_TYPE))
+                    .orElse(null);
+        } catch (Exception e) {
+            log.warn("[AI-REPORT][INSIGHT-CACHE] lookup failed: {}", e.toString());
+            return null;
+        }
+    }
+
+    // 캐시 저장 실패는 리포트 생성을 막지 않음
+    private void store(String key, Map<String, Object> value) {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            cacheRepository.upsert(key, objectMapper.writeValueAsString(value), now, now.plusHours(ttlHours));
+        } catch (Exception e) {
+            log.warn("[AI-REPORT][INSIGHT-CACHE] store failed: {}", e.toString());
+        }
+    }
+
+    private double hitRatio() {
+        double served = hitCounter.count() + sharedCounter.count();
+        double total = served + missCounter.count();
+        return total == 0 ? 0d : served / total;
+    }
+}
@@ -4,4 +4,5 @@ import java.time.LocalDate;
 
 public interface AiReportBatchService {
     void generateForAllUsersIfDue(LocalDate today);
+    void resumePending(LocalDate today);
 }
\ No newline at end of file
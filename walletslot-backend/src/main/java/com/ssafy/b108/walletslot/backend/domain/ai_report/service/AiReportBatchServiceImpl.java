@@ -2,28 +2,41 @@ package com.ssafy.b108.walletslot.backend.domain.ai_report.service;
 
 import com.ssafy.b108.walletslot.backend.domain.account.entity.Account;
 import com.ssafy.b108.walletslot.backend.domain.account.repository.AccountRepository;
-import com.ssafy.b108.walletslot.backend.domain.ai_report.dto.GetAiReportResponseDto;
+import com.ssafy.b108.walletslot.backend.domain.ai_report.entity.AiReportWorkItem;
 import com.ssafy.b108.walletslot.backend.domain.ai_report.repository.AiReportRepository;
+import com.ssafy.b108.walletslot.backend.domain.ai_report.repository.AiReportWorkItemRepository;
 import com.ssafy.b108.walletslot.backend.domain.ai_report.support.BillingPeriod;
 import com.ssafy.b108.walletslot.backend.domain.notification.entity.Notification;
-import com.ssafy.b108.walletslot.backend.domain.notification.entity.PushEndpoint;
 import com.ssafy.b108.walletslot.backend.domain.notification.repository.NotificationRepository;
-import com.ssafy.b108.walletslot.backend.domain.notification.repository.PushEndpointRepository;
 import com.ssafy.b108.walletslot.backend.domain.user.entity.User;
 import com.ssafy.b108.walletslot.backend.domain.user.repository.UserRepository;
 import com.ssafy.b108.walletslot.backend.global.error.AppException;
 import com.ssafy.b108.walletslot.backend.global.error.ErrorCode;
-import com.ssafy.b108.walletslot.backend.infrastructure.fcm.service.FcmService;
-import jakarta.transaction.Transactional;
+import com.ssafy.b108.walletslot.backend.infrastructure.fcm.service.FcmFanoutService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.time.*;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * AI 리포트 야간 배치 러너
+ * 1) 그날 대상 (user, account, period) 작업을 ai_report_work_item 에 만들어 둠 (INSERT IGNORE → 재실행해도 중복 X)
+ * 2) 작업들을 병렬(parallelism) 처리, 작업마다 타임아웃 → 느린 GMS 응답 하나가 전체 배치를 막지 않음
+ *    (타임아웃은 작업이 실제로 시작될 때부터 잼 → 큐에서 기다리는 시간은 포함 X)
+ * 3) 작업 상태를 하나씩 커밋(체크포인트) → 중간에 죽어도 resumePending 이 남은 작업부터 이어서 처리
+ * 4) 작업마다 조건부 UPDATE 로 RUNNING 선점 → 서버가 여러 대이거나 재실행이 겹쳐도 같은 작업을 두 번 처리하지 않음
+ * 진행 상황은 ai_report.batch.* 메트릭으로 노출합니다.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -32,14 +45,50 @@ public class AiReportBatchServiceImpl implements AiReportBatchService {
     private final UserRepository userRepo;
     private final AccountRepository accountRepo;
     private final AiReportRepository aiReportRepo;
+    private final AiReportWorkItemRepository workItemRepo;
     private final AiReportService aiReportService;           // already exists in your codebase
     private final NotificationRepository notificationRepo;
-    private final PushEndpointRepository pushEndpointRepo;
-    private final FcmService fcmService;                     // your existing FCM sender
+    private final FcmFanoutService fcmFanoutService;         // multi-device FCM sender
+    private final MeterRegistry meterRegistry;
+
+    @Value("${ai-report.batch.parallelism:4}")
+    private int parallelism;
+
+    @Value("${ai-report.batch.item-timeout-seconds:90}")
+    private long itemTimeoutSeconds;
+
+    @Value("${ai-report.batch.max-attempts:3}")
+    private int maxAttempts;
+
+    // 이 서버 안에서 한 번에 한 실행만 (서버 간 중복은 작업 선점(claim)으로 막음)
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    // 현재 실행 진행 상황 (게이지)
+    private final AtomicInteger runTotal = new AtomicInteger();
+    private final AtomicInteger runRemaining = new AtomicInteger();
+    private final AtomicInteger runInFlight = new AtomicInteger();
+
+    @PostConstruct
+    void registerGauges() {
+        meterRegistry.gauge("ai_report.batch.items.total", runTotal);
+        meterRegistry.gauge("ai_report.batch.items.remaining", runRemaining);
+        meterRegistry.gauge("ai_report.batch.items.in_flight", runInFlight);
+    }
 
     @Override
-    @Transactional
     public void generateForAllUsersIfDue(LocalDate today) {
+        int created = materialize(today);
+        log.info("[AI-REPORT][BATCH] {} work items created for {}", created, today);
+        runPending(today);
+    }
+
+    @Override
+    public void resumePending(LocalDate today) {
+        runPending(today);
+    }
+
+    /** 그날 대상 작업 생성 */
+    private int materialize(LocalDate today) {
         int dom = today.getDayOfMonth();
         int last = today.lengthOfMonth();
 
@@ -54,55 +103,151 @@ public class AiReportBatchServiceImpl implements AiReportBatchService {
 
         if (targets.isEmpty()) {
             log.info("[AI-REPORT][BATCH] No users due for {}", today);
-            return;
+            return 0;
         }
 
+        int created = 0;
         for (User u : targets) {
+            Short baseDay = u.getBaseDay();
+            if (baseDay == null) continue; // safety
+
+            BillingPeriod period = BillingPeriod.forBaseDay(today, baseDay);
+            for (Account acc : accountRepo.findByUser(u)) {
+                created += workItemRepo.insertIgnore(today, u.getId(), acc.getId(), period.start(), period.end());
+            }
+        }
+        return created;
+    }
+
+    /** 남은 작업(PENDING, 재시도 가능한 FAILED, 오래된 RUNNING) 병렬 처리 */
+    private void runPending(LocalDate today) {
+        if (!running.compareAndSet(false, true)) {
+            log.info("[AI-REPORT][BATCH] already running, skip");
+            return;
+        }
+
+        ExecutorService workers = Executors.newFixedThreadPool(parallelism);
+        ScheduledExecutorService watchdog = Executors.newSingleThreadScheduledExecutor();
+        try {
+            // 죽은 프로세스가 남긴 RUNNING 작업 복구 (타임아웃의 2배 이상 갱신이 없으면 죽은 것으로 봄)
+            LocalDateTime now = LocalDateTime.now();
+            int reset = workItemRepo.resetStaleRunning(today, now.minusSeconds(itemTimeoutSeconds * 2), now);
+            if (reset > 0) log.warn("[AI-REPORT][BATCH] {} stale RUNNING items reset to PENDING", reset);
+
+            List<AiReportWorkItem> items = workItemRepo.findRunnable(today, maxAttempts);
+            runTotal.set(items.size());
+            runRemaining.set(items.size());
+            if (items.isEmpty()) return;
+
+            log.info("[AI-REPORT][BATCH] processing {} items (parallelism={}, timeout={}s)", items.size(), parallelism, itemTimeoutSeconds);
+
+            List<Future<?>> futures = new ArrayList<>(items.size());
+            for (AiReportWorkItem item : items) {
+                futures.add(workers.submit(() -> process(item, watchdog)));
+            }
+
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException ignored) {
+                    // 결과/실패는 process() 에서 작업 상태로 기록됨
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        } finally {
+            workers.shutdownNow();
+            watchdog.shutdownNow();
+            running.set(false);
+        }
+    }
+
+    private void process(AiReportWorkItem item, ScheduledExecutorService watchdog) {
+        // 다른 서버/실행이 이미 가져간 작업이면 건너뜀
+        if (workItemRepo.claim(item.getId(), maxAttempts, LocalDateTime.now()) == 0) {
+            meterRegistry.counter("ai_report.batch.items.processed", "outcome", "claimed_elsewhere").increment();
+            runRemaining.decrementAndGet();
+            return;
+        }
+
+        runInFlight.incrementAndGet();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "failed";
+
+        // 작업별 타임아웃: 이 작업이 시작된 시점부터 재고, 시간이 지나면 작업 스레드를 interrupt (GMS block() 대기 해제)
+        ItemDeadline deadline = new ItemDeadline(Thread.currentThread());
+        deadline.timer = watchdog.schedule(deadline::expire, itemTimeoutSeconds, TimeUnit.SECONDS);
+
+        try {
+            // prevent duplicate generation if something already created today for this account
+            LocalDateTime dayStart = item.getRunDate().atStartOfDay();
+            boolean existsToday = aiReportRepo.existsByAccount_IdAndCreatedAtGreaterThanEqualAndCreatedAtLessThan(item.getAccountId(), dayStart, dayStart.plusDays(1));
+            if (existsToday) {
+                log.info("[AI-REPORT][SKIP] Already generated today: user={}, accountId={}", item.getUserId(), item.getAccountId());
+                finish(item, AiReportWorkItem.Status.SKIPPED, null);
+                outcome = "skipped";
+                return;
+            }
+
+            Account acc = accountRepo.findById(item.getAccountId()).orElse(null);
+            User user = userRepo.findById(item.getUserId()).orElse(null);
+            if (acc == null || user == null) {
+                finish(item, AiReportWorkItem.Status.SKIPPED, "account or user removed");
+                outcome = "skipped";
+                return;
+            }
+
+            // Build & persist report using your existing service (persist=true)
+            aiReportService.getReportByPeriod(user.getId(), acc.getUuid(), item.getPeriodStart(), item.getPeriodEnd(), true);
+
+            // 타임아웃으로 interrupt 됐으면 결과를 버리지는 않지만 완료 처리는 하지 않음 (리포트는 이미 저장됨 → 재시도 시 SKIPPED)
+            if (Thread.currentThread().isInterrupted()) {
+                throw new TimeoutException("item timeout");
+            }
+            finish(item, AiReportWorkItem.Status.DONE, null);
+            outcome = "done";
+
+            // Notify user (best-effort; do not fail batch if device missing)
             try {
-                Short baseDay = u.getBaseDay();
-                if (baseDay == null) continue; // safety
-
-                BillingPeriod period = BillingPeriod.forBaseDay(today, baseDay);
-
-                // Iterate all accounts for this user
-                List<Account> accounts = accountRepo.findByUser(u);
-                for (Account acc : accounts) {
-                    // prevent duplicate generation if something already created today for this account
-                    LocalDateTime dayStart = today.atStartOfDay();
-                    LocalDateTime nextDay = dayStart.plusDays(1);
-                    boolean existsToday = aiReportRepo.existsByAccount_IdAndCreatedAtGreaterThanEqualAndCreatedAtLessThan(acc.getId(), dayStart, nextDay);
-                    if (existsToday) {
-                        log.info("[AI-REPORT][SKIP] Already generated today: user={}, account={}", u.getId(), acc.getUuid());
-                        continue;
-                    }
-
-                    // Build & persist report using your existing service (persist=true)
-                    GetAiReportResponseDto dto = aiReportService.getReportByPeriod(
-                            u.getId(), acc.getUuid(), period.start(), period.end(), true
-                    );
-
-                    // Notify user (best-effort; do not fail batch if device missing)
-                    try {
-                        sendReportCreatedNotification(u, period);
-                    } catch (AppException ex) {
-                        if (ex.getErrorCode() == ErrorCode.MISSING_PUSH_ENDPOINT) {
-                            log.warn("[AI-REPORT][NOTIFY] No device for user={}, skipping FCM", u.getId());
-                        } else {
-                            log.warn("[AI-REPORT][NOTIFY] {}: {}", ex.getErrorCode(), ex.getMessage());
-                        }
-                    } catch (Exception e) {
-                        log.warn("[AI-REPORT][NOTIFY] Unexpected error: {}", e.toString());
-                    }
+                sendReportCreatedNotification(user, item.getPeriodStart(), item.getPeriodEnd());
+            } catch (AppException ex) {
+                if (ex.getErrorCode() == ErrorCode.MISSING_PUSH_ENDPOINT) {
+                    log.warn("[AI-REPORT][NOTIFY] No device for user={}, skipping FCM", user.getId());
+                } else {
+                    log.warn("[AI-REPORT][NOTIFY] {}: {}", ex.getErrorCode(), ex.getMessage());
                 }
             } catch (Exception e) {
-                log.error("[AI-REPORT][BATCH] userId={} failed: {}", u.getId(), e.toString());
+                log.warn("[AI-REPORT][NOTIFY] Unexpected error: {}", e.toString());
             }
+        } catch (Exception e) {
+            boolean timedOut = Thread.interrupted() || e instanceof TimeoutException;
+            outcome = timedOut ? "timeout" : "failed";
+            log.error("[AI-REPORT][BATCH] item={} userId={} {}: {}", item.getId(), item.getUserId(), outcome, e.toString());
+            finish(item, AiReportWorkItem.Status.FAILED, timedOut ? "timeout" : e.toString());
+        } finally {
+            deadline.close();
+            sample.stop(meterRegistry.timer("ai_report.batch.item", "outcome", outcome));
+            meterRegistry.counter("ai_report.batch.items.processed", "outcome", outcome).increment();
+            runRemaining.decrementAndGet();
+            runInFlight.decrementAndGet();
+        }
+    }
+
+    // 작업 상태 체크포인트 (작업 스레드가 interrupt 된 상태여도 기록되도록 플래그를 잠시 내려둠)
+    private void finish(AiReportWorkItem item, AiReportWorkItem.Status status, String error) {
+        boolean interrupted = Thread.interrupted();
+        try {
+            String trimmed = (error != null && error.length() > 255) ? error.substring(0, 255) : error;
+            workItemRepo.markFinished(item.getId(), status, trimmed, LocalDateTime.now());
+        } finally {
+            if (interrupted) Thread.currentThread().interrupt();
         }
     }
 
-    private void sendReportCreatedNotification(User user, BillingPeriod period) {
+    private void sendReportCreatedNotification(User user, LocalDate start, LocalDate end) {
         String title = "월간 리포트가 도착했어요";
-        String body  = String.format("%s ~ %s 리포트를 확인해 보세요.", period.start(), period.end());
+        String body  = String.format("%s ~ %s 리포트를 확인해 보세요.", start, end);
 
         Notification n = Notification.builder()
                 .user(user)
@@ -112,32 +257,55 @@ public class AiReportBatchServiceImpl implements AiReportBatchService {
                 .build();
         notificationRepo.save(n);
 
-        List<PushEndpoint> endpoints = pushEndpointRepo.findByUserOrderByIdDesc(user);
-        if (endpoints == null || endpoints.isEmpty()) {
+        // ACTIVE + 푸시 허용 기기 토큰을 한 번에 조회
+        List<String> tokens = fcmFanoutService.resolveTokens(user.getId());
+        if (tokens.isEmpty()) {
             throw new AppException(ErrorCode.MISSING_PUSH_ENDPOINT, "[AI-REPORT][NOTIFY] No endpoints");
         }
 
-        // Try all endpoints; mark delivered if any succeed
+        // 모든 기기로 동시에 전송; 한 대라도 성공하면 delivered 처리
         final long notificationId = n.getId();
-        for (PushEndpoint ep : endpoints) {
-            String token = ep.getToken();
-            if (token == null || token.isBlank()) continue;
-
-            fcmService.sendMessage(token, title, body)
-                    .subscribe(
-                            ok -> {
-                                Notification saved = notificationRepo.findById(notificationId)
-                                        .orElse(null);
-                                if (saved != null) {
-                                    saved.updateIsDelivered(true);
-                                    notificationRepo.save(saved);
-                                }
-                            },
-                            err -> {
+        fcmFanoutService.fanout(tokens, title, body)
+                .subscribe(
+                        delivered -> {
+                            if (!delivered) {
                                 // Leave as undelivered; will be retried by your pull API if needed
-                                log.warn("[AI-REPORT][FCM] send failed for user={}: {}", user.getId(), err.toString());
+                                log.warn("[AI-REPORT][FCM] no successful deliveries for user={}", user.getId());
+                                return;
                             }
-                    );
+                            notificationRepo.findById(notificationId).ifPresent(saved -> {
+                                saved.updateIsDelivered(true);
+                                notificationRepo.save(saved);
+                            });
+                        },
+                        err -> log.warn("[AI-REPORT][FCM] send failed for user={}: {}", user.getId(), err.toString())
+                );
+    }
+
+    /**
+     * 작업 1건의 타임아웃.
+     * 작업이 끝난 뒤 타이머가 늦게 돌아서 풀 스레드의 다음 작업을 interrupt 하지 않도록, 끝남 표시와 interrupt 를 같은 락으로 묶습니다.
+     */
+    private static final class ItemDeadline {
+
+        private final Thread worker;
+        private ScheduledFuture<?> timer;
+        private boolean closed;
+
+        ItemDeadline(Thread worker) {
+            this.worker = worker;
+        }
+
+        synchronized void expire() {
+            if (!closed) worker.interrupt();
+        }
+
+        void close() {
+            synchronized (this) {
+                closed = true;
+            }
+            timer.cancel(false);
+            Thread.interrupted(); // 이 작업에 걸린 interrupt 는 여기서 정리
         }
     }
-}
\ No newline at end of file
+}
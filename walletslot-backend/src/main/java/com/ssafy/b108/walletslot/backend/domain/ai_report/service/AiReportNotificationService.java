@@ -1,12 +1,10 @@
 package com.ssafy.b108.walletslot.backend.domain.ai_report.service;
 
 import com.ssafy.b108.walletslot.backend.domain.notification.entity.Notification;
-import com.ssafy.b108.walletslot.backend.domain.notification.entity.PushEndpoint;
 import com.ssafy.b108.walletslot.backend.domain.notification.repository.NotificationRepository;
-import com.ssafy.b108.walletslot.backend.domain.notification.repository.PushEndpointRepository;
 import com.ssafy.b108.walletslot.backend.domain.user.entity.User;
 import com.ssafy.b108.walletslot.backend.domain.user.repository.UserRepository;
-import com.ssafy.b108.walletslot.backend.infrastructure.fcm.service.FcmService;
+import com.ssafy.b108.walletslot.backend.infrastructure.fcm.service.FcmFanoutService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -15,9 +13,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 
 @Slf4j
 @Service
@@ -28,8 +24,7 @@ public class AiReportNotificationService {
 
     private final UserRepository userRepo;
     private final NotificationRepository notificationRepo;
-    private final PushEndpointRepository pushEndpointRepo;
-    private final FcmService fcmService;
+    private final FcmFanoutService fcmFanoutService;
 
     /**
      * 레포트 생성 알림 전송 (새 트랜잭션에서 DB write 허용)
@@ -48,8 +43,8 @@ public class AiReportNotificationService {
             return;
         }
 
-        List<PushEndpoint> endpoints = pushEndpointRepo.findByUserOrderByIdDesc(user);
-        if (endpoints == null || endpoints.isEmpty()) {
+        List<String> tokens = fcmFanoutService.resolveTokens(userId);
+        if (tokens.isEmpty()) {
             log.warn("[AI-REPORT][PUSH] no endpoints for user={}", userId);
             return;
         }
@@ -72,26 +67,12 @@ public class AiReportNotificationService {
         );
         final long notificationId = saved.getId();
 
-        // 3) 중복 토큰 제거 후 전송
-        Set<String> sentDistinct = new HashSet<>();
+        // 3) 모든 기기로 동시 전송 (중복 토큰은 조회 단계에서 제거됨, 죽은 토큰은 전송기가 정리)
         boolean deliveredOnce = false;
-
-        for (PushEndpoint ep : endpoints) {
-            String token = ep.getToken();
-            if (token == null || token.isBlank()) continue;
-            if (!sentDistinct.add(token)) continue; // 중복 토큰 skip
-
-            try {
-                // 필요하면 데이터 페이로드(계좌/리포트 UUID)를 지원하는 sendMessage 오버로드를 사용
-                fcmService.sendMessage(token, title, body);
-                deliveredOnce = true;
-
-            } catch (Exception err) {
-                log.warn("[AI-REPORT][PUSH] send failed user={}, tokenTail={}, err={}",
-                        userId,
-                        token.length() > 8 ? token.substring(token.length() - 8) : token,
-                        err.toString());
-            }
+        try {
+            deliveredOnce = Boolean.TRUE.equals(fcmFanoutService.fanout(tokens, title, body).block());
+        } catch (Exception err) {
+            log.warn("[AI-REPORT][PUSH] send failed user={}, err={}", userId, err.toString());
         }
 
         // 4) 최소 1건 성공 시 배송 상태 갱신
@@ -15,6 +15,9 @@ import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.interceptor.TransactionAspectSupport;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.Map;
 
 @Slf4j
@@ -26,15 +29,29 @@ public class AiReportPersistService {
     private final AccountRepository accountRepo;
     private final ObjectMapper objectMapper;
 
+    private static final DateTimeFormatter TS = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
     // AiReportPersistService#saveInNewTx(Long accountId, Map<String,Object> content)
     @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = false)
     public GetAiReportResponseDto.PersistInfo saveInNewTx(Long accountId, Map<String, Object> content) {
         try {
             var json = objectMapper.valueToTree(content); // JsonNode
             var accountRef = accountRepo.getReferenceById(accountId);
-            AiReport saved = aiReportRepo.save(
-                    AiReport.builder().account(accountRef).content(json).build()
-            );
+            var builder = AiReport.builder().account(accountRef).content(json);
+
+            // 아카이브 목록용 요약 컬럼 (목록에서는 content 를 열지 않음)
+            if (content.get("period") instanceof GetAiReportResponseDto.Period period) {
+                builder.periodStartAt(parseTs(period.getStartAt()))
+                        .periodEndAt(parseTs(period.getEndAt()));
+            }
+            if (content.get("summary") instanceof GetAiReportResponseDto.Summary summary) {
+                builder.totalBudget(summary.getTotalBudget())
+                        .totalSpent(summary.getTotalSpent())
+                        .totalOverspent(summary.getTotalOverspent())
+                        .totalUnderspent(summary.getTotalUnderspent());
+            }
+
+            AiReport saved = aiReportRepo.save(builder.build());
             // flush로 DB에 바로 밀어넣고 created_at 채워지게 함
             aiReportRepo.flush();
 
@@ -52,4 +69,11 @@ public class AiReportPersistService {
         }
     }
 
+    private static LocalDateTime parseTs(String ts) {
+        try {
+            return (ts == null) ? null : LocalDateTime.parse(ts, TS);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
 }
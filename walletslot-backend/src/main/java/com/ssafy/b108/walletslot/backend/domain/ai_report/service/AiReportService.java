@@ -31,8 +31,17 @@ public interface AiReportService {
     // ▼ 아카이브/월 목록
     ListAiReportMonthsResponseDto listMonths(long userId, String accountId);
 
+    default GetAiReportArchiveResponseDto getArchiveByMonthOrOffset(long userId,
+                                                                    String accountId,
+                                                                    String yearMonth,
+                                                                    Integer offset) {
+        return getArchiveByMonthOrOffset(userId, accountId, yearMonth, offset, true);
+    }
+
+    // detail=false 면 요약 컬럼만 (content JSON 을 읽지 않음)
     GetAiReportArchiveResponseDto getArchiveByMonthOrOffset(long userId,
                                                             String accountId,
                                                             String yearMonth,
-                                                            Integer offset);
+                                                            Integer offset,
+                                                            boolean detail);
 }
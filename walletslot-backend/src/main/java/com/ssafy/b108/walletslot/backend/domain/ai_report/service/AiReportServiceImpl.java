@@ -3,23 +3,26 @@ package com.ssafy.b108.walletslot.backend.domain.ai_report.service;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ssafy.b108.walletslot.backend.domain.account.entity.Account;
-import com.ssafy.b108.walletslot.backend.domain.account.repository.AccountRepository;
+import com.ssafy.b108.walletslot.backend.domain.account.service.AccountAccessGuard;
 import com.ssafy.b108.walletslot.backend.domain.ai_report.dto.*;
 import com.ssafy.b108.walletslot.backend.domain.ai_report.repository.AiReportRepository;
+import com.ssafy.b108.walletslot.backend.domain.ai_report.repository.AiReportStatsRepository;
+import com.ssafy.b108.walletslot.backend.domain.ai_report.support.AiReportContentReader;
+import com.ssafy.b108.walletslot.backend.domain.ai_report.support.BudgetRedistributor;
 import com.ssafy.b108.walletslot.backend.domain.slot.entity.AccountSlot;
 import com.ssafy.b108.walletslot.backend.domain.slot.entity.Slot;
-import com.ssafy.b108.walletslot.backend.domain.transaction.entity.Transaction;
-import com.ssafy.b108.walletslot.backend.domain.transaction.repository.TransactionRepository;
 import com.ssafy.b108.walletslot.backend.global.error.AppException;
 import com.ssafy.b108.walletslot.backend.global.error.ErrorCode;
+import com.ssafy.b108.walletslot.backend.infrastructure.llm.service.LlmGateway;
+import com.ssafy.b108.walletslot.backend.infrastructure.llm.util.LlmUpstream;
+import com.ssafy.b108.walletslot.backend.infrastructure.llm.util.LlmUseCase;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 
 import java.time.Duration;
@@ -34,21 +37,27 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class AiReportServiceImpl implements AiReportService {
 
-    private final AccountRepository accountRepo;
+    private final AccountAccessGuard accountAccessGuard;
     private final AiReportRepository aiReportRepo;
-    private final TransactionRepository txRepo;
+    private final AiReportStatsRepository statsRepo;
     private final ObjectMapper objectMapper;
 
     private final AiReportPersistService aiReportPersistService; // REQUIRES_NEW 저장 전용
     private final AiReportNotificationService aiReportNotificationService; // 푸시 전담
+    private final AiInsightCacheService aiInsightCacheService; // GMS 응답 캐시
+    private final AiReportContentReader contentReader; // 아카이브 상세 스트리밍 파서
 
-    @Qualifier("ssafyGmsWebClient")
-    private final WebClient ssafyGmsWebClient;
+    private final LlmGateway llmGateway;
 
     @Value("${api.ssafy.gms.key:}")
     private String gmsApiKey;
 
+    private static final int TOP_MERCHANTS = 5;
+    private static final String GMS_MODEL = "gpt-5-nano";
+
     private static final DateTimeFormatter TS = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final ParameterizedTypeReference<Map<String, Object>> GMS_RESPONSE_TYPE = new ParameterizedTypeReference<>() {};
+    private static final TypeReference<Map<String, Object>> JSON_OBJECT_TYPE = new TypeReference<>() {};
 
     // 하위호환: 배치 등 기존 호출은 notify=false로 위임
     @Override
@@ -79,8 +88,7 @@ public class AiReportServiceImpl implements AiReportService {
                 userId, accountId, startDate, endDate, persist, notify);
 
         // 계좌 조회 (UUID)
-        final Account account = accountRepo.findByUserIdAndUuid(userId, accountId)
-                .orElseThrow(() -> new AppException(ErrorCode.NOT_FOUND, "[AiReport - 003] 계좌 없음"));
+        final Account account = accountAccessGuard.getOwnedAccount(userId, accountId);
 
         // 기간 문자열(포함 범위) 구성
         final LocalDateTime start = startDate.atStartOfDay();
@@ -102,30 +110,21 @@ public class AiReportServiceImpl implements AiReportService {
             if (s != null) slotIdToUuid.put(s.getId(), s.getUuid());
         }
 
-        // 거래 조회/집계
-        final List<Transaction> rangeTx =
-                txRepo.findByAccountIdAndTransactionAtBetween(account.getId(), start, end);
-        log.debug("[AiReport - 008] fetched transactions count={}", rangeTx.size());
+        // 거래 집계 (DB에서 GROUP BY: 계좌슬롯×요일 합계, 거래처 Top-N)
+        final List<AiReportStatsRepository.SlotDaySpend> slotDaySpends =
+                statsRepo.sumBySlotAndDayOfWeek(account.getId(), startDate, endDate);
+        final List<AiReportStatsRepository.MerchantSpend> topMerchants =
+                statsRepo.findTopMerchants(account.getId(), start, end, TOP_MERCHANTS);
+        log.debug("[AiReport - 008] aggregated slot/day rows={}, merchants={}", slotDaySpends.size(), topMerchants.size());
 
         final Map<Long, Long> spentByAsId = new HashMap<>();
-        final Map<String, Long> merchantSum = new HashMap<>();
         final Map<Long, Map<Integer, Long>> dowByAsId = new HashMap<>();
 
-        for (Transaction t : rangeTx) {
-            final Long asId = t.getAccountSlot().getId();
-            spentByAsId.merge(asId, nz(t.getAmount()), Long::sum);
-
-            if (t.getSummary() != null && !t.getSummary().isBlank()) {
-                merchantSum.merge(t.getSummary(), nz(t.getAmount()), Long::sum);
-            }
-            try {
-                LocalDateTime when = t.getTransactionAt();
-                if (when != null) {
-                    int dow = when.getDayOfWeek().getValue(); // 1~7
-                    dowByAsId.computeIfAbsent(asId, k -> new HashMap<>())
-                            .merge(dow, nz(t.getAmount()), Long::sum);
-                }
-            } catch (Exception ignore) {}
+        for (AiReportStatsRepository.SlotDaySpend row : slotDaySpends) {
+            final Long asId = row.getAccountSlotId();
+            spentByAsId.merge(asId, nz(row.getAmount()), Long::sum);
+            dowByAsId.computeIfAbsent(asId, k -> new HashMap<>())
+                    .merge(row.getDayOfWeek(), nz(row.getAmount()), Long::sum);
         }
 
         long totalBudget = 0L, totalSpent = 0L, totalOvers = 0L, totalUnders = 0L;
@@ -173,56 +172,25 @@ public class AiReportServiceImpl implements AiReportService {
                     .build());
         }
 
-        // 절약액→초과 슬롯 비례 분배(천원단위)
-        final long savedPool = floorK(savedExUncls);
-        final long oversPool = floorK(oversExUncls);
-        final Map<Long, Long> firstAlloc = new HashMap<>();
-        final Map<Long, Double> frac = new HashMap<>();
-        long allocatedSum = 0L;
-
-        if (savedPool > 0 && oversPool > 0) {
-            for (GetAiReportResponseDto.SlotRow r : slotItems) {
-                Long asId = asIdToUuid.entrySet().stream()
-                        .filter(e -> Objects.equals(e.getValue(), r.getAccountSlotId()))
-                        .map(Map.Entry::getKey)
-                        .findFirst().orElse(null);
-                if (asId == null) continue;
-
-                if (!r.isUnclassified() && r.isExceeded() && r.getOverspend() > 0) {
-                    double share = ((double) r.getOverspend() / (double) oversPool) * (double) savedPool;
-                    long alloc = floorK(Math.round(share));
-                    firstAlloc.put(asId, alloc);
-                    allocatedSum += alloc;
-                    frac.put(asId, Math.max(0d, share - alloc));
-                }
-            }
-        }
-        long remain = savedPool - allocatedSum;
-        if (remain > 0 && !frac.isEmpty()) {
-            final List<Long> order = frac.entrySet().stream()
-                    .sorted((a, b) -> Double.compare(b.getValue(), a.getValue()))
-                    .map(Map.Entry::getKey)
-                    .collect(Collectors.toList());
-            int i = 0;
-            while (remain >= 1_000) {
-                Long asId = order.get(i % order.size());
-                firstAlloc.merge(asId, 1_000L, Long::sum);
-                remain -= 1_000L;
-                i++;
-            }
+        // 절약액→초과 슬롯 비례 분배(천원단위): slotItems 인덱스 기준으로 계산
+        final int n = slotItems.size();
+        final long[] overspend = new long[n];
+        final boolean[] eligible = new boolean[n];
+        for (int i = 0; i < n; i++) {
+            GetAiReportResponseDto.SlotRow r = slotItems.get(i);
+            overspend[i] = r.getOverspend();
+            eligible[i] = !r.isUnclassified() && r.isExceeded();
         }
+        final BudgetRedistributor.Result alloc = BudgetRedistributor.allocate(overspend, eligible, savedExUncls, oversExUncls);
+        final long savedPool = alloc.savedPool();
+        final long oversPool = alloc.oversPool();
 
         // 추천 반영
-        for (int i = 0; i < slotItems.size(); i++) {
+        for (int i = 0; i < n; i++) {
             GetAiReportResponseDto.SlotRow r = slotItems.get(i);
-            Long asId = asIdToUuid.entrySet().stream()
-                    .filter(e -> Objects.equals(e.getValue(), r.getAccountSlotId()))
-                    .map(Map.Entry::getKey)
-                    .findFirst().orElse(null);
-            long alloc = (asId != null) ? firstAlloc.getOrDefault(asId, 0L) : 0L;
-            long next = r.getBaseNext() + alloc;
+            long next = r.getBaseNext() + alloc.allocated()[i];
             slotItems.set(i, r.toBuilder()
-                    .allocated(alloc)
+                    .allocated(alloc.allocated()[i])
                     .recommendedNextBudget(next)
                     .deltaFromCurrent(next - r.getBudget())
                     .build());
@@ -238,36 +206,28 @@ public class AiReportServiceImpl implements AiReportService {
                 .top3Slots(top3BySpent(slotItems))
                 .build();
 
-        final List<GetAiReportResponseDto.Share> sharesDto = firstAlloc.entrySet().stream()
-                .map(e -> {
-                    Long asId = e.getKey();
-                    String asUuid = asIdToUuid.get(asId);
-                    GetAiReportResponseDto.SlotRow s = slotItems.stream()
-                            .filter(it -> Objects.equals(it.getAccountSlotId(), asUuid))
-                            .findFirst().orElse(null);
-                    String name = (s != null) ? s.getSlotName() : ("#" + asUuid);
-                    double ratio = (oversPool == 0L) ? 0d
-                            : (double) (s != null ? s.getOverspend() : 0L) / (double) oversPool;
-                    return GetAiReportResponseDto.Share.builder()
-                            .accountSlotId(asUuid)
-                            .slotName(name)
-                            .ratio(ratio)
-                            .allocated(e.getValue())
-                            .build();
-                })
-                .sorted((a, b) -> Long.compare(b.getAllocated(), a.getAllocated()))
-                .collect(Collectors.toList());
+        final List<GetAiReportResponseDto.Share> sharesDto = new ArrayList<>(alloc.recipients().length);
+        for (int i : alloc.recipients()) {
+            GetAiReportResponseDto.SlotRow s = slotItems.get(i);
+            sharesDto.add(GetAiReportResponseDto.Share.builder()
+                    .accountSlotId(s.getAccountSlotId())
+                    .slotName(s.getSlotName())
+                    .ratio((double) s.getOverspend() / (double) oversPool)
+                    .allocated(s.getAllocated())
+                    .build());
+        }
+        sharesDto.sort((a, b) -> Long.compare(b.getAllocated(), a.getAllocated()));
 
         final GetAiReportResponseDto.Redistribution redist = GetAiReportResponseDto.Redistribution.builder()
                 .savedTotal(savedPool)
                 .oversTotal(oversPool)
                 .shares(sharesDto)
-                .remainder(Math.max(0L, savedPool - sharesDto.stream().mapToLong(GetAiReportResponseDto.Share::getAllocated).sum()))
+                .remainder(Math.max(0L, savedPool - alloc.allocatedTotal()))
                 .build();
 
         // 내부 인사이트 + GMS 콜
         // 내부 인사이트 + GMS 콜
-        GetAiReportResponseDto.Insights insights = buildInsights(merchantSum, dowByAsId, asIdToUuid);
+        GetAiReportResponseDto.Insights insights = buildInsights(topMerchants, dowByAsId, asIdToUuid);
         try {
             String label = startDate + "~" + endDate;
             Map<String, Object> gms = callGmsForInsightsByTextPeriod(label, slotItems, summary);
@@ -341,8 +301,7 @@ public class AiReportServiceImpl implements AiReportService {
         log.info("[AiReport - 017] DELETE START userId={}, accountId(UUID)={}, reportId(UUID)={}",
                 userId, accountId, reportId);
 
-        accountRepo.findByUserIdAndUuid(userId, accountId)
-                .orElseThrow(() -> new AppException(ErrorCode.NOT_FOUND, "[AiReport - 018] 계좌 없음"));
+        accountAccessGuard.verify(userId, accountId);
 
         aiReportRepo.findByUuid(reportId)
                 .orElseThrow(() -> new AppException(ErrorCode.NOT_FOUND, "[AiReport - 020] 레포트 없음"));
@@ -363,8 +322,7 @@ public class AiReportServiceImpl implements AiReportService {
     @Override
     @Transactional(readOnly = true)
     public ListAiReportMonthsResponseDto listMonths(long userId, String accountId) {
-        accountRepo.findByUserIdAndUuid(userId, accountId)
-                .orElseThrow(() -> new AppException(ErrorCode.NOT_FOUND, "[AiReport - 030] 계좌 없음"));
+        accountAccessGuard.verify(userId, accountId);
 
         var months = aiReportRepo.findAvailableYearMonths(userId, accountId);
         return ListAiReportMonthsResponseDto.builder()
@@ -380,9 +338,9 @@ public class AiReportServiceImpl implements AiReportService {
     public GetAiReportArchiveResponseDto getArchiveByMonthOrOffset(long userId,
                                                                    String accountId,
                                                                    String yearMonth,
-                                                                   Integer offset) {
-        accountRepo.findByUserIdAndUuid(userId, accountId)
-                .orElseThrow(() -> new AppException(ErrorCode.NOT_FOUND, "[AiReport - 032] 계좌 없음"));
+                                                                   Integer offset,
+                                                                   boolean detail) {
+        accountAccessGuard.verify(userId, accountId);
 
         var months = aiReportRepo.findAvailableYearMonths(userId, accountId);
         if (months.isEmpty()) {
@@ -407,65 +365,67 @@ public class AiReportServiceImpl implements AiReportService {
         String prev = (index + 1 < months.size()) ? months.get(index + 1) : null;
         String next = (index - 1 >= 0) ? months.get(index - 1) : null;
 
-        var parts = chosen.split("-");
-        int y = Integer.parseInt(parts[0]);
-        int m = Integer.parseInt(parts[1]);
-        var start = LocalDate.of(y, m, 1).atStartOfDay();
-        var end   = start.plusMonths(1);
-
-        var rows = aiReportRepo.findByMonth(userId, accountId, start, end);
-
-        var items = rows.stream().map(r -> {
-            var body = r.getContent();
-            if (body != null && body.has("data") && body.get("data").isObject()) {
-                body = body.get("data");
-            }
+        // 목록은 요약 컬럼만 (report_month 인덱스)
+        var rows = aiReportRepo.findSummariesByMonth(userId, accountId, chosen);
 
-            GetAiReportResponseDto.Period period = null;
-            GetAiReportResponseDto.Summary summary = null;
-            List<GetAiReportResponseDto.SlotRow> slots = List.of();
-            GetAiReportResponseDto.Redistribution redist = null;
-            GetAiReportResponseDto.Insights insights = null;
-
-            try {
-                if (body != null && !body.isNull()) {
-                    if (body.has("period") && !body.get("period").isNull()) {
-                        period = objectMapper.convertValue(body.get("period"), GetAiReportResponseDto.Period.class);
-                    }
-                    if (body.has("summary") && !body.get("summary").isNull()) {
-                        summary = objectMapper.convertValue(body.get("summary"), GetAiReportResponseDto.Summary.class);
-                    }
-                    if (body.has("slots") && body.get("slots").isArray()) {
-                        slots = objectMapper.convertValue(
-                                body.get("slots"),
-                                new TypeReference<List<GetAiReportResponseDto.SlotRow>>() {}
-                        );
-                    }
-                    if (body.has("redistribution") && !body.get("redistribution").isNull()) {
-                        redist = objectMapper.convertValue(body.get("redistribution"), GetAiReportResponseDto.Redistribution.class);
-                    }
-                    if (body.has("insights") && !body.get("insights").isNull()) {
-                        insights = objectMapper.convertValue(body.get("insights"), GetAiReportResponseDto.Insights.class);
-                    }
+        // 상세가 필요하거나 요약 컬럼이 없는 예전 저장본만 content 를 읽음 (한 번의 쿼리 + 스트리밍 파싱)
+        List<String> needContent = rows.stream()
+                .filter(r -> detail || r.getTotalBudget() == null)
+                .map(AiReportRepository.ReportSummary::getUuid)
+                .toList();
+        Map<String, AiReportContentReader.Content> contents = new HashMap<>();
+        if (!needContent.isEmpty()) {
+            for (var c : aiReportRepo.findContentsByUuids(needContent)) {
+                try {
+                    var parsed = contentReader.read(c.getContent());
+                    if (parsed != null) contents.put(c.getUuid(), parsed);
+                } catch (Exception e) {
+                    log.warn("[AiReport - 034A] archive mapping error reportUuid={}, msg={}", c.getUuid(), e.getMessage());
                 }
-            } catch (Exception e) {
-                log.warn("[AiReport - 034A] archive mapping error reportUuid={}, msg={}", r.getUuid(), e.getMessage());
             }
+        }
+
+        var items = rows.stream().map(r -> {
+            var content = contents.get(r.getUuid());
 
             var persist = GetAiReportResponseDto.PersistInfo.builder()
                     .id(r.getUuid())
                     .createdAt(r.getCreatedAt())
                     .build();
 
-            return GetAiReportArchiveResponseDto.Item.builder()
+            var item = GetAiReportArchiveResponseDto.Item.builder()
                     .reportId(r.getUuid())
                     .createdAt(r.getCreatedAt())
-                    .period(period)
+                    .persist(persist);
+
+            if (detail && content != null) {
+                return item.period(content.getPeriod())
+                        .summary(content.getSummary())
+                        .slots(content.getSlots() != null ? content.getSlots() : List.of())
+                        .redistribution(content.getRedistribution())
+                        .insights(content.getInsights())
+                        .build();
+            }
+
+            // 요약만: 컬럼 값 (없으면 content 의 period/summary)
+            GetAiReportResponseDto.Period period = (r.getPeriodStartAt() != null)
+                    ? GetAiReportResponseDto.Period.builder()
+                        .startAt(TS.format(r.getPeriodStartAt()))
+                        .endAt(r.getPeriodEndAt() != null ? TS.format(r.getPeriodEndAt()) : null)
+                        .build()
+                    : (content != null ? content.getPeriod() : null);
+            GetAiReportResponseDto.Summary summary = (r.getTotalBudget() != null)
+                    ? GetAiReportResponseDto.Summary.builder()
+                        .totalBudget(r.getTotalBudget())
+                        .totalSpent(nz(r.getTotalSpent()))
+                        .totalOverspent(nz(r.getTotalOverspent()))
+                        .totalUnderspent(nz(r.getTotalUnderspent()))
+                        .build()
+                    : (content != null ? content.getSummary() : null);
+
+            return item.period(period)
                     .summary(summary)
-                    .slots(slots)
-                    .redistribution(redist)
-                    .insights(insights)
-                    .persist(persist)
+                    .slots(List.of())
                     .build();
         }).toList();
 
@@ -489,7 +449,6 @@ public class AiReportServiceImpl implements AiReportService {
         return (s != null && s.getName() != null) ? s.getName() : "미정";
     }
 
-    private static long floorK(long v) { return (v <= 0) ? 0L : (v / 1000) * 1000; }
     private static Long nz(Long v) { return (v == null) ? 0L : v; }
 
     private static List<GetAiReportResponseDto.TopSlot> top3BySpent(List<GetAiReportResponseDto.SlotRow> items) {
@@ -505,16 +464,14 @@ public class AiReportServiceImpl implements AiReportService {
                 .collect(Collectors.toList());
     }
 
-    private GetAiReportResponseDto.Insights buildInsights(Map<String, Long> merchantSum,
+    private GetAiReportResponseDto.Insights buildInsights(List<AiReportStatsRepository.MerchantSpend> merchants,
                                                           Map<Long, Map<Integer, Long>> dowByAsId,
                                                           Map<Long, String> asIdToUuid) {
-        var topMerchants = merchantSum.entrySet().stream()
-                .sorted((a, b) -> Long.compare(b.getValue(), a.getValue()))
-                .limit(5)
-                .map(e -> GetAiReportResponseDto.Merchant.builder()
-                        .name(e.getKey())
-                        .amount(e.getValue())
-                        .count(0)
+        var topMerchants = merchants.stream()
+                .map(m -> GetAiReportResponseDto.Merchant.builder()
+                        .name(m.getName())
+                        .amount(nz(m.getAmount()))
+                        .count(m.getCount() != null ? m.getCount().intValue() : 0)
                         .build())
                 .toList();
 
@@ -572,32 +529,37 @@ public class AiReportServiceImpl implements AiReportService {
 
         var msgUser = Map.of("role", "user", "content", userContent);
 
-        // 1차: JSON 강제
-        Map<String, Object> bodyJson = new HashMap<>();
-        bodyJson.put("model", "gpt-5-nano");
-        bodyJson.put("messages", List.of(msgSystem, msgUser));
-        bodyJson.put("response_format", Map.of("type", "json_object")); // ★ JSON 강제
-        // temperature 제거 (프록시가 금지)
+        // 같은 프롬프트면 캐시된 응답 사용 (동시 요청은 GMS 호출 1번 공유)
+        String cacheKey = AiInsightCacheService.keyOf(GMS_MODEL, (String) msgSystem.get("content"), userContent);
+        return aiInsightCacheService.getOrLoad(cacheKey, () -> {
+            // 1차: JSON 강제
+            Map<String, Object> bodyJson = new HashMap<>();
+            bodyJson.put("model", GMS_MODEL);
+            bodyJson.put("messages", List.of(msgSystem, msgUser));
+            bodyJson.put("response_format", Map.of("type", "json_object")); // ★ JSON 강제
+            // temperature 제거 (프록시가 금지)
 
-        try {
-            return callAndParseGms(bodyJson, true);
-        } catch (Exception first) {
-            log.warn("[AiReport - 013] GMS JSON-mode failed ({}). Retrying without response_format...", first.toString());
-            // 2차: response_format 제거(일반 텍스트 응답 → 괄호 파싱)
-            Map<String, Object> bodyPlain = new HashMap<>();
-            bodyPlain.put("model", "gpt-5-nano");
-            bodyPlain.put("messages", List.of(msgSystem, msgUser));
             try {
-                return callAndParseGms(bodyPlain, false);
-            } catch (Exception second) {
-                log.warn("[AiReport - 013] GMS plain-mode failed: {}", second.getMessage());
-                return null;
+                return callAndParseGms(bodyJson, true);
+            } catch (Exception first) {
+                log.warn("[AiReport - 013] GMS JSON-mode failed ({}). Retrying without response_format...", first.toString());
+                // 2차: response_format 제거(일반 텍스트 응답 → 괄호 파싱)
+                Map<String, Object> bodyPlain = new HashMap<>();
+                bodyPlain.put("model", GMS_MODEL);
+                bodyPlain.put("messages", List.of(msgSystem, msgUser));
+                try {
+                    return callAndParseGms(bodyPlain, false);
+                } catch (Exception second) {
+                    log.warn("[AiReport - 013] GMS plain-mode failed: {}", second.getMessage());
+                    return null;
+                }
             }
-        }
+        }, this::isValidGms);
     }
 
     private Map<String, Object> callAndParseGms(Map<String, Object> body, boolean expectJson) throws Exception {
-        Map<String, Object> res = ssafyGmsWebClient.post()
+        // LlmGateway: 마감시간/동시호출 제한/서킷 적용, 실패하거나 서킷이 열려 있으면 null → 휴리스틱 폴백
+        Map<String, Object> res = llmGateway.call(LlmUseCase.AI_REPORT_INSIGHT, LlmUpstream.GMS, client -> client.post()
                 .uri("/chat/completions")
                 .bodyValue(body)
                 .retrieve()
@@ -606,17 +568,16 @@ public class AiReportServiceImpl implements AiReportService {
                                 log.warn("[AiReport - 013] GMS HTTP {}: {}", resp.statusCode(), err)
                         ).then(Mono.error(new IllegalStateException("GMS error: " + resp.statusCode())))
                 )
-                .bodyToMono(Map.class)
-                .block(); // ★ 여기! Duration 제거 → 무기한 대기
+                .bodyToMono(GMS_RESPONSE_TYPE), () -> null);
 
         if (res == null) throw new IllegalStateException("GMS null response");
 
         String content = null;
         try {
-            var choices = (List<Map<String, Object>>) res.get("choices");
-            if (choices != null && !choices.isEmpty()) {
-                var msg = (Map<String, Object>) choices.get(0).get("message");
-                content = (msg != null) ? (String) msg.get("content") : null;
+            if (res.get("choices") instanceof List<?> choices && !choices.isEmpty()
+                    && choices.get(0) instanceof Map<?, ?> choice
+                    && choice.get("message") instanceof Map<?, ?> msg) {
+                content = (String) msg.get("content");
             }
         } catch (Exception ignore) {}
 
@@ -627,16 +588,16 @@ public class AiReportServiceImpl implements AiReportService {
         Map<String, Object> parsed;
         if (expectJson) {
             try {
-                parsed = objectMapper.readValue(content, Map.class);
+                parsed = objectMapper.readValue(content, JSON_OBJECT_TYPE);
             } catch (Exception ex) {
                 String jsonOnly = extractFirstJsonObject(content);
                 if (jsonOnly == null) throw new IllegalStateException("No JSON object found in content");
-                parsed = objectMapper.readValue(jsonOnly, Map.class);
+                parsed = objectMapper.readValue(jsonOnly, JSON_OBJECT_TYPE);
             }
         } else {
             String jsonOnly = extractFirstJsonObject(content);
             if (jsonOnly == null) return null;
-            parsed = objectMapper.readValue(jsonOnly, Map.class);
+            parsed = objectMapper.readValue(jsonOnly, JSON_OBJECT_TYPE);
         }
 
         Map<String, Object> out = new HashMap<>();
@@ -0,0 +1,47 @@
+package com.ssafy.b108.walletslot.backend.domain.ai_report.support;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.ssafy.b108.walletslot.backend.domain.ai_report.dto.GetAiReportResponseDto;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * ai_report.content(JSON 원문)를 DTO 로 바로 읽는 reader 입니다.
+ * JsonNode 트리를 만든 뒤 섹션마다 convertValue 하는 대신, 토큰 스트림에서 한 번에 DTO 로 바인딩합니다.
+ * 예전 저장본처럼 {"data": {...}} 로 한 번 감싸진 경우도 읽습니다.
+ */
+@Component
+public class AiReportContentReader {
+
+    private final ObjectReader reader;
+
+    public AiReportContentReader(ObjectMapper objectMapper) {
+        this.reader = objectMapper.readerFor(Content.class)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    }
+
+    public Content read(String json) throws IOException {
+        if (json == null || json.isBlank()) return null;
+        Content content = reader.readValue(json);
+        return (content != null && content.getData() != null) ? content.getData() : content;
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Content {
+        private GetAiReportResponseDto.Period period;
+        private GetAiReportResponseDto.Summary summary;
+        private List<GetAiReportResponseDto.SlotRow> slots;
+        private GetAiReportResponseDto.Redistribution redistribution;
+        private GetAiReportResponseDto.Insights insights;
+        private Content data;
+    }
+}
@@ -0,0 +1,84 @@
+package com.ssafy.b108.walletslot.backend.domain.ai_report.support;
+
+import java.util.Arrays;
+
+/**
+ * 절약액(미분류 제외)을 초과 슬롯들에 초과액 비율대로 천원 단위로 나눠주는 계산기 입니다.
+ * 슬롯은 배열 인덱스로만 다루고, 1차 배분(내림) 후 남은 천원 단위는 최대 잔여(largest remainder) 순으로 한 번에 나눠줍니다.
+ * → 슬롯 n개 기준 O(n log n), 금액 크기와 무관.
+ */
+public final class BudgetRedistributor {
+
+    private static final long UNIT = 1_000L;
+
+    private BudgetRedistributor() {}
+
+    /**
+     * @param overspend    슬롯별 초과액 (인덱스 = 슬롯 행 순서)
+     * @param eligible     배분 대상 여부 (미분류 아님 + 초과)
+     * @param savedTotal   미분류 제외 절약액 합계
+     * @param oversTotal   미분류 제외 초과액 합계
+     */
+    public static Result allocate(long[] overspend, boolean[] eligible, long savedTotal, long oversTotal) {
+        final int n = overspend.length;
+        final long savedPool = floorUnit(savedTotal);
+        final long oversPool = floorUnit(oversTotal);
+        final long[] allocated = new long[n];
+
+        if (savedPool <= 0 || oversPool <= 0) {
+            return new Result(savedPool, oversPool, allocated, new int[0]);
+        }
+
+        // 1차 배분: 비율 몫을 천원 단위로 내림, 잔여(소수부)는 정렬 키로 보관
+        int[] recipients = new int[n];
+        double[] frac = new double[n];
+        int m = 0;
+        long allocatedSum = 0L;
+        for (int i = 0; i < n; i++) {
+            if (!eligible[i] || overspend[i] <= 0) continue;
+            double share = ((double) overspend[i] / (double) oversPool) * (double) savedPool;
+            long alloc = floorUnit(Math.round(share));
+            allocated[i] = alloc;
+            allocatedSum += alloc;
+            frac[i] = Math.max(0d, share - alloc);
+            recipients[m++] = i;
+        }
+        recipients = Arrays.copyOf(recipients, m);
+
+        // 2차 배분: 남은 천원 단위를 잔여 큰 순서로 (전원 몫 full + 상위 extra 개에 1단위씩)
+        long units = (savedPool - allocatedSum) / UNIT;
+        if (units > 0 && m > 0) {
+            long full = units / m;
+            int extra = (int) (units % m);
+            if (full > 0) {
+                for (int idx : recipients) allocated[idx] += full * UNIT;
+            }
+            if (extra > 0) {
+                Integer[] order = new Integer[m];
+                for (int k = 0; k < m; k++) order[k] = recipients[k];
+                Arrays.sort(order, (a, b) -> {
+                    int c = Double.compare(frac[b], frac[a]);
+                    return c != 0 ? c : Integer.compare(a, b); // 동률이면 슬롯 순서
+                });
+                for (int k = 0; k < extra; k++) allocated[order[k]] += UNIT;
+            }
+        }
+
+        return new Result(savedPool, oversPool, allocated, recipients);
+    }
+
+    private static long floorUnit(long v) { return (v <= 0) ? 0L : (v / UNIT) * UNIT; }
+
+    /**
+     * @param allocated  슬롯별 추가 배분액 (배분 대상이 아니면 0)
+     * @param recipients 배분 대상 슬롯 인덱스 (슬롯 순서)
+     */
+    public record Result(long savedPool, long oversPool, long[] allocated, int[] recipients) {
+
+        public long allocatedTotal() {
+            long sum = 0L;
+            for (long a : allocated) sum += a;
+            return sum;
+        }
+    }
+}
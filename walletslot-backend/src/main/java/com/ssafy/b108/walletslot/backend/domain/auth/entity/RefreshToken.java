@@ -18,7 +18,9 @@ public class RefreshToken {
     public enum Status { ACTIVE, USED, REVOKED }
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "refresh_token_id")
+    @TableGenerator(name = "refresh_token_id", table = "id_sequence", pkColumnName = "name", valueColumnName = "next_val",
+            pkColumnValue = "refresh_token", allocationSize = 100)
     private Long id;
 
     @ManyToOne(fetch=FetchType.LAZY)
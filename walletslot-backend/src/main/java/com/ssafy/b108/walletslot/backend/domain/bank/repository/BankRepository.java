@@ -9,10 +9,14 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
+// 조회는 BankCatalog(메모리)를 쓰고, 이 레포지토리는 카탈로그 적재용
 public interface BankRepository extends JpaRepository<Bank, Long> {
     Optional<Bank> findByUuid(String uuid);
     Optional<Bank> findByCode(String code);
 
     @Query("SELECT b.code FROM Bank b WHERE b.uuid IN :bankUuids")
     Set<String> findCodesByUuids(@Param("bankUuids") List<String> bankUuids);
+
+    @Query(value = "SELECT version FROM catalog_version WHERE name = 'bank'", nativeQuery = true)
+    Optional<Long> findCatalogVersion();
 }
@@ -0,0 +1,148 @@
+package com.ssafy.b108.walletslot.backend.domain.bank.service;
+
+import com.ssafy.b108.walletslot.backend.domain.bank.entity.Bank;
+import com.ssafy.b108.walletslot.backend.domain.bank.repository.BankRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * bank 테이블(은행 목록)을 메모리에 들고 있는 읽기 전용 카탈로그 입니다.
+ * SlotCatalog 와 같은 방식으로 불변 스냅샷(id / uuid / 기관코드 → Item)을 만들고,
+ * catalog_version 의 'bank' 행 version 이 바뀌거나 max-age-ms 가 지나면 다시 읽습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BankCatalog {
+
+    // Field
+    private final BankRepository bankRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${catalog.max-age-ms:600000}")
+    private long maxAgeMs;
+
+    private final AtomicLong loadedVersion = new AtomicLong(-1L);
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    // catalog_version 조회 실패 로그를 확인 주기마다 남기지 않도록
+    private volatile boolean versionWarned;
+
+    @PostConstruct
+    void init() {
+        meterRegistry.gauge("catalog.version", Tags.of("name", "bank"), loadedVersion);
+        meterRegistry.gauge("catalog.size", Tags.of("name", "bank"), this, c -> c.snapshot.items().size());
+        try {
+            refresh();
+        } catch (Exception e) {
+            // 적재 실패 시 loadedVersion 이 -1 로 남아 다음 확인 주기에 다시 시도
+            log.warn("[CATALOG][BANK] 초기 적재 실패: {}", e.toString());
+        }
+    }
+
+    // Method
+    public Optional<Item> findById(Long id) {
+        return Optional.ofNullable(id == null ? null : snapshot.byId().get(id));
+    }
+
+    public Optional<Item> findByUuid(String uuid) {
+        return Optional.ofNullable(uuid == null ? null : snapshot.byUuid().get(uuid));
+    }
+
+    public Optional<Item> findByCode(String code) {
+        return Optional.ofNullable(code == null ? null : snapshot.byCode().get(code));
+    }
+
+    /** 은행 uuid 목록 → 기관코드 집합 (없는 uuid 는 무시) */
+    public Set<String> findCodesByUuids(Collection<String> uuids) {
+        Set<String> codes = new HashSet<>();
+        if (uuids == null) return codes;
+        for (String uuid : uuids) {
+            findByUuid(uuid).ifPresent(item -> codes.add(item.code()));
+        }
+        return codes;
+    }
+
+    /** 전체 은행 (id 순) */
+    public List<Item> all() {
+        return snapshot.items();
+    }
+
+    /** 연관관계 세팅용 Bank 프록시 (DB 조회 없음) */
+    public Bank reference(Long id) {
+        return bankRepository.getReferenceById(id);
+    }
+
+    /** catalog_version 이 바뀌었거나 스냅샷이 max-age 보다 오래됐으면 다시 적재 */
+    @Scheduled(fixedDelayString = "${catalog.refresh-check-ms:30000}", initialDelayString = "${catalog.refresh-check-ms:30000}")
+    public void refreshIfChanged() {
+        try {
+            long version = currentVersion();
+            boolean expired = snapshot.loadedAt().isBefore(LocalDateTime.now().minus(Duration.ofMillis(maxAgeMs)));
+            if (version != loadedVersion.get() || expired) refresh();
+        } catch (Exception e) {
+            log.warn("[CATALOG][BANK] 버전 확인 실패, 기존 스냅샷 유지: {}", e.toString());
+        }
+    }
+
+    /** bank 테이블 전체를 읽어 스냅샷 교체 */
+    public synchronized void refresh() {
+        long version = currentVersion();
+
+        List<Item> items = bankRepository.findAll().stream()
+                .map(bank -> new Item(bank.getId(), bank.getUuid(), bank.getName(), bank.getCode(), bank.getColor()))
+                .sorted(Comparator.comparing(Item::id))
+                .toList();
+
+        Map<Long, Item> byId = new HashMap<>(items.size() * 2);
+        Map<String, Item> byUuid = new HashMap<>(items.size() * 2);
+        Map<String, Item> byCode = new HashMap<>(items.size() * 2);
+        for (Item item : items) {
+            byId.put(item.id(), item);
+            byUuid.put(item.uuid(), item);
+            byCode.putIfAbsent(item.code(), item);
+        }
+
+        snapshot = new Snapshot(items, Map.copyOf(byId), Map.copyOf(byUuid), Map.copyOf(byCode), LocalDateTime.now());
+        loadedVersion.set(version);
+        log.info("[CATALOG][BANK] loaded version={}, banks={}", version, items.size());
+    }
+
+    /**
+     * catalog_version 의 현재 값. 행이 없거나 테이블이 아직 없으면(마이그레이션 전) 0 으로 보고 데이터 적재는 계속합니다.
+     * 이 경우 version 신호 없이 max-age-ms 주기로만 다시 읽습니다.
+     */
+    private long currentVersion() {
+        try {
+            long version = bankRepository.findCatalogVersion().orElse(0L);
+            versionWarned = false;
+            return version;
+        } catch (Exception e) {
+            if (!versionWarned) {
+                versionWarned = true;
+                log.warn("[CATALOG][BANK] catalog_version 조회 실패, version 0 으로 적재: {}", e.toString());
+            }
+            return 0L;
+        }
+    }
+
+    // Nested Class
+    public record Item(Long id, String uuid, String name, String code, String color) {}
+
+    private record Snapshot(List<Item> items, Map<Long, Item> byId, Map<String, Item> byUuid, Map<String, Item> byCode,
+                            LocalDateTime loadedAt) {
+        private static final Snapshot EMPTY = new Snapshot(List.of(), Map.of(), Map.of(), Map.of(), LocalDateTime.MIN);
+    }
+}
@@ -0,0 +1,54 @@
+package com.ssafy.b108.walletslot.backend.domain.notification.batch;
+
+import com.ssafy.b108.walletslot.backend.domain.notification.service.NotificationRetentionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationRetentionScheduler {
+
+    private final NotificationRetentionService retentionService;
+
+    @Value("${scheduling.zone:Asia/Seoul}")
+    private String schedulingZone;
+
+    // 읽은 뒤 며칠까지 hot 테이블에 둘지
+    @Value("${notification.retention.hot-days:30}")
+    private int hotDays;
+
+    @Value("${notification.retention.chunk-size:1000}")
+    private int chunkSize;
+
+    // 1회 실행에서 옮길 최대 청크 수 (남은 건 다음 실행에서)
+    @Value("${notification.retention.max-chunks:100}")
+    private int maxChunks;
+
+    @Scheduled(cron = "${scheduling.notification-retention.cron:0 30 3 * * *}", zone = "${scheduling.zone:Asia/Seoul}")
+    public void run() {
+        LocalDateTime cutoff = LocalDateTime.now(ZoneId.of(schedulingZone)).minusDays(hotDays);
+        log.info("[NOTIFICATION][RETENTION] start cutoff={}", cutoff);
+
+        int moved = 0;
+        for (int i = 0; i < maxChunks; i++) {
+            int n;
+            try {
+                n = retentionService.archiveChunk(cutoff, chunkSize);
+            } catch (Exception e) {
+                log.error("[NOTIFICATION][RETENTION] chunk failed: {}", e.toString());
+                break;
+            }
+            moved += n;
+            if (n < chunkSize) break;
+        }
+
+        log.info("[NOTIFICATION][RETENTION] done moved={}", moved);
+    }
+}
@@ -153,8 +153,9 @@ public class NotificationRestController {
     @Operation(
             summary = "8-2-3 목록 조회(8-2-9 type 필터 포함)",
             description = """
-                최신순으로 알림 목록을 페이지네이션 조회합니다.
-                - type 파라미터로 특정 종류만 필터링 가능 (예: /api/notifications?type=BUDGET&page=0&size=20)
+                최신순으로 알림 목록을 커서 방식으로 조회합니다.
+                - 첫 페이지는 cursor 없이, 다음 페이지는 응답의 nextCursor 를 cursor 로 넘깁니다 (hasNext=false 면 끝)
+                - type 파라미터로 특정 종류만 필터링 가능 (예: /api/notifications?type=BUDGET&size=20)
                 - 응답 DTO에는 transactionUuid가 포함될 수 있습니다.
                 """,
             extensions = @Extension(name = "x-order", properties = @ExtensionProperty(name = "order", value = "3"))
@@ -169,12 +170,15 @@ public class NotificationRestController {
             @AuthenticationPrincipal @Parameter(hidden = true) final UserPrincipal principal,
             @Parameter(description = "알림 유형 필터", schema = @Schema(implementation = Notification.Type.class))
             @RequestParam(required = false) final String type,
-            @ParameterObject final Pageable pageable
+            @Parameter(description = "직전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) final String cursor,
+            @Parameter(description = "페이지 크기 (1~50, 기본 20)")
+            @RequestParam(defaultValue = "20") final int size
     ) {
         if (principal == null) throw new AppException(ErrorCode.UNAUTHORIZED, "[NotificationController - list]");
-        final Pageable pg = clamp(pageable);
         final Notification.Type t = parseTypeOrNull(type, "[NotificationController - list]");
-        return ResponseEntity.ok(service.getNotificationPage(principal.userId(), t, pg));
+        final int pageSize = size <= 0 ? 20 : Math.min(size, 50);
+        return ResponseEntity.ok(service.getNotificationPage(principal.userId(), t, cursor, pageSize));
     }
 
     @GetMapping("/unread")
@@ -264,6 +268,34 @@ public class NotificationRestController {
         return ResponseEntity.ok(service.unreadCountByType(principal.userId(), t));
     }
 
+    @GetMapping("/{notificationUuid}/events")
+    @Operation(
+            summary = "8-2-3-2 알림 상세(묶음 원본 이벤트)",
+            description = """
+                거래 동기화 중 여러 건이 한 번에 발생하면 (유저, 타입) 단위로 묶어 요약 알림 1건으로 발송합니다.
+                이 API는 요약 알림에 묶인 원본 이벤트(거래별 알림) 목록을 반환합니다.
+                - 묶이지 않은 단건 알림이면 원본 이벤트 1건, 동기화와 무관한 알림이면 빈 목록
+                """,
+            extensions = @Extension(name = "x-order", properties = @ExtensionProperty(name = "order", value = "3"))
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = GetNotificationEventListResponseDto.class))),
+            @ApiResponse(responseCode = "404", description = "대상 없음",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class),
+                            examples = @ExampleObject(name = "notFound",
+                                    value = """
+                                    { "success": false, "message": "[NotificationService - 009] notification 리소스를 찾을 수 없습니다." }
+                                    """)))
+    })
+    public ResponseEntity<GetNotificationEventListResponseDto> events(
+            @AuthenticationPrincipal @Parameter(hidden = true) final UserPrincipal principal,
+            @Parameter(description = "대상 알림 UUID", example = "5a9d3c9a-1b1f-4c6f-9f8a-8ad3a1e4b9c1")
+            @PathVariable("notificationUuid") final String notificationUuid
+    ) {
+        return ResponseEntity.ok(service.getEvents(principal.userId(), notificationUuid));
+    }
+
     @PatchMapping("/{notificationUuid}/delivered")
     @Operation(
             summary = "8-2-5 단건 delivered",
@@ -24,12 +24,16 @@ public class GetNotificationPageResponseDto {
 
         java.util.List<NotificationDto> content;
 
-        int page;
+        Integer page; // 미읽음 목록(페이지 번호 방식)만
 
         int size;
 
-        long totalElements;
+        Long totalElements; // 미읽음 목록만
 
-        int totalPages;
+        Integer totalPages; // 미읽음 목록만
+
+        Boolean hasNext; // 전체 목록(커서 방식)만
+
+        String nextCursor; // 전체 목록: 다음 페이지 요청 시 cursor 로 넘길 마지막 알림 uuid
     }
 }
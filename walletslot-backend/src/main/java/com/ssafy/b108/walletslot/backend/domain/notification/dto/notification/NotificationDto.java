@@ -1,6 +1,7 @@
 package com.ssafy.b108.walletslot.backend.domain.notification.dto.notification;
 
 import com.ssafy.b108.walletslot.backend.domain.notification.entity.Notification;
+import com.ssafy.b108.walletslot.backend.domain.notification.entity.NotificationArchive;
 import lombok.*;
 
 import java.time.LocalDateTime;
@@ -48,4 +49,18 @@ public class NotificationDto {
                 .transactionUuid(transactionUuid)
                 .build();
     }
+
+    public static NotificationDto from(NotificationArchive n, String transactionUuid) {
+        return NotificationDto.builder()
+                .uuid(n.getUuid())
+                .title(n.getTitle())
+                .body(n.getBody())
+                .type(n.getType())
+                .isRead(n.isRead())
+                .isDelivered(n.getIsDelivered())
+                .readAt(n.getReadAt())
+                .deliveredAt(n.getDeliveredAt())
+                .transactionUuid(transactionUuid)
+                .build();
+    }
 }
@@ -0,0 +1,31 @@
+package com.ssafy.b108.walletslot.backend.domain.notification.dto.notification;
+
+import com.ssafy.b108.walletslot.backend.domain.notification.entity.Notification;
+import com.ssafy.b108.walletslot.backend.domain.notification.entity.NotificationEvent;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class NotificationEventDto {
+
+    private String title;
+    private String body;
+    private Notification.Type type;
+    private LocalDateTime createdAt;
+
+    private String transactionUuid;
+
+    public static NotificationEventDto from(NotificationEvent e, String transactionUuid) {
+        return NotificationEventDto.builder()
+                .title(e.getTitle())
+                .body(e.getBody())
+                .type(e.getType())
+                .createdAt(e.getCreatedAt())
+                .transactionUuid(transactionUuid)
+                .build();
+    }
+}
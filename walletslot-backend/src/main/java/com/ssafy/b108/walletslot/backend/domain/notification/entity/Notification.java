@@ -1,5 +1,6 @@
 package com.ssafy.b108.walletslot.backend.domain.notification.entity;
 
+import com.ssafy.b108.walletslot.backend.common.converter.UuidBinaryConverter;
 import com.ssafy.b108.walletslot.backend.domain.user.entity.User;
 import jakarta.persistence.*;
 import lombok.*;
@@ -8,7 +9,14 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "notification")
+@Table(
+        name = "notification",
+        uniqueConstraints = @UniqueConstraint(name = "uq_notification_user_type_tx", columnNames = {"user_id", "type", "tx_id"}),
+        indexes = {
+                @Index(name = "idx_notification_user_id", columnList = "user_id, id"),
+                @Index(name = "idx_notification_user_type_id", columnList = "user_id, type, id")
+        }
+)
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -20,7 +28,8 @@ public class Notification {
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(nullable = false, unique = true, length = 64)
+    @Column(nullable = false, unique = true, columnDefinition = "BINARY(16)")
+    @Convert(converter = UuidBinaryConverter.class)
     @Builder.Default
     private String uuid = UUID.randomUUID().toString();
 
@@ -0,0 +1,65 @@
+package com.ssafy.b108.walletslot.backend.domain.notification.entity;
+
+import com.ssafy.b108.walletslot.backend.common.converter.UuidBinaryConverter;
+import com.ssafy.b108.walletslot.backend.domain.user.entity.User;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관(archive) 티어 알림 입니다.
+ * 읽은 지 오래된 알림은 NotificationRetentionScheduler가 notification 에서 이 테이블로 옮깁니다. (id/uuid 그대로 유지)
+ * 여기로 옮겨진 알림은 이미 읽음/전송 처리가 끝난 이력이라 조회와 삭제만 합니다.
+ */
+@Entity
+@Table(
+        name = "notification_archive",
+        indexes = {
+                @Index(name = "idx_notification_archive_user_id", columnList = "user_id, id"),
+                @Index(name = "idx_notification_archive_user_type_id", columnList = "user_id, type, id")
+        }
+)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NotificationArchive {
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false, unique = true, columnDefinition = "BINARY(16)")
+    @Convert(converter = UuidBinaryConverter.class)
+    private String uuid;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(length = 255, nullable = false)
+    private String title;
+
+    @Lob
+    @Column(columnDefinition = "TINYTEXT")
+    private String body;
+
+    @Column(nullable = false)
+    private boolean isRead;
+
+    // notification.type 과 같이 NULL 허용 (NULL 인 알림도 그대로 옮길 수 있게)
+    @Enumerated(EnumType.STRING)
+    private Notification.Type type;
+
+    private LocalDateTime readAt;
+
+    private Boolean isDelivered;
+
+    private LocalDateTime deliveredAt;
+
+    @Column(name = "tx_id")
+    private Long txId;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
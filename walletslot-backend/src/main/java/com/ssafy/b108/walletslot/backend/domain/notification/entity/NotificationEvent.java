@@ -0,0 +1,82 @@
+package com.ssafy.b108.walletslot.backend.domain.notification.entity;
+
+import com.ssafy.b108.walletslot.backend.domain.user.entity.User;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 묶음(코얼레싱) 전의 원본 알림 이벤트 입니다.
+ * 동기화 중 발생한 거래 알림은 바로 Notification으로 만들지 않고 이벤트로 쌓아두었다가,
+ * (user, type) 단위 윈도우가 닫히면 요약 Notification 1건으로 발송됩니다.
+ * 요약 알림의 상세보기에서는 notification_id로 묶인 원본 이벤트들을 보여줍니다.
+ */
+@Entity
+@Table(
+        name = "notification_event",
+        uniqueConstraints = @UniqueConstraint(name = "uq_notification_event_user_type_source", columnNames = {"user_id", "type", "source_key"}),
+        indexes = {
+                @Index(name = "idx_notification_event_pending", columnList = "notification_id, user_id, type, created_at")
+        }
+)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NotificationEvent {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Notification.Type type;
+
+    @Column(length = 255, nullable = false)
+    private String title;
+
+    @Lob
+    @Column(columnDefinition = "TINYTEXT")
+    private String body;
+
+    // 요약문에 쓸 짧은 이름 (슬롯명/거래처명)
+    @Column(length = 64)
+    private String label;
+
+    @Column(name = "tx_id")
+    private Long txId;
+
+    // 은행 거래 기준 중복 방지 키 (계좌 id:transactionUniqueNo). 동기화를 재시도해서 tx_id 가 새로 생겨도 같은 값
+    @Column(name = "source_key", length = 64)
+    private String sourceKey;
+
+    // 발송된 요약 알림 (null이면 아직 윈도우가 닫히지 않은 대기 이벤트)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "notification_id")
+    private Notification notification;
+
+    // 묶음을 발송 중인 서버 (여러 대가 같은 묶음을 동시에 보내지 않도록 flush 가 UPDATE 로 선점)
+    @Column(name = "claimed_by", length = 64)
+    private String claimedBy;
+
+    @Column(name = "claimed_at")
+    private LocalDateTime claimedAt;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public static String sourceKey(Long accountId, Long transactionUniqueNo) {
+        return accountId + ":" + transactionUniqueNo;
+    }
+
+    public void attachTo(Notification notification) {
+        this.notification = notification;
+    }
+}
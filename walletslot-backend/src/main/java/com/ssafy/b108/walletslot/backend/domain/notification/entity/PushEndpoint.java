@@ -1,7 +1,10 @@
 package com.ssafy.b108.walletslot.backend.domain.notification.entity;
 
+import com.ssafy.b108.walletslot.backend.config.jpa.CacheRegions;
 import com.ssafy.b108.walletslot.backend.domain.user.entity.User;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.*;
 
 import static lombok.AccessLevel.PRIVATE;
@@ -16,6 +19,8 @@ import static lombok.AccessLevel.PROTECTED;
         name = "push_endpoint",
         uniqueConstraints = @UniqueConstraint(name = "uk_push_user_device", columnNames = {"user_id", "device_id"})
 )
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.PUSH_ENDPOINT)
 public class PushEndpoint {
 
     public enum Platform { ANDROID, IOS }
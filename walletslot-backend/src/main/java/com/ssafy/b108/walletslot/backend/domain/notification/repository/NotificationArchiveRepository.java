@@ -0,0 +1,100 @@
+package com.ssafy.b108.walletslot.backend.domain.notification.repository;
+
+import com.ssafy.b108.walletslot.backend.domain.notification.entity.NotificationArchive;
+import com.ssafy.b108.walletslot.backend.domain.user.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface NotificationArchiveRepository extends JpaRepository<NotificationArchive, Long> {
+
+    Optional<NotificationArchive> findByUuidAndUser(String uuid, User user);
+
+    @Query("select a.id from NotificationArchive a where a.uuid = :uuid and a.user = :user")
+    Optional<Long> findIdByUuidAndUser(@Param("uuid") String uuid, @Param("user") User user);
+
+    /*
+     * 알림 목록이 hot 티어를 넘어갈 때만 쓰는 id 커서 페이지 (NotificationRepository.findPageBelow 와 같은 모양)
+     * 인덱스: idx_notification_archive_user_id (user_id, id), idx_notification_archive_user_type_id (user_id, type, id)
+     */
+    @Query(value = """
+           SELECT a.*
+             FROM notification_archive a
+            WHERE a.user_id = :userId
+              AND a.id < :cursorId
+            ORDER BY a.id DESC
+            LIMIT :size
+           """, nativeQuery = true)
+    List<NotificationArchive> findPageBelow(@Param("userId") Long userId, @Param("cursorId") long cursorId, @Param("size") int size);
+
+    @Query(value = """
+           SELECT a.*
+             FROM notification_archive a
+            WHERE a.user_id = :userId
+              AND a.type = :type
+              AND a.id < :cursorId
+            ORDER BY a.id DESC
+            LIMIT :size
+           """, nativeQuery = true)
+    List<NotificationArchive> findPageBelowByType(@Param("userId") Long userId, @Param("type") String type,
+                                                  @Param("cursorId") long cursorId, @Param("size") int size);
+
+    // ===== 이동(mover) 전용 =====
+
+    // 읽은 지 cutoff 이상 지난 알림 id (청크 단위)
+    @Query(value = """
+           SELECT id
+             FROM notification
+            WHERE is_read = TRUE
+              AND read_at < :cutoff
+            ORDER BY id
+            LIMIT :limit
+           """, nativeQuery = true)
+    List<Long> findArchivableIds(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+
+    // 옮길 행이 archive 에 이미 있거나 값이 안 맞으면 오류로 청크 전체를 롤백 (IGNORE 로 삼키면 hot 에서만 지워져 유실됨)
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "notification_archive"))
+    @Query(value = """
+           INSERT INTO notification_archive
+                  (id, uuid, user_id, title, body, is_read, read_at, type, is_delivered, delivered_at, tx_id, archived_at)
+           SELECT id, uuid, user_id, title, body, is_read, read_at, type, is_delivered, delivered_at, tx_id, NOW()
+             FROM notification
+            WHERE id IN (:ids)
+           """, nativeQuery = true)
+    int copyToArchive(@Param("ids") List<Long> ids);
+
+    // 옮긴 알림의 원본 이벤트(상세보기용)는 hot 기간 동안만 보관 → archive 로 옮길 때 명시적으로 정리
+    // 옮긴 알림 주인의 archive 최대 id 를 올려둠 → 목록 조회는 이 값보다 아래로 내려갈 때만 archive 를 읽음 (hot 에서 지우기 전에 호출)
+    // updated_at 은 사용자 정보 변경 시각이라 ON UPDATE 로 바뀌지 않게 그대로 대입
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "user"))
+    @Query(value = """
+           UPDATE `user` u
+             JOIN (SELECT user_id, MAX(id) AS max_id
+                     FROM notification
+                    WHERE id IN (:ids)
+                    GROUP BY user_id) m ON m.user_id = u.id
+              SET u.notification_archive_max_id = GREATEST(COALESCE(u.notification_archive_max_id, 0), m.max_id),
+                  u.updated_at = u.updated_at
+           """, nativeQuery = true)
+    int raiseArchiveMaxIds(@Param("ids") List<Long> ids);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "notification_event"))
+    @Query(value = "DELETE FROM notification_event WHERE notification_id IN (:ids)", nativeQuery = true)
+    int deleteEventsByNotificationIds(@Param("ids") List<Long> ids);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "notification"))
+    @Query(value = "DELETE FROM notification WHERE id IN (:ids)", nativeQuery = true)
+    int deleteHotByIds(@Param("ids") List<Long> ids);
+}
@@ -0,0 +1,55 @@
+package com.ssafy.b108.walletslot.backend.domain.notification.repository;
+
+import com.ssafy.b108.walletslot.backend.domain.notification.entity.Notification;
+import com.ssafy.b108.walletslot.backend.domain.notification.entity.NotificationEvent;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface NotificationEventRepository extends JpaRepository<NotificationEvent, Long> {
+
+    // 윈도우가 닫힌 (user, type) 묶음: 가장 오래된 대기 이벤트가 closedBefore 이전에 쌓인 그룹
+    @Query("""
+           select e.user.id as userId, e.type as type
+             from NotificationEvent e
+            where e.notification is null
+            group by e.user.id, e.type
+           having min(e.createdAt) <= :closedBefore
+           """)
+    List<PendingGroup> findClosedPendingGroups(@Param("closedBefore") LocalDateTime closedBefore);
+
+    /**
+     * (user, type) 대기 이벤트 선점. 아무도 안 잡았거나 잡은 지 staleBefore 보다 오래된(발송 중 죽은 서버) 이벤트만 가져옵니다.
+     * 다른 서버가 먼저 잡았으면 그 트랜잭션이 끝날 때까지 행 잠금에서 기다린 뒤 0건을 돌려받습니다.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "notification_event"))
+    @Query(value = """
+           UPDATE notification_event
+              SET claimed_by = :owner, claimed_at = NOW()
+            WHERE user_id = :userId
+              AND type = :type
+              AND notification_id IS NULL
+              AND (claimed_by IS NULL OR claimed_at < :staleBefore)
+           """, nativeQuery = true)
+    int claimPending(@Param("userId") Long userId,
+                     @Param("type") String type,
+                     @Param("owner") String owner,
+                     @Param("staleBefore") LocalDateTime staleBefore);
+
+    List<NotificationEvent> findByUser_IdAndTypeAndNotificationIsNullAndClaimedByOrderByIdAsc(Long userId, Notification.Type type, String claimedBy);
+
+    List<NotificationEvent> findByNotificationOrderByIdAsc(Notification notification);
+
+    interface PendingGroup {
+        Long getUserId();
+        Notification.Type getType();
+    }
+}
@@ -30,7 +30,11 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
 
     Optional<Notification> findByIdAndUser(Long id, User user);
 
-    long countByUserAndIsReadFalse(User user);
+    long countByUser(User user);
+
+    long countByUserAndType(User user, Notification.Type type);
+
+        long countByUserAndIsReadFalse(User user);
 
     long countByUserAndIsReadFalseAndType(User user, Notification.Type type);
 
@@ -39,4 +43,34 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     Page<Notification> findByUserAndTypeAndIsReadFalseOrderByIdDesc(User user, Notification.Type type, Pageable pageable);
 
     Optional<Notification> findFirstByUserAndTypeAndTxId(User user, Notification.Type type, Long txId);
+
+    /*
+     * 알림 목록은 id 커서로 내림차순 페이징 합니다 (첫 페이지는 cursorId = Long.MAX_VALUE).
+     * type 필터는 (:type IS NULL OR ...) 로 합치면 인덱스 범위 스캔을 못 타서 쿼리를 나눴습니다.
+     * 인덱스: idx_notification_user_id (user_id, id), idx_notification_user_type_id (user_id, type, id)
+     */
+    @Query(value = """
+           SELECT n.*
+             FROM notification n
+            WHERE n.user_id = :userId
+              AND n.id < :cursorId
+            ORDER BY n.id DESC
+            LIMIT :size
+           """, nativeQuery = true)
+    List<Notification> findPageBelow(@Param("userId") Long userId, @Param("cursorId") long cursorId, @Param("size") int size);
+
+    @Query(value = """
+           SELECT n.*
+             FROM notification n
+            WHERE n.user_id = :userId
+              AND n.type = :type
+              AND n.id < :cursorId
+            ORDER BY n.id DESC
+            LIMIT :size
+           """, nativeQuery = true)
+    List<Notification> findPageBelowByType(@Param("userId") Long userId, @Param("type") String type,
+                                           @Param("cursorId") long cursorId, @Param("size") int size);
+
+    @Query("select n.id from Notification n where n.uuid = :uuid and n.user = :user")
+    Optional<Long> findIdByUuidAndUser(@Param("uuid") String uuid, @Param("user") User user);
 }
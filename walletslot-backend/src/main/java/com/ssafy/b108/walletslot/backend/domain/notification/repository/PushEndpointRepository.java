@@ -1,8 +1,16 @@
 package com.ssafy.b108.walletslot.backend.domain.notification.repository;
 
+import com.ssafy.b108.walletslot.backend.config.jpa.CacheRegions;
 import com.ssafy.b108.walletslot.backend.domain.notification.entity.PushEndpoint;
 import com.ssafy.b108.walletslot.backend.domain.user.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -10,5 +18,26 @@ import java.util.Optional;
 public interface PushEndpointRepository extends JpaRepository<PushEndpoint, Long> {
     List<PushEndpoint> findByUserOrderByIdDesc(User user);
     Optional<PushEndpoint> findByUserAndDeviceId(User user, String deviceId);
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.USER_OWNED_QUERY)
+    })
     Optional<PushEndpoint> findByUser(User user);
+
+    // 푸시 발송 대상 토큰: ACTIVE + 푸시 허용 + 토큰 보유 엔드포인트 (중복 토큰 제거)
+    @Query("""
+           select distinct p.token
+             from PushEndpoint p
+            where p.user.id = :userId
+              and p.status = com.ssafy.b108.walletslot.backend.domain.notification.entity.PushEndpoint.Status.ACTIVE
+              and p.pushEnabled = true
+              and p.token is not null
+           """)
+    List<String> findDeliverableTokensByUserId(@Param("userId") Long userId);
+
+    // FCM이 UNREGISTERED 등으로 응답한 죽은 토큰 제거 (기기에서 재등록하면 refresh/replaceToken으로 복구)
+    @Transactional
+    @Modifying
+    @Query("update PushEndpoint p set p.token = null where p.token in :tokens")
+    int clearTokens(@Param("tokens") List<String> tokens);
 }
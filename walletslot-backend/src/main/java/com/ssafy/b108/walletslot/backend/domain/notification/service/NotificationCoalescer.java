@@ -0,0 +1,94 @@
+package com.ssafy.b108.walletslot.backend.domain.notification.service;
+
+import com.ssafy.b108.walletslot.backend.domain.notification.entity.Notification;
+import com.ssafy.b108.walletslot.backend.domain.notification.entity.NotificationEvent;
+import com.ssafy.b108.walletslot.backend.domain.notification.repository.NotificationEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 거래 동기화 중 한꺼번에 쏟아지는 알림을 (user, type) 단위로 묶어서 보내는 코얼레싱 서비스 입니다.
+ * enqueue()는 원본 이벤트만 저장하고, flush()가 윈도우가 닫힌 묶음마다 요약 알림 1건을 만들어 푸시합니다.
+ * 묶음에 이벤트가 1건뿐이면 원래 알림 그대로 보내고, 원본 이벤트는 상세보기용으로 요약 알림에 연결해 둡니다.
+ * 서버가 여러 대여도 묶음마다 claimed_by 를 UPDATE 로 먼저 잡은 서버 한 곳만 발송합니다.
+ * 이벤트는 DB 에 쌓여 있으므로 재시작해도 사라지지 않고, 잡은 채로 죽은 묶음은 claim-timeout 이 지나면 다른 서버가 다시 잡습니다.
+ * 묶음 하나는 NotificationGroupEmitter 에서 자기 트랜잭션으로 처리하고, 푸시는 그 트랜잭션이 커밋된 뒤에만 나갑니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationCoalescer {
+
+    // Field
+    // 이 서버 인스턴스 식별자 (claimed_by)
+    private static final String INSTANCE_ID = UUID.randomUUID().toString();
+
+    private final NotificationEventRepository eventRepository;
+    private final NotificationWriter notificationWriter;
+    private final NotificationGroupEmitter groupEmitter;
+
+    @Value("${notification.coalesce.window-seconds:30}")
+    private long windowSeconds;
+
+    @Value("${notification.coalesce.claim-timeout-seconds:300}")
+    private long claimTimeoutSeconds;
+
+    // Method
+    /**
+     * 저장하지 않은 알림(draft)을 원본 이벤트로 변환합니다. (저장은 enqueue 에서 배치로)
+     * @param sourceKey 은행 거래 기준 중복 방지 키 (NotificationEvent.sourceKey)
+     * @param label 요약문에 쓸 짧은 이름 (슬롯명/거래처명)
+     */
+    public NotificationEvent toEvent(Notification draft, Long txId, String sourceKey, String label) {
+        return NotificationEvent.builder()
+                .user(draft.getUser())
+                .type(draft.getType())
+                .title(draft.getTitle())
+                .body(draft.getBody())
+                .label(label == null ? null : truncate(label, 64))
+                .txId(txId)
+                .sourceKey(sourceKey)
+                .build();
+    }
+
+    /** 원본 이벤트 배치 저장. 같은 은행 거래(user, type, source_key)로 이미 쌓인 이벤트는 무시되므로 동기화 재시도에도 중복 알림이 없습니다. */
+    @Transactional
+    public void enqueue(List<NotificationEvent> events) {
+        notificationWriter.insertEventsIfAbsent(events);
+    }
+
+    /**
+     * 윈도우가 닫힌 묶음들을 요약 알림으로 발송
+     * 묶음마다 따로 커밋하므로 한 묶음이 실패해도 앞서 보낸 묶음은 그대로고, 실패한 묶음은 claim 까지 롤백되어 다음 flush 에서 다시 시도합니다.
+     */
+    @Scheduled(fixedDelayString = "${notification.coalesce.flush-interval-ms:10000}")
+    public void flush() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime closedBefore = now.minusSeconds(windowSeconds);
+        LocalDateTime staleBefore = now.minusSeconds(claimTimeoutSeconds);
+        List<NotificationEventRepository.PendingGroup> groups = eventRepository.findClosedPendingGroups(closedBefore);
+
+        for (NotificationEventRepository.PendingGroup group : groups) {
+            try {
+                int events = groupEmitter.emit(group.getUserId(), group.getType(), INSTANCE_ID, staleBefore);
+                if (events > 0) {
+                    log.info("[NOTIFICATION][COALESCE] userId={}, type={}, events={}", group.getUserId(), group.getType(), events);
+                }
+            } catch (RuntimeException e) {
+                log.warn("[NOTIFICATION][COALESCE] 묶음 발송 실패 userId={}, type={}: {}", group.getUserId(), group.getType(), e.toString());
+            }
+        }
+    }
+
+    private static String truncate(String s, int maxLength) {
+        return s.length() <= maxLength ? s : s.substring(0, maxLength);
+    }
+}
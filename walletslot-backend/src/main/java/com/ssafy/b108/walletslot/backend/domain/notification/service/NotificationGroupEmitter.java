@@ -0,0 +1,152 @@
+package com.ssafy.b108.walletslot.backend.domain.notification.service;
+
+import com.ssafy.b108.walletslot.backend.domain.notification.entity.Notification;
+import com.ssafy.b108.walletslot.backend.domain.notification.entity.NotificationEvent;
+import com.ssafy.b108.walletslot.backend.domain.notification.repository.NotificationEventRepository;
+import com.ssafy.b108.walletslot.backend.domain.notification.repository.NotificationRepository;
+import com.ssafy.b108.walletslot.backend.infrastructure.fcm.service.FcmFanoutService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * NotificationCoalescer 의 (user, type) 묶음 하나를 요약 알림으로 만드는 빈 입니다.
+ * 묶음마다 별도 트랜잭션(REQUIRES_NEW)으로 커밋해서 claim 행 잠금을 묶음 하나 동안만 잡고, 다른 서버도 커밋 즉시 claim 을 봅니다.
+ * 푸시는 afterCommit 에서 보내므로, 저장이 롤백된 묶음은 푸시도 나가지 않아 다음 flush 에서 다시 보내도 중복이 없습니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class NotificationGroupEmitter {
+
+    // Field
+    private static final int MAX_LABELS = 3;
+    private static final int MAX_LABEL_LENGTH = 20;
+    private static final int TINYTEXT_BYTES = 255;
+
+    private final NotificationEventRepository eventRepository;
+    private final NotificationRepository notificationRepository;
+    private final NotificationWriter notificationWriter;
+    private final FcmFanoutService fcmFanoutService;
+
+    // Method
+    /** 묶음을 잡아서 알림 저장 + 이벤트 연결 후 커밋, 푸시는 커밋 뒤. @return 처리한 이벤트 수 (다른 서버가 잡았으면 0) */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int emit(Long userId, Notification.Type type, String owner, LocalDateTime staleBefore) {
+        // 다른 서버가 이미 잡은 묶음이면 건너뜀
+        int claimed = eventRepository.claimPending(userId, type.name(), owner, staleBefore);
+        if (claimed == 0) return 0;
+
+        List<NotificationEvent> events = eventRepository.findByUser_IdAndTypeAndNotificationIsNullAndClaimedByOrderByIdAsc(userId, type, owner);
+        if (events.isEmpty()) return 0;
+
+        if (events.size() == 1) {
+            emitSingle(events.get(0));
+        } else {
+            Notification notification = notificationRepository.save(summarize(events));
+            events.forEach(event -> event.attachTo(notification));
+            pushAfterCommit(notification);
+        }
+        return events.size();
+    }
+
+    /**
+     * 단건 묶음은 원래 알림 그대로 tx_id 를 달아서 멱등 저장합니다.
+     * 같은 거래로 이미 알림이 있으면(예: 미분류 알림 API로 먼저 생성) 새로 푸시하지 않고 기존 알림에 연결만 합니다.
+     */
+    private void emitSingle(NotificationEvent event) {
+        Notification draft = Notification.builder()
+                .user(event.getUser())
+                .title(event.getTitle())
+                .body(event.getBody())
+                .type(event.getType())
+                .txId(event.getTxId())
+                .build();
+
+        notificationWriter.insertIfAbsent(List.of(draft));
+
+        // draft 의 uuid 로 찾히면 새로 저장된 것, 아니면 같은 거래로 이미 있던 알림
+        Notification created = notificationRepository.findByUuidAndUser(draft.getUuid(), event.getUser()).orElse(null);
+        boolean inserted = created != null;
+
+        Notification notification = inserted
+                ? created
+                : notificationRepository.findFirstByUserAndTypeAndTxId(event.getUser(), event.getType(), event.getTxId()).orElse(null);
+        if (notification == null) return;
+
+        event.attachTo(notification);
+        if (inserted) pushAfterCommit(notification);
+    }
+
+    // 이 묶음 트랜잭션이 커밋된 뒤에만 푸시 (롤백되면 안 나감)
+    private void pushAfterCommit(Notification notification) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                fcmFanoutService.sendNotification(notification);
+            }
+        });
+    }
+
+    private Notification summarize(List<NotificationEvent> events) {
+        NotificationEvent last = events.get(events.size() - 1);
+        int count = events.size();
+
+        Set<String> labels = new LinkedHashSet<>();
+        for (NotificationEvent event : events) {
+            if (event.getLabel() != null && !event.getLabel().isBlank()) labels.add(truncate(event.getLabel(), MAX_LABEL_LENGTH));
+        }
+        String labelText = labels.stream().limit(MAX_LABELS).reduce((a, b) -> a + ", " + b).orElse("");
+        if (labels.size() > MAX_LABELS) labelText += " 외 " + (labels.size() - MAX_LABELS) + "곳";
+
+        String title;
+        String body;
+        switch (last.getType()) {
+            case SLOT -> {
+                title = "[💸지출알림] " + count + "건의 지출을 슬롯에서 차감했어요!";
+                body = "(" + labelText + ")";
+            }
+            case BUDGET -> {
+                title = "[⚠️예산초과] " + labels.size() + "개 슬롯의 예산이 초과됐어요!";
+                body = "(" + labelText + " 슬롯 예산 초과)";
+            }
+            case UNCATEGORIZED -> {
+                title = "[🚀미분류 지출발생] " + count + "건의 거래를 슬롯에 분배해주세요!";
+                body = last.getBody(); // 미분류 누적금액은 마지막 이벤트 기준이 최신
+            }
+            default -> {
+                title = last.getTitle() + " 외 " + (count - 1) + "건";
+                body = last.getBody();
+            }
+        }
+
+        return Notification.builder()
+                .user(last.getUser())
+                .title(title)
+                .body(fitTinyText(body))
+                .type(last.getType())
+                .build();
+    }
+
+    private static String truncate(String s, int maxLength) {
+        return s.length() <= maxLength ? s : s.substring(0, maxLength);
+    }
+
+    // body 컬럼은 TINYTEXT(255 bytes)라서 UTF-8 바이트 기준으로 자름
+    private static String fitTinyText(String s) {
+        if (s == null) return null;
+        String result = s;
+        while (result.getBytes(StandardCharsets.UTF_8).length > TINYTEXT_BYTES) {
+            result = result.substring(0, result.offsetByCodePoints(result.length(), -1));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,41 @@
+package com.ssafy.b108.walletslot.backend.domain.notification.service;
+
+import com.ssafy.b108.walletslot.backend.domain.notification.repository.NotificationArchiveRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 알림 보관(retention) 티어 이동 서비스 입니다.
+ * 청크 1개 = 트랜잭션 1개로 처리해서, 이동 중 락을 오래 잡지 않고 중간에 실패해도 이미 옮긴 청크는 유지됩니다.
+ * archive 에 복사된 건수가 청크 건수와 다르면 hot 에서 지우지 않고 청크 전체를 롤백합니다.
+ * 옮겨진 알림에 묶여있던 원본 이벤트(notification_event)는 상세보기용이라 hot 기간 동안만 두고, 여기서 직접 지웁니다.
+ * 같은 트랜잭션에서 사용자별 archive 최대 id(user.notification_archive_max_id)를 올려서, 목록 조회가 그 아래로 내려갈 때만 archive 를 읽게 합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class NotificationRetentionService {
+
+    private final NotificationArchiveRepository archiveRepo;
+
+    /** @return 이번 청크에서 옮긴 건수 (0이면 더 옮길 게 없음) */
+    @Transactional
+    public int archiveChunk(LocalDateTime cutoff, int chunkSize) {
+        List<Long> ids = archiveRepo.findArchivableIds(cutoff, chunkSize);
+        if (ids.isEmpty()) return 0;
+
+        int copied = archiveRepo.copyToArchive(ids);
+        if (copied != ids.size()) {
+            // 복사 안 된 행이 있으면 지우면 안 됨 → 예외로 롤백
+            throw new IllegalStateException("archive copy mismatch: expected=" + ids.size() + ", copied=" + copied);
+        }
+
+        archiveRepo.raiseArchiveMaxIds(ids);
+        archiveRepo.deleteEventsByNotificationIds(ids);
+        archiveRepo.deleteHotByIds(ids);
+        return ids.size();
+    }
+}
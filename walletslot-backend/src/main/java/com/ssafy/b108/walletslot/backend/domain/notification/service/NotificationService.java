@@ -8,13 +8,14 @@ public interface NotificationService {
 
     CreateNotificationResponseDto create(CreateNotificationRequestDto req);
     PullNotificationListResponseDto pullUndelivered(long userId);
-    GetNotificationPageResponseDto getNotificationPage(long userId, Notification.Type type, Pageable pageable);
+    GetNotificationPageResponseDto getNotificationPage(long userId, Notification.Type type, String cursor, int size);
     CountUnreadResponseDto unreadCount(long userId);
     GetNotificationPageResponseDto getUnreadPage(long userId, Notification.Type type, Pageable pageable);
     SimpleOkResponseDto markDelivered(long userId, String notificationUuid);
     SimpleOkResponseDto markRead(long userId, String notificationUuid);
     SimpleOkResponseDto markAllRead(long userId);
     DeleteNotificationResponseDto delete(long userId, String notificationUuid);
+    GetNotificationEventListResponseDto getEvents(long userId, String notificationUuid);
 
     CountUnreadByTypeResponseDto unreadCountByType(long userId, Notification.Type type);
 
@@ -2,6 +2,9 @@ package com.ssafy.b108.walletslot.backend.domain.notification.service;
 
 import com.ssafy.b108.walletslot.backend.domain.notification.dto.notification.*;
 import com.ssafy.b108.walletslot.backend.domain.notification.entity.Notification;
+import com.ssafy.b108.walletslot.backend.domain.notification.entity.NotificationArchive;
+import com.ssafy.b108.walletslot.backend.domain.notification.repository.NotificationArchiveRepository;
+import com.ssafy.b108.walletslot.backend.domain.notification.repository.NotificationEventRepository;
 import com.ssafy.b108.walletslot.backend.domain.notification.repository.NotificationRepository;
 import com.ssafy.b108.walletslot.backend.domain.transaction.repository.TransactionRepository;
 import com.ssafy.b108.walletslot.backend.domain.user.entity.User;
@@ -14,12 +17,18 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class NotificationServiceImpl implements NotificationService {
 
     private final NotificationRepository repo;
+    private final NotificationEventRepository eventRepo;
+    private final NotificationArchiveRepository archiveRepo;
+    private final NotificationWriter writer;
     private final UserRepository userRepo;
     private final TransactionRepository txRepo;
 
@@ -32,6 +41,71 @@ public class NotificationServiceImpl implements NotificationService {
         return NotificationDto.from(n, txUuid);
     }
 
+    private NotificationDto toDto(NotificationArchive n) {
+        String txUuid = null;
+        if (n.getTxId() != null) {
+            txUuid = txRepo.findUuidById(n.getTxId()).orElse(null);
+        }
+        return NotificationDto.from(n, txUuid);
+    }
+
+    /**
+     * 알림 목록 한 페이지 (id 내림차순 커서)
+     * - hot 티어에서 먼저 size 건을 읽음
+     * - archive 에는 user.notificationArchiveMaxId 이하 id 만 있으므로, 이번 페이지 구간이 그 아래로 내려갈 때만 archive 를 읽고 id 순으로 합침
+     *   (hot 이 size 건을 못 채웠거나, 채운 페이지의 마지막 id 가 archive 최대 id 보다 작을 때)
+     * - 읽은 지 오래되지 않은 / 안 읽은 알림은 hot 에 남아서 두 티어 id 가 섞일 수 있는데, 위 조건이면 섞인 구간도 빠지지 않음
+     */
+    private GetNotificationPageResponseDto.Data pageByCursor(final User user, final Notification.Type type, final String cursor, final int size) {
+        final long cursorId = resolveCursorId(user, cursor);
+        final List<Notification> hot = (type == null)
+                ? repo.findPageBelow(user.getId(), cursorId, size)
+                : repo.findPageBelowByType(user.getId(), type.name(), cursorId, size);
+
+        final long pageFloor = (hot.size() < size) ? 0L : hot.get(hot.size() - 1).getId();
+        final Long archiveMaxId = user.getNotificationArchiveMaxId();
+        final List<NotificationArchive> archived = (archiveMaxId == null || archiveMaxId <= pageFloor)
+                ? List.of()
+                : (type == null)
+                        ? archiveRepo.findPageBelow(user.getId(), cursorId, size)
+                        : archiveRepo.findPageBelowByType(user.getId(), type.name(), cursorId, size);
+
+        // 두 목록 모두 id 내림차순 → 앞에서부터 큰 id 를 골라 size 건
+        final List<NotificationDto> content = new ArrayList<>(size);
+        String lastUuid = null;
+        int h = 0, a = 0;
+        while (content.size() < size && (h < hot.size() || a < archived.size())) {
+            final boolean takeHot = a >= archived.size() || (h < hot.size() && hot.get(h).getId() > archived.get(a).getId());
+            if (takeHot) {
+                final Notification n = hot.get(h++);
+                content.add(toDto(n));
+                lastUuid = n.getUuid();
+            } else {
+                final NotificationArchive n = archived.get(a++);
+                content.add(toDto(n));
+                lastUuid = n.getUuid();
+            }
+        }
+
+        final boolean hasNext = content.size() == size;
+        return GetNotificationPageResponseDto.Data.builder()
+                .content(content)
+                .size(size)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? lastUuid : null)
+                .build();
+    }
+
+    // 커서는 직전 페이지 마지막 알림 uuid (그 사이 archive 로 옮겨졌으면 archive 에서 찾음)
+    private long resolveCursorId(final User user, final String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return Long.MAX_VALUE;
+        }
+        return repo.findIdByUuidAndUser(cursor, user)
+                .or(() -> archiveRepo.findIdByUuidAndUser(cursor, user))
+                .orElseThrow(() -> new AppException(ErrorCode.BAD_REQUEST, "[NotificationService - 003] invalid cursor"));
+    }
+
     @Override
     public CreateNotificationResponseDto create(final CreateNotificationRequestDto req) {
         final User user = userRepo.findById(req.getTargetUserId())
@@ -76,24 +150,15 @@ public class NotificationServiceImpl implements NotificationService {
 
     @Override
     @Transactional(readOnly = true)
-    public GetNotificationPageResponseDto getNotificationPage(final long userId, final Notification.Type type, final Pageable pageable) {
+    public GetNotificationPageResponseDto getNotificationPage(final long userId, final Notification.Type type, final String cursor, final int size) {
         final User user = userRepo.findById(userId)
                 .orElseThrow(() -> new AppException(ErrorCode.NOT_FOUND, "[NotificationService - 003]"));
 
-        final Page<Notification> page = (type == null)
-                ? repo.findByUserOrderByIdDesc(user, pageable)
-                : repo.findByUserAndTypeOrderByIdDesc(user, type, pageable);
-
+        // 읽은 지 오래된 알림은 archive 티어에 있으므로 커서가 archive 구간에 닿을 때만 합쳐서 페이지를 만듦
         return GetNotificationPageResponseDto.builder()
                 .success(true)
                 .message("[NotificationService - 003] 알림 목록 조회 성공")
-                .data(GetNotificationPageResponseDto.Data.builder()
-                        .content(page.getContent().stream().map(this::toDto).toList())
-                        .page(page.getNumber())
-                        .size(page.getSize())
-                        .totalElements(page.getTotalElements())
-                        .totalPages(page.getTotalPages())
-                        .build())
+                .data(pageByCursor(user, type, cursor, size))
                 .build();
     }
 
@@ -160,10 +225,13 @@ public class NotificationServiceImpl implements NotificationService {
         final User user = userRepo.findById(userId)
                 .orElseThrow(() -> new AppException(ErrorCode.NOT_FOUND, "[NotificationService - 005] user"));
 
-        final Notification n = repo.findByUuidAndUser(notificationUuid, user)
-                .orElseThrow(() -> new AppException(ErrorCode.NOT_FOUND, "[NotificationService - 005] notification"));
-
-        n.markDelivered();
+        // archive 로 옮겨진 알림은 이미 전송/읽음 처리가 끝난 상태
+        final Notification n = repo.findByUuidAndUser(notificationUuid, user).orElse(null);
+        if (n != null) {
+            n.markDelivered();
+        } else if (archiveRepo.findByUuidAndUser(notificationUuid, user).isEmpty()) {
+            throw new AppException(ErrorCode.NOT_FOUND, "[NotificationService - 005] notification");
+        }
 
         return SimpleOkResponseDto.builder()
                 .success(true)
@@ -176,10 +244,13 @@ public class NotificationServiceImpl implements NotificationService {
         final User user = userRepo.findById(userId)
                 .orElseThrow(() -> new AppException(ErrorCode.NOT_FOUND, "[NotificationService - 006]"));
 
-        final Notification n = repo.findByUuidAndUser(notificationUuid, user)
-                .orElseThrow(() -> new AppException(ErrorCode.NOT_FOUND, "[NotificationService - 006]"));
-
-        n.markRead();
+        // archive 로 옮겨진 알림은 이미 읽음 상태
+        final Notification n = repo.findByUuidAndUser(notificationUuid, user).orElse(null);
+        if (n != null) {
+            n.markRead();
+        } else if (archiveRepo.findByUuidAndUser(notificationUuid, user).isEmpty()) {
+            throw new AppException(ErrorCode.NOT_FOUND, "[NotificationService - 006]");
+        }
 
         return SimpleOkResponseDto.builder()
                 .success(true)
@@ -206,11 +277,19 @@ public class NotificationServiceImpl implements NotificationService {
         final User user = userRepo.findById(userId)
                 .orElseThrow(() -> new AppException(ErrorCode.NOT_FOUND, "[NotificationService - 008]"));
 
-        final Notification n = repo.findByUuidAndUser(notificationUuid, user)
-                .orElseThrow(() -> new AppException(ErrorCode.NOT_FOUND, "[NotificationService - 008]"));
-
-        final NotificationDto snapshot = toDto(n);
-        repo.delete(n);
+        final Notification n = repo.findByUuidAndUser(notificationUuid, user).orElse(null);
+
+        final NotificationDto snapshot;
+        if (n != null) {
+            snapshot = toDto(n);
+            repo.delete(n);
+        } else {
+            // hot 에 없으면 archive 에서 삭제
+            final NotificationArchive archived = archiveRepo.findByUuidAndUser(notificationUuid, user)
+                    .orElseThrow(() -> new AppException(ErrorCode.NOT_FOUND, "[NotificationService - 008]"));
+            snapshot = toDto(archived);
+            archiveRepo.delete(archived);
+        }
 
         return DeleteNotificationResponseDto.builder()
                 .success(true)
@@ -219,6 +298,42 @@ public class NotificationServiceImpl implements NotificationService {
                 .build();
     }
 
+    /** 요약 알림 상세: 묶여서 발송된 원본 이벤트 목록 */
+    @Override
+    @Transactional(readOnly = true)
+    public GetNotificationEventListResponseDto getEvents(final long userId, final String notificationUuid) {
+        final User user = userRepo.findById(userId)
+                .orElseThrow(() -> new AppException(ErrorCode.NOT_FOUND, "[NotificationService - 009]"));
+
+        final Notification n = repo.findByUuidAndUser(notificationUuid, user).orElse(null);
+        if (n == null) {
+            // archive 로 옮겨진 알림은 원본 이벤트가 정리된 상태 → 알림만 반환
+            final NotificationArchive archived = archiveRepo.findByUuidAndUser(notificationUuid, user)
+                    .orElseThrow(() -> new AppException(ErrorCode.NOT_FOUND, "[NotificationService - 009]"));
+            return GetNotificationEventListResponseDto.builder()
+                    .success(true)
+                    .message("[NotificationService - 009] 알림 상세(원본 이벤트) 조회 성공")
+                    .data(GetNotificationEventListResponseDto.Data.builder()
+                            .notification(toDto(archived))
+                            .events(List.of())
+                            .build())
+                    .build();
+        }
+
+        final List<NotificationEventDto> events = eventRepo.findByNotificationOrderByIdAsc(n).stream()
+                .map(e -> NotificationEventDto.from(e, e.getTxId() == null ? null : txRepo.findUuidById(e.getTxId()).orElse(null)))
+                .toList();
+
+        return GetNotificationEventListResponseDto.builder()
+                .success(true)
+                .message("[NotificationService - 009] 알림 상세(원본 이벤트) 조회 성공")
+                .data(GetNotificationEventListResponseDto.Data.builder()
+                        .notification(toDto(n))
+                        .events(events)
+                        .build())
+                .build();
+    }
+
     /** 미분류 전용 알림 생성: 저장은 tx_id, 응답은 transactionUuid */
     @Override
     public CreateNotificationResponseDto notifyUncategorized(final NotifyUncategorizedRequestDto req) {
@@ -229,20 +344,6 @@ public class NotificationServiceImpl implements NotificationService {
         Long txId = null;
         if (req.getTransactionUuid() != null && !req.getTransactionUuid().isBlank()) {
             txId = txRepo.findIdByUuid(req.getTransactionUuid()).orElse(null);
-
-            // 1-1) tx_id가 있고, 같은 유저/타입/tx_id로 이미 알림 있으면 그대로 반환
-            if (txId != null) {
-                var existed = repo.findFirstByUserAndTypeAndTxId(user, Notification.Type.UNCATEGORIZED, txId);
-                if (existed.isPresent()) {
-                    return CreateNotificationResponseDto.builder()
-                            .success(true)
-                            .message("[NotificationService - U01] 이미 존재하는 미분류 알림 반환")
-                            .data(CreateNotificationResponseDto.Data.builder()
-                                    .notification(toDto(existed.get()))
-                                    .build())
-                            .build();
-                }
-            }
         }
 
         // 2) 제목/본문 템플릿
@@ -267,7 +368,27 @@ public class NotificationServiceImpl implements NotificationService {
                 .txId(txId)
                 .build();
 
-        n = repo.save(n);
+        // tx_id 가 있으면 (user, type, tx_id) UNIQUE 키로 멱등 저장 → 이미 있으면 기존 알림 반환 (사전 조회 없음)
+        if (txId != null) {
+            writer.insertIfAbsent(List.of(n));
+            final Notification created = repo.findByUuidAndUser(n.getUuid(), user).orElse(null); // draft uuid 로 찾히면 새로 저장된 것
+            final boolean inserted = created != null;
+            n = inserted
+                    ? created
+                    : repo.findFirstByUserAndTypeAndTxId(user, Notification.Type.UNCATEGORIZED, txId).orElseThrow(() -> new AppException(ErrorCode.NOT_FOUND, "[NotificationService - U01]"));
+
+            if (!inserted) {
+                return CreateNotificationResponseDto.builder()
+                        .success(true)
+                        .message("[NotificationService - U01] 이미 존재하는 미분류 알림 반환")
+                        .data(CreateNotificationResponseDto.Data.builder()
+                                .notification(toDto(n))
+                                .build())
+                        .build();
+            }
+        } else {
+            n = repo.save(n);
+        }
 
         // 4) 응답: DTO에는 transactionUuid (id→uuid 역변환)
         return CreateNotificationResponseDto.builder()
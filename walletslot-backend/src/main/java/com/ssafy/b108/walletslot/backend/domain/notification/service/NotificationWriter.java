@@ -0,0 +1,77 @@
+package com.ssafy.b108.walletslot.backend.domain.notification.service;
+
+import com.ssafy.b108.walletslot.backend.common.converter.UuidBinaryConverter;
+import com.ssafy.b108.walletslot.backend.domain.notification.entity.Notification;
+import com.ssafy.b108.walletslot.backend.domain.notification.entity.NotificationEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 거래 기반 알림을 멱등하게 저장하는 writer 입니다.
+ * notification 은 (user_id, type, tx_id), notification_event 는 (user_id, type, source_key) UNIQUE 키로 중복을 막습니다.
+ * source_key 는 은행 거래고유번호 기준(계좌 id + transactionUniqueNo)이라, 동기화를 재시도해서 transaction 행이 새로 생겨도 같은 키가 됩니다.
+ * INSERT ... ON DUPLICATE KEY UPDATE id = id 로 중복 키만 무시하고, FK / NOT NULL / 길이 초과 같은 다른 오류는 그대로 던집니다.
+ * 미리 조회(read-then-insert)하지 않기 때문에 건수만큼의 SELECT도 필요 없습니다.
+ * (JPA 영속성 컨텍스트를 거치지 않으므로, 저장 후 엔티티가 필요하면 다시 조회해야 합니다.
+ *  중복이라 무시됐는지는 드라이버의 영향 행 수로 구분되지 않으므로, 새로 만든 uuid 로 조회해서 판단합니다.)
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationWriter {
+
+    // Field
+    private static final String INSERT_NOTIFICATION = """
+            INSERT INTO notification (uuid, user_id, title, body, is_read, is_delivered, type, tx_id)
+            VALUES (?, ?, ?, ?, FALSE, FALSE, ?, ?)
+            ON DUPLICATE KEY UPDATE id = id
+            """;
+
+    private static final String INSERT_EVENT = """
+            INSERT INTO notification_event (user_id, type, title, body, label, tx_id, source_key, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE id = id
+            """;
+
+    // notification.uuid 는 BINARY(16)
+    private static final UuidBinaryConverter UUID_CONVERTER = new UuidBinaryConverter();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // Method
+    /** 알림 배치 저장. 이미 있는 (user, type, tx_id)는 무시합니다. (저장됐는지는 draft 의 uuid 로 조회) */
+    public void insertIfAbsent(List<Notification> drafts) {
+        if (drafts.isEmpty()) return;
+
+        jdbcTemplate.batchUpdate(INSERT_NOTIFICATION, drafts, drafts.size(), (ps, n) -> {
+            ps.setBytes(1, UUID_CONVERTER.convertToDatabaseColumn(n.getUuid()));
+            ps.setLong(2, n.getUser().getId());
+            ps.setString(3, n.getTitle());
+            ps.setString(4, n.getBody());
+            ps.setString(5, n.getType().name());
+            if (n.getTxId() != null) ps.setLong(6, n.getTxId()); else ps.setNull(6, Types.BIGINT);
+        });
+    }
+
+    /** 원본 이벤트 배치 저장. 같은 은행 거래(source_key)로 이미 쌓인 이벤트는 무시합니다. */
+    public void insertEventsIfAbsent(List<NotificationEvent> events) {
+        if (events.isEmpty()) return;
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_EVENT, events, events.size(), (ps, e) -> {
+            ps.setLong(1, e.getUser().getId());
+            ps.setString(2, e.getType().name());
+            ps.setString(3, e.getTitle());
+            ps.setString(4, e.getBody());
+            ps.setString(5, e.getLabel());
+            if (e.getTxId() != null) ps.setLong(6, e.getTxId()); else ps.setNull(6, Types.BIGINT);
+            ps.setString(7, e.getSourceKey());
+            ps.setTimestamp(8, now);
+        });
+    }
+}
@@ -0,0 +1,78 @@
+package com.ssafy.b108.walletslot.backend.domain.slot.batch;
+
+import com.ssafy.b108.walletslot.backend.domain.slot.service.ProfileSlotRecommender;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SlotProfileStatScheduler {
+
+    // Field
+    private static final String LOCK_NAME = "walletslot.slot_profile_stat.rebuild";
+
+    private final ProfileSlotRecommender profileSlotRecommender;
+    private final JdbcTemplate jdbcTemplate;
+
+    // 이 시간 안에 이미 rebuild 됐으면 건너뜀 (락을 늦게 잡은 인스턴스가 같은 밤에 또 돌리지 않도록)
+    @Value("${scheduling.slot-profile-stat.min-interval-minutes:60}")
+    private long minIntervalMinutes;
+
+    // Method
+    // 통계 기반 추천기의 프로필 칸별 통계를 매일 밤 다시 계산
+    // 모든 인스턴스에서 같은 시각에 돌므로 MySQL 네임드 락(GET_LOCK)을 잡은 한 대만 rebuild, 나머지는 reloadIfChanged 로 따라감
+    @Scheduled(cron = "${scheduling.slot-profile-stat.cron:0 40 3 * * *}", zone = "${scheduling.zone:Asia/Seoul}")
+    public void run() {
+        try {
+            // GET_LOCK 은 커넥션(세션) 단위라 잡고 푸는 것을 같은 커넥션에서 해야 함
+            Boolean ran = jdbcTemplate.execute((ConnectionCallback<Boolean>) con -> {
+                if (!tryLock(con)) return false;
+                try {
+                    LocalDateTime last = profileSlotRecommender.lastComputedAt();
+                    if (last != null && last.isAfter(LocalDateTime.now().minusMinutes(minIntervalMinutes))) {
+                        log.info("[SLOT][BASELINE][SCHED] already rebuilt at {}, skip", last);
+                        return false;
+                    }
+                    int rows = profileSlotRecommender.rebuild();
+                    log.info("[SLOT][BASELINE][SCHED] rebuild done rows={}", rows);
+                    return true;
+                } finally {
+                    unlock(con);
+                }
+            });
+            if (!Boolean.TRUE.equals(ran)) {
+                log.info("[SLOT][BASELINE][SCHED] rebuild skipped on this instance");
+            }
+        } catch (Exception e) {
+            log.error("[SLOT][BASELINE][SCHED] rebuild failed: {}", e.toString());
+        }
+    }
+
+    private static boolean tryLock(Connection con) throws SQLException {
+        try (PreparedStatement ps = con.prepareStatement("SELECT GET_LOCK(?, 0)")) {
+            ps.setString(1, LOCK_NAME);
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next() && rs.getInt(1) == 1;
+            }
+        }
+    }
+
+    private static void unlock(Connection con) throws SQLException {
+        try (PreparedStatement ps = con.prepareStatement("SELECT RELEASE_LOCK(?)")) {
+            ps.setString(1, LOCK_NAME);
+            ps.executeQuery().close();
+        }
+    }
+}
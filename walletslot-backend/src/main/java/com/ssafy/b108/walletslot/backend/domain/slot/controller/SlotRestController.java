@@ -2,6 +2,7 @@ package com.ssafy.b108.walletslot.backend.domain.slot.controller;
 
 import com.ssafy.b108.walletslot.backend.config.security.UserPrincipal;
 import com.ssafy.b108.walletslot.backend.domain.slot.dto.*;
+import com.ssafy.b108.walletslot.backend.domain.slot.service.SlotRecommendJobService;
 import com.ssafy.b108.walletslot.backend.domain.slot.service.SlotService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -27,6 +28,7 @@ public class SlotRestController {
 
     // Field
     private final SlotService slotService;
+    private final SlotRecommendJobService slotRecommendJobService;
 
     // Method
     @GetMapping("/slots")
@@ -157,6 +159,54 @@ public class SlotRestController {
         return ResponseEntity.status(HttpStatus.OK).body(slotService.recommendSlotsByProfile(principal.userId(), accountId, request));
     }
 
+    @PostMapping("/accounts/{accountId}/slots/recommend/jobs")
+    @Operation(
+            summary = "5-2-3 거래내역 기반 슬롯 추천 작업 등록",
+            description = "5-2-1 추천을 비동기 작업으로 등록하고 jobId를 바로 응답합니다. 같은 계좌/기간의 작업이 진행 중이면 그 작업의 jobId를 돌려줍니다(attached=true). 결과는 5-2-5로 조회하거나 완료 푸시를 받은 뒤 조회하시면 됩니다.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "202",
+                            description = "[SlotRecommendJobService - 001] 슬롯 추천 작업 등록 성공",
+                            content = @Content(schema = @Schema(implementation = SlotRecommendJobResponseDto.class))
+                    )
+            }
+    )
+    public ResponseEntity<SlotRecommendJobResponseDto> submitRecommendJob(@AuthenticationPrincipal UserPrincipal principal, @PathVariable String accountId, @RequestBody RecommendSlotsRequestDto request) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(slotRecommendJobService.submitRecommend(principal.userId(), accountId, request.getStartDate(), request.getEndDate()));
+    }
+
+    @PostMapping("/accounts/{accountId}/slots/recommend/by-profile/jobs")
+    @Operation(
+            summary = "5-2-4 사용자 정보 기반 슬롯 추천 작업 등록",
+            description = "5-2-2 추천을 비동기 작업으로 등록하고 jobId를 바로 응답합니다. 같은 계좌/조건의 작업이 진행 중이면 그 작업의 jobId를 돌려줍니다(attached=true).",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "202",
+                            description = "[SlotRecommendJobService - 001] 슬롯 추천 작업 등록 성공",
+                            content = @Content(schema = @Schema(implementation = SlotRecommendJobResponseDto.class))
+                    )
+            }
+    )
+    public ResponseEntity<SlotRecommendJobResponseDto> submitRecommendByProfileJob(@AuthenticationPrincipal UserPrincipal principal, @PathVariable String accountId, @RequestBody RecommendSlotsByProfileRequestDto request) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(slotRecommendJobService.submitRecommendByProfile(principal.userId(), accountId, request));
+    }
+
+    @GetMapping("/accounts/{accountId}/slots/recommend/jobs/{jobId}")
+    @Operation(
+            summary = "5-2-5 슬롯 추천 작업 조회",
+            description = "슬롯 추천 작업의 상태(PENDING / RUNNING / DONE / FAILED)를 조회합니다. DONE이면 result에 추천 결과가 담겨 있습니다. 완료된 작업은 일정 시간(기본 30분) 뒤 정리됩니다.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "[SlotRecommendJobService - 005] 슬롯 추천 작업 조회 성공",
+                            content = @Content(schema = @Schema(implementation = SlotRecommendJobResponseDto.class))
+                    )
+            }
+    )
+    public ResponseEntity<SlotRecommendJobResponseDto> getRecommendJob(@AuthenticationPrincipal UserPrincipal principal, @PathVariable String accountId, @PathVariable String jobId) {
+        return ResponseEntity.status(HttpStatus.OK).body(slotRecommendJobService.getJob(principal.userId(), accountId, jobId));
+    }
+
     @PatchMapping("/accounts/{accountId}/slots/reassign")
     @Operation(
             summary = "5-3-1 슬롯편성",
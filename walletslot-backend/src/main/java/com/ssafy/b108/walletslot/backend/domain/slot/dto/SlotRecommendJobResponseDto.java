@@ -0,0 +1,45 @@
+package com.ssafy.b108.walletslot.backend.domain.slot.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(name = "SlotRecommendJobResponseDto")
+public class SlotRecommendJobResponseDto {
+
+    // Field
+    private boolean success;
+    private String message;
+    private Data data;
+
+    // Nested Class
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @Schema(name = "SlotRecommendJobResponseDto_Data")
+    public static class Data {
+
+        // Field
+        private String jobId;
+        private String kind;        // TRANSACTION | PROFILE
+        private String status;      // PENDING | RUNNING | DONE | FAILED
+        private Boolean attached;   // 이미 진행 중인 같은 요청에 합류했으면 true
+        private LocalDateTime createdAt;
+        private LocalDateTime finishedAt;
+
+        @Schema(description = "status 가 DONE 일 때만 채워짐. kind 에 따라 RecommendSlotListResponseDto_Data / RecommendSlotsByProfileResponseDto_Data 형태")
+        private Object result;
+
+        @Schema(description = "status 가 FAILED 일 때의 실패 사유")
+        private String error;
+    }
+}
@@ -1,7 +1,9 @@
 package com.ssafy.b108.walletslot.backend.domain.slot.entity;
 
+import com.ssafy.b108.walletslot.backend.common.converter.UuidBinaryConverter;
 import com.ssafy.b108.walletslot.backend.domain.account.entity.Account;
 import jakarta.persistence.*;
+import org.hibernate.annotations.DynamicUpdate;
 import lombok.*;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -9,6 +11,7 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "account_slot")
+@DynamicUpdate // 바뀐 컬럼만 UPDATE (SQL 로 직접 증감하는 컬럼을 엔티티 값으로 덮어쓰지 않도록)
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -20,7 +23,8 @@ public class AccountSlot {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(nullable = false, unique = true, length = 64)
+    @Column(nullable = false, unique = true, columnDefinition = "BINARY(16)")
+    @Convert(converter = UuidBinaryConverter.class)
     @Builder.Default
     private String uuid = UUID.randomUUID().toString();
 
@@ -38,7 +42,8 @@ public class AccountSlot {
     @Column(nullable = false)
     private Long currentBudget;
 
-    @Column(nullable = false)
+    // 지출금액은 SlotSpendCounter 의 원자적 UPDATE(spent = spent + ?)로만 바꿈 → 엔티티 flush 로는 덮어쓰지 않음
+    @Column(nullable = false, updatable = false)
     @Builder.Default
     private Long spent = 0L;
 
@@ -87,13 +92,17 @@ public class AccountSlot {
         this.budgetChangeCount++;
     }
 
-    public void updateSpent(Long spent) { this.spent = spent; }
-
-    public void increaseSpent(Long spent) {
-        this.spent += spent;
+    // DB 에 원자적으로 반영된 지출금액 / 예산초과 여부를 메모리에도 맞춰둘 때만 사용
+    public void syncSpent(Long spent, boolean isBudgetExceeded) {
+        this.spent = spent;
+        this.isBudgetExceeded = isBudgetExceeded;
     }
 
-    public void decreaseSpent(Long spent) { this.spent -= spent; }
+    // DB 에서 바꾼 예산 / 예산초과 여부를 메모리에도 맞춰둘 때만 사용
+    public void syncBudget(Long currentBudget, boolean isBudgetExceeded) {
+        this.currentBudget = currentBudget;
+        this.isBudgetExceeded = isBudgetExceeded;
+    }
 
     public void updateIsBudgetExceeded(boolean isBudgetExceeded) {
         this.isBudgetExceeded = isBudgetExceeded;
@@ -1,5 +1,6 @@
 package com.ssafy.b108.walletslot.backend.domain.slot.entity;
 
+import com.ssafy.b108.walletslot.backend.common.converter.UuidBinaryConverter;
 import com.ssafy.b108.walletslot.backend.domain.account.entity.Account;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
@@ -19,11 +20,15 @@ import java.util.UUID;
 public class SlotHistory {
 
     // Field
+    // id 는 id_sequence 에서 블록 단위로 할당 (Transaction 참고)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "slot_history_id")
+    @TableGenerator(name = "slot_history_id", table = "id_sequence", pkColumnName = "name", valueColumnName = "next_val",
+            pkColumnValue = "slot_history", allocationSize = 100)
     private Long id;
 
-    @Column(nullable = false, unique = true, length = 64)
+    @Column(nullable = false, unique = true, columnDefinition = "BINARY(16)")
+    @Convert(converter = UuidBinaryConverter.class)
     @Builder.Default
     private String uuid = UUID.randomUUID().toString();
 
@@ -0,0 +1,59 @@
+package com.ssafy.b108.walletslot.backend.domain.slot.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 프로필(연령대, 성별, 직업) 칸별 슬롯 예산 통계 입니다. 매일 밤 account_slot 전체로 다시 계산됩니다.
+ * 각 차원은 "*" 로 전체를 뜻할 수 있어서, 한 계좌는 2^3 = 8개 칸(세부 → 전체)에 모두 집계됩니다.
+ */
+@Entity
+@Table(
+        name = "slot_profile_stat",
+        uniqueConstraints = @UniqueConstraint(name = "uq_slot_profile_stat", columnNames = {"age_band", "gender", "job", "slot_id"})
+)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SlotProfileStat {
+
+    // Field
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "age_band", length = 8, nullable = false)
+    private String ageBand;
+
+    @Column(length = 10, nullable = false)
+    private String gender;
+
+    @Column(length = 20, nullable = false)
+    private String job;
+
+    @Column(name = "slot_id", nullable = false)
+    private Long slotId;
+
+    @Column(name = "account_count", nullable = false)
+    private Integer accountCount;
+
+    @Column(name = "avg_total_budget", nullable = false)
+    private Long avgTotalBudget;
+
+    @Column(name = "slot_account_count", nullable = false)
+    private Integer slotAccountCount;
+
+    @Column(name = "avg_budget", nullable = false)
+    private Long avgBudget;
+
+    @Column(name = "avg_share", nullable = false)
+    private Double avgShare;
+
+    @Column(name = "computed_at", nullable = false)
+    private LocalDateTime computedAt;
+}
@@ -0,0 +1,98 @@
+package com.ssafy.b108.walletslot.backend.domain.slot.entity;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.ssafy.b108.walletslot.backend.common.converter.UuidBinaryConverter;
+import io.hypersistence.utils.hibernate.type.json.JsonType;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Type;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 슬롯 추천 비동기 작업(SlotRecommendJobService) 입니다.
+ * 작업 상태/결과를 DB 에 두어서 작업을 받은 서버가 아닌 다른 서버로 폴링이 가도 조회되고, 재배포 후에도 결과가 남습니다.
+ * active_key 는 진행 중(PENDING/RUNNING)일 때만 중복 판별 키를 담고 끝나면 NULL 로 비워서,
+ * 유니크 키 하나로 "같은 조건의 진행 중 작업은 서버 전체에서 1개"를 보장합니다.
+ */
+@Entity
+@Table(
+        name = "slot_recommend_job",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uq_slot_recommend_job_uuid", columnNames = "uuid"),
+                @UniqueConstraint(name = "uq_slot_recommend_job_active_key", columnNames = "active_key")
+        },
+        indexes = {
+                @Index(name = "idx_slot_recommend_job_status_created", columnList = "status, created_at"),
+                @Index(name = "idx_slot_recommend_job_finished", columnList = "finished_at")
+        }
+)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SlotRecommendJob {
+
+    public enum Kind { TRANSACTION, PROFILE }
+
+    public enum Status { PENDING, RUNNING, DONE, FAILED }
+
+    // Field
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, columnDefinition = "BINARY(16)")
+    @Convert(converter = UuidBinaryConverter.class)
+    @Builder.Default
+    private String uuid = UUID.randomUUID().toString();
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Kind kind;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "account_id", nullable = false)
+    private Long accountId;
+
+    @Column(name = "active_key", length = 255)
+    private String activeKey;
+
+    // 작업을 실행 중인 서버 (로그 추적용)
+    @Column(length = 64, nullable = false)
+    private String owner;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    @Builder.Default
+    private Status status = Status.PENDING;
+
+    @Type(JsonType.class)
+    @Column(columnDefinition = "json")
+    private JsonNode result;
+
+    @Column(length = 255)
+    private String error;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    @Builder.Default
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    // Method
+    public void markRunning() {
+        this.status = Status.RUNNING;
+    }
+
+    public void finish(Status status, JsonNode result, String error) {
+        this.status = status;
+        this.result = result;
+        this.error = error;
+        this.activeKey = null;
+        this.finishedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,51 @@
+package com.ssafy.b108.walletslot.backend.domain.slot.entity;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.hypersistence.utils.hibernate.type.json.JsonType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.Type;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 정보 기반 추천(5-2-2)에서 GPT가 낸 추천 결과 표본 입니다.
+ * 통계 기반 추천기의 결과를 과거 GPT 추천과 비교하는 오프라인 평가에 씁니다.
+ */
+@Entity
+@Table(name = "slot_recommend_sample")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SlotRecommendSample {
+
+    // Field
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "age_band", length = 8, nullable = false)
+    private String ageBand;
+
+    @Column(length = 10, nullable = false)
+    private String gender;
+
+    @Column(length = 20, nullable = false)
+    private String job;
+
+    private Long income;
+
+    private Long balance;
+
+    @Type(JsonType.class)
+    @Column(columnDefinition = "json", nullable = false)
+    private JsonNode recommended;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
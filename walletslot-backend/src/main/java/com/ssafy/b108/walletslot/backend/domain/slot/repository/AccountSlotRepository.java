@@ -3,8 +3,14 @@ package com.ssafy.b108.walletslot.backend.domain.slot.repository;
 import com.ssafy.b108.walletslot.backend.domain.account.entity.Account;
 import com.ssafy.b108.walletslot.backend.domain.slot.entity.AccountSlot;
 import com.ssafy.b108.walletslot.backend.domain.slot.entity.Slot;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
@@ -24,4 +30,90 @@ public interface AccountSlotRepository extends JpaRepository<AccountSlot, Long>
 
     @Query("SELECT s FROM AccountSlot s WHERE s.account.uuid=:accountUuid AND s.slot.id=0 ")
     Optional<AccountSlot> findUncategorizedAccountSlot(String accountUuid);
+
+    /** 5-1-4 슬롯 리스트 화면 (slot 까지 한 번에) */
+    @Query("SELECT s FROM AccountSlot s JOIN FETCH s.slot WHERE s.account.id = :accountId")
+    List<AccountSlot> findByAccountIdWithSlot(@Param("accountId") Long accountId);
+
+    /** 5-1-5 슬롯 히스토리 화면 (slot, 히스토리까지 한 번에, 이 계좌의 슬롯만) */
+    @Query("""
+        SELECT s FROM AccountSlot s
+        JOIN FETCH s.slot
+        LEFT JOIN FETCH s.slotHistoryList h
+        WHERE s.uuid = :accountSlotUuid AND s.account.id = :accountId
+        ORDER BY h.id
+        """)
+    Optional<AccountSlot> findWithSlotAndHistory(@Param("accountId") Long accountId, @Param("accountSlotUuid") String accountSlotUuid);
+
+    @Query("SELECT s.id FROM AccountSlot s WHERE s.account.id = :accountId AND s.uuid = :accountSlotUuid")
+    Optional<Long> findIdByAccountIdAndUuid(@Param("accountId") Long accountId, @Param("accountSlotUuid") String accountSlotUuid);
+
+    boolean existsByUuid(String uuid);
+
+    @Query("SELECT s.id FROM AccountSlot s WHERE s.account.id = :accountId AND s.slot.id = 0")
+    Optional<Long> findUncategorizedAccountSlotId(@Param("accountId") Long accountId);
+
+    /** 슬롯 삭제 시 예산과 지출 합계를 다른 슬롯(미분류)에 더하기 (엔티티를 읽지 않고 한 번에) */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "account_slot"))
+    @Query(value = """
+        UPDATE account_slot t
+        JOIN account_slot f ON f.id = :fromAccountSlotId
+        SET t.current_budget = t.current_budget + f.current_budget,
+            t.spent          = t.spent + f.spent
+        WHERE t.id = :toAccountSlotId
+        """, nativeQuery = true)
+    int absorbBudgetAndSpent(@Param("fromAccountSlotId") Long fromAccountSlotId,
+                             @Param("toAccountSlotId") Long toAccountSlotId);
+
+    /**
+     * 예산초과 여부를 현재 spent / current_budget 으로 다시 계산
+     * (다중 테이블 UPDATE 는 SET 적용 순서가 보장되지 않아서 absorbBudgetAndSpent 안에서 같이 계산하지 않음)
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "account_slot"))
+    @Query(value = "UPDATE account_slot SET is_budget_exceeded = (spent > current_budget) WHERE id = :accountSlotId", nativeQuery = true)
+    int refreshBudgetExceeded(@Param("accountSlotId") Long accountSlotId);
+
+    /**
+     * 지출금액 원자적 증감 (delta 가 음수면 차감) + 예산초과 여부 재계산
+     * MySQL 단일 테이블 UPDATE 는 SET 을 왼쪽부터 적용해서 두 번째 식의 spent 는 증감 후 값 입니다.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "account_slot"))
+    @Query(value = """
+        UPDATE account_slot
+        SET spent              = spent + :delta,
+            is_budget_exceeded = (spent > current_budget)
+        WHERE id = :accountSlotId
+        """, nativeQuery = true)
+    int addSpent(@Param("accountSlotId") Long accountSlotId, @Param("delta") long delta);
+
+    /**
+     * 예산 변경 + 예산초과 여부 재계산을 한 문장으로 (메모리의 spent 가 아니라 DB 의 spent 기준)
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "account_slot"))
+    @Query(value = """
+        UPDATE account_slot
+        SET current_budget     = :newBudget,
+            is_budget_exceeded = (spent > :newBudget)
+        WHERE id = :accountSlotId
+        """, nativeQuery = true)
+    int updateBudget(@Param("accountSlotId") Long accountSlotId, @Param("newBudget") long newBudget);
+
+    /** 예산 변경 전 값 (행 잠금을 잡아서 변경 전후 사이에 다른 트랜잭션의 지출 반영이 끼지 않게 함) */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s.spent AS spent, s.currentBudget AS currentBudget, s.isBudgetExceeded AS budgetExceeded FROM AccountSlot s WHERE s.id = :accountSlotId")
+    Optional<SpendState> lockSpendState(@Param("accountSlotId") Long accountSlotId);
+
+    /** addSpent 직후 반영된 값 (같은 트랜잭션이 행 잠금을 잡고 있어서 다른 트랜잭션 값이 섞이지 않음) */
+    @Query("SELECT s.spent AS spent, s.currentBudget AS currentBudget, s.isBudgetExceeded AS budgetExceeded FROM AccountSlot s WHERE s.id = :accountSlotId")
+    Optional<SpendState> findSpendState(@Param("accountSlotId") Long accountSlotId);
+
+    interface SpendState {
+        Long getSpent();
+        Long getCurrentBudget();
+        Boolean getBudgetExceeded();
+    }
 }
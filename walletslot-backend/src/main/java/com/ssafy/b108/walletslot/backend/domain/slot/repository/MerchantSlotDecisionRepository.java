@@ -2,7 +2,25 @@ package com.ssafy.b108.walletslot.backend.domain.slot.repository;
 
 import com.ssafy.b108.walletslot.backend.domain.slot.entity.MerchantSlotDecision;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface MerchantSlotDecisionRepository extends JpaRepository<MerchantSlotDecision, String> {
     MerchantSlotDecision findByMerchantName(String transactionSummary);
+
+    /** 거래처 이름 목록 → 결정된 슬롯 이름 (슬롯이 지워졌으면 저장된 slotName 사용), 한 번의 쿼리로 조회 */
+    @Query("""
+            select d.merchantName as merchantName, coalesce(s.name, d.slotName) as slotName
+            from MerchantSlotDecision d left join d.slot s
+            where d.merchantName in :merchantNames
+            """)
+    List<MerchantSlotName> findSlotNamesByMerchantNames(@Param("merchantNames") Collection<String> merchantNames);
+
+    interface MerchantSlotName {
+        String getMerchantName();
+        String getSlotName();
+    }
 }
@@ -0,0 +1,14 @@
+package com.ssafy.b108.walletslot.backend.domain.slot.repository;
+
+import com.ssafy.b108.walletslot.backend.domain.slot.entity.SlotProfileStat;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+
+public interface SlotProfileStatRepository extends JpaRepository<SlotProfileStat, Long> {
+
+    // 마지막 rebuild 시각 (통계가 없으면 null)
+    @Query("select max(s.computedAt) from SlotProfileStat s")
+    LocalDateTime findLastComputedAt();
+}
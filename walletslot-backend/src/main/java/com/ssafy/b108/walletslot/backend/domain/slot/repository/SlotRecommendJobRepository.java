@@ -0,0 +1,58 @@
+package com.ssafy.b108.walletslot.backend.domain.slot.repository;
+
+import com.ssafy.b108.walletslot.backend.domain.slot.entity.SlotRecommendJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface SlotRecommendJobRepository extends JpaRepository<SlotRecommendJob, Long> {
+
+    Optional<SlotRecommendJob> findByUuid(String uuid);
+
+    // 같은 조건으로 진행 중인 작업 (끝난 작업은 active_key 가 NULL)
+    Optional<SlotRecommendJob> findByActiveKey(String activeKey);
+
+    // 실행하던 서버가 죽어서 PENDING/RUNNING 으로 남은 작업을 실패로 정리 (active_key 를 비워야 같은 조건으로 다시 요청 가능)
+    @Transactional
+    @Modifying
+    @Query("""
+           update SlotRecommendJob j
+              set j.status = com.ssafy.b108.walletslot.backend.domain.slot.entity.SlotRecommendJob.Status.FAILED,
+                  j.error = :error,
+                  j.activeKey = null,
+                  j.finishedAt = :now
+            where j.status in (com.ssafy.b108.walletslot.backend.domain.slot.entity.SlotRecommendJob.Status.PENDING,
+                               com.ssafy.b108.walletslot.backend.domain.slot.entity.SlotRecommendJob.Status.RUNNING)
+              and j.createdAt < :staleBefore
+           """)
+    int failStale(@Param("staleBefore") LocalDateTime staleBefore,
+                  @Param("error") String error,
+                  @Param("now") LocalDateTime now);
+
+    // 종료하는 서버가 아직 끝내지 못한 작업을 실패로 정리
+    @Transactional
+    @Modifying
+    @Query("""
+           update SlotRecommendJob j
+              set j.status = com.ssafy.b108.walletslot.backend.domain.slot.entity.SlotRecommendJob.Status.FAILED,
+                  j.error = :error,
+                  j.activeKey = null,
+                  j.finishedAt = :now
+            where j.status in (com.ssafy.b108.walletslot.backend.domain.slot.entity.SlotRecommendJob.Status.PENDING,
+                               com.ssafy.b108.walletslot.backend.domain.slot.entity.SlotRecommendJob.Status.RUNNING)
+              and j.owner = :owner
+           """)
+    int failOwnedBy(@Param("owner") String owner,
+                    @Param("error") String error,
+                    @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("delete from SlotRecommendJob j where j.finishedAt < :threshold")
+    int deleteFinishedBefore(@Param("threshold") LocalDateTime threshold);
+}
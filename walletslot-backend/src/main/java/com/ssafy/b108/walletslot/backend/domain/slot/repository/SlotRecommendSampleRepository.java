@@ -0,0 +1,11 @@
+package com.ssafy.b108.walletslot.backend.domain.slot.repository;
+
+import com.ssafy.b108.walletslot.backend.domain.slot.entity.SlotRecommendSample;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface SlotRecommendSampleRepository extends JpaRepository<SlotRecommendSample, Long> {
+    List<SlotRecommendSample> findAllByOrderByIdDesc(Pageable pageable);
+}
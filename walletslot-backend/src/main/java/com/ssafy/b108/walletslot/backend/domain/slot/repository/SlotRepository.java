@@ -3,6 +3,7 @@ package com.ssafy.b108.walletslot.backend.domain.slot.repository;
 import com.ssafy.b108.walletslot.backend.domain.account.entity.Account;
 import com.ssafy.b108.walletslot.backend.domain.slot.entity.Slot;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -10,8 +11,21 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
+// 조회는 SlotCatalog(메모리)를 쓰고, 이 레포지토리는 카탈로그 적재와 rank 갱신용
 public interface SlotRepository extends JpaRepository<Slot, Long> {
     Optional<Slot> findByUuid(String uuid);
     Slot findByName(String name); // 이거는 못찾아도 에러 발생시키면 안돼서 그냥 Slot 객체 반환하도록 작성
     List<Slot> findByIdNot(Long id);
+
+    // 엔티티를 읽지 않고 rank 만 갱신 (카탈로그 스냅샷의 rank 는 주기적 재적재 때 따라옴)
+    @Modifying
+    @Query("UPDATE Slot s SET s.rank = s.rank + 1 WHERE s.id = :id")
+    int increaseRank(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE Slot s SET s.rank = s.rank - 1 WHERE s.id = :id")
+    int decreaseRank(@Param("id") Long id);
+
+    @Query(value = "SELECT version FROM catalog_version WHERE name = 'slot'", nativeQuery = true)
+    Optional<Long> findCatalogVersion();
 }
@@ -0,0 +1,118 @@
+package com.ssafy.b108.walletslot.backend.domain.slot.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.ssafy.b108.walletslot.backend.domain.slot.entity.SlotRecommendSample;
+import com.ssafy.b108.walletslot.backend.domain.slot.repository.SlotRecommendSampleRepository;
+import com.ssafy.b108.walletslot.backend.domain.slot.support.ProfileKey;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.*;
+
+/**
+ * 통계 기반 추천기(ProfileSlotRecommender)를 과거 GPT 추천 표본(slot_recommend_sample)과 비교하는 오프라인 평가 입니다.
+ * 표본마다 같은 프로필/수입/잔액으로 통계 추천을 다시 돌려서
+ * - 슬롯 구성: 자카드 유사도, 정밀도(통계 추천 중 GPT도 고른 비율), 재현율(GPT 추천 중 통계도 고른 비율)
+ * - 예산 배분: 두 추천의 슬롯별 예산 비중 차이 (total variation distance, 0 = 같음, 1 = 완전히 다름)
+ * 를 평균냅니다. slot.recommend.baseline.evaluate-on-startup=true 로 띄우면 기동 후 한 번 돌리고 결과를 로그로 남깁니다.
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class ProfileRecommendEvaluator {
+
+    // Field
+    private final SlotRecommendSampleRepository sampleRepository;
+    private final ProfileSlotRecommender profileSlotRecommender;
+
+    @Value("${slot.recommend.baseline.evaluate-limit:1000}")
+    private int evaluateLimit;
+
+    // Method
+    @Bean
+    @ConditionalOnProperty(value = "slot.recommend.baseline.evaluate-on-startup", havingValue = "true")
+    public ApplicationRunner evaluateProfileRecommender() {
+        return args -> {
+            profileSlotRecommender.load(); // ApplicationRunner 가 ApplicationReadyEvent 보다 먼저 돌아서 직접 적재
+            Report report = evaluate(evaluateLimit);
+            log.info("[SLOT][BASELINE][EVAL] {}", report);
+        };
+    }
+
+    /** 최근 표본 limit 건으로 평가 */
+    public Report evaluate(int limit) {
+        List<SlotRecommendSample> samples = sampleRepository.findAllByOrderByIdDesc(PageRequest.of(0, limit));
+
+        int evaluated = 0;
+        int uncovered = 0;
+        double jaccardSum = 0, precisionSum = 0, recallSum = 0, distanceSum = 0;
+
+        for (SlotRecommendSample sample : samples) {
+            Map<String, Long> gpt = toBudgets(sample.getRecommended());
+            if (gpt.isEmpty()) continue;
+
+            ProfileKey key = new ProfileKey(sample.getAgeBand(), sample.getGender(), sample.getJob());
+            Optional<ProfileSlotRecommender.Recommendation> baseline = profileSlotRecommender.recommend(key, sample.getIncome(), sample.getBalance());
+            if (baseline.isEmpty()) {
+                uncovered++;
+                continue;
+            }
+
+            Map<String, Long> ours = new HashMap<>();
+            baseline.get().slots().forEach(item -> ours.merge(item.name(), item.initialBudget(), Long::sum));
+
+            Set<String> common = new HashSet<>(gpt.keySet());
+            common.retainAll(ours.keySet());
+            Set<String> union = new HashSet<>(gpt.keySet());
+            union.addAll(ours.keySet());
+
+            jaccardSum += (double) common.size() / union.size();
+            precisionSum += ours.isEmpty() ? 0 : (double) common.size() / ours.size();
+            recallSum += (double) common.size() / gpt.size();
+            distanceSum += shareDistance(gpt, ours, union);
+            evaluated++;
+        }
+
+        return evaluated == 0
+                ? new Report(samples.size(), 0, uncovered, 0, 0, 0, 0)
+                : new Report(samples.size(), evaluated, uncovered,
+                        jaccardSum / evaluated, precisionSum / evaluated, recallSum / evaluated, distanceSum / evaluated);
+    }
+
+    private static Map<String, Long> toBudgets(JsonNode recommended) {
+        Map<String, Long> budgets = new HashMap<>();
+        if (recommended == null || !recommended.isArray()) return budgets;
+        for (JsonNode node : recommended) {
+            String name = node.path("name").asText(null);
+            if (name == null) continue;
+            budgets.merge(name, Math.max(0L, node.path("initialBudget").asLong(0L)), Long::sum);
+        }
+        return budgets;
+    }
+
+    // 슬롯별 예산 비중의 차이 합 / 2
+    private static double shareDistance(Map<String, Long> a, Map<String, Long> b, Set<String> names) {
+        double totalA = a.values().stream().mapToLong(Long::longValue).sum();
+        double totalB = b.values().stream().mapToLong(Long::longValue).sum();
+        if (totalA <= 0 || totalB <= 0) return 1.0;
+
+        double diff = 0;
+        for (String name : names) {
+            diff += Math.abs(a.getOrDefault(name, 0L) / totalA - b.getOrDefault(name, 0L) / totalB);
+        }
+        return diff / 2;
+    }
+
+    // Nested Class
+    /**
+     * @param uncovered 통계가 없어서(표본 부족) 비교하지 못한 건수
+     */
+    public record Report(int samples, int evaluated, int uncovered,
+                         double jaccard, double precision, double recall, double shareDistance) {}
+}
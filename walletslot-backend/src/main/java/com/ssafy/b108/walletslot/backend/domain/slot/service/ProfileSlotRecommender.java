@@ -0,0 +1,290 @@
+package com.ssafy.b108.walletslot.backend.domain.slot.service;
+
+import com.ssafy.b108.walletslot.backend.domain.slot.entity.SlotProfileStat;
+import com.ssafy.b108.walletslot.backend.domain.slot.repository.SlotProfileStatRepository;
+import com.ssafy.b108.walletslot.backend.domain.slot.support.ProfileKey;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Period;
+import java.time.ZoneId;
+import java.util.*;
+
+/**
+ * GPT 없이 사용자 정보(연령대, 성별, 직업)만으로 슬롯 리스트와 예산을 추천하는 통계 기반 추천기 입니다.
+ * 매일 밤 account_slot 전체를 프로필 칸별로 집계해 slot_profile_stat 에 저장하고(rebuild),
+ * 같은 내용을 메모리 스냅샷으로 들고 있다가 요청마다 Map 조회 + 슬롯 몇 개 정렬만으로 응답합니다.
+ * 세부 칸의 계좌 수가 min-accounts 보다 적으면 더 넓은 칸(ProfileKey.backoff)으로 넘어갑니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProfileSlotRecommender {
+
+    // Field
+    private static final long UNIT = 1_000L;
+
+    // 계좌별로 모아야 하므로 account_id 순으로 읽음
+    private static final String SELECT_ACCOUNT_SLOTS = """
+            SELECT s.account_id, u.birth_date, u.gender, u.job, s.slot_id, s.initial_budget
+            FROM account_slot s
+            JOIN account a ON a.id = s.account_id
+            JOIN `user` u ON u.id = a.user_id
+            WHERE s.slot_id <> 0 AND s.initial_budget > 0
+            ORDER BY s.account_id
+            """;
+
+    private static final String INSERT_STAT = """
+            INSERT INTO slot_profile_stat
+                (age_band, gender, job, slot_id, account_count, avg_total_budget, slot_account_count, avg_budget, avg_share, computed_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SlotProfileStatRepository slotProfileStatRepository;
+    private final SlotCatalog slotCatalog;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${slot.recommend.baseline.min-accounts:5}")
+    private int minAccounts;
+
+    @Value("${slot.recommend.baseline.min-adoption:0.4}")
+    private double minAdoption;
+
+    @Value("${slot.recommend.baseline.min-slots:3}")
+    private int minSlots;
+
+    @Value("${slot.recommend.baseline.max-slots:8}")
+    private int maxSlots;
+
+    // 프로필 칸 → 통계 (rebuild/load 때 통째로 교체)
+    private volatile Map<ProfileKey, Cell> cells = Map.of();
+
+    // 지금 스냅샷의 computed_at (다른 인스턴스가 rebuild 했는지 비교용)
+    private volatile LocalDateTime snapshotComputedAt;
+
+    // Method
+    /**
+     * 프로필 기반 추천
+     * @param income  사용자가 알려준 월 수입 (있으면 예산 총액 기준, 없으면 비슷한 프로필 계좌들의 평균 예산 총액)
+     * @param balance 계좌 잔액 (예산 총액 상한)
+     * @return 쓸 만한 칸이 없으면 empty (통계가 아직 없거나 표본 부족)
+     */
+    public Optional<Recommendation> recommend(ProfileKey key, Long income, Long balance) {
+        Map<ProfileKey, Cell> snapshot = cells;
+
+        for (ProfileKey candidate : key.backoff()) {
+            Cell cell = snapshot.get(candidate);
+            if (cell == null || cell.accountCount() < minAccounts || cell.slots().isEmpty()) continue;
+
+            meterRegistry.counter("slot.recommend.baseline", "result", "hit").increment();
+            return Optional.of(allocate(candidate, cell, income, balance));
+        }
+
+        meterRegistry.counter("slot.recommend.baseline", "result", "miss").increment();
+        return Optional.empty();
+    }
+
+    /** account_slot 전체로 통계를 다시 계산해 저장하고 스냅샷을 교체합니다. */
+    @Transactional
+    public int rebuild() {
+        Map<ProfileKey, CellAccumulator> accumulators = new HashMap<>();
+        LocalDate today = LocalDate.now(ZoneId.of("Asia/Seoul"));
+
+        // 계좌 하나 분량씩 모아서 8개 칸에 더함
+        long[] currentAccount = {-1L};
+        ProfileKey[] currentKey = {null};
+        Map<Long, Long> budgets = new HashMap<>();
+
+        jdbcTemplate.query(SELECT_ACCOUNT_SLOTS, rs -> {
+            long accountId = rs.getLong("account_id");
+            if (accountId != currentAccount[0]) {
+                flush(accumulators, currentKey[0], budgets);
+                currentAccount[0] = accountId;
+
+                Timestamp birth = rs.getTimestamp("birth_date");
+                Integer age = birth == null ? null : Period.between(birth.toLocalDateTime().toLocalDate(), today).getYears();
+                String gender = rs.getString("gender");
+                String job = rs.getString("job");
+                currentKey[0] = new ProfileKey(
+                        ProfileKey.of(age, null, null).ageBand(),
+                        gender == null ? ProfileKey.ALL : gender,
+                        job == null ? ProfileKey.ALL : job
+                );
+            }
+            budgets.merge(rs.getLong("slot_id"), rs.getLong("initial_budget"), Long::sum);
+        });
+        flush(accumulators, currentKey[0], budgets);
+
+        LocalDateTime computedAt = LocalDateTime.now();
+        List<SlotProfileStat> rows = new ArrayList<>();
+        accumulators.forEach((key, acc) -> rows.addAll(acc.toRows(key, computedAt)));
+
+        slotProfileStatRepository.deleteAllInBatch();
+        jdbcTemplate.batchUpdate(INSERT_STAT, rows, 500, (ps, row) -> {
+            ps.setString(1, row.getAgeBand());
+            ps.setString(2, row.getGender());
+            ps.setString(3, row.getJob());
+            ps.setLong(4, row.getSlotId());
+            ps.setInt(5, row.getAccountCount());
+            ps.setLong(6, row.getAvgTotalBudget());
+            ps.setInt(7, row.getSlotAccountCount());
+            ps.setLong(8, row.getAvgBudget());
+            ps.setDouble(9, row.getAvgShare());
+            ps.setTimestamp(10, Timestamp.valueOf(row.getComputedAt()));
+        });
+
+        cells = toCells(rows);
+        snapshotComputedAt = rows.isEmpty() ? null : computedAt;
+        log.info("[SLOT][BASELINE] rebuilt cells={}, rows={}", cells.size(), rows.size());
+        return rows.size();
+    }
+
+    /** 저장된 통계로 스냅샷 적재 (기동 시, 다른 인스턴스가 rebuild 한 뒤) */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        try {
+            List<SlotProfileStat> rows = slotProfileStatRepository.findAll();
+            cells = toCells(rows);
+            snapshotComputedAt = rows.isEmpty() ? null : rows.get(0).getComputedAt();
+            log.info("[SLOT][BASELINE] loaded cells={}", cells.size());
+        } catch (Exception e) {
+            log.warn("[SLOT][BASELINE] load failed: {}", e.toString());
+        }
+    }
+
+    /** 마지막 rebuild 시각 (통계가 없으면 null) */
+    public LocalDateTime lastComputedAt() {
+        return slotProfileStatRepository.findLastComputedAt();
+    }
+
+    /** rebuild 는 한 인스턴스만 하므로, 나머지 인스턴스는 통계가 바뀐 걸 보고 스냅샷을 다시 읽음 */
+    @Scheduled(fixedDelayString = "${slot.recommend.baseline.refresh-interval-ms:600000}",
+               initialDelayString = "${slot.recommend.baseline.refresh-interval-ms:600000}")
+    public void reloadIfChanged() {
+        try {
+            LocalDateTime latest = lastComputedAt();
+            if (latest != null && !latest.equals(snapshotComputedAt)) load();
+        } catch (Exception e) {
+            log.warn("[SLOT][BASELINE] reload check failed: {}", e.toString());
+        }
+    }
+
+    private Recommendation allocate(ProfileKey key, Cell cell, Long income, Long balance) {
+
+        // 채택률 높은 순 (같으면 예산 비중 큰 순) → 채택률 기준 이상만, 최소 minSlots 개는 채움
+        List<SlotStat> chosen = new ArrayList<>();
+        for (SlotStat slot : cell.slots()) {
+            if (chosen.size() >= maxSlots) break;
+            if (slot.adoption() >= minAdoption || chosen.size() < minSlots) chosen.add(slot);
+        }
+
+        long target = income != null && income > 0 ? income : cell.avgTotalBudget();
+        if (balance != null && balance > 0) target = Math.min(target, balance);
+
+        double shareSum = chosen.stream().mapToDouble(SlotStat::avgShare).sum();
+        List<Item> items = new ArrayList<>(chosen.size());
+        for (SlotStat slot : chosen) {
+            double weight = shareSum > 0 ? slot.avgShare() / shareSum : 1.0 / chosen.size();
+            long budget = (long) Math.floor(target * weight / UNIT) * UNIT;
+            items.add(new Item(slot.slotId(), slot.name(), budget));
+        }
+        return new Recommendation(key, cell.accountCount(), items);
+    }
+
+    private static void flush(Map<ProfileKey, CellAccumulator> accumulators, ProfileKey key, Map<Long, Long> budgets) {
+        if (key == null || budgets.isEmpty()) return;
+        long total = budgets.values().stream().mapToLong(Long::longValue).sum();
+        for (ProfileKey rollup : key.rollups()) {
+            accumulators.computeIfAbsent(rollup, k -> new CellAccumulator()).add(budgets, total);
+        }
+        budgets.clear();
+    }
+
+    private Map<ProfileKey, Cell> toCells(List<SlotProfileStat> rows) {
+        Map<Long, String> slotNames = new HashMap<>();
+        for (SlotCatalog.Item slot : slotCatalog.allExceptUncategorized()) {
+            slotNames.put(slot.id(), slot.name());
+        }
+
+        Map<ProfileKey, List<SlotProfileStat>> grouped = new HashMap<>();
+        for (SlotProfileStat row : rows) {
+            if (!slotNames.containsKey(row.getSlotId())) continue; // 없어진 슬롯
+            grouped.computeIfAbsent(new ProfileKey(row.getAgeBand(), row.getGender(), row.getJob()), k -> new ArrayList<>()).add(row);
+        }
+
+        Map<ProfileKey, Cell> result = new HashMap<>(grouped.size() * 2);
+        grouped.forEach((key, stats) -> {
+            SlotProfileStat first = stats.get(0);
+            List<SlotStat> slots = stats.stream()
+                    .map(s -> new SlotStat(s.getSlotId(), slotNames.get(s.getSlotId()),
+                            (double) s.getSlotAccountCount() / s.getAccountCount(), s.getAvgBudget(), s.getAvgShare()))
+                    .sorted(Comparator.comparingDouble(SlotStat::adoption).reversed()
+                            .thenComparing(Comparator.comparingDouble(SlotStat::avgShare).reversed())
+                            .thenComparingLong(SlotStat::slotId))
+                    .toList();
+            result.put(key, new Cell(first.getAccountCount(), first.getAvgTotalBudget(), slots));
+        });
+        return Map.copyOf(result);
+    }
+
+    // Nested Class
+    public record Item(long slotId, String name, long initialBudget) {}
+
+    /** @param cell 실제로 쓴 프로필 칸 (backoff 후), @param support 그 칸의 계좌 수 */
+    public record Recommendation(ProfileKey cell, int support, List<Item> slots) {}
+
+    private record SlotStat(long slotId, String name, double adoption, long avgBudget, double avgShare) {}
+
+    private record Cell(int accountCount, long avgTotalBudget, List<SlotStat> slots) {}
+
+    private static final class CellAccumulator {
+
+        // Field
+        private int accountCount;
+        private long totalBudgetSum;
+        private final Map<Long, long[]> slotSums = new HashMap<>();     // slotId → {계좌 수, 예산 합}
+        private final Map<Long, double[]> shareSums = new HashMap<>();  // slotId → {비중 합}
+
+        // Method
+        void add(Map<Long, Long> budgets, long total) {
+            accountCount++;
+            totalBudgetSum += total;
+            budgets.forEach((slotId, budget) -> {
+                long[] sums = slotSums.computeIfAbsent(slotId, k -> new long[2]);
+                sums[0]++;
+                sums[1] += budget;
+                shareSums.computeIfAbsent(slotId, k -> new double[1])[0] += (double) budget / total;
+            });
+        }
+
+        List<SlotProfileStat> toRows(ProfileKey key, LocalDateTime computedAt) {
+            long avgTotal = Math.round((double) totalBudgetSum / accountCount);
+            List<SlotProfileStat> rows = new ArrayList<>(slotSums.size());
+            slotSums.forEach((slotId, sums) -> rows.add(SlotProfileStat.builder()
+                    .ageBand(key.ageBand())
+                    .gender(key.gender())
+                    .job(key.job())
+                    .slotId(slotId)
+                    .accountCount(accountCount)
+                    .avgTotalBudget(avgTotal)
+                    .slotAccountCount((int) sums[0])
+                    .avgBudget(Math.round((double) sums[1] / sums[0]))
+                    .avgShare(shareSums.get(slotId)[0] / sums[0])
+                    .computedAt(computedAt)
+                    .build()));
+            return rows;
+        }
+    }
+}
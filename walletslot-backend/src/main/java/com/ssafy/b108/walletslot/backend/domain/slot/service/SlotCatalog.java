@@ -0,0 +1,154 @@
+package com.ssafy.b108.walletslot.backend.domain.slot.service;
+
+import com.ssafy.b108.walletslot.backend.domain.slot.entity.Slot;
+import com.ssafy.b108.walletslot.backend.domain.slot.repository.SlotRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * slot 테이블(고정 카테고리 목록)을 메모리에 들고 있는 읽기 전용 카탈로그 입니다.
+ * 기동 시 한 번 통째로 읽어서 불변 스냅샷(id / uuid / 이름 → Item)으로 만들고, 조회는 전부 Map 조회로 끝납니다.
+ * 관리자가 슬롯을 바꾼 뒤 catalog_version 의 'slot' 행 version 을 올리면, refresh-check-ms 마다 도는 확인에서 다시 읽어 스냅샷을 교체합니다.
+ * version 이 그대로여도 max-age-ms 가 지나면 한 번 다시 읽습니다 (rank 처럼 자주 바뀌는 값 반영용).
+ * 엔티티 연관관계가 필요한 곳은 reference(id) 로 프록시만 받아서 쓰므로 slot 을 다시 조회하지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SlotCatalog {
+
+    // Field
+    public static final long UNCATEGORIZED_SLOT_ID = 0L;
+
+    private final SlotRepository slotRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${catalog.max-age-ms:600000}")
+    private long maxAgeMs;
+
+    private final AtomicLong loadedVersion = new AtomicLong(-1L);
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    // catalog_version 조회 실패 로그를 확인 주기마다 남기지 않도록
+    private volatile boolean versionWarned;
+
+    @PostConstruct
+    void init() {
+        meterRegistry.gauge("catalog.version", Tags.of("name", "slot"), loadedVersion);
+        meterRegistry.gauge("catalog.size", Tags.of("name", "slot"), this, c -> c.snapshot.items().size());
+        try {
+            refresh();
+        } catch (Exception e) {
+            // 적재 실패 시 loadedVersion 이 -1 로 남아 다음 확인 주기에 다시 시도
+            log.warn("[CATALOG][SLOT] 초기 적재 실패: {}", e.toString());
+        }
+    }
+
+    // Method
+    public Optional<Item> findById(Long id) {
+        return Optional.ofNullable(id == null ? null : snapshot.byId().get(id));
+    }
+
+    public Optional<Item> findByUuid(String uuid) {
+        return Optional.ofNullable(uuid == null ? null : snapshot.byUuid().get(uuid));
+    }
+
+    /** 이름으로 조회 (GPT 응답의 슬롯명 매핑용, 앞뒤 공백 무시) */
+    public Optional<Item> findByName(String name) {
+        return Optional.ofNullable(name == null ? null : snapshot.byName().get(name.trim()));
+    }
+
+    /** 전체 슬롯 (id 순) */
+    public List<Item> all() {
+        return snapshot.items();
+    }
+
+    /** 미분류 슬롯을 뺀 전체 슬롯 (id 순) */
+    public List<Item> allExceptUncategorized() {
+        return snapshot.items().stream().filter(item -> item.id() != UNCATEGORIZED_SLOT_ID).toList();
+    }
+
+    /** 연관관계 세팅용 Slot 프록시 (DB 조회 없음) */
+    public Slot reference(Long id) {
+        return slotRepository.getReferenceById(id);
+    }
+
+    /** 미분류 슬롯 프록시 */
+    public Slot uncategorized() {
+        return reference(UNCATEGORIZED_SLOT_ID);
+    }
+
+    /** catalog_version 이 바뀌었거나 스냅샷이 max-age 보다 오래됐으면 다시 적재 */
+    @Scheduled(fixedDelayString = "${catalog.refresh-check-ms:30000}", initialDelayString = "${catalog.refresh-check-ms:30000}")
+    public void refreshIfChanged() {
+        try {
+            long version = currentVersion();
+            boolean expired = snapshot.loadedAt().isBefore(LocalDateTime.now().minus(Duration.ofMillis(maxAgeMs)));
+            if (version != loadedVersion.get() || expired) refresh();
+        } catch (Exception e) {
+            log.warn("[CATALOG][SLOT] 버전 확인 실패, 기존 스냅샷 유지: {}", e.toString());
+        }
+    }
+
+    /** slot 테이블 전체를 읽어 스냅샷 교체 */
+    public synchronized void refresh() {
+        long version = currentVersion();
+
+        List<Item> items = slotRepository.findAll().stream()
+                .map(slot -> new Item(slot.getId(), slot.getUuid(), slot.getName(), slot.isSaving(), slot.getRank()))
+                .sorted(Comparator.comparing(Item::id))
+                .toList();
+
+        Map<Long, Item> byId = new HashMap<>(items.size() * 2);
+        Map<String, Item> byUuid = new HashMap<>(items.size() * 2);
+        Map<String, Item> byName = new HashMap<>(items.size() * 2);
+        for (Item item : items) {
+            byId.put(item.id(), item);
+            byUuid.put(item.uuid(), item);
+            byName.putIfAbsent(item.name(), item);
+        }
+
+        snapshot = new Snapshot(items, Map.copyOf(byId), Map.copyOf(byUuid), Map.copyOf(byName), LocalDateTime.now());
+        loadedVersion.set(version);
+        log.info("[CATALOG][SLOT] loaded version={}, slots={}", version, items.size());
+    }
+
+    /**
+     * catalog_version 의 현재 값. 행이 없거나 테이블이 아직 없으면(마이그레이션 전) 0 으로 보고 데이터 적재는 계속합니다.
+     * 이 경우 version 신호 없이 max-age-ms 주기로만 다시 읽습니다.
+     */
+    private long currentVersion() {
+        try {
+            long version = slotRepository.findCatalogVersion().orElse(0L);
+            versionWarned = false;
+            return version;
+        } catch (Exception e) {
+            if (!versionWarned) {
+                versionWarned = true;
+                log.warn("[CATALOG][SLOT] catalog_version 조회 실패, version 0 으로 적재: {}", e.toString());
+            }
+            return 0L;
+        }
+    }
+
+    // Nested Class
+    /** 슬롯 한 건 (rank 는 적재 시점 값) */
+    public record Item(Long id, String uuid, String name, boolean saving, Integer rank) {}
+
+    private record Snapshot(List<Item> items, Map<Long, Item> byId, Map<String, Item> byUuid, Map<String, Item> byName,
+                            LocalDateTime loadedAt) {
+        private static final Snapshot EMPTY = new Snapshot(List.of(), Map.of(), Map.of(), Map.of(), LocalDateTime.MIN);
+    }
+}
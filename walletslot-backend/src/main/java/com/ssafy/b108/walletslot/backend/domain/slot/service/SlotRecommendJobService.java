@@ -0,0 +1,271 @@
+package com.ssafy.b108.walletslot.backend.domain.slot.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.b108.walletslot.backend.domain.account.service.AccountAccessGuard;
+import com.ssafy.b108.walletslot.backend.domain.slot.dto.RecommendSlotsByProfileRequestDto;
+import com.ssafy.b108.walletslot.backend.domain.slot.dto.SlotRecommendJobResponseDto;
+import com.ssafy.b108.walletslot.backend.domain.slot.entity.SlotRecommendJob;
+import com.ssafy.b108.walletslot.backend.domain.slot.entity.SlotRecommendJob.Kind;
+import com.ssafy.b108.walletslot.backend.domain.slot.entity.SlotRecommendJob.Status;
+import com.ssafy.b108.walletslot.backend.domain.slot.repository.SlotRecommendJobRepository;
+import com.ssafy.b108.walletslot.backend.global.error.AppException;
+import com.ssafy.b108.walletslot.backend.global.error.ErrorCode;
+import com.ssafy.b108.walletslot.backend.infrastructure.fcm.service.FcmFanoutService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 슬롯 추천(5-2-1, 5-2-2)을 비동기 작업으로 돌리는 서비스 입니다.
+ * 추천은 SSAFY 거래내역 조회 + GPT 호출까지 10~30초가 걸리므로, 요청 스레드는 jobId 만 받아서 바로 돌아가고
+ * 실제 작업은 크기가 정해진 전용 풀(pool-size, queue-capacity)에서 실행됩니다. 큐가 꽉 차면 429 로 거절합니다.
+ * 같은 계좌 + 같은 조건(기간 / 프로필 옵션)의 작업이 아직 진행 중이면 새로 만들지 않고 그 작업에 합류합니다.
+ * 작업 상태/결과는 slot_recommend_job 테이블에 ttl 동안 보관되므로 어느 서버로 폴링해도 조회되고(스티키 라우팅 불필요),
+ * 클라이언트는 폴링하거나 완료 푸시를 받고 조회합니다.
+ * 실행 자체는 작업을 받은 서버의 풀에서 하므로, 그 서버가 죽으면 작업은 stale-minutes 후 FAILED 로 정리되고 클라이언트가 다시 요청합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SlotRecommendJobService {
+
+    // Field
+    private final SlotService slotService;
+    private final AccountAccessGuard accountAccessGuard;
+    private final FcmFanoutService fcmFanoutService;
+    private final MeterRegistry meterRegistry;
+    private final SlotRecommendJobRepository jobRepository;
+    private final ObjectMapper objectMapper;
+
+    // 이 서버에서 실행한 작업 표시 (종료 시 못 끝낸 작업 정리용)
+    private static final String INSTANCE_ID = UUID.randomUUID().toString();
+
+    private static final String ABANDONED = "서버 재시작으로 슬롯 추천이 중단되었습니다. 다시 요청해주세요.";
+
+    @Value("${slot.recommend.job.pool-size:4}")
+    private int poolSize;
+
+    @Value("${slot.recommend.job.queue-capacity:32}")
+    private int queueCapacity;
+
+    @Value("${slot.recommend.job.ttl-minutes:30}")
+    private long ttlMinutes;
+
+    // 큐 대기 + 실행 시간의 상한. 이보다 오래 PENDING/RUNNING 인 작업은 실행하던 서버가 죽은 것으로 봄
+    @Value("${slot.recommend.job.stale-minutes:10}")
+    private long staleMinutes;
+
+    @Value("${slot.recommend.job.push-enabled:true}")
+    private boolean pushEnabled;
+
+    private final AtomicInteger running = new AtomicInteger();
+
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    void init() {
+        AtomicInteger seq = new AtomicInteger();
+        executor = new ThreadPoolExecutor(
+                poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "slot-recommend-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        meterRegistry.gauge("slot.recommend.job.queued", executor, e -> e.getQueue().size());
+        meterRegistry.gauge("slot.recommend.job.running", running);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+        try {
+            int failed = jobRepository.failOwnedBy(INSTANCE_ID, ABANDONED, LocalDateTime.now());
+            if (failed > 0) log.info("[SLOT][RECOMMEND-JOB] 종료 전 미완료 작업 {}건 실패 처리", failed);
+        } catch (Exception e) {
+            log.warn("[SLOT][RECOMMEND-JOB] 종료 전 미완료 작업 정리 실패 {}", e.toString());
+        }
+    }
+
+    // Method
+    /** 5-2-1 거래내역 기반 추천 작업 등록 */
+    public SlotRecommendJobResponseDto submitRecommend(Long userId, String accountUuid, String startDate, String endDate) {
+        Long accountId = checkOwner(userId, accountUuid);
+        String dedupKey = Kind.TRANSACTION + ":" + accountId + ":" + startDate + ":" + endDate;
+        return submit(Kind.TRANSACTION, userId, accountId, dedupKey,
+                () -> slotService.recommendSlots(userId, accountUuid, startDate, endDate).getData());
+    }
+
+    /** 5-2-2 사용자 정보 기반 추천 작업 등록 */
+    public SlotRecommendJobResponseDto submitRecommendByProfile(Long userId, String accountUuid, RecommendSlotsByProfileRequestDto request) {
+        Long accountId = checkOwner(userId, accountUuid);
+        String dedupKey = Kind.PROFILE + ":" + accountId + ":" + request.getUseAge() + ":" + request.getIncome() + ":" + request.getUseGender();
+        return submit(Kind.PROFILE, userId, accountId, dedupKey,
+                () -> slotService.recommendSlotsByProfile(userId, accountUuid, request).getData());
+    }
+
+    /** 작업 상태/결과 조회 (폴링) */
+    public SlotRecommendJobResponseDto getJob(Long userId, String accountUuid, String jobId) {
+        SlotRecommendJob job = jobRepository.findByUuid(jobId)
+                .orElseThrow(() -> new AppException(ErrorCode.NOT_FOUND, "[SlotRecommendJobService - 003]"));
+        if (!job.getUserId().equals(userId)) {
+            throw new AppException(ErrorCode.FORBIDDEN, "[SlotRecommendJobService - 004]");
+        }
+        if (!job.getAccountId().equals(accountAccessGuard.getOwnedAccountId(userId, accountUuid))) {
+            throw new AppException(ErrorCode.NOT_FOUND, "[SlotRecommendJobService - 003]");
+        }
+
+        String message = switch (job.getStatus()) {
+            case DONE -> "[SlotRecommendJobService - 005] 슬롯 추천 완료";
+            case FAILED -> "[SlotRecommendJobService - 006] 슬롯 추천 실패";
+            default -> "[SlotRecommendJobService - 007] 슬롯 추천 진행 중";
+        };
+        return toDto(job, false, message);
+    }
+
+    /** 실행 서버가 죽어 남은 작업은 실패로, 끝난 지 ttl 이 지난 작업은 삭제 (조건부 UPDATE/DELETE 라 여러 서버가 같이 돌아도 무방) */
+    @Scheduled(fixedDelayString = "${slot.recommend.job.purge-interval-ms:60000}")
+    public void purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        int abandoned = jobRepository.failStale(now.minusMinutes(staleMinutes), ABANDONED, now);
+        if (abandoned > 0) {
+            meterRegistry.counter("slot.recommend.job.abandoned").increment(abandoned);
+            log.warn("[SLOT][RECOMMEND-JOB] 실행 서버가 사라진 작업 {}건 실패 처리", abandoned);
+        }
+        jobRepository.deleteFinishedBefore(now.minusMinutes(ttlMinutes));
+    }
+
+    private SlotRecommendJobResponseDto submit(Kind kind, Long userId, Long accountId, String dedupKey, Supplier<Object> work) {
+
+        // 같은 조건의 작업이 진행 중이면 합류, 아니면 새로 만듦
+        // active_key 유니크 키가 서버 간 동시 요청에도 1개만 생성되게 막고, 행이 저장된 순간부터 어느 서버에서든 폴링으로 조회됨
+        SlotRecommendJob job = null;
+        for (int attempt = 0; attempt < 2 && job == null; attempt++) {
+            Optional<SlotRecommendJob> existing = jobRepository.findByActiveKey(dedupKey);
+            if (existing.isPresent()) {
+                meterRegistry.counter("slot.recommend.job.attached", "kind", kind.name()).increment();
+                return toDto(existing.get(), true, "[SlotRecommendJobService - 002] 진행 중인 슬롯 추천 작업에 합류했습니다.");
+            }
+            try {
+                job = jobRepository.saveAndFlush(SlotRecommendJob.builder()
+                        .kind(kind)
+                        .userId(userId)
+                        .accountId(accountId)
+                        .activeKey(dedupKey)
+                        .owner(INSTANCE_ID)
+                        .build());
+            } catch (DataIntegrityViolationException e) {
+                // 다른 요청이 먼저 만듦 → 다시 조회해서 합류
+                log.debug("[SLOT][RECOMMEND-JOB] 동시 생성 경합 key={}", dedupKey);
+            }
+        }
+        if (job == null) {
+            throw new AppException(ErrorCode.SLOT_RECOMMEND_BUSY, "[SlotRecommendJobService - 008]");
+        }
+
+        Long id = job.getId();
+        try {
+            executor.execute(() -> run(id, work));
+        } catch (RejectedExecutionException e) {
+            jobRepository.deleteById(id);
+            meterRegistry.counter("slot.recommend.job", "kind", kind.name(), "outcome", "rejected").increment();
+            log.warn("[SLOT][RECOMMEND-JOB] 큐 포화로 거절 accountId={}, queued={}", accountId, executor.getQueue().size());
+            throw new AppException(ErrorCode.SLOT_RECOMMEND_BUSY, "[SlotRecommendJobService - 008]");
+        }
+
+        return toDto(job, false, "[SlotRecommendJobService - 001] 슬롯 추천 작업이 등록되었습니다.");
+    }
+
+    private void run(Long id, Supplier<Object> work) {
+        SlotRecommendJob job = jobRepository.findById(id).orElse(null);
+        if (job == null || job.getStatus() != Status.PENDING) return; // 대기 중에 정리됨
+
+        job.markRunning();
+        job = jobRepository.save(job);
+        running.incrementAndGet();
+        long startedAt = System.nanoTime();
+        Status outcome = Status.FAILED;
+        Object result = null;
+        String error = null;
+        try {
+            result = work.get();
+            outcome = Status.DONE;
+        } catch (AppException e) {
+            error = e.getErrorCode().getMessage();
+            log.warn("[SLOT][RECOMMEND-JOB] 실패 jobId={}, kind={}, {}", job.getUuid(), job.getKind(), e.getMessage());
+        } catch (Exception e) {
+            error = ErrorCode.INTERNAL_SERVER_ERROR.getMessage();
+            log.error("[SLOT][RECOMMEND-JOB] 실패 jobId={}, kind={}", job.getUuid(), job.getKind(), e);
+        } finally {
+            running.decrementAndGet();
+        }
+
+        // 상태/결과/종료시각/active_key 해제를 한 번에 저장 → 폴링 쪽에서 DONE 인데 결과가 비어 보이는 순간이 없음
+        try {
+            job.finish(outcome, outcome == Status.DONE ? objectMapper.valueToTree(result) : null, error);
+            job = jobRepository.save(job);
+        } catch (Exception e) {
+            log.error("[SLOT][RECOMMEND-JOB] 결과 저장 실패 jobId={}", job.getUuid(), e);
+            return; // 못 남긴 작업은 stale 정리에서 실패 처리
+        }
+
+        meterRegistry.timer("slot.recommend.job.duration", "kind", job.getKind().name(), "outcome", job.getStatus().name().toLowerCase())
+                .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        notifyDone(job);
+    }
+
+    // 완료 푸시 (알림함에는 남기지 않는 일회성 푸시, 실패해도 폴링으로 결과 조회 가능)
+    private void notifyDone(SlotRecommendJob job) {
+        if (!pushEnabled) return;
+        try {
+            String title = job.getStatus() == Status.DONE ? "[🎯슬롯추천] 추천 슬롯이 준비됐어요!" : "[🎯슬롯추천] 슬롯 추천에 실패했어요.";
+            String body = job.getStatus() == Status.DONE ? "앱에서 추천 결과를 확인해보세요." : "잠시 후 다시 시도해주세요.";
+            fcmFanoutService.fanout(fcmFanoutService.resolveTokens(job.getUserId()), title, body)
+                    .subscribe(
+                            delivered -> {},
+                            error -> log.warn("[SLOT][RECOMMEND-JOB] 완료 푸시 실패 jobId={}, {}", job.getUuid(), error.getMessage())
+                    );
+        } catch (Exception e) {
+            log.warn("[SLOT][RECOMMEND-JOB] 완료 푸시 실패 jobId={}, {}", job.getUuid(), e.toString());
+        }
+    }
+
+    // 작업을 큐에 넣기 전에 계좌 소유자 확인 (잘못된 요청으로 풀 자리를 차지하지 않도록)
+    private Long checkOwner(Long userId, String accountUuid) {
+        return accountAccessGuard.getOwnedAccountId(userId, accountUuid);
+    }
+
+    private SlotRecommendJobResponseDto toDto(SlotRecommendJob job, boolean attached, String message) {
+        return SlotRecommendJobResponseDto.builder()
+                .success(true)
+                .message(message)
+                .data(SlotRecommendJobResponseDto.Data.builder()
+                        .jobId(job.getUuid())
+                        .kind(job.getKind().name())
+                        .status(job.getStatus().name())
+                        .attached(attached)
+                        .createdAt(job.getCreatedAt())
+                        .finishedAt(job.getFinishedAt())
+                        .result(job.getStatus() == Status.DONE ? job.getResult() : null)
+                        .error(job.getError())
+                        .build())
+                .build();
+    }
+}
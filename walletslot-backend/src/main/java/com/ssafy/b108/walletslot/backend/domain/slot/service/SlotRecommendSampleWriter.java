@@ -0,0 +1,40 @@
+package com.ssafy.b108.walletslot.backend.domain.slot.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.b108.walletslot.backend.domain.slot.dto.external.ChatGPTResponseDto;
+import com.ssafy.b108.walletslot.backend.domain.slot.entity.SlotRecommendSample;
+import com.ssafy.b108.walletslot.backend.domain.slot.repository.SlotRecommendSampleRepository;
+import com.ssafy.b108.walletslot.backend.domain.slot.support.ProfileKey;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * GPT 추천 표본(slot_recommend_sample)을 별도 트랜잭션으로 저장합니다.
+ * SlotService 는 클래스 전체가 @Transactional 이라 같은 트랜잭션에서 저장하다 실패하면 예외를 잡아도 rollback-only 가 되어
+ * 추천 응답까지 UnexpectedRollbackException 으로 깨지므로, 표본 저장은 REQUIRES_NEW 로 분리합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class SlotRecommendSampleWriter {
+
+    // Field
+    private final SlotRecommendSampleRepository slotRecommendSampleRepository;
+    private final ObjectMapper objectMapper;
+
+    // Method
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void save(ProfileKey profileKey, Long income, Long balance, List<ChatGPTResponseDto.RecommendedSlotDto> recommendedSlots) {
+        slotRecommendSampleRepository.save(SlotRecommendSample.builder()
+                .ageBand(profileKey.ageBand())
+                .gender(profileKey.gender())
+                .job(profileKey.job())
+                .income(income)
+                .balance(balance)
+                .recommended(objectMapper.valueToTree(recommendedSlots))
+                .build());
+    }
+}
@@ -8,11 +8,9 @@ import com.ssafy.b108.walletslot.backend.common.util.AESUtil;
 import com.ssafy.b108.walletslot.backend.common.util.LocalDateTimeFormatter;
 import com.ssafy.b108.walletslot.backend.common.util.RandomNumberGenerator;
 import com.ssafy.b108.walletslot.backend.domain.account.entity.Account;
-import com.ssafy.b108.walletslot.backend.domain.account.repository.AccountRepository;
+import com.ssafy.b108.walletslot.backend.domain.account.service.AccountAccessGuard;
 import com.ssafy.b108.walletslot.backend.domain.notification.entity.Notification;
-import com.ssafy.b108.walletslot.backend.domain.notification.entity.PushEndpoint;
 import com.ssafy.b108.walletslot.backend.domain.notification.repository.NotificationRepository;
-import com.ssafy.b108.walletslot.backend.domain.notification.repository.PushEndpointRepository;
 import com.ssafy.b108.walletslot.backend.domain.slot.dto.*;
 import com.ssafy.b108.walletslot.backend.domain.slot.dto.external.ChatGPTRequestDto;
 import com.ssafy.b108.walletslot.backend.domain.slot.dto.external.ChatGPTResponseDto;
@@ -22,30 +20,36 @@ import com.ssafy.b108.walletslot.backend.domain.slot.entity.AccountSlot;
 import com.ssafy.b108.walletslot.backend.domain.slot.entity.Slot;
 import com.ssafy.b108.walletslot.backend.domain.slot.entity.SlotHistory;
 import com.ssafy.b108.walletslot.backend.domain.slot.repository.AccountSlotRepository;
+import com.ssafy.b108.walletslot.backend.domain.slot.repository.MerchantSlotDecisionRepository;
 import com.ssafy.b108.walletslot.backend.domain.slot.repository.SlotHistoryRepository;
 import com.ssafy.b108.walletslot.backend.domain.slot.repository.SlotRepository;
+import com.ssafy.b108.walletslot.backend.domain.slot.support.ProfileKey;
+import com.ssafy.b108.walletslot.backend.domain.slot.support.SpendingAggregator;
 import com.ssafy.b108.walletslot.backend.domain.transaction.dto.external.SSAFYGetAccountBalanceResponseDto;
-import com.ssafy.b108.walletslot.backend.domain.transaction.entity.Transaction;
 import com.ssafy.b108.walletslot.backend.domain.transaction.repository.TransactionRepository;
+import com.ssafy.b108.walletslot.backend.domain.transaction.service.SlotDailySpendService;
 import com.ssafy.b108.walletslot.backend.domain.user.entity.User;
 import com.ssafy.b108.walletslot.backend.domain.user.repository.UserRepository;
 import com.ssafy.b108.walletslot.backend.global.error.AppException;
 import com.ssafy.b108.walletslot.backend.global.error.ErrorCode;
-import com.ssafy.b108.walletslot.backend.infrastructure.fcm.service.FcmService;
+import com.ssafy.b108.walletslot.backend.infrastructure.llm.service.LlmGateway;
+import com.ssafy.b108.walletslot.backend.infrastructure.llm.util.LlmUpstream;
+import com.ssafy.b108.walletslot.backend.infrastructure.llm.util.LlmUseCase;
+import com.ssafy.b108.walletslot.backend.infrastructure.fcm.service.FcmFanoutService;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Qualifier;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
-import org.springframework.web.reactive.function.client.WebClient;
 
 import javax.crypto.SecretKey;
 import java.time.LocalDate;
-import java.time.temporal.ChronoUnit;
 import java.util.*;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional
@@ -53,20 +57,28 @@ public class SlotService {
 
     // Field
     private final SlotRepository slotRepository;
-    private final AccountRepository accountRepository;
+    private final SlotCatalog slotCatalog;
+    private final AccountAccessGuard accountAccessGuard;
     private final UserRepository userRepository;
     private final AccountSlotRepository accountSlotRepository;
     private final SlotHistoryRepository slotHistoryRepository;
     private final RestTemplate restTemplate;
     private final SecretKey encryptionKey;
     private final TransactionRepository transactionRepository;
+    private final SlotDailySpendService slotDailySpendService;
     private final NotificationRepository notificationRepository;
-    private final PushEndpointRepository pushEndpointRepository;
 
-    private final FcmService fcmService;
+    private final FcmFanoutService fcmFanoutService;
+    private final LlmGateway llmGateway;
+    private final MerchantSlotDecisionRepository merchantSlotDecisionRepository;
+    private final MeterRegistry meterRegistry;
+    private final ProfileSlotRecommender profileSlotRecommender;
+    private final SlotRecommendSampleWriter slotRecommendSampleWriter;
+    private final SlotTransactionMover slotTransactionMover;
+
+    // 슬롯 추천 프롬프트에 거래처별로 따로 보여줄 미매핑 거래처 수 (나머지는 "기타" 한 줄)
+    private static final int RECOMMEND_MAX_MERCHANTS = 30;
 
-    @Qualifier("ssafyGmsWebClient") private final WebClient ssafyGmsWebClient;
-    @Qualifier("gptWebClient") private final WebClient gptWebClient;
 
     @Value("${api.ssafy.finance.apiKey}")
     private String ssafyFinanceApiKey;
@@ -74,22 +86,30 @@ public class SlotService {
     @Value("${api.ssafy.gms.key}")
     private String ssafyGmsKey;
 
+    // 슬롯 삭제 시 거래를 미분류 슬롯으로 옮길 때 한 번에(커밋 하나에) 옮기는 건수
+    @Value("${slot.remove-chunk-size:5000}")
+    private int removeChunkSize;
+
+    // 사용자 정보 기반 추천(5-2-2)을 GPT로 할지 (false 면 통계 기반 추천, 통계가 없을 때만 GPT)
+    @Value("${slot.recommend.by-profile.use-gpt:false}")
+    private boolean profileRecommendUseGpt;
+
     // Method
     // 5-1-1
     public GetSlotListResponseDto getSlotList() {
 
         // slot 리스트 전부 조회해오기
-        List<Slot> slotList = slotRepository.findAll();
+        List<SlotCatalog.Item> slotList = slotCatalog.all();
 
         // dto 조립
         // dto > data > slots
         List<GetSlotListResponseDto.SlotDto> slotDtoList = new ArrayList<>();
-        for(Slot slot : slotList){
+        for(SlotCatalog.Item slot : slotList){
             GetSlotListResponseDto.SlotDto slotDto = GetSlotListResponseDto.SlotDto.builder()
-                    .SlotId(slot.getUuid())
-                    .name(slot.getName())
-                    .isSaving(slot.isSaving())
-                    .rank(slot.getRank())
+                    .SlotId(slot.uuid())
+                    .name(slot.name())
+                    .isSaving(slot.saving())
+                    .rank(slot.rank())
                     .build();
 
             slotDtoList.add(slotDto);
@@ -113,10 +133,7 @@ public class SlotService {
         User user = userRepository.findById(userId).orElseThrow(() -> new AppException(ErrorCode.USER_NOT_FOUND, "SlotService - 000"));
 
         // userId != account userId 이면 403 응답
-        Account account = accountRepository.findByUuid(accountUuid).orElseThrow(() -> new AppException(ErrorCode.NOT_FOUND, "[SlotService - 002]"));
-        if(userId != account.getUser().getId()) {
-            throw new AppException(ErrorCode.FORBIDDEN, "[SlotService - 003]");
-        }
+        Account account = accountAccessGuard.getOwnedAccount(userId, accountUuid);
 
         // AccountSlot 조회
         AccountSlot accountSlot = accountSlotRepository.findByUuid(accountSlotUuid).orElseThrow(() -> new AppException(ErrorCode.NOT_FOUND, "[SlotService - 005]"));
@@ -137,57 +154,34 @@ public class SlotService {
             if(request.getNewBudget() == 0) {
 
                 // newBudget이 0이면 해당 슬롯 삭제하고 거기에 할당돼있던 예산과 거래내역을 모두 미분류 슬롯으로 이동
-                AccountSlot uncategorizedAccountSlot = accountSlotRepository.findUncategorizedAccountSlot(accountSlotUuid).orElseThrow(() -> new AppException(ErrorCode.MISSING_UNCATEGORIZED_SLOT, "SlotService - 000"));
-                uncategorizedAccountSlot.updateBudget(uncategorizedAccountSlot.getCurrentBudget()+accountSlot.getCurrentBudget());
-
-                List<Transaction> transactions = transactionRepository.findByAccountSlot(accountSlot);
-                for(Transaction transaction : transactions) {
-                    transaction.changeAccountSlot(uncategorizedAccountSlot);
-                }
-
-                accountSlot.getSlot().decreaseRank();
-                accountSlotRepository.delete(accountSlot);
+                mergeIntoUncategorized(account, accountSlot);
 
                 // 이때 푸시알림 줘야하는지 고민. 그냥 서비스 내에서 알림창 잠깐 뜨게 하는게 좋을지도
             } else {
-                Long oldBudget = accountSlot.getCurrentBudget(); // 기존 예산
-                accountSlot.updateBudget(request.getNewBudget()); // 새로운 예산
+                // 기존 예산 / 초과여부 (행 잠금 아래에서 읽은 DB 값)
+                AccountSlotRepository.SpendState before = accountSlotRepository.lockSpendState(accountSlot.getId()).orElseThrow(() -> new AppException(ErrorCode.ACCOUNT_SLOT_NOT_FOUND, "SlotService - 044"));
+                Long oldBudget = before.getCurrentBudget();
+
+                // 새로운 예산 반영 + 예산 초과여부 다시 계산 (메모리의 spent 는 오래됐을 수 있어서 SQL 에서 DB 의 spent 로 계산)
+                accountSlotRepository.updateBudget(accountSlot.getId(), request.getNewBudget());
+                AccountSlotRepository.SpendState after = accountSlotRepository.findSpendState(accountSlot.getId()).orElseThrow(() -> new AppException(ErrorCode.ACCOUNT_SLOT_NOT_FOUND, "SlotService - 045"));
+                accountSlot.syncSpent(after.getSpent(), Boolean.TRUE.equals(after.getBudgetExceeded()));
+                accountSlot.syncBudget(after.getCurrentBudget(), Boolean.TRUE.equals(after.getBudgetExceeded()));
                 accountSlot.addBudgetChangeCount(); // 예산 변경횟수 +1
 
-                // 예산 초과여부 다시 검사
-                if(accountSlot.getSpent() > accountSlot.getCurrentBudget()) {
-                    if(accountSlot.isBudgetExceeded() == true) {
-                        // 원래도 초과상태였으면 그냥 가만히 있으면 됨
-                    } else { // 원래 초과상태 아니었으면 푸시알림 보내야 함
-                        accountSlot.updateIsBudgetExceeded(true); // 일단 예산초과 필드 true로 바꿔주고
-                        Notification notification = Notification.builder() // Notification 객체 만들어서 저장하기
-                                .user(user)
-                                .title("[⚠️예산초과] " + accountSlot.getName() + " 슬롯의 예산이 초과됐어요!⚠️")
-                                .body("슬롯의 예산을 조금 증액하고, 남은 기간 동안 해당 슬롯에 대한 지출을 줄여서 예산 안에서 소비할 수 있도록 해보세요. 계획안 예산 안에서 소비해야 좋은 소비습관을 기를 수 있어요")
-                                .type(Notification.Type.BUDGET)
-                                .build();
-
-                        notificationRepository.save(notification);
-
-                        // 푸시 엔드포인트 상태보고 푸시알림 보내기
-                        PushEndpoint pushEndpoint = pushEndpointRepository.findByUser(user).orElseThrow(() -> new AppException(ErrorCode.PUSH_ENDPOINT_NOTFOUND, "푸시알림을 받을 기기가 없는 사용자입니다. 기기를 등록해주세요."));
-                        if(pushEndpoint.getStatus() == PushEndpoint.Status.ACTIVE) {
-                            fcmService.sendMessage(pushEndpoint.getToken(), notification.getTitle(), notification.getBody())
-                                    .subscribe(
-                                            response -> {
-                                                System.out.println("✅ FCM 전송 성공: " + response);
-                                                notification.updateIsDelivered(true);
-                                            },
-                                            error -> {
-                                                System.err.println("❌ FCM 전송 실패: " + error.getMessage());
-                                                notification.updateIsDelivered(false);
-                                            }
-                                    );
-                        }
-                    }
+                // 원래 초과상태 아니었는데 이번 변경으로 초과됐으면 푸시알림
+                if(accountSlot.isBudgetExceeded() && !Boolean.TRUE.equals(before.getBudgetExceeded())) {
+                    Notification notification = Notification.builder() // Notification 객체 만들어서 저장하기
+                            .user(user)
+                            .title("[⚠️예산초과] " + accountSlot.getName() + " 슬롯의 예산이 초과됐어요!⚠️")
+                            .body("슬롯의 예산을 조금 증액하고, 남은 기간 동안 해당 슬롯에 대한 지출을 줄여서 예산 안에서 소비할 수 있도록 해보세요. 계획안 예산 안에서 소비해야 좋은 소비습관을 기를 수 있어요")
+                            .type(Notification.Type.BUDGET)
+                            .build();
+
+                    notificationRepository.save(notification);
 
-                } else {
-                    accountSlot.updateIsBudgetExceeded(false);
+                    // 사용자의 모든 활성 기기로 푸시알림 보내기
+                    fcmFanoutService.sendNotification(notification);
                 }
 
                 // SlotHistory 기록
@@ -215,29 +209,14 @@ public class SlotService {
     public RemoveAccountSlotResponseDto removeAccountSlot(Long userId, String accountUuid, String accountSlotUuid) {
 
         // userId != account userId 이면 403 응답
-        Account account = accountRepository.findByUuid(accountUuid).orElseThrow(() -> new AppException(ErrorCode.NOT_FOUND, "SlotService - 007"));
-        if(userId != account.getUser().getId()) {
-            throw new AppException(ErrorCode.FORBIDDEN, "SlotService - 008");
-        }
+        Account account = accountAccessGuard.getOwnedAccount(userId, accountUuid);
 
         // accountSlot 조회
         AccountSlot accountSlot = accountSlotRepository.findByUuid(accountSlotUuid).orElseThrow(() -> new AppException(ErrorCode.ACCOUNT_SLOT_NOT_FOUND, "SlotService - 009"));
 
         // accountSlot의 currentBudget을 미분류로 이동 (기존 accountSlot rank--)
-        // accountSlot에 연결돼있던 거래내역들 전부 미분류로 이동
-        AccountSlot uncategorizedAccountSlot = accountSlotRepository.findUncategorizedAccountSlot(accountUuid).orElseThrow(() -> new AppException(ErrorCode.MISSING_UNCATEGORIZED_SLOT, "SlotService - 000"));
-        uncategorizedAccountSlot.updateBudget(uncategorizedAccountSlot.getCurrentBudget()+accountSlot.getCurrentBudget());
-
-        List<Transaction> transactions = transactionRepository.findByAccountSlot(accountSlot);
-        for(Transaction transaction : transactions) {
-            transaction.changeAccountSlot(uncategorizedAccountSlot);
-        }
-
-        accountSlot.getSlot().decreaseRank();
-        accountSlotRepository.delete(accountSlot);
-
-        // AccountSlot 삭제
-        accountSlotRepository.deleteByUuid(accountSlotUuid);
+        // accountSlot에 연결돼있던 거래내역들 전부 미분류로 이동 후 AccountSlot 삭제
+        mergeIntoUncategorized(account, accountSlot);
 
         // dto 조립
         RemoveAccountSlotResponseDto removeAccountSlotResponseDto = RemoveAccountSlotResponseDto.builder()
@@ -250,17 +229,55 @@ public class SlotService {
         return removeAccountSlotResponseDto;
     }
 
+    // 슬롯 삭제 공통 (5-1-2 예산 0, 5-1-3)
+    // 예산/지출 합계, 일별 집계, 거래내역을 전부 미분류 슬롯으로 옮기고 AccountSlot 삭제
+    // 거래는 엔티티로 읽지 않고 UPDATE 로 remove-chunk-size 건씩, 청크마다 커밋하며 먼저 옮김 (잠금 시간 / undo 크기를 청크 단위로 제한)
+    // 합계 흡수 / 일별 집계 / 슬롯 삭제는 요청 트랜잭션에서 한 번에 하므로, 중간에 실패하면 거래 일부만 미분류로 가 있고
+    // 합계는 원래 슬롯에 남아 있다가 다시 삭제하면 나머지 거래와 함께 맞춰짐
+    private void mergeIntoUncategorized(Account account, AccountSlot accountSlot) {
+
+        // 다른 계좌의 슬롯이면 400, 미분류 슬롯 자신은 삭제 불가
+        if(!account.getId().equals(accountSlot.getAccount().getId())) {
+            throw new AppException(ErrorCode.BAD_REQUEST, "[SlotService - 041]");
+        }
+        Long uncategorizedAccountSlotId = accountSlotRepository.findUncategorizedAccountSlotId(account.getId()).orElseThrow(() -> new AppException(ErrorCode.MISSING_UNCATEGORIZED_SLOT, "[SlotService - 042]"));
+        if(uncategorizedAccountSlotId.equals(accountSlot.getId())) {
+            throw new AppException(ErrorCode.BAD_REQUEST, "[SlotService - 043]");
+        }
+
+        Long fromId = accountSlot.getId();
+
+        // 1) 거래 이동: 청크마다 별도 트랜잭션 (요청 트랜잭션은 아직 account_slot 에 쓰지 않아서 서로 잠금을 기다리지 않음)
+        int moved = 0;
+        int chunk;
+        do {
+            chunk = slotTransactionMover.moveChunk(fromId, uncategorizedAccountSlotId, removeChunkSize);
+            moved += chunk;
+        } while(chunk == removeChunkSize);
+
+        // 2) 그 사이 새로 들어온 거래 + 합계 / 일별 집계 / 삭제는 요청 트랜잭션에서 한 번에
+        do {
+            chunk = transactionRepository.reassignAccountSlot(fromId, uncategorizedAccountSlotId, removeChunkSize);
+            moved += chunk;
+        } while(chunk == removeChunkSize);
+        accountSlotRepository.absorbBudgetAndSpent(fromId, uncategorizedAccountSlotId); // 예산, 지출 합계
+        accountSlotRepository.refreshBudgetExceeded(uncategorizedAccountSlotId); // 합친 뒤 미분류 슬롯 예산초과 여부 다시 계산
+        slotDailySpendService.moveAll(fromId, uncategorizedAccountSlotId); // 일별 집계도 미분류로 합치기
+
+        slotRepository.decreaseRank(accountSlot.getSlot().getId()); // 프록시 id 만 쓰고 slot 은 읽지 않음
+        accountSlotRepository.delete(accountSlot);
+
+        log.info("[SLOT][REMOVE] accountSlotId={} → uncategorized={}, movedTransactions={}", fromId, uncategorizedAccountSlotId, moved);
+    }
+
     // 5-1-4
     public GetAccountSlotListResponseDto getAccountSlotList(Long userId, String accountUuid) {
 
         // userId != 조회한 account userId 이면 403
-        Account account = accountRepository.findByUuid(accountUuid).orElseThrow(() -> new AppException(ErrorCode.NOT_FOUND, "[SlotService - 012]"));
-        if(userId != account.getUser().getId()) {
-            throw new AppException(ErrorCode.FORBIDDEN, "[SlotService - 013]");
-        }
+        Long accountId = accountAccessGuard.getOwnedAccountId(userId, accountUuid);
 
-        // AccountSlot 전체조회
-        List<AccountSlot> accountSlotList = accountSlotRepository.findByAccount(account);
+        // AccountSlot 전체조회 (slot 까지 fetch join)
+        List<AccountSlot> accountSlotList = accountSlotRepository.findByAccountIdWithSlot(accountId);
 
         // dto 조립
         // dto > data > slots
@@ -310,16 +327,11 @@ public class SlotService {
     public GetSlotHistoryResponseDto getSlotHistory(Long userId, String accountUuid, String accountSlotUuid) {
 
         // userId != account userId 이면 403 응답
-        Account account = accountRepository.findByUuid(accountUuid).orElseThrow(() -> new AppException(ErrorCode.NOT_FOUND, "[SlotService - 016]"));
-        if(userId != account.getUser().getId()) {
-            throw new AppException(ErrorCode.FORBIDDEN, "[SlotService - 017]");
-        }
-
-        // AccountSlot 객체 조회
-        AccountSlot accountSlot = accountSlotRepository.findByUuid(accountSlotUuid).orElseThrow(() -> new AppException(ErrorCode.NOT_FOUND, "[SlotService - 019]"));
+        Long accountId = accountAccessGuard.getOwnedAccountId(userId, accountUuid);
 
-        // SlotHistory 전체조회
-        List<SlotHistory> slotHistoryList = slotHistoryRepository.findByAccountSlot(accountSlot);
+        // AccountSlot + slot + SlotHistory 전체조회 (이 계좌의 슬롯이 아니면 404)
+        AccountSlot accountSlot = accountSlotRepository.findWithSlotAndHistory(accountId, accountSlotUuid).orElseThrow(() -> new AppException(ErrorCode.NOT_FOUND, "[SlotService - 019]"));
+        List<SlotHistory> slotHistoryList = accountSlot.getSlotHistoryList();
 
         // dto 조립
         // dto > data > slot
@@ -358,10 +370,7 @@ public class SlotService {
     public RecommendSlotsResponseDto recommendSlots(Long userId, String accountUuid, String startDateStr, String endDateStr) {
 
         // userId != account userId 이면 403 응답
-        Account account = accountRepository.findByUuid(accountUuid).orElseThrow(() -> new AppException(ErrorCode.NOT_FOUND, "[SlotService - 021]"));
-        if(userId != account.getUser().getId()) {
-            throw new AppException(ErrorCode.FORBIDDEN, "SlotService - 022");
-        }
+        Account account = accountAccessGuard.getOwnedAccount(userId, accountUuid);
 
         // userKey, 나이 조회하기 위해 user 조회
         User user = userRepository.findById(userId).orElseThrow(() -> new AppException(ErrorCode.NOT_FOUND, "[SlotService - 023]"));
@@ -448,36 +457,59 @@ public class SlotService {
         accountBalance.put("balance", balance);
 
         // gpt한테 보내기 위해 우리 서비스 slot 전체조회 (미분류 제외)
-        List<Slot> slots = slotRepository.findAll();
+        List<SlotCatalog.Item> slots = slotCatalog.allExceptUncategorized();
         List<SlotDto> slotDtos = new ArrayList<>();
-        for(Slot slot : slots){
+        for(SlotCatalog.Item slot : slots){
             SlotDto slotDto = SlotDto.builder()
-                    .name(slot.getName())
-                    .isSaving(slot.isSaving())
+                    .name(slot.name())
+                    .isSaving(slot.saving())
                     .build();
 
             slotDtos.add(slotDto);
         }
 
-        // gpt한테 보내기 위해 거래내역 dto와 slot 리스트를 json으로 직렬화
+        // 거래내역은 서버에서 먼저 슬롯별/거래처별 월평균으로 요약 (원본 리스트를 통째로 넘기지 않음)
+        List<SSAFYGetTransactionListResponseDto.Transaction> transactions = httpResponse1.getBody().getREC().getList();
+        if(transactions == null) {
+            transactions = List.of();
+        }
+
+        Set<String> merchantNames = new HashSet<>();
+        for(SSAFYGetTransactionListResponseDto.Transaction transaction : transactions) {
+            if(transaction.getTransactionSummary() != null) {
+                merchantNames.add(transaction.getTransactionSummary().trim());
+            }
+        }
+
+        Map<String, String> merchantSlots = new HashMap<>();
+        if(!merchantNames.isEmpty()) {
+            for(MerchantSlotDecisionRepository.MerchantSlotName row : merchantSlotDecisionRepository.findSlotNamesByMerchantNames(merchantNames)) {
+                if(row.getSlotName() != null) {
+                    merchantSlots.put(row.getMerchantName(), row.getSlotName());
+                }
+            }
+        }
+
+        LocalDate startDate = LocalDateTimeFormatter.stringToLocalDate(startDateStr);
+        LocalDate endDate = LocalDateTimeFormatter.stringToLocalDate(endDateStr);
+        SpendingAggregator.Summary summary = SpendingAggregator.aggregate(transactions, merchantSlots, startDate, endDate, RECOMMEND_MAX_MERCHANTS);
+
+        // gpt한테 보내기 위해 요약표와 slot 리스트를 json으로 직렬화
         ObjectMapper objectMapper = new ObjectMapper();
         String accountData = null;
-        String transactionsData = null;
+        String slotSpendingData = null;
+        String merchantSpendingData = null;
         String slotsData = null;
         try {
             accountData = objectMapper.writeValueAsString(accountBalance);
-            transactionsData = objectMapper.writeValueAsString(httpResponse1.getBody().getREC().getList());
+            slotSpendingData = objectMapper.writeValueAsString(summary.slotRows());
+            merchantSpendingData = objectMapper.writeValueAsString(summary.merchantRows());
             slotsData = objectMapper.writeValueAsString(slotDtos);
         } catch(Exception e) {
             e.printStackTrace();
             throw new AppException(ErrorCode.INTERNAL_SERVER_ERROR, "SlotService - 025");
         }
 
-        // 기록 몇개월치인지 계산
-        LocalDate startDate = LocalDateTimeFormatter.stringToLocalDate(startDateStr);
-        LocalDate endDate = LocalDateTimeFormatter.stringToLocalDate(endDateStr);
-        Long monthsBetween = ChronoUnit.MONTHS.between(startDate, endDate);
-
         // gpt한테 요청보내기
         // OpenAI >>>>> gpt-5-nano
         // body 만들기
@@ -488,7 +520,7 @@ public class SlotService {
                 .role("developer")
                 .content("""
                         너는 개인 예산 관리 서비스를 위한 추천 엔진 역할을 해.
-                        나는 일정 기간의 계좌 거래내역 및 잔액과 우리 서비스에서 제공하는 슬롯 리스트를 JSON 형태로 제공할거야.
+                        나는 일정 기간의 계좌 지출을 월평균으로 요약한 표와 잔액, 우리 서비스에서 제공하는 슬롯 리스트를 JSON 형태로 제공할거야.
                         """)
                 .build();
         messages.add(message1);
@@ -496,23 +528,20 @@ public class SlotService {
         // user 프롬프트 만들기
         String userPrompt = String.format("""
         [요구사항]
-        1. 거래내역을 분석해서 사용자의 소비 패턴을 파악해줘.
-        2. 제공된 슬롯 리스트 중 어떤 슬롯을 이 사용자가 가지면 좋을지 추천해줘.
-        3. 각 슬롯별로 적절한 예산 금액을 배정해줘.
-        4. 내가 제공한 슬롯 리스트 중 그 어디에도 어울리지 않는 지출이 있다면 미분류 슬롯에 배정하면 돼.
-        5. 추천 근거는 다음과 같아. %d개월 치 거래내역을 1개월 단위로 분석해.
-           분석 방법은 다음과 같아. 내가 제공한 슬롯 리스트를 보고 각 거래내역마다 어느 슬롯이 적합한지 추론해.
-           그리고 한달 치 거래내역에 대해 각 슬롯마다의 합계를 계산해. 이것을 %d달치 거래내역에 대해 반복한 후,
-           각 슬롯별로 %d달치 금액의 평균을 계산해.
-           그렇게 계산된 각 슬롯에 대한 %d개월 치 평균 금액이 최종 추천 슬롯 리스트의 추천 예산 금액이 될거야.
-        6. 각 슬롯들의 예산을 전부 더한 값이 계좌 잔액 이하여야 돼.
-        7. 최종 결과는 JSON 형태로만 반환해줘. 반환할 때는 그 어떤 인사말이나 멘트도 포함하지 않은 채로 그냥 JSON만 반환해.
+        1. 아래 지출 데이터는 %d개월 치 출금 거래 %d건을 월평균(원)으로 요약한 거야. 월평균 지출 합계는 %d원이야.
+        2. "slotSpending" 은 이미 슬롯이 정해진 지출의 슬롯별 월평균이야. 그대로 해당 슬롯의 금액으로 써.
+        3. "merchantSpending" 은 슬롯이 정해지지 않은 지출의 거래처별 월평균이야. 거래처 이름을 보고 제공된 슬롯 리스트 중 가장 어울리는 슬롯을 골라 그 슬롯 금액에 더해.
+           어디에도 어울리지 않으면 미분류 슬롯에 더하면 돼.
+        4. 그렇게 합산된 슬롯별 월평균 금액이 최종 추천 슬롯 리스트의 추천 예산 금액이 될거야.
+        5. 각 슬롯들의 예산을 전부 더한 값이 계좌 잔액 이하여야 돼.
+        6. 최종 결과는 JSON 형태로만 반환해줘. 반환할 때는 그 어떤 인사말이나 멘트도 포함하지 않은 채로 그냥 JSON만 반환해.
         
         [계좌잔액 데이터]
         "accountBalance" : %s
         
-        [거래내역 데이터]
-        "transactions" : %s
+        [지출 요약 데이터]
+        "slotSpending" : %s
+        "merchantSpending" : %s
         
         [슬롯 리스트]
         "slots": "%s"
@@ -528,9 +557,10 @@ public class SlotService {
             ]
         }
         """,
-                monthsBetween, monthsBetween, monthsBetween, monthsBetween,
-                accountData, transactionsData, slotsData
+                summary.months(), summary.transactionCount(), summary.monthlyAverageTotal(),
+                accountData, slotSpendingData, merchantSpendingData, slotsData
         );
+        meterRegistry.summary("slot.recommend.prompt.chars").record(userPrompt.length());
 
         ChatGPTRequestDto.Message message2 = ChatGPTRequestDto.Message.builder()
                 .role("user")
@@ -586,7 +616,7 @@ public class SlotService {
         for(ChatGPTResponseDto.RecommendedSlotDto recommendedSlotDto : recommendedSlots) {
 
             // gpt가 준 이름 기준으로 slot 조회
-            Slot slot = slotRepository.findByName(recommendedSlotDto.getName());
+            SlotCatalog.Item slot = slotCatalog.findByName(recommendedSlotDto.getName()).orElse(null);
 
             // 조회된 슬롯이 없다면 그냥 넘어가기
             if(slot == null) {
@@ -595,8 +625,8 @@ public class SlotService {
 
             // 조회된 슬롯이 있다면 dto 조립
             RecommendSlotsResponseDto.SlotDto slotDto = RecommendSlotsResponseDto.SlotDto.builder()
-                    .slotId(slot.getUuid())
-                    .name(slot.getName())
+                    .slotId(slot.uuid())
+                    .name(slot.name())
                     .initialBudget(recommendedSlotDto.getInitialBudget())
                     .build();
 
@@ -618,10 +648,7 @@ public class SlotService {
     public RecommendSlotsByProfileResponseDto recommendSlotsByProfile(Long userId, String accountUuid, RecommendSlotsByProfileRequestDto request) {
 
         // userId != account userId 이면 403 응답
-        Account account = accountRepository.findByUuid(accountUuid).orElseThrow(() -> new AppException(ErrorCode.NOT_FOUND, "[SlotService - 021]"));
-        if(userId != account.getUser().getId()) {
-            throw new AppException(ErrorCode.FORBIDDEN, "SlotService - 022");
-        }
+        Account account = accountAccessGuard.getOwnedAccount(userId, accountUuid);
 
         // userKey
         User user = userRepository.findById(userId).orElseThrow(() -> new AppException(ErrorCode.NOT_FOUND, "[SlotService - 023]"));
@@ -650,12 +677,12 @@ public class SlotService {
         profile.put("gender", String.valueOf(gender));
 
         // gpt한테 보내기 위해 우리 서비스 slot 전체조회 (미분류 제외)
-        List<Slot> slots = slotRepository.findByIdNot(0L);
+        List<SlotCatalog.Item> slots = slotCatalog.allExceptUncategorized();
         List<SlotDto> slotDtos = new ArrayList<>();
-        for(Slot slot : slots){
+        for(SlotCatalog.Item slot : slots){
             SlotDto slotDto = SlotDto.builder()
-                    .name(slot.getName())
-                    .isSaving(slot.isSaving())
+                    .name(slot.name())
+                    .isSaving(slot.saving())
                     .build();
 
             slotDtos.add(slotDto);
@@ -700,6 +727,82 @@ public class SlotService {
         Map<String, Long> accountBalance = new HashMap<>();
         accountBalance.put("balance", balance);
 
+        // 통계 기반 추천 (비슷한 프로필 계좌들의 예산 통계, GPT 호출 없음)
+        // use-gpt 설정이면 GPT 결과를 쓰고, 통계 추천은 GPT 장애 시 대체용으로만 씀. 통계가 없으면(표본 부족) GPT 로.
+        ProfileKey profileKey = ProfileKey.of(age, gender, user.getJob());
+        Optional<ProfileSlotRecommender.Recommendation> baseline = profileSlotRecommender.recommend(profileKey, income, balance);
+
+        List<ChatGPTResponseDto.RecommendedSlotDto> recommendedSlots;
+        if(!profileRecommendUseGpt && baseline.isPresent()) {
+            recommendedSlots = toRecommendedSlotDtos(baseline.get());
+        } else {
+            try {
+                recommendedSlots = recommendSlotsByProfileFromGPT(profile, slotDtos, accountBalance);
+                saveRecommendSample(profileKey, income, balance, recommendedSlots);
+            } catch(AppException e) {
+                if(e.getErrorCode() != ErrorCode.LLM_UNAVAILABLE || baseline.isEmpty()) {
+                    throw e;
+                }
+                recommendedSlots = toRecommendedSlotDtos(baseline.get());
+            }
+        }
+
+        // dto 조립
+        // dto > data > bank
+        RecommendSlotsByProfileResponseDto.BankDto bankDto = RecommendSlotsByProfileResponseDto.BankDto.builder()
+                .bankId(account.getBank().getUuid())
+                .name(account.getBank().getName())
+                .color(account.getBank().getColor())
+                .build();
+
+        // dto > data > account
+        RecommendSlotsByProfileResponseDto.AccountDto accountDto;
+        try {
+            accountDto = RecommendSlotsByProfileResponseDto.AccountDto.builder()
+                    .accountId(account.getUuid())
+                    .accountNo(AESUtil.decrypt(account.getEncryptedAccountNo(), encryptionKey))
+                    .accountBalance(account.getBalance())
+                    .build();
+        } catch(Exception e) {
+            throw new AppException(ErrorCode.INTERNAL_SERVER_ERROR, "[SlotService - 027]");
+        }
+
+        // dto > data > recommendedSlots
+        List<RecommendSlotsByProfileResponseDto.SlotDto> recommendedSlotDtos = new ArrayList<>();
+        for(ChatGPTResponseDto.RecommendedSlotDto recommendedSlotDto : recommendedSlots) {
+
+            // gpt가 준 이름 기준으로 slot 조회
+            SlotCatalog.Item slot = slotCatalog.findByName(recommendedSlotDto.getName()).orElse(null);
+
+            // 조회된 슬롯이 없다면 그냥 넘어가기
+            if(slot == null) {
+                continue;
+            }
+
+            // 조회된 슬롯이 있다면 dto 조립
+            RecommendSlotsByProfileResponseDto.SlotDto slotDto = RecommendSlotsByProfileResponseDto.SlotDto.builder()
+                    .slotId(slot.uuid())
+                    .name(slot.name())
+                    .initialBudget(recommendedSlotDto.getInitialBudget())
+                    .build();
+
+            recommendedSlotDtos.add(slotDto);
+        }
+
+        // dto 조립
+        RecommendSlotsByProfileResponseDto recommendSlotsByProfileResponseDto = RecommendSlotsByProfileResponseDto.builder()
+                .success(true)
+                .message("[SlotService - 028] 슬롯 추천 성공")
+                .data(RecommendSlotsByProfileResponseDto.Data.builder().bank(bankDto).account(accountDto).recommededSlots(recommendedSlotDtos).build())
+                .build();
+
+        // 응답
+        return recommendSlotsByProfileResponseDto;
+    }
+
+    // 5-2-2에서 GPT로 추천받을 때 쓸 메서드
+    private List<ChatGPTResponseDto.RecommendedSlotDto> recommendSlotsByProfileFromGPT(Map<String, String> profile, List<SlotDto> slotDtos, Map<String, Long> accountBalance) {
+
         // gpt한테 보내기 위해 profile, slot 리스트, accountBalance를 json으로 직렬화
         ObjectMapper objectMapper = new ObjectMapper();
         String profileData = null;
@@ -795,78 +898,50 @@ public class SlotService {
             throw new AppException(ErrorCode.INTERNAL_SERVER_ERROR, "[SlotService - 026]");
         }
 
-        // dto 조립
-        // dto > data > bank
-        RecommendSlotsByProfileResponseDto.BankDto bankDto = RecommendSlotsByProfileResponseDto.BankDto.builder()
-                .bankId(account.getBank().getUuid())
-                .name(account.getBank().getName())
-                .color(account.getBank().getColor())
-                .build();
+        return recommendedSlots;
+    }
 
-        // dto > data > account
-        RecommendSlotsByProfileResponseDto.AccountDto accountDto;
-        try {
-            accountDto = RecommendSlotsByProfileResponseDto.AccountDto.builder()
-                    .accountId(account.getUuid())
-                    .accountNo(AESUtil.decrypt(account.getEncryptedAccountNo(), encryptionKey))
-                    .accountBalance(account.getBalance())
-                    .build();
-        } catch(Exception e) {
-            throw new AppException(ErrorCode.INTERNAL_SERVER_ERROR, "[SlotService - 027]");
+    private List<ChatGPTResponseDto.RecommendedSlotDto> toRecommendedSlotDtos(ProfileSlotRecommender.Recommendation recommendation) {
+        List<ChatGPTResponseDto.RecommendedSlotDto> recommendedSlots = new ArrayList<>();
+        for(ProfileSlotRecommender.Item item : recommendation.slots()) {
+            recommendedSlots.add(ChatGPTResponseDto.RecommendedSlotDto.builder()
+                    .name(item.name())
+                    .initialBudget(item.initialBudget())
+                    .build());
         }
+        return recommendedSlots;
+    }
 
-        // dto > data > recommendedSlots
-        List<RecommendSlotsByProfileResponseDto.SlotDto> recommendedSlotDtos = new ArrayList<>();
-        for(ChatGPTResponseDto.RecommendedSlotDto recommendedSlotDto : recommendedSlots) {
-
-            // gpt가 준 이름 기준으로 slot 조회
-            Slot slot = slotRepository.findByName(recommendedSlotDto.getName());
-
-            // 조회된 슬롯이 없다면 그냥 넘어가기
-            if(slot == null) {
-                continue;
-            }
-
-            // 조회된 슬롯이 있다면 dto 조립
-            RecommendSlotsByProfileResponseDto.SlotDto slotDto = RecommendSlotsByProfileResponseDto.SlotDto.builder()
-                    .slotId(slot.getUuid())
-                    .name(slot.getName())
-                    .initialBudget(recommendedSlotDto.getInitialBudget())
-                    .build();
-
-            recommendedSlotDtos.add(slotDto);
+    // 통계 기반 추천기 오프라인 평가용 GPT 추천 표본 저장 (별도 트랜잭션이라 실패해도 추천 응답에는 영향 없음)
+    private void saveRecommendSample(ProfileKey profileKey, Long income, Long balance, List<ChatGPTResponseDto.RecommendedSlotDto> recommendedSlots) {
+        try {
+            slotRecommendSampleWriter.save(profileKey, income, balance, recommendedSlots);
+        } catch(Exception e) {
+            log.warn("[SlotService] 추천 표본 저장 실패 {}", e.toString());
         }
-
-        // dto 조립
-        RecommendSlotsByProfileResponseDto recommendSlotsByProfileResponseDto = RecommendSlotsByProfileResponseDto.builder()
-                .success(true)
-                .message("[SlotService - 028] 슬롯 추천 성공")
-                .data(RecommendSlotsByProfileResponseDto.Data.builder().bank(bankDto).account(accountDto).recommededSlots(recommendedSlotDtos).build())
-                .build();
-
-        // 응답
-        return recommendSlotsByProfileResponseDto;
     }
 
     // 5-2-1에서 ChatGPT 호출할 때 쓸 메서드
     private ChatGPTResponseDto callGPT(ChatGPTRequestDto body) {
-        return gptWebClient.post()
+        return llmGateway.call(LlmUseCase.SLOT_RECOMMEND, LlmUpstream.OPENAI, client -> client.post()
                 .uri("/chat/completions")
                 .bodyValue(body)
                 .retrieve()
-                .bodyToMono(ChatGPTResponseDto.class)
-                .block();
+                .bodyToMono(ChatGPTResponseDto.class), () -> {
+            throw new AppException(ErrorCode.LLM_UNAVAILABLE, "[SlotService - 000] LLM 응답 없음");
+        });
     }
 
 
     // 5-2-1에서 ChatGPT 호출할 때 쓸 메서드
     private ChatGPTResponseDto callGMS(ChatGPTRequestDto body) {
-        return ssafyGmsWebClient.post()
+        return llmGateway.call(LlmUseCase.SLOT_RECOMMEND, LlmUpstream.GMS, client -> client.post()
                 .uri("/chat/completions")
                 .bodyValue(body)
                 .retrieve()
-                .bodyToMono(ChatGPTResponseDto.class)
-                .block();
+                .bodyToMono(ChatGPTResponseDto.class), () -> {
+            throw new AppException(ErrorCode.LLM_UNAVAILABLE, "[SlotService - 000] LLM 응답 없음");
+        });
     }
 
     // 5-2-2
@@ -876,12 +951,7 @@ public class SlotService {
         User user = userRepository.findById(userId).orElseThrow(() -> new AppException(ErrorCode.USER_NOT_FOUND, "SlotService - 029"));
 
         // account 조회 (없으면 404)
-        Account account = accountRepository.findByUuid(accountUuid).orElseThrow(() -> new AppException(ErrorCode.ACCOUNT_NOT_FOUND, "SlotService - 030"));
-
-        // userId != 요청한 계좌 userId 이면 403
-        if(userId != account.getUser().getId()) {
-            throw new AppException(ErrorCode.FORBIDDEN, "SlotService - 031");
-        }
+        Account account = accountAccessGuard.getOwnedAccount(userId, accountUuid);
 
         // 슬롯 중복검사하기 위해서 미리 이 계좌에 등록돼있는 슬롯 UUID Set 만들어두기
         Set<String> existingSlotUuids = accountSlotRepository.findSlotUuidsByAccountUuid(accountUuid);
@@ -901,12 +971,12 @@ public class SlotService {
             initialBudgetSum += requestSlotDto.getInitialBudget();
 
             // slot 조회 (없으면 404)
-            Slot slot = slotRepository.findByUuid(requestSlotDto.getSlotId()).orElseThrow(() -> new AppException(ErrorCode.SLOT_NOT_FOUND, "[SlotService - 033]"));
+            SlotCatalog.Item slot = slotCatalog.findByUuid(requestSlotDto.getSlotId()).orElseThrow(() -> new AppException(ErrorCode.SLOT_NOT_FOUND, "[SlotService - 033]"));
 
             // AccountSlot 객체 만들기
             AccountSlot accountSlot = AccountSlot.builder()
                     .account(account)
-                    .slot(slot)
+                    .slot(slotCatalog.reference(slot.id()))
                     .isCustom(requestSlotDto.isCustom())
                     .customName(requestSlotDto.getCustomName())
                     .initialBudget(requestSlotDto.getInitialBudget())
@@ -920,8 +990,8 @@ public class SlotService {
             // dto > data > slots
             AddSlotListResponseDto.SlotDto responseSlotDto = AddSlotListResponseDto.SlotDto.builder()
                     .accountSlotId(accountSlot.getUuid())
-                    .name(slot.getName())
-                    .isSaving(slot.isSaving())
+                    .name(slot.name())
+                    .isSaving(slot.saving())
                     .isCustom(requestSlotDto.isCustom())
                     .customName(requestSlotDto.getCustomName())
                     .initialBudget(requestSlotDto.getInitialBudget())
@@ -932,7 +1002,7 @@ public class SlotService {
 
         // initialBudgetSum > 미분류 슬롯 잔액인지 검사
         // 일단 미분류 슬롯 찾기
-        Slot uncategorizedSlot = slotRepository.findById(0L).orElseThrow(() -> new AppException(ErrorCode.NOT_FOUND, "SlotService - 034"));
+        Slot uncategorizedSlot = slotCatalog.uncategorized();
         AccountSlot uncategorizedAccountSlot = accountSlotRepository.findByAccountAndSlot(account, uncategorizedSlot).orElseThrow(() -> new AppException(ErrorCode.MISSING_UNCATEGORIZED_SLOT, "SlotService - 035"));
         if(initialBudgetSum > uncategorizedAccountSlot.getCurrentBudget() - uncategorizedAccountSlot.getSpent()) {
             throw new AppException(ErrorCode.ALLOCATABLE_BUDGET_EXCEEDED, "SlotService - 034");
@@ -953,10 +1023,7 @@ public class SlotService {
     public ModifyAccountSlotListResponseDto modifyAccountSlots(Long userId, String accountUuid, List<ModifyAccountSlotListRequestDto.SlotDto> slotDtos) {
 
         // userId != account userId이면 403
-        Account account = accountRepository.findByUuid(accountUuid).orElseThrow(() -> new AppException(ErrorCode.NOT_FOUND, "[SlotService - 036]"));
-        if(userId != account.getUser().getId()) {
-            throw new AppException(ErrorCode.FORBIDDEN, "SlotService - 037");
-        }
+        Account account = accountAccessGuard.getOwnedAccount(userId, accountUuid);
 
         // 이 account의 accountSlot 리스트
         List<AccountSlot> accountsSlots = account.getAccountSlots();
@@ -977,10 +1044,10 @@ public class SlotService {
 
                 budgetAmount += slotDto.getInitialBudget(); // 할당 예산 누적합
 
-                Slot slot = slotRepository.findByUuid(slotDto.getSlotId()).orElseThrow(() -> new AppException(ErrorCode.SLOT_NOT_FOUND, "SlotService - 037"));
+                SlotCatalog.Item slot = slotCatalog.findByUuid(slotDto.getSlotId()).orElseThrow(() -> new AppException(ErrorCode.SLOT_NOT_FOUND, "SlotService - 037"));
                 AccountSlot accountSlot = AccountSlot.builder() // AccountSlot 객체 만들고 저장
                         .account(account)
-                        .slot(slot)
+                        .slot(slotCatalog.reference(slot.id()))
                         .initialBudget(slotDto.getInitialBudget())
                         .currentBudget(slotDto.getInitialBudget())
                         .isCustom(slotDto.isCustom())
@@ -988,13 +1055,13 @@ public class SlotService {
                         .build();
 
                 accountSlotRepository.save(accountSlot);
-                slot.increaseRank(); // 슬롯 사용했으니 rank++
+                slotRepository.increaseRank(slot.id()); // 슬롯 사용했으니 rank++
 
                 // 응답 DTO
                 ModifyAccountSlotListResponseDto.SlotDto responseSlotDto = ModifyAccountSlotListResponseDto.SlotDto.builder()
                         .accountSlotId(accountSlot.getUuid())
-                        .name(slot.getName())
-                        .isSaving(slot.isSaving())
+                        .name(slot.name())
+                        .isSaving(slot.saving())
                         .isCustom(slotDto.isCustom())
                         .customName(slotDto.getCustomName())
                         .initialBudget(slotDto.getInitialBudget())
@@ -1020,9 +1087,9 @@ public class SlotService {
 
             // AccountSlot 객체들 만들어서 저장하기
             for(ModifyAccountSlotListRequestDto.SlotDto slotDto : slotDtos) {
-                Slot slot = slotRepository.findByUuid(slotDto.getSlotId()).orElseThrow(() -> new AppException(ErrorCode.SLOT_NOT_FOUND, "SlotService - 037"));
-                if(existingSlotUuids.contains(slot.getUuid())) { // 만약 기존에 있던 슬롯인데 기존의 currentBudget보다 예산을 늘린다면 예산을 늘린다고 판단하고 추가예산 총합계산
-                    AccountSlot existingAccountSlot = accountSlotRepository.findByAccountAndSlot(account, slot).orElseThrow(() -> new AppException(ErrorCode.ACCOUNT_SLOT_NOT_FOUND, "SlotService - 037"));
+                SlotCatalog.Item slot = slotCatalog.findByUuid(slotDto.getSlotId()).orElseThrow(() -> new AppException(ErrorCode.SLOT_NOT_FOUND, "SlotService - 037"));
+                if(existingSlotUuids.contains(slot.uuid())) { // 만약 기존에 있던 슬롯인데 기존의 currentBudget보다 예산을 늘린다면 예산을 늘린다고 판단하고 추가예산 총합계산
+                    AccountSlot existingAccountSlot = accountSlotRepository.findByAccountAndSlot(account, slotCatalog.reference(slot.id())).orElseThrow(() -> new AppException(ErrorCode.ACCOUNT_SLOT_NOT_FOUND, "SlotService - 037"));
                     if(slotDto.getInitialBudget() > existingAccountSlot.getCurrentBudget()) { // 이러면 예산 늘리려는 슬롯인 것
                         increaseBudgetAmount += (slotDto.getInitialBudget() - existingAccountSlot.getCurrentBudget()); // 늘리려는 예산 총합에 누적
                     }
@@ -1030,7 +1097,7 @@ public class SlotService {
 
                 AccountSlot accountSlot = AccountSlot.builder()
                         .account(account)
-                        .slot(slot)
+                        .slot(slotCatalog.reference(slot.id()))
                         .initialBudget(slotDto.getInitialBudget())
                         .currentBudget(slotDto.getInitialBudget())
                         .isCustom(slotDto.isCustom())
@@ -1038,15 +1105,15 @@ public class SlotService {
                         .build();
 
                 accountSlotRepository.save(accountSlot);
-                slot.increaseRank();
+                slotRepository.increaseRank(slot.id());
 
                 budgetAmount += slotDto.getInitialBudget();
 
                 // 응답 DTO
                 ModifyAccountSlotListResponseDto.SlotDto responseSlotDto = ModifyAccountSlotListResponseDto.SlotDto.builder()
                         .accountSlotId(accountSlot.getUuid())
-                        .name(slot.getName())
-                        .isSaving(slot.isSaving())
+                        .name(slot.name())
+                        .isSaving(slot.saving())
                         .isCustom(slotDto.isCustom())
                         .customName(slotDto.getCustomName())
                         .initialBudget(slotDto.getInitialBudget())
@@ -1062,7 +1129,7 @@ public class SlotService {
         }
 
         // 미분류 슬롯 만들어주기 (사용자가 일부러 선택하지 X)
-        Slot uncategorizedSlot = slotRepository.findById(0L).orElseThrow(() -> new AppException(ErrorCode.SLOT_NOT_FOUND, "SlotService - 037"));
+        Slot uncategorizedSlot = slotCatalog.uncategorized();
         AccountSlot uncategorizedAccountSlot = AccountSlot.builder()
                 .account(account)
                 .slot(uncategorizedSlot)
@@ -0,0 +1,128 @@
+package com.ssafy.b108.walletslot.backend.domain.slot.service;
+
+import com.ssafy.b108.walletslot.backend.domain.slot.entity.AccountSlot;
+import com.ssafy.b108.walletslot.backend.domain.slot.repository.AccountSlotRepository;
+import com.ssafy.b108.walletslot.backend.global.error.AppException;
+import com.ssafy.b108.walletslot.backend.global.error.ErrorCode;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 슬롯 지출금액(spent)과 예산초과 여부를 DB 에서 원자적으로 증감하는 카운터 입니다.
+ * 기존에는 엔티티 spent 를 읽어서 더한 뒤 flush 했기 때문에, 동기화 스케줄러와 거래 이동 / 나누기 / 더치페이가 같은 슬롯을 동시에 바꾸면
+ * 마지막 flush 가 앞의 변경을 덮어썼습니다. 여기서는 UPDATE ... SET spent = spent + ? 한 문장으로 증감하고,
+ * 같은 트랜잭션에서 반영된 값을 다시 읽어 엔티티에 맞춰둡니다 (spent 컬럼은 updatable = false 라 flush 로는 안 바뀜).
+ * 여러 건을 한 번에 반영할 때는 batch() 로 슬롯별 증감을 합쳐서 슬롯당 UPDATE 한 번, id 순서로 실행합니다 (잠금 순서 고정 → 데드락 방지).
+ */
+@Component
+@RequiredArgsConstructor
+public class SlotSpendCounter {
+
+    // Field
+    private final AccountSlotRepository accountSlotRepository;
+    private final MeterRegistry meterRegistry;
+
+    // Method
+    /** 바로 반영 (delta 가 음수면 차감) */
+    public SpendResult add(AccountSlot accountSlot, long delta) {
+        meterRegistry.counter("slot.spend.delta").increment();
+        return apply(accountSlot, delta);
+    }
+
+    /** 슬롯별로 증감을 모았다가 flush() 때 한 번에 반영 */
+    public Batch batch() {
+        return new Batch();
+    }
+
+    private SpendResult apply(AccountSlot accountSlot, long delta) {
+        if (delta == 0) {
+            return new SpendResult(accountSlot.getId(), 0, accountSlot.getSpent(), accountSlot.getCurrentBudget(), accountSlot.isBudgetExceeded());
+        }
+
+        accountSlotRepository.addSpent(accountSlot.getId(), delta);
+        AccountSlotRepository.SpendState state = accountSlotRepository.findSpendState(accountSlot.getId())
+                .orElseThrow(() -> new AppException(ErrorCode.NOT_FOUND, "[SlotSpendCounter - 001]"));
+        meterRegistry.counter("slot.spend.update").increment();
+
+        accountSlot.syncSpent(state.getSpent(), Boolean.TRUE.equals(state.getBudgetExceeded()));
+        return new SpendResult(accountSlot.getId(), delta, state.getSpent(), state.getCurrentBudget(), accountSlot.isBudgetExceeded());
+    }
+
+    // Nested Class
+    /**
+     * 반영 결과
+     * @param spent 반영 후 지출금액
+     * @param exceeded 반영 후 예산초과 여부
+     */
+    public record SpendResult(Long accountSlotId, long delta, long spent, long currentBudget, boolean exceeded) {
+
+        /** 반영 전 지출금액 */
+        public long previousSpent() {
+            return spent - delta;
+        }
+
+        /** 반영 전 예산초과 여부 (행 잠금 아래에서 계산한 값이라 동시 요청 중 한 곳에서만 true → false 전이를 봄) */
+        public boolean wasExceeded() {
+            return previousSpent() > currentBudget;
+        }
+
+        /** 이번 반영으로 예산초과가 됐는지 (예산초과 알림 기준) */
+        public boolean becameExceeded() {
+            return exceeded && !wasExceeded();
+        }
+
+        /**
+         * 배치로 합쳐진 증감 중 [pendingBefore, pendingAfter] 구간(그 슬롯에 앞서 예약된 증감 합 → 이 건까지의 합)이 예산을 처음 넘긴 건인지
+         * 반영 전 지출금액은 행 잠금 아래에서 읽은 값이라, 배치 안의 어느 거래가 예산초과를 만들었는지 정확히 고를 수 있습니다.
+         */
+        public boolean crossedBy(long pendingBefore, long pendingAfter) {
+            return becameExceeded()
+                    && previousSpent() + pendingBefore <= currentBudget
+                    && previousSpent() + pendingAfter > currentBudget;
+        }
+
+        /** 배치 안에서 pending 까지 반영했을 때의 지출금액 */
+        public long spentAfter(long pending) {
+            return previousSpent() + pending;
+        }
+    }
+
+    /** 한 번의 sweep(계좌 하나 동기화 등) 동안 슬롯별 증감을 모아두는 배치 */
+    public final class Batch {
+
+        // Field
+        private final Map<Long, AccountSlot> slots = new TreeMap<>();
+        private final Map<Long, Long> deltas = new TreeMap<>();
+
+        // Method
+        /**
+         * 증감 예약
+         * @return 메모리 기준 예상 지출금액 (안내 문구용 추정치. 예산초과 판단은 flush() 결과의 SpendResult 로)
+         */
+        public long add(AccountSlot accountSlot, long delta) {
+            meterRegistry.counter("slot.spend.delta").increment();
+            slots.putIfAbsent(accountSlot.getId(), accountSlot);
+            long pending = deltas.merge(accountSlot.getId(), delta, Long::sum);
+            return accountSlot.getSpent() + pending;
+        }
+
+        /** 지금까지 이 슬롯에 예약된 증감 합 */
+        public long pending(Long accountSlotId) {
+            return deltas.getOrDefault(accountSlotId, 0L);
+        }
+
+        /** 예약된 증감을 슬롯당 UPDATE 한 번씩 id 순으로 반영 */
+        public Map<Long, SpendResult> flush() {
+            Map<Long, SpendResult> results = new LinkedHashMap<>();
+            deltas.forEach((accountSlotId, delta) -> results.put(accountSlotId, apply(slots.get(accountSlotId), delta)));
+            slots.clear();
+            deltas.clear();
+            return results;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.ssafy.b108.walletslot.backend.domain.slot.service;
+
+import com.ssafy.b108.walletslot.backend.domain.transaction.repository.TransactionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 슬롯 삭제 시 거래를 다른 슬롯으로 청크 단위로 옮기는 빈 입니다.
+ * 청크마다 별도 트랜잭션(REQUIRES_NEW)으로 커밋해서, 거래가 많은 슬롯을 지워도 행 잠금과 undo 가 청크 하나 분량을 넘지 않게 합니다.
+ * 거래의 account_slot_id 만 바꾸므로 중간에 실패해도 다시 삭제하면 남은 거래부터 이어서 옮겨집니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class SlotTransactionMover {
+
+    // Field
+    private final TransactionRepository transactionRepository;
+
+    // Method
+    /** limit 건 옮기고 커밋, 옮긴 건수 반환 (limit 보다 작으면 끝) */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int moveChunk(Long fromAccountSlotId, Long toAccountSlotId, int limit) {
+        return transactionRepository.reassignAccountSlot(fromAccountSlotId, toAccountSlotId, limit);
+    }
+}
@@ -0,0 +1,56 @@
+package com.ssafy.b108.walletslot.backend.domain.slot.support;
+
+import com.ssafy.b108.walletslot.backend.domain.user.entity.User;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 통계 기반 슬롯 추천에서 쓰는 프로필 칸 (연령대, 성별, 직업) 입니다.
+ * 모르는 값이나 사용자가 쓰지 않겠다고 한 값은 "*"(전체)로 둡니다.
+ */
+public record ProfileKey(String ageBand, String gender, String job) {
+
+    public static final String ALL = "*";
+
+    /** 나이 → 연령대 (10대 ~ 70대 이상), 나머지는 enum 이름. null 이면 전체 */
+    public static ProfileKey of(Integer age, User.Gender gender, User.Job job) {
+        return new ProfileKey(
+                age == null ? ALL : String.valueOf(Math.min(70, Math.max(10, age / 10 * 10))),
+                gender == null ? ALL : gender.name(),
+                job == null ? ALL : job.name()
+        );
+    }
+
+    /**
+     * 세부 칸부터 전체 칸까지 넓혀가는 순서 (직업 → 성별 → 연령대 순으로 "*" 로 바꿈).
+     * 세부 칸에 표본이 부족하면 다음 칸으로 넘어갑니다.
+     */
+    public List<ProfileKey> backoff() {
+        List<ProfileKey> keys = new ArrayList<>(4);
+        ProfileKey key = this;
+        keys.add(key);
+        if (!ALL.equals(key.job)) keys.add(key = new ProfileKey(key.ageBand, key.gender, ALL));
+        if (!ALL.equals(key.gender)) keys.add(key = new ProfileKey(key.ageBand, ALL, ALL));
+        if (!ALL.equals(key.ageBand)) keys.add(new ProfileKey(ALL, ALL, ALL));
+        return keys;
+    }
+
+    /** 한 계좌가 집계되는 8개 칸 (각 차원을 그대로 두거나 "*" 로) */
+    public List<ProfileKey> rollups() {
+        List<ProfileKey> keys = new ArrayList<>(8);
+        for (int mask = 0; mask < 8; mask++) {
+            keys.add(new ProfileKey(
+                    (mask & 4) != 0 ? ALL : ageBand,
+                    (mask & 2) != 0 ? ALL : gender,
+                    (mask & 1) != 0 ? ALL : job
+            ));
+        }
+        return keys;
+    }
+
+    @Override
+    public String toString() {
+        return ageBand + "|" + gender + "|" + job;
+    }
+}
@@ -0,0 +1,115 @@
+package com.ssafy.b108.walletslot.backend.domain.slot.support;
+
+import com.ssafy.b108.walletslot.backend.domain.slot.dto.external.SSAFYGetTransactionListResponseDto;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+
+/**
+ * 슬롯 추천(5-2-1) 프롬프트에 넣을 거래내역 요약표를 만드는 집계기 입니다.
+ * 원본 거래내역을 통째로 GPT에 넘기고 월별/슬롯별 평균까지 시키던 것을, 서버에서 먼저
+ * 1) 거래처 → 슬롯 매핑(merchant_slot_decision)이 있는 거래는 슬롯별로, 2) 없는 거래는 거래처별로 합산한 뒤
+ * 기간 개월 수로 나눈 월평균만 넘깁니다.
+ * 슬롯 수 + maxMerchants 행으로 크기가 고정되므로 거래 건수가 늘어도 프롬프트 길이가 거의 변하지 않습니다.
+ */
+public final class SpendingAggregator {
+
+    private static final String OTHERS = "기타";
+
+    private SpendingAggregator() {}
+
+    /**
+     * @param transactions  SSAFY 거래내역 (출금)
+     * @param merchantSlots 거래처명 → 슬롯명 (매핑이 없는 거래처는 키가 없음)
+     * @param maxMerchants  매핑 안 된 거래처를 몇 곳까지 따로 보여줄지 (나머지와 거래처명 없는 거래는 "기타" 한 줄로 합침)
+     */
+    public static Summary aggregate(List<SSAFYGetTransactionListResponseDto.Transaction> transactions,
+                                    Map<String, String> merchantSlots,
+                                    LocalDate startDate, LocalDate endDate, int maxMerchants) {
+
+        long months = months(startDate, endDate);
+
+        Map<String, Long> slotTotals = new HashMap<>();
+        Map<String, Long> merchantTotals = new HashMap<>();
+        long unnamedTotal = 0L; // 거래처명 없는 거래 (거래처 행으로 두면 넘친 거래처 "기타" 행과 이름이 겹침)
+        long total = 0L;
+        int count = 0;
+
+        for (SSAFYGetTransactionListResponseDto.Transaction tx : transactions) {
+            long amount = parseAmount(tx.getTransactionBalance());
+            if (amount <= 0) continue;
+
+            String merchant = tx.getTransactionSummary() == null ? "" : tx.getTransactionSummary().trim();
+            String slotName = merchantSlots.get(merchant);
+            if (slotName != null) {
+                slotTotals.merge(slotName, amount, Long::sum);
+            } else if (merchant.isEmpty()) {
+                unnamedTotal += amount;
+            } else {
+                merchantTotals.merge(merchant, amount, Long::sum);
+            }
+            total += amount;
+            count++;
+        }
+
+        // 금액 큰 순, 같으면 이름 순 → 같은 입력이면 항상 같은 표 (프롬프트 캐시/재현성)
+        Comparator<Map.Entry<String, Long>> byAmount = Map.Entry.<String, Long>comparingByValue().reversed()
+                .thenComparing(Map.Entry.comparingByKey());
+
+        List<Row> slotRows = slotTotals.entrySet().stream()
+                .sorted(byAmount)
+                .map(e -> new Row(e.getKey(), monthlyAverage(e.getValue(), months)))
+                .toList();
+
+        List<Map.Entry<String, Long>> merchants = merchantTotals.entrySet().stream().sorted(byAmount).toList();
+        List<Row> merchantRows = new ArrayList<>(Math.min(merchants.size(), maxMerchants + 1));
+        long restTotal = unnamedTotal;
+        int restCount = 0;
+        for (int i = 0; i < merchants.size(); i++) {
+            Map.Entry<String, Long> e = merchants.get(i);
+            if (i < maxMerchants) {
+                merchantRows.add(new Row(e.getKey(), monthlyAverage(e.getValue(), months)));
+            } else {
+                restTotal += e.getValue();
+                restCount++;
+            }
+        }
+        if (restCount > 0) {
+            merchantRows.add(new Row(OTHERS + " (" + restCount + "곳)", monthlyAverage(restTotal, months)));
+        } else if (restTotal > 0) {
+            merchantRows.add(new Row(OTHERS, monthlyAverage(restTotal, months)));
+        }
+
+        return new Summary(months, count, monthlyAverage(total, months), slotRows, merchantRows);
+    }
+
+    /** 조회 기간의 개월 수 (6/1 ~ 8/31 → 3), 최소 1 */
+    public static long months(LocalDate startDate, LocalDate endDate) {
+        return Math.max(1L, ChronoUnit.MONTHS.between(startDate, endDate.plusDays(1)));
+    }
+
+    private static long monthlyAverage(long total, long months) {
+        return Math.round((double) total / months);
+    }
+
+    private static long parseAmount(String s) {
+        if (s == null || s.isBlank()) return 0L;
+        try {
+            return Long.parseLong(s.trim());
+        } catch (NumberFormatException e) {
+            return 0L;
+        }
+    }
+
+    // Nested Class
+    /** 이름(슬롯명 또는 거래처명)과 월평균 금액 */
+    public record Row(String name, long monthlyAverage) {}
+
+    /**
+     * @param slotRows     매핑된 거래의 슬롯별 월평균
+     * @param merchantRows 매핑 안 된 거래의 거래처별 월평균 (GPT가 슬롯을 골라줘야 하는 부분)
+     */
+    public record Summary(long months, int transactionCount, long monthlyAverageTotal,
+                          List<Row> slotRows, List<Row> merchantRows) {}
+}
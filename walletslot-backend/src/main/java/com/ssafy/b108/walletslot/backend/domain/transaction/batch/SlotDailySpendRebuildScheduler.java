@@ -0,0 +1,38 @@
+package com.ssafy.b108.walletslot.backend.domain.transaction.batch;
+
+import com.ssafy.b108.walletslot.backend.domain.transaction.service.SlotDailySpendService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SlotDailySpendRebuildScheduler {
+
+    private final SlotDailySpendService slotDailySpendService;
+
+    @Value("${scheduling.zone:Asia/Seoul}")
+    private String schedulingZone;
+
+    // 최근 며칠을 원장 기준으로 다시 맞출지 (백필할 때는 크게 잡고 한 번 돌리면 됨)
+    @Value("${daily-spend.rebuild.days:3}")
+    private int rebuildDays;
+
+    @Scheduled(cron = "${scheduling.daily-spend-rebuild.cron:0 0 4 * * *}", zone = "${scheduling.zone:Asia/Seoul}")
+    public void run() {
+        LocalDate today = LocalDate.now(ZoneId.of(schedulingZone));
+        LocalDate from = today.minusDays(rebuildDays);
+        log.info("[DAILY-SPEND][SCHED] rebuild {} ~ {}", from, today);
+        try {
+            slotDailySpendService.rebuild(from, today);
+        } catch (Exception e) {
+            log.error("[DAILY-SPEND][SCHED] rebuild failed: {}", e.toString());
+        }
+    }
+}
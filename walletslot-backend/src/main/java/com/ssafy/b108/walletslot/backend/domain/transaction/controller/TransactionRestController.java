@@ -43,8 +43,8 @@ public class TransactionRestController {
                     )
             }
     )
-    public ResponseEntity<GetAccountTransactionListResponseDto> getAccountTransactions(@AuthenticationPrincipal UserPrincipal principal, @PathVariable String accountId, @RequestParam(required = false) LocalDateTime cursor) {
-        return ResponseEntity.status(HttpStatus.OK).body(transactionService.getAccountTransactions(principal.userId(), accountId, cursor));
+    public ResponseEntity<GetAccountTransactionListResponseDto> getAccountTransactions(@AuthenticationPrincipal UserPrincipal principal, @PathVariable String accountId, @RequestParam(required = false) LocalDateTime cursor, @RequestParam(required = false) String cursorId) {
+        return ResponseEntity.status(HttpStatus.OK).body(transactionService.getAccountTransactions(principal.userId(), accountId, cursor, cursorId));
     }
 
     @GetMapping("/accounts/{accountId}/transactions/history/check")
@@ -75,8 +75,8 @@ public class TransactionRestController {
                     )
             }
     )
-    public ResponseEntity<GetAccountSlotTransactionListResponseDto> getAccountSlotTransactions(@AuthenticationPrincipal UserPrincipal principal, @PathVariable String accountId, @PathVariable String accountSlotId, @RequestParam(required = false) LocalDateTime cursor) {
-        return ResponseEntity.status(HttpStatus.OK).body(transactionService.getAccountSlotTransactions(principal.userId(), accountId, accountSlotId, cursor));
+    public ResponseEntity<GetAccountSlotTransactionListResponseDto> getAccountSlotTransactions(@AuthenticationPrincipal UserPrincipal principal, @PathVariable String accountId, @PathVariable String accountSlotId, @RequestParam(required = false) LocalDateTime cursor, @RequestParam(required = false) String cursorId) {
+        return ResponseEntity.status(HttpStatus.OK).body(transactionService.getAccountSlotTransactions(principal.userId(), accountId, accountSlotId, cursor, cursorId));
     }
 
     @GetMapping("/accounts/{accountId}/slots/{accountSlotId}/transactions/daily-spending")
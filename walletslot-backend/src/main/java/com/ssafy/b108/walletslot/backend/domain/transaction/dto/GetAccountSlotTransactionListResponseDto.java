@@ -30,6 +30,7 @@ public class GetAccountSlotTransactionListResponseDto {
         private List<TransactionDto> transactions;
         private Boolean hasNext;
         private LocalDateTime nextCursor;
+        private String nextCursorId; // 마지막 거래 uuid (nextCursor 와 같이 넘기면 같은 시각 거래도 빠짐없이 이어서 조회)
     }
 
     @Getter
@@ -0,0 +1,43 @@
+package com.ssafy.b108.walletslot.backend.domain.transaction.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * 계좌슬롯 × 일자별 거래금액 집계 입니다.
+ * 동기화/슬롯변경/금액나누기/더치페이에서 거래가 바뀔 때 같은 트랜잭션 안에서 증감(upsert)으로 갱신되고,
+ * 그래프/리포트는 거래 건수가 아니라 일수만큼의 행만 읽습니다.
+ * total_amount 는 슬롯 spent 와 같은 기준(모든 거래), spend_amount 는 입금 거래를 뺀 지출 금액입니다.
+ */
+@Entity
+@Table(
+        name = "slot_daily_spend",
+        uniqueConstraints = @UniqueConstraint(name = "uq_slot_daily_spend_slot_date", columnNames = {"account_slot_id", "spend_date"})
+)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SlotDailySpend {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "account_slot_id", nullable = false)
+    private Long accountSlotId;
+
+    @Column(name = "spend_date", nullable = false)
+    private LocalDate spendDate;
+
+    @Column(name = "total_amount", nullable = false)
+    private Long totalAmount;
+
+    @Column(name = "spend_amount", nullable = false)
+    private Long spendAmount;
+
+    @Column(name = "tx_count", nullable = false)
+    private Integer txCount;
+}
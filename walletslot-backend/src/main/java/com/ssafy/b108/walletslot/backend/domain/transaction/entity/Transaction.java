@@ -1,5 +1,6 @@
 package com.ssafy.b108.walletslot.backend.domain.transaction.entity;
 
+import com.ssafy.b108.walletslot.backend.common.converter.UuidBinaryConverter;
 import com.ssafy.b108.walletslot.backend.domain.account.entity.Account;
 import com.ssafy.b108.walletslot.backend.domain.slot.entity.AccountSlot;
 import jakarta.persistence.*;
@@ -17,11 +18,15 @@ import java.util.UUID;
 public class Transaction {
 
     // Field
+    // IDENTITY 는 insert 마다 키를 받아와야 해서 JDBC 배치가 꺼지므로, id_sequence 테이블에서 100개씩 미리 받아 씀 (pooled-lo)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "transaction_id")
+    @TableGenerator(name = "transaction_id", table = "id_sequence", pkColumnName = "name", valueColumnName = "next_val",
+            pkColumnValue = "transaction", allocationSize = 100)
     private Long id;
 
-    @Column(nullable = false, unique = true, length = 64, updatable = false)
+    @Column(nullable = false, unique = true, columnDefinition = "BINARY(16)", updatable = false)
+    @Convert(converter = UuidBinaryConverter.class)
     @Builder.Default
     private String uuid = UUID.randomUUID().toString();
 
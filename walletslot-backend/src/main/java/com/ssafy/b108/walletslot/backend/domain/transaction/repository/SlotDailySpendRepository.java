@@ -0,0 +1,87 @@
+package com.ssafy.b108.walletslot.backend.domain.transaction.repository;
+
+import com.ssafy.b108.walletslot.backend.domain.transaction.entity.SlotDailySpend;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface SlotDailySpendRepository extends JpaRepository<SlotDailySpend, Long> {
+
+    /** (계좌슬롯, 일자) 집계에 증감 반영. 행이 없으면 만들고, 있으면 더함 (원자적 upsert) */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "slot_daily_spend"))
+    @Query(value = """
+        INSERT INTO slot_daily_spend (account_slot_id, spend_date, total_amount, spend_amount, tx_count)
+        VALUES (:accountSlotId, :spendDate, :totalDelta, :spendDelta, :countDelta)
+        ON DUPLICATE KEY UPDATE
+            total_amount = total_amount + VALUES(total_amount),
+            spend_amount = spend_amount + VALUES(spend_amount),
+            tx_count     = tx_count + VALUES(tx_count)
+        """, nativeQuery = true)
+    int applyDelta(@Param("accountSlotId") Long accountSlotId,
+                   @Param("spendDate") LocalDate spendDate,
+                   @Param("totalDelta") long totalDelta,
+                   @Param("spendDelta") long spendDelta,
+                   @Param("countDelta") int countDelta);
+
+    /** 슬롯 삭제 시 집계를 다른 슬롯(미분류)으로 합치기. 원래 슬롯 행은 account_slot 삭제 시 FK CASCADE 로 지워짐 */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "slot_daily_spend"))
+    @Query(value = """
+        INSERT INTO slot_daily_spend (account_slot_id, spend_date, total_amount, spend_amount, tx_count)
+        SELECT :toAccountSlotId, d.spend_date, d.total_amount, d.spend_amount, d.tx_count
+        FROM slot_daily_spend d
+        WHERE d.account_slot_id = :fromAccountSlotId
+        ON DUPLICATE KEY UPDATE
+            total_amount = slot_daily_spend.total_amount + VALUES(total_amount),
+            spend_amount = slot_daily_spend.spend_amount + VALUES(spend_amount),
+            tx_count     = slot_daily_spend.tx_count + VALUES(tx_count)
+        """, nativeQuery = true)
+    int mergeInto(@Param("fromAccountSlotId") Long fromAccountSlotId,
+                  @Param("toAccountSlotId") Long toAccountSlotId);
+
+    /** 기준일 이후 슬롯 일별 집계 (그래프용, 오름차순) */
+    @Query(value = """
+        SELECT d.*
+        FROM slot_daily_spend d
+        JOIN account_slot a ON a.id = d.account_slot_id
+        WHERE a.uuid = UUID_TO_BIN(:accountSlotUuid)
+          AND d.spend_date >= :fromDate
+          AND d.tx_count > 0
+        ORDER BY d.spend_date ASC
+        """, nativeQuery = true)
+    List<SlotDailySpend> findByAccountSlotUuidSince(@Param("accountSlotUuid") String accountSlotUuid,
+                                                    @Param("fromDate") LocalDate fromDate);
+
+    /** 재집계: 기간 내 집계 삭제 */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "slot_daily_spend"))
+    @Query(value = "DELETE FROM slot_daily_spend WHERE spend_date BETWEEN :fromDate AND :toDate", nativeQuery = true)
+    int deleteRange(@Param("fromDate") LocalDate fromDate, @Param("toDate") LocalDate toDate);
+
+    /** 재집계: 거래 원장에서 기간 내 집계를 다시 만듦 */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "slot_daily_spend"))
+    @Query(value = """
+        INSERT INTO slot_daily_spend (account_slot_id, spend_date, total_amount, spend_amount, tx_count)
+        SELECT t.account_slot_id,
+               DATE(t.transaction_at),
+               SUM(t.amount),
+               SUM(CASE WHEN t.type IN ('입금', '입금(이체)') THEN 0 ELSE t.amount END),
+               COUNT(*)
+        FROM transaction t
+        WHERE t.transaction_at >= :fromAt
+          AND t.transaction_at <  :toAtExclusive
+        GROUP BY t.account_slot_id, DATE(t.transaction_at)
+        """, nativeQuery = true)
+    int rebuildRange(@Param("fromAt") LocalDateTime fromAt,
+                     @Param("toAtExclusive") LocalDateTime toAtExclusive);
+}
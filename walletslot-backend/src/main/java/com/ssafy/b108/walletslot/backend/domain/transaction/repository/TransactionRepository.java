@@ -2,10 +2,14 @@ package com.ssafy.b108.walletslot.backend.domain.transaction.repository;
 
 import com.ssafy.b108.walletslot.backend.domain.slot.entity.AccountSlot;
 import com.ssafy.b108.walletslot.backend.domain.transaction.entity.Transaction;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
@@ -14,21 +18,51 @@ import java.util.Optional;
 
 public interface TransactionRepository extends JpaRepository<Transaction, Long> {
 
+    /*
+     * 거래내역 목록은 (transaction_at, id) 키셋 커서로 내림차순 페이징 합니다.
+     * 분할/더치페이 거래처럼 transaction_at 이 같은 행이 여러 개여도 id 로 순서가 고정되어 페이지 경계에서 빠지거나 겹치지 않습니다.
+     * 첫 페이지와 다음 페이지를 나눈 건 (:cursor IS NULL OR ...) 처럼 쓰면 옵티마이저가 범위 스캔을 못 잡기 때문입니다.
+     * 인덱스: idx_tx_account_time (account_id, transaction_at), idx_tx_slot_time_id (account_slot_id, transaction_at, id)
+     */
     @Query(value = """
-            SELECT t.* FROM transaction t JOIN account a ON t.account_id = a.id
-            WHERE (a.uuid = :accountUuid) AND (:cursor IS NULL OR t.transaction_at < :cursor)
-            ORDER BY t.transaction_at DESC
+            SELECT t.* FROM transaction t
+            WHERE t.account_id = :accountId
+            ORDER BY t.transaction_at DESC, t.id DESC
             LIMIT :size
     """, nativeQuery = true)
-    List<Transaction> findByAccountUuid(@Param("accountUuid") String accountUuid, @Param("cursor") LocalDateTime cursor, @Param("size") int size);
+    List<Transaction> findFirstPageByAccountId(@Param("accountId") Long accountId, @Param("size") int size);
 
     @Query(value = """
-            SELECT t.* FROM transaction t JOIN account_slot a ON t.account_slot_id = a.id
-            WHERE (a.uuid = :accountSlotUuid) AND (:cursor IS NULL OR t.transaction_at < :cursor)
-            ORDER BY t.transaction_at DESC
+            SELECT t.* FROM transaction t
+            WHERE t.account_id = :accountId
+              AND (t.transaction_at < :cursorAt OR (t.transaction_at = :cursorAt AND t.id < :cursorId))
+            ORDER BY t.transaction_at DESC, t.id DESC
             LIMIT :size
     """, nativeQuery = true)
-    List<Transaction> findByAccountSlotUuid(@Param("accountSlotUuid") String accountSlotUuid, @Param("cursor") LocalDateTime cursor, @Param("size") int size);
+    List<Transaction> findNextPageByAccountId(@Param("accountId") Long accountId,
+                                              @Param("cursorAt") LocalDateTime cursorAt,
+                                              @Param("cursorId") Long cursorId,
+                                              @Param("size") int size);
+
+    @Query(value = """
+            SELECT t.* FROM transaction t
+            WHERE t.account_slot_id = :accountSlotId
+            ORDER BY t.transaction_at DESC, t.id DESC
+            LIMIT :size
+    """, nativeQuery = true)
+    List<Transaction> findFirstPageByAccountSlotId(@Param("accountSlotId") Long accountSlotId, @Param("size") int size);
+
+    @Query(value = """
+            SELECT t.* FROM transaction t
+            WHERE t.account_slot_id = :accountSlotId
+              AND (t.transaction_at < :cursorAt OR (t.transaction_at = :cursorAt AND t.id < :cursorId))
+            ORDER BY t.transaction_at DESC, t.id DESC
+            LIMIT :size
+    """, nativeQuery = true)
+    List<Transaction> findNextPageByAccountSlotId(@Param("accountSlotId") Long accountSlotId,
+                                                  @Param("cursorAt") LocalDateTime cursorAt,
+                                                  @Param("cursorId") Long cursorId,
+                                                  @Param("size") int size);
 
     @Query(value = """
             SELECT t FROM Transaction t JOIN t.accountSlot a
@@ -51,8 +85,27 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
     );
 
     List<Transaction> findByAccountSlot(AccountSlot accountSlot);
+
+    /** 슬롯의 거래를 다른 슬롯으로 옮기기 (limit 건씩 끊어서 호출, 옮긴 건수 반환) */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "transaction"))
+    @Query(value = "UPDATE `transaction` SET account_slot_id = :toAccountSlotId WHERE account_slot_id = :fromAccountSlotId LIMIT :limit", nativeQuery = true)
+    int reassignAccountSlot(@Param("fromAccountSlotId") Long fromAccountSlotId,
+                            @Param("toAccountSlotId") Long toAccountSlotId,
+                            @Param("limit") int limit);
     Optional<Transaction> findByUuid(String transactionUuid);
 
+    /** 6-1-3 거래 상세 화면 (계좌슬롯, slot 까지 한 번에, 이 계좌 + 이 슬롯의 거래만) */
+    @Query("""
+        SELECT t FROM Transaction t
+        JOIN FETCH t.accountSlot s
+        JOIN FETCH s.slot
+        WHERE t.uuid = :transactionUuid AND s.uuid = :accountSlotUuid AND t.account.id = :accountId
+        """)
+    Optional<Transaction> findDetail(@Param("accountId") Long accountId,
+                                     @Param("accountSlotUuid") String accountSlotUuid,
+                                     @Param("transactionUuid") String transactionUuid);
+
     @Query("select t.id from Transaction t where t.uuid = :uuid")
     Optional<Long> findIdByUuid(@Param("uuid") String uuid);
 
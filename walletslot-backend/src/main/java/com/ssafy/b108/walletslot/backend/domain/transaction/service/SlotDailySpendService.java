@@ -0,0 +1,65 @@
+package com.ssafy.b108.walletslot.backend.domain.transaction.service;
+
+import com.ssafy.b108.walletslot.backend.domain.transaction.entity.Transaction;
+import com.ssafy.b108.walletslot.backend.domain.transaction.repository.SlotDailySpendRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+/**
+ * 계좌슬롯 × 일자 집계(slot_daily_spend) 증감 서비스 입니다.
+ * 거래가 생기거나/옮겨지거나/금액이 바뀌는 곳에서 호출하며, 호출한 쪽 트랜잭션에 같이 묶여서 커밋/롤백됩니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class SlotDailySpendService {
+
+    // Field
+    private final SlotDailySpendRepository slotDailySpendRepository;
+
+    // Method
+    /** 새 거래 반영 */
+    public void add(Transaction transaction) {
+        apply(transaction, transaction.getAmount(), 1);
+    }
+
+    /** 거래 제거 반영 (삭제/다른 슬롯으로 이동 전) */
+    public void subtract(Transaction transaction) {
+        apply(transaction, -transaction.getAmount(), -1);
+    }
+
+    /** 거래 금액만 바뀐 경우 (건수 변화 없음) */
+    public void adjustAmount(Transaction transaction, long amountDelta) {
+        apply(transaction, amountDelta, 0);
+    }
+
+    /** 슬롯의 거래가 통째로 다른 슬롯으로 옮겨질 때 (슬롯 삭제 → 미분류) */
+    public void moveAll(Long fromAccountSlotId, Long toAccountSlotId) {
+        slotDailySpendRepository.mergeInto(fromAccountSlotId, toAccountSlotId);
+    }
+
+    /** 기간 재집계 (백필/보정용) */
+    public int rebuild(LocalDate fromDate, LocalDate toDate) {
+        slotDailySpendRepository.deleteRange(fromDate, toDate);
+        int rows = slotDailySpendRepository.rebuildRange(fromDate.atStartOfDay(), toDate.plusDays(1).atStartOfDay());
+        log.info("[DAILY-SPEND][REBUILD] {} ~ {} rows={}", fromDate, toDate, rows);
+        return rows;
+    }
+
+    private void apply(Transaction transaction, long amountDelta, int countDelta) {
+        long spendDelta = isDeposit(transaction.getType()) ? 0L : amountDelta;
+        slotDailySpendRepository.applyDelta(
+                transaction.getAccountSlot().getId(),
+                transaction.getTransactionAt().toLocalDate(),
+                amountDelta, spendDelta, countDelta);
+    }
+
+    public static boolean isDeposit(String type) {
+        return "입금".equals(type) || "입금(이체)".equals(type);
+    }
+}
@@ -10,9 +10,11 @@ import com.ssafy.b108.walletslot.backend.common.util.RandomNumberGenerator;
 import com.ssafy.b108.walletslot.backend.domain.account.dto.external.SSAFYGetAccountHolderNameResponseDto;
 import com.ssafy.b108.walletslot.backend.domain.account.entity.Account;
 import com.ssafy.b108.walletslot.backend.domain.account.repository.AccountRepository;
+import com.ssafy.b108.walletslot.backend.domain.account.service.AccountAccessGuard;
 import com.ssafy.b108.walletslot.backend.domain.notification.entity.Notification;
+import com.ssafy.b108.walletslot.backend.domain.notification.entity.NotificationEvent;
 import com.ssafy.b108.walletslot.backend.domain.notification.repository.NotificationRepository;
-import com.ssafy.b108.walletslot.backend.domain.notification.repository.PushEndpointRepository;
+import com.ssafy.b108.walletslot.backend.domain.notification.service.NotificationCoalescer;
 import com.ssafy.b108.walletslot.backend.domain.transaction.dto.external.ChatGPTRequestDto;
 import com.ssafy.b108.walletslot.backend.domain.transaction.dto.external.ChatGPTResponseDto;
 import com.ssafy.b108.walletslot.backend.domain.transaction.dto.external.ChatGPTRequestDto.AccountSlotDto;
@@ -23,9 +25,12 @@ import com.ssafy.b108.walletslot.backend.domain.transaction.dto.external.SSAFYGe
 import com.ssafy.b108.walletslot.backend.domain.slot.entity.AccountSlot;
 import com.ssafy.b108.walletslot.backend.domain.slot.entity.Slot;
 import com.ssafy.b108.walletslot.backend.domain.slot.repository.AccountSlotRepository;
-import com.ssafy.b108.walletslot.backend.domain.slot.repository.SlotRepository;
+import com.ssafy.b108.walletslot.backend.domain.slot.service.SlotCatalog;
+import com.ssafy.b108.walletslot.backend.domain.slot.service.SlotSpendCounter;
 import com.ssafy.b108.walletslot.backend.domain.transaction.dto.*;
+import com.ssafy.b108.walletslot.backend.domain.transaction.entity.SlotDailySpend;
 import com.ssafy.b108.walletslot.backend.domain.transaction.entity.Transaction;
+import com.ssafy.b108.walletslot.backend.domain.transaction.repository.SlotDailySpendRepository;
 import com.ssafy.b108.walletslot.backend.domain.transaction.repository.TransactionRepository;
 import com.ssafy.b108.walletslot.backend.domain.user.entity.Email;
 import com.ssafy.b108.walletslot.backend.domain.user.entity.User;
@@ -33,7 +38,10 @@ import com.ssafy.b108.walletslot.backend.domain.user.repository.EmailRepository;
 import com.ssafy.b108.walletslot.backend.domain.user.repository.UserRepository;
 import com.ssafy.b108.walletslot.backend.global.error.AppException;
 import com.ssafy.b108.walletslot.backend.global.error.ErrorCode;
-import com.ssafy.b108.walletslot.backend.infrastructure.fcm.service.FcmService;
+import com.ssafy.b108.walletslot.backend.infrastructure.llm.service.LlmGateway;
+import com.ssafy.b108.walletslot.backend.infrastructure.llm.util.LlmUpstream;
+import com.ssafy.b108.walletslot.backend.infrastructure.llm.util.LlmUseCase;
+import com.ssafy.b108.walletslot.backend.infrastructure.fcm.service.FcmFanoutService;
 import org.springframework.cglib.core.Local;
 import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
@@ -65,20 +73,23 @@ public class TransactionService {
 
     // Field
     private final TransactionRepository transactionRepository;
+    private final SlotDailySpendRepository slotDailySpendRepository;
     private final AccountRepository accountRepository;
+    private final AccountAccessGuard accountAccessGuard;
     private final AccountSlotRepository accountSlotRepository;
-    private final SlotRepository slotRepository;
+    private final SlotCatalog slotCatalog;
+    private final SlotSpendCounter slotSpendCounter;
     private final UserRepository userRepository;
     private final MerchantSlotDecisionRepository merchantSlotDecisionRepository;
     private final NotificationRepository notificationRepository;
-    private final PushEndpointRepository pushEndpointRepository;
     private final EmailRepository emailRepository;
-    private final FcmService fcmService;
+    private final FcmFanoutService fcmFanoutService;
+    private final NotificationCoalescer notificationCoalescer;
+    private final LlmGateway llmGateway;
+    private final SlotDailySpendService slotDailySpendService;
     private final RestTemplate restTemplate;
 
-    @Qualifier("ssafyGmsWebClient") private final WebClient ssafyGmsWebClient;
     @Qualifier("fcmWebClient") private final WebClient fcmWebClient;
-    @Qualifier("gptWebClient") private final WebClient gptWebClient;
 
     @Value("${api.ssafy.finance.apiKey}")
     private String ssafyFinanceApiKey;
@@ -91,22 +102,21 @@ public class TransactionService {
     /**
      * 6-1-1 계좌 거래내역 전체조회
      */
-    public GetAccountTransactionListResponseDto getAccountTransactions(Long userId, String accountUuid, LocalDateTime cursor) {
+    public GetAccountTransactionListResponseDto getAccountTransactions(Long userId, String accountUuid, LocalDateTime cursor, String cursorId) {
 
         // userId != account userId 이면 403
-        Account account = accountRepository.findByUuid(accountUuid).orElseThrow(() -> new AppException(ErrorCode.NOT_FOUND, "TransactionService - 001"));
-        if(userId != account.getUser().getId()) {
-            throw new AppException(ErrorCode.FORBIDDEN, "TransactionService - 002");
-        }
+        Long accountId = accountAccessGuard.getOwnedAccountId(userId, accountUuid);
 
         // dto > data > transactions
-        List<Transaction> transactions = transactionRepository.findByAccountUuid(accountUuid, cursor, pageSize);
+        List<Transaction> transactions = (cursor == null)
+                ? transactionRepository.findFirstPageByAccountId(accountId, pageSize)
+                : transactionRepository.findNextPageByAccountId(accountId, cursor, resolveCursorId(cursorId), pageSize);
 
         // hasNext 계산
         boolean hasNext = (transactions.size() == pageSize);
-        LocalDateTime nextCursor = hasNext
-                ? transactions.get(transactions.size() - 1).getTransactionAt() // NativeQuery에서 < 으로 비교할 거라서 맨 마지막 값으로 줘도 됨
-                : null;
+        Transaction last = hasNext ? transactions.get(transactions.size() - 1) : null; // NativeQuery에서 (transaction_at, id) < 로 비교할 거라서 맨 마지막 값으로 줘도 됨
+        LocalDateTime nextCursor = (last != null) ? last.getTransactionAt() : null;
+        String nextCursorId = (last != null) ? last.getUuid() : null;
 
         List<GetAccountTransactionListResponseDto.TransactionDto> transactionDtoList = new ArrayList<>();
         for(Transaction transaction : transactions) {
@@ -128,7 +138,7 @@ public class TransactionService {
         GetAccountTransactionListResponseDto getAccountTransactionListResponseDto = GetAccountTransactionListResponseDto.builder()
                 .success(true)
                 .message("[TransactionService - 003] 계좌 거래내역 전체조회 성공")
-                .data(GetAccountTransactionListResponseDto.Data.builder().transactions(transactionDtoList).hasNext(hasNext).nextCursor(nextCursor).build())
+                .data(GetAccountTransactionListResponseDto.Data.builder().transactions(transactionDtoList).hasNext(hasNext).nextCursor(nextCursor).nextCursorId(nextCursorId).build())
                 .build();
 
         // 응답
@@ -144,10 +154,7 @@ public class TransactionService {
         User user = userRepository.findById(userId).orElseThrow(() -> new AppException(ErrorCode.USER_NOT_FOUND, "TransactionService - 001"));
 
         // userId != account userId 이면 403 응답
-        Account account = accountRepository.findByUuid(accountUuid).orElseThrow(() -> new AppException(ErrorCode.NOT_FOUND, "TransactionService - 004"));
-        if(userId != account.getUser().getId()) {
-            throw new AppException(ErrorCode.FORBIDDEN, "TransactionService - 005");
-        }
+        Account account = accountAccessGuard.getOwnedAccount(userId, accountUuid);
 
         // SSAFY 금융 API >>>>> 2.4.6 예금주 조회
         // 요청보낼 url
@@ -276,28 +283,27 @@ public class TransactionService {
     /**
      * 6-1-2 슬롯 거래내역 전체조회
      */
-    public GetAccountSlotTransactionListResponseDto getAccountSlotTransactions(Long userId, String accountUuid, String accountSlotUuid, LocalDateTime cursor) {
+    public GetAccountSlotTransactionListResponseDto getAccountSlotTransactions(Long userId, String accountUuid, String accountSlotUuid, LocalDateTime cursor, String cursorId) {
 
         // userId != account userId 이면 403 응답
-        Account account = accountRepository.findByUuid(accountUuid).orElseThrow(() -> new AppException(ErrorCode.NOT_FOUND, "TransactionService - 004"));
-        if(userId != account.getUser().getId()) {
-            throw new AppException(ErrorCode.FORBIDDEN, "TransactionService - 005");
-        }
+        Long accountId = accountAccessGuard.getOwnedAccountId(userId, accountUuid);
 
-        // account != account slot의 account 이면 400 응답
-        AccountSlot accountSlot = accountSlotRepository.findByUuid(accountSlotUuid).orElseThrow(() -> new AppException(ErrorCode.NOT_FOUND, "TransactionService - 006"));
-        if(!account.getUuid().equals(accountSlot.getAccount().getUuid())) {
-            throw new AppException(ErrorCode.BAD_REQUEST, "TransactionService - 007");
-        }
+        // account != account slot의 account 이면 400 응답 (슬롯 자체가 없으면 404)
+        Long accountSlotId = accountSlotRepository.findIdByAccountIdAndUuid(accountId, accountSlotUuid).orElseThrow(() ->
+                accountSlotRepository.existsByUuid(accountSlotUuid)
+                        ? new AppException(ErrorCode.BAD_REQUEST, "TransactionService - 007")
+                        : new AppException(ErrorCode.NOT_FOUND, "TransactionService - 006"));
 
         // dto > data > transactions
-        List<Transaction> transactions =  transactionRepository.findByAccountSlotUuid(accountSlotUuid, cursor, pageSize);
+        List<Transaction> transactions = (cursor == null)
+                ? transactionRepository.findFirstPageByAccountSlotId(accountSlotId, pageSize)
+                : transactionRepository.findNextPageByAccountSlotId(accountSlotId, cursor, resolveCursorId(cursorId), pageSize);
 
         // hasNext 계산
         boolean hasNext = (transactions.size() == pageSize);
-        LocalDateTime nextCursor = hasNext
-                ? transactions.get(transactions.size() - 1).getTransactionAt()
-                : null;
+        Transaction last = hasNext ? transactions.get(transactions.size() - 1) : null;
+        LocalDateTime nextCursor = (last != null) ? last.getTransactionAt() : null;
+        String nextCursorId = (last != null) ? last.getUuid() : null;
 
         List<GetAccountSlotTransactionListResponseDto.TransactionDto> transactionDtoList = new ArrayList<>();
         for(Transaction transaction : transactions) {
@@ -319,7 +325,7 @@ public class TransactionService {
         GetAccountSlotTransactionListResponseDto getAccountSlotTransactionListResponseDto = GetAccountSlotTransactionListResponseDto.builder()
                 .success(true)
                 .message("[TransactionService - 008] 슬롯 거래내역 전체조회 성공")
-                .data(GetAccountSlotTransactionListResponseDto.Data.builder().transactions(transactionDtoList).hasNext(hasNext).nextCursor(nextCursor).build())
+                .data(GetAccountSlotTransactionListResponseDto.Data.builder().transactions(transactionDtoList).hasNext(hasNext).nextCursor(nextCursor).nextCursorId(nextCursorId).build())
                 .build();
 
         // 응답
@@ -332,10 +338,7 @@ public class TransactionService {
     public GetAccountSlotTransactionDailySpendingResponseDto getAccountSlotTransactionDailySpending(Long userId, String accountUuid, String accountSlotUuid) {
 
         // userId != account userId 이면 403 응답
-        Account account = accountRepository.findByUuid(accountUuid).orElseThrow(() -> new AppException(ErrorCode.NOT_FOUND, "TransactionService - 004"));
-        if(userId != account.getUser().getId()) {
-            throw new AppException(ErrorCode.FORBIDDEN, "TransactionService - 005");
-        }
+        Account account = accountAccessGuard.getOwnedAccount(userId, accountUuid);
 
         // account != account slot의 account 이면 400 응답
         AccountSlot accountSlot = accountSlotRepository.findByUuid(accountSlotUuid).orElseThrow(() -> new AppException(ErrorCode.NOT_FOUND, "TransactionService - 006"));
@@ -361,26 +364,17 @@ public class TransactionService {
             startDate = today.withDayOfMonth(baseDay).minusMonths(1).atStartOfDay();
         }
 
-        // startDate 이후의 slot 거래내역 전체조회하기 (오름차순)
-        List<Transaction> all = transactionRepository.findByAccountSlotUuidForGraph(accountSlotUuid, startDate);
-
-        // 지출만 남기기: "입금", "입금(이체)" 는 제외
-        List<Transaction> spending = new ArrayList<>();
-        for (Transaction t : all) {
-            String name = t.getType(); // 저장 시 transactionTypeName 넣었던 필드
-            boolean isDeposit = "입금".equals(name) || "입금(이체)".equals(name);
-            if (!isDeposit) {
-                spending.add(t);
-            }
-        }
+        // startDate 이후의 slot 일별 지출 집계 조회하기 (오름차순, 입금 제외 금액은 집계 시점에 분리돼 있음)
+        List<SlotDailySpend> dailySpends = slotDailySpendRepository.findByAccountSlotUuidSince(accountSlotUuid, startDate.toLocalDate());
 
-        // dto > data > transactions
+        // dto > data > transactions (일자별 1건)
         List<GetAccountSlotTransactionDailySpendingResponseDto.TransactionDto> transactionDtos = new ArrayList<>();
-        for (Transaction t : spending) {
+        for (SlotDailySpend d : dailySpends) {
+            if (d.getSpendAmount() == 0L) continue; // 입금만 있던 날은 제외
             transactionDtos.add(
                     GetAccountSlotTransactionDailySpendingResponseDto.TransactionDto.builder()
-                            .date(t.getTransactionAt().toLocalDate())
-                            .spent(t.getAmount())
+                            .date(d.getSpendDate())
+                            .spent(d.getSpendAmount())
                             .build()
             );
         }
@@ -401,24 +395,16 @@ public class TransactionService {
     public GetAccountSlotTransactionDetailResponseDto getAccountSlotTransactionDetail(Long userId, String accountUuid, String accountSlotUuid, String transactionUuid) {
 
         // userId != account userId 이면 403 응답
-        Account account = accountRepository.findByUuid(accountUuid).orElseThrow(() -> new AppException(ErrorCode.NOT_FOUND, "TransactionService - 004"));
-        if(userId != account.getUser().getId()) {
-            throw new AppException(ErrorCode.FORBIDDEN, "TransactionService - 005");
-        }
-
-        // account != account slot의 account 이면 400 응답
-        AccountSlot accountSlot = accountSlotRepository.findByUuid(accountSlotUuid).orElseThrow(() -> new AppException(ErrorCode.NOT_FOUND, "TransactionService - 006"));
-        if(!account.getUuid().equals(accountSlot.getAccount().getUuid())) {
-            throw new AppException(ErrorCode.BAD_REQUEST, "TransactionService - 007");
-        }
+        Long accountId = accountAccessGuard.getOwnedAccountId(userId, accountUuid);
 
-        // Transaction 객체 조회
-        Transaction transaction = transactionRepository.findByUuid(transactionUuid).orElseThrow(() -> new AppException(ErrorCode.NOT_FOUND, "TransactionService - 008"));
+        // Transaction + AccountSlot + slot 한 번에 조회 (이 계좌, 이 슬롯의 거래가 아니면 404)
+        Transaction transaction = transactionRepository.findDetail(accountId, accountSlotUuid, transactionUuid).orElseThrow(() -> new AppException(ErrorCode.NOT_FOUND, "TransactionService - 008"));
+        AccountSlot accountSlot = transaction.getAccountSlot();
 
         // dto > slot
         GetAccountSlotTransactionDetailResponseDto.SlotDto slotDto = GetAccountSlotTransactionDetailResponseDto.SlotDto.builder()
                 .accountSlotId(accountSlotUuid)
-                .name(accountSlot.getName())
+                .name(accountSlot.getName()) // findDetail 이 slot 까지 fetch join
                 .build();
 
         // dto > transaction
@@ -451,10 +437,7 @@ public class TransactionService {
         User user = userRepository.findById(userId).orElseThrow(() -> new AppException(ErrorCode.USER_NOT_FOUND, "TransactionService - 001"));
 
         // userId != account userId 이면 403 응답
-        Account account = accountRepository.findByUuid(accountUuid).orElseThrow(() -> new AppException(ErrorCode.NOT_FOUND, "TransactionService - 009"));
-        if(userId != account.getUser().getId()) {
-            throw new AppException(ErrorCode.FORBIDDEN, "TransactionService - 010");
-        }
+        Account account = accountAccessGuard.getOwnedAccount(userId, accountUuid);
 
         // accountSlot이 이 account의 슬롯이 아니면 400 응답
         AccountSlot newAccountSlot = accountSlotRepository.findByUuid(accountSlotUuid).orElseThrow(() -> new AppException(ErrorCode.NOT_FOUND, "TransactionService - 011"));
@@ -467,85 +450,52 @@ public class TransactionService {
 
         // transaction의 account slot을 새로운 account slot 객체로 바꿔주기
         AccountSlot oldAccountSlot = transaction.getAccountSlot();
+        slotDailySpendService.subtract(transaction); // 일별 집계도 기존 슬롯에서 빼고
         transaction.changeAccountSlot(newAccountSlot);
+        slotDailySpendService.add(transaction); // 새로운 슬롯에 더하기
 
-        oldAccountSlot.decreaseSpent(transaction.getAmount()); // 기존 account slot의 지출금액 minus
-        newAccountSlot.increaseSpent(transaction.getAmount()); // 새로운 account slot 지출금액 add
+        // 기존 account slot 지출금액 minus, 새로운 account slot 지출금액 add (슬롯 id 순으로 원자적 UPDATE)
+        SlotSpendCounter.Batch spendBatch = slotSpendCounter.batch();
+        spendBatch.add(oldAccountSlot, -transaction.getAmount());
+        spendBatch.add(newAccountSlot, transaction.getAmount());
+        Map<Long, SlotSpendCounter.SpendResult> spendResults = spendBatch.flush();
 
         // isBudgetExceeded 여부 다시 조사
-        if(oldAccountSlot.getSpent() > oldAccountSlot.getCurrentBudget()) {
-            if(oldAccountSlot.isBudgetExceeded() == true) {
-                // 원래도 true였으면 그냥 가만히 있으면 됨
-            } else { // 그게 아니라 원래는 false 였다면 true로 바꿔주고, 푸시알림 보내야 함
-                oldAccountSlot.updateIsBudgetExceeded(true);
-
-                String title = "[⚠️예산초과] " + oldAccountSlot.getName() + "슬롯의 예산이 초과됐어요!";
-                String body = "(초과금액: " + (oldAccountSlot.getSpent() - oldAccountSlot.getCurrentBudget()) + "원)";
-
-                Notification notification = Notification.builder()
-                        .user(user)
-                        .title(title)
-                        .body(body)
-                        .type(Notification.Type.BUDGET)
-                        .build();
+        if(spendResults.get(oldAccountSlot.getId()).becameExceeded()) { // 이번 증감으로 예산초과가 됐으면 푸시알림 (isBudgetExceeded 는 UPDATE 에서 이미 다시 계산됨)
+            String title = "[⚠️예산초과] " + slotName(oldAccountSlot) + "슬롯의 예산이 초과됐어요!";
+            String body = "(초과금액: " + (oldAccountSlot.getSpent() - oldAccountSlot.getCurrentBudget()) + "원)";
+
+            Notification notification = Notification.builder()
+                    .user(user)
+                    .title(title)
+                    .body(body)
+                    .type(Notification.Type.BUDGET)
+                    .build();
 
-                // Notification 객체 저장
-                notificationRepository.save(notification);
+            // Notification 객체 저장
+            notificationRepository.save(notification);
 
-                // 위에서 만든 notification 푸시알림 보내기
-                String targetFcmToken = pushEndpointRepository.findByUser(user).orElseThrow(() -> new AppException(ErrorCode.MISSING_PUSH_ENDPOINT, "TransactionService - 000")).getToken();
-                fcmService.sendMessage(targetFcmToken, notification.getTitle(), notification.getBody())
-                        .subscribe(
-                                response -> {
-                                    System.out.println("✅ [TransactionService - 000] 예산초과 알림 전송 성공 " + response);
-                                    notification.updateIsDelivered(true);
-                                },
-                                error -> {
-                                    System.err.println("❌ [TransactionService - 000] 예산초과 알림 전송 실패 : " + error.getMessage());
-                                    notification.updateIsDelivered(false);
-                                }
-                        );
-            }
-        } else {
-            oldAccountSlot.updateIsBudgetExceeded(false);
+            // 위에서 만든 notification 푸시알림 보내기
+            fcmFanoutService.sendNotification(notification);
         }
 
         // isBudgetExceeded 여부 다시 조사
-        if(newAccountSlot.getSpent() > newAccountSlot.getCurrentBudget()) {
-            if(newAccountSlot.isBudgetExceeded() == true) {
-                // 원래도 true였으면 그냥 가만히 있으면 됨
-            } else { // 그게 아니라 원래는 false 였다면 true로 바꿔주고, 푸시알림 보내야 함
-                newAccountSlot.updateIsBudgetExceeded(true);
-
-                String title = "[⚠️예산초과] " + newAccountSlot.getName() + "슬롯의 예산이 초과됐어요!";
-                String body = "(초과금액: " + (newAccountSlot.getSpent() - newAccountSlot.getCurrentBudget()) + "원)";
-
-                Notification notification = Notification.builder()
-                        .user(user)
-                        .title(title)
-                        .body(body)
-                        .type(Notification.Type.BUDGET)
-                        .build();
+        if(spendResults.get(newAccountSlot.getId()).becameExceeded()) { // 이번 증감으로 예산초과가 됐으면 푸시알림 (isBudgetExceeded 는 UPDATE 에서 이미 다시 계산됨)
+            String title = "[⚠️예산초과] " + slotName(newAccountSlot) + "슬롯의 예산이 초과됐어요!";
+            String body = "(초과금액: " + (newAccountSlot.getSpent() - newAccountSlot.getCurrentBudget()) + "원)";
+
+            Notification notification = Notification.builder()
+                    .user(user)
+                    .title(title)
+                    .body(body)
+                    .type(Notification.Type.BUDGET)
+                    .build();
 
-                // Notification 객체 저장
-                notificationRepository.save(notification);
+            // Notification 객체 저장
+            notificationRepository.save(notification);
 
-                // 위에서 만든 notification 푸시알림 보내기
-                String targetFcmToken = pushEndpointRepository.findByUser(user).orElseThrow(() -> new AppException(ErrorCode.MISSING_PUSH_ENDPOINT, "TransactionService - 000")).getToken();
-                fcmService.sendMessage(targetFcmToken, notification.getTitle(), notification.getBody())
-                        .subscribe(
-                                response -> {
-                                    System.out.println("✅ [TransactionService - 000] 예산초과 알림 전송 성공 " + response);
-                                    notification.updateIsDelivered(true);
-                                },
-                                error -> {
-                                    System.err.println("❌ [TransactionService - 000] 예산초과 알림 전송 실패 : " + error.getMessage());
-                                    notification.updateIsDelivered(false);
-                                }
-                        );
-            }
-        } else {
-            newAccountSlot.updateIsBudgetExceeded(false);
+            // 위에서 만든 notification 푸시알림 보내기
+            fcmFanoutService.sendNotification(notification);
         }
 
         // oldAccountSlot 초과된 금액 계산 (초과하지 않았으면 0으로 세팅)
@@ -563,8 +513,8 @@ public class TransactionService {
         // dto > data > originalTransaction > slot
         ModifyTransactionResponseDto.SlotDto originalAccountSlotDto = ModifyTransactionResponseDto.SlotDto.builder()
                 .accountSlotId(oldAccountSlot.getUuid())
-                .name(oldAccountSlot.getSlot().getName())
-                .isSaving(oldAccountSlot.getSlot().isSaving())
+                .name(catalogSlot(oldAccountSlot).name())
+                .isSaving(catalogSlot(oldAccountSlot).saving())
                 .isCustom(oldAccountSlot.isCustom())
                 .customName(oldAccountSlot.getCustomName())
                 .currentBudget(oldAccountSlot.getCurrentBudget())
@@ -589,8 +539,8 @@ public class TransactionService {
         // dto > data > reassignedTransaction > slot
         ModifyTransactionResponseDto.SlotDto reassignedAccountSlotDto = ModifyTransactionResponseDto.SlotDto.builder()
                 .accountSlotId(newAccountSlot.getUuid())
-                .name(newAccountSlot.getSlot().getName())
-                .isSaving(newAccountSlot.getSlot().isSaving())
+                .name(catalogSlot(newAccountSlot).name())
+                .isSaving(catalogSlot(newAccountSlot).saving())
                 .isCustom(newAccountSlot.isCustom())
                 .customName(newAccountSlot.getCustomName())
                 .currentBudget(newAccountSlot.getCurrentBudget())
@@ -638,10 +588,7 @@ public class TransactionService {
         User user = userRepository.findById(userId).orElseThrow(() -> new AppException(ErrorCode.USER_NOT_FOUND, "TransactionService - 000"));
 
         // userId != account userId 이면 403 응답
-        Account account = accountRepository.findByUuid(accountUuid).orElseThrow(() -> new AppException(ErrorCode.NOT_FOUND, "TransactionService - 015"));
-        if(userId != account.getUser().getId()) {
-            throw new AppException(ErrorCode.FORBIDDEN, "TransactionService - 016");
-        }
+        Account account = accountAccessGuard.getOwnedAccount(userId, accountUuid);
 
         // transaction 조회
         Transaction originalTransaction = transactionRepository.findByUuid(transactionUuid).orElseThrow(() -> new AppException(ErrorCode.NOT_FOUND, "TransactionService - 017"));
@@ -649,43 +596,24 @@ public class TransactionService {
         // originalTransaction이 속해있던 account slot의 지출금액 회복시키기
         // account slot 조회 후 지출금액 등 값 조정
         AccountSlot originalTransactionAccountSlot = originalTransaction.getAccountSlot();
-        originalTransactionAccountSlot.decreaseSpent(originalTransaction.getAmount()); // 지출금액 다시 줄여놓기
+        SlotSpendCounter.SpendResult originalSpend = slotSpendCounter.add(originalTransactionAccountSlot, -originalTransaction.getAmount()); // 지출금액 다시 줄여놓기
         // isBudgetExceeded 다시 검사
-        if(originalTransactionAccountSlot.getSpent() > originalTransactionAccountSlot.getCurrentBudget()) {
-            if(originalTransactionAccountSlot.isBudgetExceeded() == true) {
-                // 원래도 true였으면 그냥 가만히 있으면 됨
-            } else { // 그게 아니라 원래는 false 였다면 true로 바꿔주고, 푸시알림 보내야 함
-                originalTransactionAccountSlot.updateIsBudgetExceeded(true);
-
-                String title = "[⚠️예산초과] " + originalTransactionAccountSlot.getName() + "슬롯의 예산이 초과됐어요!";
-                String body = "(초과금액: " + (originalTransactionAccountSlot.getSpent() - originalTransactionAccountSlot.getCurrentBudget()) + "원)";
-
-                Notification notification = Notification.builder()
-                        .user(user)
-                        .title(title)
-                        .body(body)
-                        .type(Notification.Type.BUDGET)
-                        .build();
+        if(originalSpend.becameExceeded()) { // 이번 증감으로 예산초과가 됐으면 푸시알림 (isBudgetExceeded 는 UPDATE 에서 이미 다시 계산됨)
+            String title = "[⚠️예산초과] " + slotName(originalTransactionAccountSlot) + "슬롯의 예산이 초과됐어요!";
+            String body = "(초과금액: " + (originalTransactionAccountSlot.getSpent() - originalTransactionAccountSlot.getCurrentBudget()) + "원)";
+
+            Notification notification = Notification.builder()
+                    .user(user)
+                    .title(title)
+                    .body(body)
+                    .type(Notification.Type.BUDGET)
+                    .build();
 
-                // Notification 객체 저장
-                notificationRepository.save(notification);
+            // Notification 객체 저장
+            notificationRepository.save(notification);
 
-                // 위에서 만든 notification 푸시알림 보내기
-                String targetFcmToken = pushEndpointRepository.findByUser(user).orElseThrow(() -> new AppException(ErrorCode.MISSING_PUSH_ENDPOINT, "TransactionService - 000")).getToken();
-                fcmService.sendMessage(targetFcmToken, notification.getTitle(), notification.getBody())
-                        .subscribe(
-                                response -> {
-                                    System.out.println("✅ [TransactionService - 000] 예산초과 알림 전송 성공: " + response);
-                                    notification.updateIsDelivered(true);
-                                },
-                                error -> {
-                                    System.err.println("❌ [TransactionService - 000] 예산초과 알림 전송 실패: " + error.getMessage());
-                                    notification.updateIsDelivered(false);
-                                }
-                        );
-            }
-        } else {
-            originalTransactionAccountSlot.updateIsBudgetExceeded(false);
+            // 위에서 만든 notification 푸시알림 보내기
+            fcmFanoutService.sendNotification(notification);
         }
 
         // splitTransactions 돌면서 각각 Transaction 객체 만들어서 save.
@@ -700,7 +628,7 @@ public class TransactionService {
 
             // AccountSlot 조회
             AccountSlot splitAccountSlot = accountSlotRepository.findByUuid(splitTransactionDto.getAccountSlotId()).orElseThrow(() -> new AppException(ErrorCode.NOT_FOUND, "TransactionService - 018"));
-            Slot slot = splitAccountSlot.getSlot();  // 나눌 슬롯 정보도 줘야하니깐 Slot 객체 얻어놓기
+            SlotCatalog.Item slot = catalogSlot(splitAccountSlot);  // 나눌 슬롯 정보도 줘야하니깐 슬롯 원본 정보 얻어놓기 (카탈로그)
 
             // Transaction 객체 만들기
             Transaction splitTransaction = Transaction.builder()
@@ -717,46 +645,28 @@ public class TransactionService {
 
             // 저장
             transactionRepository.save(splitTransaction);
+            slotDailySpendService.add(splitTransaction);
 
             // splitAccountSlot 지출금액 늘리기
-            splitAccountSlot.increaseSpent(splitTransactionDto.getAmount());
+            SlotSpendCounter.SpendResult splitSpend = slotSpendCounter.add(splitAccountSlot, splitTransactionDto.getAmount());
 
             // splitAccountSlot isBudgetExceeded 다시 검사
-            if(splitAccountSlot.getSpent() > splitAccountSlot.getCurrentBudget()) {
-                if(splitAccountSlot.isBudgetExceeded() == true) {
-                    // 원래도 true였으면 그냥 가만히 있으면 됨
-                } else { // 그게 아니라 원래는 false 였다면 true로 바꿔주고, 푸시알림 보내야 함
-                    splitAccountSlot.updateIsBudgetExceeded(true);
+            if(splitSpend.becameExceeded()) { // 이번 증감으로 예산초과가 됐으면 푸시알림 (isBudgetExceeded 는 UPDATE 에서 이미 다시 계산됨)
+                String title = "[⚠️예산초과] " + slotName(splitAccountSlot) + "슬롯의 예산이 초과됐어요!";
+                String body = "(초과금액: " + (splitAccountSlot.getSpent() - splitAccountSlot.getCurrentBudget()) + "원)";
 
-                    String title = "[⚠️예산초과] " + splitAccountSlot.getName() + "슬롯의 예산이 초과됐어요!";
-                    String body = "(초과금액: " + (splitAccountSlot.getSpent() - splitAccountSlot.getCurrentBudget()) + "원)";
+                Notification notification = Notification.builder()
+                        .user(user)
+                        .title(title)
+                        .body(body)
+                        .type(Notification.Type.BUDGET)
+                        .build();
 
-                    Notification notification = Notification.builder()
-                            .user(user)
-                            .title(title)
-                            .body(body)
-                            .type(Notification.Type.BUDGET)
-                            .build();
+                // Notification 객체 저장
+                notificationRepository.save(notification);
 
-                    // Notification 객체 저장
-                    notificationRepository.save(notification);
-
-                    // 위에서 만든 notification 푸시알림 보내기
-                    String targetFcmToken = pushEndpointRepository.findByUser(user).orElseThrow(() -> new AppException(ErrorCode.MISSING_PUSH_ENDPOINT, "TransactionService - 000")).getToken();
-                    fcmService.sendMessage(targetFcmToken, notification.getTitle(), notification.getBody())
-                            .subscribe(
-                                    response -> {
-                                        System.out.println("✅ [TransactionService - 000] 예산초과 알림 전송 성공: " + response);
-                                        notification.updateIsDelivered(true);
-                                    },
-                                    error -> {
-                                        System.err.println("❌ [TransactionService - 000] 예산초과 알림 전송 실패: " + error.getMessage());
-                                        notification.updateIsDelivered(false);
-                                    }
-                            );
-                }
-            } else {
-                splitAccountSlot.updateIsBudgetExceeded(false);
+                // 위에서 만든 notification 푸시알림 보내기
+                fcmFanoutService.sendNotification(notification);
             }
 
             // dto > data > splitTransactions > slot
@@ -775,8 +685,8 @@ public class TransactionService {
             // dto > data > splitTransactions > slot
             AddSplitTransactionsResponseDto.SlotDto slotDto = AddSplitTransactionsResponseDto.SlotDto.builder()
                     .accountSlotId(splitTransactionDto.getAccountSlotId())
-                    .name(slot.getName()) // 원본 슬롯이름. (AccountSlot 엔티티에 getName() 메서드 만들기 전에 작성한 비즈니스 로직이라ㅠ)
-                    .isSaving(slot.isSaving())
+                    .name(slot.name()) // 원본 슬롯이름. (AccountSlot 엔티티에 getName() 메서드 만들기 전에 작성한 비즈니스 로직이라ㅠ)
+                    .isSaving(slot.saving())
                     .isCustom(splitAccountSlot.isCustom())
                     .customName(splitAccountSlot.getCustomName())
                     .currentBudget(splitAccountSlot.getCurrentBudget())
@@ -825,6 +735,7 @@ public class TransactionService {
                 .build();
 
         // originalTransaction 삭제
+        slotDailySpendService.subtract(originalTransaction);
         transactionRepository.delete(originalTransaction);
 
         // 응답
@@ -842,10 +753,7 @@ public class TransactionService {
         AccountSlot originalAccountSlot = originalTransaction.getAccountSlot();
 
         // userId != account userId 이면 403 응답
-        Account account = accountRepository.findByUuid(accountUuid).orElseThrow(() -> new AppException(ErrorCode.NOT_FOUND, "TransactionService - 021"));
-        if(userId != account.getUser().getId()) {
-            throw new AppException(ErrorCode.FORBIDDEN, "TransactionService - 022");
-        }
+        Account account = accountAccessGuard.getOwnedAccount(userId, accountUuid);
 
         // 변경 전 지출금액과 거래 후 잔액 값 저장해두기
         Long originalAmount = originalTransaction.getAmount();
@@ -857,51 +765,33 @@ public class TransactionService {
         // originalTransaction의 지출금액, 거래 후 잔액 값 조정
         originalTransaction.decreaseAmount(originalAmount - perPersonAmount);
         originalTransaction.increaseBalance(originalAmount - perPersonAmount);
-
-        // originalAccountSlot spent, isBudgetExceeded 필드 조정하기 전에 값들 미리 저장해두기 (응답할 때 더처페이하기 전의 슬롯상태도 보여줘야 하기 때문에)
-        Long originalSpent = originalAccountSlot.getSpent();
-        Long originalCurrentBudget = originalAccountSlot.getCurrentBudget();
-        boolean originalIsBudgetExceeded = originalAccountSlot.isBudgetExceeded();
+        slotDailySpendService.adjustAmount(originalTransaction, -(originalAmount - perPersonAmount));
 
         // originalAccountSlot 지출금액 1/n만 남겨두고 조정
-        originalAccountSlot.decreaseSpent(originalAmount - perPersonAmount);
+        SlotSpendCounter.SpendResult originalSpend = slotSpendCounter.add(originalAccountSlot, -(originalAmount - perPersonAmount));
 
-        // originalTransaction이 속한 accountSlot의 예산 초과여부 다시 검사
-        if(originalAccountSlot.getSpent() > originalAccountSlot.getCurrentBudget()) {
-            if(originalAccountSlot.isBudgetExceeded() == true) {
-                // 원래도 true였으면 그냥 가만히 있으면 됨
-            } else { // 그게 아니라 원래는 false 였다면 true로 바꿔주고, 푸시알림 보내야 함
-                originalAccountSlot.updateIsBudgetExceeded(true);
+        // 조정 전 값들 (응답할 때 더처페이하기 전의 슬롯상태도 보여줘야 하기 때문에, 원자적으로 반영된 값에서 역산)
+        Long originalSpent = originalSpend.previousSpent();
+        Long originalCurrentBudget = originalSpend.currentBudget();
+        boolean originalIsBudgetExceeded = originalSpend.wasExceeded();
 
-                String title = "[⚠️예산초과] " + originalAccountSlot.getName() + "슬롯의 예산이 초과됐어요!";
-                String body = "(초과금액: " + (originalAccountSlot.getSpent() - originalAccountSlot.getCurrentBudget()) + "원)";
-
-                Notification notification = Notification.builder()
-                        .user(user)
-                        .title(title)
-                        .body(body)
-                        .type(Notification.Type.BUDGET)
-                        .build();
+        // originalTransaction이 속한 accountSlot의 예산 초과여부 다시 검사
+        if(originalSpend.becameExceeded()) { // 이번 증감으로 예산초과가 됐으면 푸시알림 (isBudgetExceeded 는 UPDATE 에서 이미 다시 계산됨)
+            String title = "[⚠️예산초과] " + slotName(originalAccountSlot) + "슬롯의 예산이 초과됐어요!";
+            String body = "(초과금액: " + (originalAccountSlot.getSpent() - originalAccountSlot.getCurrentBudget()) + "원)";
+
+            Notification notification = Notification.builder()
+                    .user(user)
+                    .title(title)
+                    .body(body)
+                    .type(Notification.Type.BUDGET)
+                    .build();
 
-                // Notification 객체 저장
-                notificationRepository.save(notification);
+            // Notification 객체 저장
+            notificationRepository.save(notification);
 
-                // 위에서 만든 notification 푸시알림 보내기
-                String targetFcmToken = pushEndpointRepository.findByUser(user).orElseThrow(() -> new AppException(ErrorCode.MISSING_PUSH_ENDPOINT, "TransactionService - 000")).getToken();
-                fcmService.sendMessage(targetFcmToken, notification.getTitle(), notification.getBody())
-                        .subscribe(
-                                response -> {
-                                    System.out.println("✅ [TransactionService - 000] 예산초과 알림 전송 성공: " + response);
-                                    notification.updateIsDelivered(true);
-                                },
-                                error -> {
-                                    System.err.println("❌ [TransactionService - 000] 예산초과 알림 전송 실패: " + error.getMessage());
-                                    notification.updateIsDelivered(false);
-                                }
-                        );
-            }
-        } else {
-            originalAccountSlot.updateIsBudgetExceeded(false);
+            // 위에서 만든 notification 푸시알림 보내기
+            fcmFanoutService.sendNotification(notification);
         }
 
         // 미분류 슬롯에 들어갈 트랜잭션 객체 하나 더 만들고 save.
@@ -920,9 +810,10 @@ public class TransactionService {
                 .build();
 
         transactionRepository.save(newTransaction);
+        slotDailySpendService.add(newTransaction);
 
         // 미분류 슬롯의 지출금액 증가
-        uncategorizedAccountSlot.increaseSpent(originalAmount - perPersonAmount);
+        slotSpendCounter.add(uncategorizedAccountSlot, originalAmount - perPersonAmount);
 
         // dto > data > originalTransaction
         // originalAccountSlot에 초과된 금액 계산 (초과하지 않았으면 0으로 세팅)
@@ -940,8 +831,8 @@ public class TransactionService {
         // dto > data > originalTransaction > slotDto
         AddDutchPayTransactionsResponseDto.SlotDto originalSlotDto = AddDutchPayTransactionsResponseDto.SlotDto.builder()
                 .accountSlotId(originalAccountSlot.getUuid())
-                .name(originalAccountSlot.getSlot().getName())
-                .isSaving(originalAccountSlot.getSlot().isSaving())
+                .name(catalogSlot(originalAccountSlot).name())
+                .isSaving(catalogSlot(originalAccountSlot).saving())
                 .isCustom(originalAccountSlot.isCustom())
                 .customName(originalAccountSlot.getCustomName())
                 .currentBudget(originalCurrentBudget)
@@ -977,8 +868,8 @@ public class TransactionService {
 
         AddDutchPayTransactionsResponseDto.SlotDto originalSlotDtoAfterDutchPay = AddDutchPayTransactionsResponseDto.SlotDto.builder()
                 .accountSlotId(originalAccountSlot.getUuid())
-                .name(originalAccountSlot.getSlot().getName())
-                .isSaving(originalAccountSlot.getSlot().isSaving())
+                .name(catalogSlot(originalAccountSlot).name())
+                .isSaving(catalogSlot(originalAccountSlot).saving())
                 .isCustom(originalAccountSlot.isCustom())
                 .customName(originalAccountSlot.getCustomName())
                 .currentBudget(originalAccountSlot.getCurrentBudget())
@@ -1002,8 +893,8 @@ public class TransactionService {
         // dto > data > dutchPayTransactions > slotDto (더치페이 후 미분류 슬롯의 값들)
         AddDutchPayTransactionsResponseDto.SlotDto uncategorizedSlotDtoAfterDutchPay = AddDutchPayTransactionsResponseDto.SlotDto.builder()
                 .accountSlotId(uncategorizedAccountSlot.getUuid())
-                .name(uncategorizedAccountSlot.getSlot().getName())
-                .isSaving(uncategorizedAccountSlot.getSlot().isSaving())
+                .name(catalogSlot(uncategorizedAccountSlot).name())
+                .isSaving(catalogSlot(uncategorizedAccountSlot).saving())
                 .isCustom(uncategorizedAccountSlot.isCustom())
                 .customName(uncategorizedAccountSlot.getCustomName())
                 .currentBudget(uncategorizedAccountSlot.getCurrentBudget())
@@ -1054,8 +945,7 @@ public class TransactionService {
             // 유저키 조회
             String userKey = user.getUserKey();
 
-            // 현재 유저의 FCM 토큰과 계좌리스트 조회
-            String targetFcmToken = pushEndpointRepository.findByUser(user).orElseThrow(() -> new AppException(ErrorCode.MISSING_PUSH_ENDPOINT, "TransactionService - 000")).getToken();
+            // 현재 유저의 계좌리스트 조회
             List<Account> accounts = accountRepository.findByUser(user);
 
             for(Account account : accounts) {
@@ -1105,9 +995,18 @@ public class TransactionService {
                 List<SSAFYGetTransactionListResponseDto.Transaction> transactions = httpResponse1.getBody().getREC().getList();
 
                 // 이 계좌의 미분류 슬롯 미리 찾아두기
-                Slot uncategorizedSlot = slotRepository.findById(0L).orElseThrow(() -> new AppException(ErrorCode.MISSING_UNCATEGORIZED_SLOT, "TransactionService - 000"));
+                Slot uncategorizedSlot = slotCatalog.uncategorized(); // 카탈로그 프록시라 slot 조회 없음
                 AccountSlot uncategorizedAccountSlot = accountSlotRepository.findByAccountAndSlot(account, uncategorizedSlot).orElseThrow(() -> new AppException(ErrorCode.MISSING_UNCATEGORIZED_SLOT, "TransactionService - 000"));
 
+                // 이 계좌에서 발생한 알림 이벤트 (계좌 단위로 모아서 배치 저장)
+                List<NotificationEvent> pendingEvents = new ArrayList<>();
+
+                // 이 계좌 sweep 동안 슬롯별 지출 증감을 모아뒀다가 마지막에 슬롯당 원자적 UPDATE 한 번으로 반영
+                SlotSpendCounter.Batch spendBatch = slotSpendCounter.batch();
+
+                // 슬롯 지출 거래들 (예산초과 알림은 flush() 결과를 보고 정함)
+                List<BudgetCheck> budgetChecks = new ArrayList<>();
+
                 Transaction: for(SSAFYGetTransactionListResponseDto.Transaction transactionDto : transactions) {
 
                     // transactionUniqueNo이 lastSyncedTransactionNo보다 큰 게 있다면 갱신
@@ -1122,17 +1021,17 @@ public class TransactionService {
                         // 이 거래내역에서 쓸 Transaction, Notification, AccountSlot 객체와 푸시알림을 보낼 때 사용할 title, body
                         Transaction newTransaction = null;
                         Notification notification = null;
-                        Notification budgetExceededNotification = null;
+                        BudgetCheck budgetCheck = null;
                         AccountSlot accountSlot = null;
                         String title = null;
                         String body = null;
 
                         if(transactionType.equals("입금") || transactionType.equals("입금(이체)")) {    // 입금이면 무조건 미분류 슬롯에서 증액
-                            uncategorizedAccountSlot.increaseSpent(transactionDto.getTransactionBalance());
+                            long uncategorizedSpent = spendBatch.add(uncategorizedAccountSlot, transactionDto.getTransactionBalance());
 
                             // 푸시알림 내용
                             title = "[✉️입금알림] " + transactionDto.getTransactionSummary() + "님이 입금하신 " + transactionDto.getTransactionBalance() + "원을 미분류 금액으로 증액했어요!";
-                            body = "(미분류 누적금액: " + uncategorizedAccountSlot.getSpent() + "원)";
+                            body = "(미분류 누적금액: " + uncategorizedSpent + "원)";
 
                             // Notification 객체 생성
                             notification = Notification.builder()
@@ -1141,18 +1040,16 @@ public class TransactionService {
                                     .body(body)
                                     .type(Notification.Type.UNCATEGORIZED)
                                     .build();
-
-                            notificationRepository.save(notification);
                             
                             // accountSlot을 미분류 슬롯으로 세팅
                             accountSlot = uncategorizedAccountSlot;
 
                         } else if (transactionType.equals("출금(이체)")) {    // 출금(이체)이면 무조건 미분류 슬롯에서 차감
-                            uncategorizedAccountSlot.increaseSpent(transactionDto.getTransactionBalance());
+                            long uncategorizedSpent = spendBatch.add(uncategorizedAccountSlot, transactionDto.getTransactionBalance());
 
                             // 푸시알림 내용
                             title = "[🚀미분류 지출발생] " + transactionDto.getTransactionSummary() + "님에게 입금한 " + transactionDto.getTransactionBalance() + "원을 슬롯에 분배해주세요!";
-                            body = "(미분류 누적금액: " + uncategorizedAccountSlot.getSpent() + "원)";
+                            body = "(미분류 누적금액: " + uncategorizedSpent + "원)";
 
                             // Notification 객체 생성
                             notification = Notification.builder()
@@ -1162,8 +1059,6 @@ public class TransactionService {
                                     .type(Notification.Type.UNCATEGORIZED)
                                     .build();
 
-                            notificationRepository.save(notification);
-
                             // accountSlot을 미분류 슬롯으로 세팅
                             accountSlot = uncategorizedAccountSlot;
 
@@ -1180,49 +1075,21 @@ public class TransactionService {
 
                                 if(accountSlot != null) { // 그 슬롯이 이 계좌에 있다면 그 슬롯으로 그대로 두고, Notification 객체 만들어서 저장
 
-                                    // accountSlot 필드 최신화
-                                    accountSlot.increaseSpent(transactionDto.getTransactionBalance());
-                                    if((accountSlot.getCurrentBudget() - accountSlot.getSpent()) < 0) {    // 지출이 예산을 초과했다면...
-
-                                        accountSlot.updateIsBudgetExceeded(true);
-
-                                        // 푸시알림 내용
-                                        String slotName = null;
-                                        if(accountSlot.isCustom()) {
-                                            slotName = accountSlot.getCustomName();
-                                        } else {
-                                            slotName = accountSlot.getSlot().getName();
-                                        }
-
-                                        title = "[⚠️예산초과] " + slotName + "슬롯의 예산이 초과됐어요!";
-                                        body = "(초과금액: " + (accountSlot.getSpent() - accountSlot.getCurrentBudget()) + "원)";
-
-                                        // Notification 객체 만들고 저장
-                                        budgetExceededNotification = Notification.builder()
-                                                .user(user)
-                                                .title(title)
-                                                .body(body)
-                                                .type(Notification.Type.BUDGET)
-                                                .build();
-
-                                        notificationRepository.save(budgetExceededNotification);
+                                    // accountSlot 지출금액 증감 예약 (예산초과 여부는 반영할 때 SQL 에서 다시 계산)
+                                    long pendingBefore = spendBatch.pending(accountSlot.getId());
+                                    long expectedSpent = spendBatch.add(accountSlot, transactionDto.getTransactionBalance());
 
-                                    } else {    // 지출이 예산을 초과하지 않았다면...
-                                        accountSlot.updateIsBudgetExceeded(false);    // 혹시 모르니깐 예산초과 여부 false로 한번 더 덮어씌우기
-                                    }
+                                    // 예산초과 알림은 이 거래까지의 예약 증감 구간을 기억해뒀다가 flush() 결과로 판단
+                                    budgetCheck = new BudgetCheck(accountSlot, pendingBefore, spendBatch.pending(accountSlot.getId()));
 
                                     // 슬롯 이름 받아두기
                                     String slotName = null;
-                                    if(accountSlot.isCustom()) {
-                                        slotName = accountSlot.getCustomName();
-                                    } else {
-                                        slotName = accountSlot.getSlot().getName();
-                                    }
+                                    slotName = slotName(accountSlot);
 
                                     // 푸시알림 내용
                                     title = "[💸지출알림] " + transactionDto.getTransactionSummary() + "에서 결제한 " + transactionDto.getTransactionBalance() + "원을 " + slotName + " 슬롯에서 차감했어요!🚀";
 
-                                    Long remainingBudget = accountSlot.getCurrentBudget() - accountSlot.getSpent();
+                                    Long remainingBudget = accountSlot.getCurrentBudget() - expectedSpent;
                                     if(remainingBudget < 0) {
                                         body = "(⚠️" + slotName + " 슬롯 초과금액: " + (-remainingBudget) + "원)";
                                     } else {
@@ -1237,26 +1104,20 @@ public class TransactionService {
                                             .type(Notification.Type.SLOT)
                                             .build();
 
-                                    notificationRepository.save(notification);
-
                                 } else {    // 그 슬롯이 이 계좌에 개설돼있지 않다면...
                                     AccountSlot recommededAccountSlot = recommendSlotFromGPT(account, merchantName);    //    이 계좌에 있는 슬롯들 기준으로 추천받기
                                     if(recommededAccountSlot != null) {    // 추천된게 있으면...
                                         // 그래도 일단 미분류 슬롯에서 차감
                                         accountSlot = uncategorizedAccountSlot;
-                                        uncategorizedAccountSlot.increaseSpent(transactionDto.getTransactionBalance());
+                                        long uncategorizedSpent = spendBatch.add(uncategorizedAccountSlot, transactionDto.getTransactionBalance());
 
                                         // 슬롯이름 미리 받아두기
                                         String slotName = null;
-                                        if(recommededAccountSlot.isCustom()) {
-                                            slotName = recommededAccountSlot.getCustomName();
-                                        } else {
-                                            slotName = recommededAccountSlot.getSlot().getName();
-                                        }
+                                        slotName = slotName(recommededAccountSlot);
 
                                         // 푸시알림 내용
                                         title = "[🤖AI추천] " + transactionDto.getTransactionSummary() + "에서 결제한 " + transactionDto.getTransactionBalance() + "원을 " + slotName + " 슬롯에서 차감할까요?";
-                                        body = "(미분류 누적금액: " + uncategorizedAccountSlot.getSpent() + "원)";
+                                        body = "(미분류 누적금액: " + uncategorizedSpent + "원)";
 
                                         // Notification 객체 생성
                                         notification = Notification.builder()
@@ -1266,16 +1127,14 @@ public class TransactionService {
                                                 .type(Notification.Type.UNCATEGORIZED)
                                                 .build();
 
-                                        notificationRepository.save(notification);
-
                                     } else {    // 추천된게 없다면...
                                         // 미분류 슬롯에서 차감
                                         accountSlot = uncategorizedAccountSlot;
-                                        uncategorizedAccountSlot.increaseSpent(transactionDto.getTransactionBalance());
+                                        long uncategorizedSpent = spendBatch.add(uncategorizedAccountSlot, transactionDto.getTransactionBalance());
 
                                         // 푸시알림 내용
                                         title = "[🚀미분류 지출발생] " + transactionDto.getTransactionSummary() + "에서 결제한 " + transactionDto.getTransactionBalance() + "원을 슬롯에 분배해주세요!";
-                                        body = "(미분류 누적금액: " + uncategorizedAccountSlot.getSpent() + "원)";
+                                        body = "(미분류 누적금액: " + uncategorizedSpent + "원)";
 
                                         // Notification 객체 생성
                                         notification = Notification.builder()
@@ -1284,8 +1143,6 @@ public class TransactionService {
                                                 .body(body)
                                                 .type(Notification.Type.UNCATEGORIZED)
                                                 .build();
-
-                                        notificationRepository.save(notification);
                                     }
                                 }
                             } else { // 우리 DB에 존재하지 않아도 GPT한테 추천받기
@@ -1293,19 +1150,15 @@ public class TransactionService {
                                 if(recommededAccountSlot != null) {    // 추천된게 있다면...
                                     // 그래도 일단 미분류 슬롯에서 차감
                                     accountSlot = uncategorizedAccountSlot;
-                                    uncategorizedAccountSlot.increaseSpent(transactionDto.getTransactionBalance());
+                                    long uncategorizedSpent = spendBatch.add(uncategorizedAccountSlot, transactionDto.getTransactionBalance());
 
                                     // 슬롯이름 미리 받아두기
                                     String slotName = null;
-                                    if(recommededAccountSlot.isCustom()) {
-                                        slotName = recommededAccountSlot.getCustomName();
-                                    } else {
-                                        slotName = recommededAccountSlot.getSlot().getName();
-                                    }
+                                    slotName = slotName(recommededAccountSlot);
 
                                     // 푸시알림 내용
                                     title = "[🤖AI추천] " + transactionDto.getTransactionSummary() + "에서 결제한 " + transactionDto.getTransactionBalance() + "원을 " + slotName + " 슬롯에서 차감할까요?";
-                                    body = "(미분류 누적금액: " + uncategorizedAccountSlot.getSpent() + "원)";
+                                    body = "(미분류 누적금액: " + uncategorizedSpent + "원)";
 
                                     // Notification 객체 생성
                                     notification = Notification.builder()
@@ -1315,16 +1168,14 @@ public class TransactionService {
                                             .type(Notification.Type.UNCATEGORIZED)
                                             .build();
 
-                                    notificationRepository.save(notification);
-
                                 } else {    // 추천된게 없다면...
                                     // 미분류 슬롯에서 차감
                                     accountSlot = uncategorizedAccountSlot;
-                                    uncategorizedAccountSlot.increaseSpent(transactionDto.getTransactionBalance());
+                                    long uncategorizedSpent = spendBatch.add(uncategorizedAccountSlot, transactionDto.getTransactionBalance());
 
                                     // 푸시알림 내용
                                     title = "[🚀미분류 지출발생] " + transactionDto.getTransactionSummary() + "에서 결제한 " + transactionDto.getTransactionBalance() + "원을 슬롯에 분배해주세요!";
-                                    body = "(미분류 누적금액: " + uncategorizedAccountSlot.getSpent() + "원)";
+                                    body = "(미분류 누적금액: " + uncategorizedSpent + "원)";
 
                                     // Notification 객체 생성
                                     notification = Notification.builder()
@@ -1333,8 +1184,6 @@ public class TransactionService {
                                             .body(body)
                                             .type(Notification.Type.UNCATEGORIZED)
                                             .build();
-
-                                    notificationRepository.save(notification);
                                 }
                             }
                         }
@@ -1394,14 +1243,40 @@ public class TransactionService {
                                 .build();
 
                         transactionRepository.save(newTransaction);
-
-                        // 알림 보내기
-                        fcmService.sendMessageNotification(targetFcmToken, notification);
-                        if(budgetExceededNotification != null) {
-                            fcmService.sendMessageNotification(targetFcmToken, budgetExceededNotification);
+                        slotDailySpendService.add(newTransaction); // 일별 집계도 같은 트랜잭션에서 갱신
+
+                        // 알림은 바로 보내지 않고 (user, type) 단위로 묶어서 요약 발송 (NotificationCoalescer)
+                        // 중복 방지 키는 은행 거래고유번호 기준 (재시도로 transaction 행이 새로 생겨도 같은 키)
+                        String sourceKey = NotificationEvent.sourceKey(account.getId(), transactionDto.getTransactionUniqueNo());
+                        pendingEvents.add(notificationCoalescer.toEvent(notification, newTransaction.getId(), sourceKey, transactionDto.getTransactionSummary()));
+                        if(budgetCheck != null) {
+                            budgetChecks.add(budgetCheck.of(newTransaction.getId(), sourceKey));
                         }
                     }
                 }
+
+                // 모아둔 지출 증감 반영 (슬롯 id 순, 슬롯당 UPDATE 한 번)
+                Map<Long, SlotSpendCounter.SpendResult> spendResults = spendBatch.flush();
+
+                // 예산초과 알림: 행 잠금 아래에서 반영된 결과 기준으로, 이번 sweep 에서 예산을 처음 넘긴 거래에만
+                for(BudgetCheck check : budgetChecks) {
+                    SlotSpendCounter.SpendResult spendResult = spendResults.get(check.accountSlot().getId());
+                    if(spendResult == null || !spendResult.crossedBy(check.pendingBefore(), check.pendingAfter())) {
+                        continue;
+                    }
+
+                    String slotName = slotName(check.accountSlot());
+                    Notification budgetExceededNotification = Notification.builder()
+                            .user(user)
+                            .title("[⚠️예산초과] " + slotName + "슬롯의 예산이 초과됐어요!")
+                            .body("(초과금액: " + (spendResult.spentAfter(check.pendingAfter()) - spendResult.currentBudget()) + "원)")
+                            .type(Notification.Type.BUDGET)
+                            .build();
+                    pendingEvents.add(notificationCoalescer.toEvent(budgetExceededNotification, check.transactionId(), check.sourceKey(), slotName));
+                }
+
+                // 알림 이벤트 멱등 저장 (같은 거래로 이미 쌓인 이벤트는 무시 → 동기화 재시도에도 중복 알림 없음)
+                notificationCoalescer.enqueue(pendingEvents);
             }
         }
 
@@ -1409,6 +1284,30 @@ public class TransactionService {
         lastSyncedDate = LocalDateTimeFormatter.formatter().get("date");
     }
 
+    /**
+     * 슬롯 원본 정보는 카탈로그(메모리)에서 꺼냅니다.
+     * accountSlot.getSlot() 은 LAZY 프록시라 id 만 읽으면 slot 테이블을 조회하지 않습니다.
+     */
+    private SlotCatalog.Item catalogSlot(AccountSlot accountSlot) {
+        return slotCatalog.findById(accountSlot.getSlot().getId()).orElseThrow(() -> new AppException(ErrorCode.SLOT_NOT_FOUND, "TransactionService - 028"));
+    }
+
+    /** 화면/알림에 보이는 슬롯 이름 (사용자 지정 이름이 있으면 그것, 없으면 카탈로그의 원본 이름) */
+    private String slotName(AccountSlot accountSlot) {
+        return accountSlot.isCustom() ? accountSlot.getCustomName() : catalogSlot(accountSlot).name();
+    }
+
+    /**
+     * 거래내역 목록 커서의 id 부분 (cursorId 는 이전 페이지 마지막 거래 uuid)
+     * cursorId 없이 시각만 넘기는 이전 클라이언트는 0 으로 둬서 기존처럼 transaction_at < cursor 로 동작합니다.
+     */
+    private Long resolveCursorId(String cursorId) {
+        if(cursorId == null) {
+            return 0L;
+        }
+        return transactionRepository.findIdByUuid(cursorId).orElseThrow(() -> new AppException(ErrorCode.BAD_REQUEST, "TransactionService - 027"));
+    }
+
     /**
      * ChatGPT API 연결해서 단건 결제처에 대하여 슬롯 추천받는 메서드
      */
@@ -1444,7 +1343,7 @@ public class TransactionService {
         for(AccountSlot accountSlot : filteredAccountSlots){
 
             ChatGPTRequestDto.AccountSlotDto accountSlotDto = ChatGPTRequestDto.AccountSlotDto.builder()
-                    .slotName(accountSlot.getSlot().getName())
+                    .slotName(catalogSlot(accountSlot).name())
                     .alias(accountSlot.getCustomName())
                     .build();
 
@@ -1498,6 +1397,9 @@ public class TransactionService {
 
         // 요청보내기
         ChatGPTResponseDto httpResponse = callGPT(body);
+        if(httpResponse == null) {    // LLM 이 느리거나 장애면 추천 없이 미분류로 처리
+            return null;
+        }
 
         // gpt로부터 받은 응답 역직렬화
         JsonNode node;
@@ -1517,31 +1419,44 @@ public class TransactionService {
         // 추천받은 슬롯 이름
         String recommendedSlotName = recommendedSlot.getName();
 
-        // 슬롯 객체 조회
-        Slot slot = slotRepository.findByName(recommendedSlotName);
-        AccountSlot accountSlot = accountSlotRepository.findByAccountAndSlot(account, slot).orElse(null);
+        // 슬롯 조회 (카탈로그에 없는 이름이면 추천 실패로 처리)
+        SlotCatalog.Item slot = slotCatalog.findByName(recommendedSlotName).orElse(null);
+        if(slot == null) {
+            return null;
+        }
+        AccountSlot accountSlot = accountSlotRepository.findByAccountAndSlot(account, slotCatalog.reference(slot.id())).orElse(null);
 
         return accountSlot;
     }
 
     // ChatGPT 호출할 때 쓸 메서드
     private ChatGPTResponseDto callGPT(ChatGPTRequestDto body) {
-        return gptWebClient.post()
+        return llmGateway.call(LlmUseCase.MERCHANT_SLOT, LlmUpstream.OPENAI, client -> client.post()
                 .uri("/chat/completions")
                 .bodyValue(body)
                 .retrieve()
-                .bodyToMono(ChatGPTResponseDto.class)
-                .block();
+                .bodyToMono(ChatGPTResponseDto.class), () -> null);
     }
 
     // ChatGPT 호출할 때 쓸 메서드
     private ChatGPTResponseDto callGMS(ChatGPTRequestDto body) {
-        return ssafyGmsWebClient.post()
+        return llmGateway.call(LlmUseCase.MERCHANT_SLOT, LlmUpstream.GMS, client -> client.post()
                 .uri("/chat/completions")
                 .bodyValue(body)
                 .retrieve()
-                .bodyToMono(ChatGPTResponseDto.class)
-                .block();
+                .bodyToMono(ChatGPTResponseDto.class), () -> null);
     }
 
+    // Nested Class
+    /** sweep 중 슬롯 지출 거래 하나의 예산초과 판단 재료 (그 슬롯에 예약된 증감 합: 이 거래 직전 / 직후) */
+    private record BudgetCheck(AccountSlot accountSlot, long pendingBefore, long pendingAfter, Long transactionId, String sourceKey) {
+
+        BudgetCheck(AccountSlot accountSlot, long pendingBefore, long pendingAfter) {
+            this(accountSlot, pendingBefore, pendingAfter, null, null);
+        }
+
+        BudgetCheck of(Long transactionId, String sourceKey) {
+            return new BudgetCheck(accountSlot, pendingBefore, pendingAfter, transactionId, sourceKey);
+        }
+    }
 }
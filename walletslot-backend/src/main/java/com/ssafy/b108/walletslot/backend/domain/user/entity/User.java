@@ -55,6 +55,10 @@ public class User {
     @Column(length = 20)
     private Job job;
 
+    // notification_archive 로 옮겨진 알림 중 가장 큰 id (보관 이동 배치만 갱신, 알림 목록이 archive 까지 내려갈지 판단)
+    @Column(insertable = false, updatable = false)
+    private Long notificationArchiveMaxId;
+
     // 이메일 이력 (append-only). User 삭제 시 DB FK CASCADE도 걸려있지만,
     // JPA에서도 orphanRemoval=true 로 일관성 유지.
     @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true)
@@ -30,6 +30,7 @@ public enum ErrorCode {
     MISSING_UNCATEGORIZED_SLOT("미분류 슬롯이 존재하지 않습니다. 미분류 슬롯을 개설 후 다시 시도해주세요.", HttpStatus.UNPROCESSABLE_ENTITY),
     SLOT_NOT_FOUND("존재하지 않는 슬롯입니다.", HttpStatus.NOT_FOUND),
     ACCOUNT_SLOT_NOT_FOUND("계좌에 존재하지 않는 슬롯입니다.", HttpStatus.NOT_FOUND),
+    SLOT_RECOMMEND_BUSY("슬롯 추천 요청이 많습니다. 잠시 후 다시 시도해주세요.", HttpStatus.TOO_MANY_REQUESTS),
 
     // User
     LOGIN_FAILED("로그인에 실패했습니다.", HttpStatus.BAD_REQUEST),
@@ -51,7 +52,10 @@ public enum ErrorCode {
 
     // PushEndpoint
     MISSING_PUSH_ENDPOINT("Push Endpoint 기기가 등록돼있지 않은 사용자가 존재합니다.", HttpStatus.INTERNAL_SERVER_ERROR),
-    PUSH_ENDPOINT_NOTFOUND("푸시알림을 받을 기기가 등록돼있지 않은 사용자입니다. 기기를 등록하고 다시 시도해주세요.", HttpStatus.NOT_FOUND);
+    PUSH_ENDPOINT_NOTFOUND("푸시알림을 받을 기기가 등록돼있지 않은 사용자입니다. 기기를 등록하고 다시 시도해주세요.", HttpStatus.NOT_FOUND),
+
+    // LLM
+    LLM_UNAVAILABLE("AI 추천 서버가 잠시 응답하지 않습니다. 잠시 후 다시 시도해주세요.", HttpStatus.SERVICE_UNAVAILABLE);
 
     private final String message;
     private final HttpStatus status;
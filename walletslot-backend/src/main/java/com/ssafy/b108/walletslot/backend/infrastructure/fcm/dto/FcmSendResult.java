@@ -0,0 +1,35 @@
+package com.ssafy.b108.walletslot.backend.infrastructure.fcm.dto;
+
+import com.ssafy.b108.walletslot.backend.infrastructure.fcm.util.FcmErrorCode;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 토큰 1개에 대한 FCM 전송 결과 입니다.
+ * 실패한 경우 errorCode로 원인을 분류합니다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class FcmSendResult {
+
+    // Field
+    private final String token;
+    private final boolean success;
+    private final FcmErrorCode errorCode;
+    private final String response;
+
+    // Method
+    public static FcmSendResult success(String token, String response) {
+        return new FcmSendResult(token, true, null, response);
+    }
+
+    public static FcmSendResult failure(String token, FcmErrorCode errorCode, String response) {
+        return new FcmSendResult(token, false, errorCode, response);
+    }
+
+    public boolean isTokenDead() {
+        return !success && errorCode != null && errorCode.isTokenDead();
+    }
+}
@@ -0,0 +1,114 @@
+package com.ssafy.b108.walletslot.backend.infrastructure.fcm.service;
+
+import com.ssafy.b108.walletslot.backend.domain.notification.entity.Notification;
+import com.ssafy.b108.walletslot.backend.domain.notification.repository.PushEndpointRepository;
+import com.ssafy.b108.walletslot.backend.infrastructure.fcm.dto.FcmSendResult;
+import com.ssafy.b108.walletslot.backend.infrastructure.fcm.util.GoogleAccessTokenUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+
+/**
+ * 사용자의 모든 기기로 푸시알림을 보내는 팬아웃 전송기 입니다.
+ * ACTIVE + 푸시 허용 엔드포인트의 토큰을 쿼리 한 번으로 조회하고, 토큰별로 동시에 전송합니다.
+ * FCM이 죽은 토큰(UNREGISTERED 등)이라고 응답하면 해당 토큰을 엔드포인트에서 제거해서 다음 발송부터 제외합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FcmFanoutService {
+
+    // Field
+    private final FcmService fcmService;
+
+    private final GoogleAccessTokenUtil googleAccessTokenUtil;
+
+    private final PushEndpointRepository pushEndpointRepository;
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${fcm.fanout.concurrency:8}")
+    private int concurrency;
+
+    // Method
+    /** 발송 대상 토큰 조회 (여러 알림을 연달아 보낼 때는 한 번만 조회해서 재사용) */
+    public List<String> resolveTokens(Long userId) {
+        return pushEndpointRepository.findDeliverableTokensByUserId(userId);
+    }
+
+    /**
+     * 토큰 목록으로 동시에 전송합니다.
+     * 한 대라도 성공하면 true 를 내보내고, 죽은 토큰은 전송이 끝난 뒤 한 번에 제거합니다.
+     */
+    public Mono<Boolean> fanout(List<String> tokens, String title, String body) {
+        if (tokens == null || tokens.isEmpty()) {
+            return Mono.just(false);
+        }
+
+        // AccessToken 은 팬아웃 1회당 한 번만 발급
+        String accessToken = googleAccessTokenUtil.getAccessToken();
+
+        return Flux.fromIterable(tokens)
+                .flatMap(token -> fcmService.send(accessToken, token, title, body), concurrency)
+                .collectList()
+                .publishOn(Schedulers.boundedElastic()) // 토큰 제거는 JDBC 호출이므로 이벤트 루프 밖에서
+                .map(results -> {
+                    List<String> deadTokens = results.stream()
+                            .filter(FcmSendResult::isTokenDead)
+                            .map(FcmSendResult::getToken)
+                            .toList();
+                    pruneTokens(deadTokens);
+
+                    results.stream()
+                            .filter(result -> !result.isSuccess() && !result.isTokenDead())
+                            .forEach(result -> log.warn("[FCM][FANOUT] 전송 실패 error={}, tokenTail={}", result.getErrorCode(), tail(result.getToken())));
+
+                    return results.stream().anyMatch(FcmSendResult::isSuccess);
+                });
+    }
+
+    /** 알림의 수신자 기기 전체로 전송하고 전송 결과를 알림에 기록합니다. */
+    public void sendNotification(Notification notification) {
+        sendNotification(resolveTokens(notification.getUser().getId()), notification);
+    }
+
+    /** 미리 조회한 토큰 목록으로 전송하고 전송 결과를 알림에 기록합니다. */
+    public void sendNotification(List<String> tokens, Notification notification) {
+        if (tokens == null || tokens.isEmpty()) {
+            log.info("[FCM][FANOUT] 발송 가능한 기기 없음 userId={}", notification.getUser().getId());
+            notification.updateIsDelivered(false);
+            return;
+        }
+
+        fanout(tokens, notification.getTitle(), notification.getBody())
+                .subscribe(
+                        notification::updateIsDelivered,
+                        error -> {
+                            log.warn("[FCM][FANOUT] 알림발송 실패 {}", error.getMessage());
+                            notification.updateIsDelivered(false);
+                        }
+                );
+    }
+
+    private void pruneTokens(List<String> deadTokens) {
+        if (deadTokens.isEmpty()) return;
+        try {
+            int cleared = pushEndpointRepository.clearTokens(deadTokens);
+            meterRegistry.counter("fcm.token.pruned").increment(cleared);
+            log.info("[FCM][FANOUT] 죽은 토큰 {}개 제거", cleared);
+        } catch (Exception e) {
+            log.warn("[FCM][FANOUT] 죽은 토큰 제거 실패 {}", e.toString());
+        }
+    }
+
+    private static String tail(String token) {
+        return token.length() > 8 ? token.substring(token.length() - 8) : token;
+    }
+}
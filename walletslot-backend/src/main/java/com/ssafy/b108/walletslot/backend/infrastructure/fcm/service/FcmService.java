@@ -1,9 +1,10 @@
 package com.ssafy.b108.walletslot.backend.infrastructure.fcm.service;
 
-import com.ssafy.b108.walletslot.backend.domain.notification.entity.Notification;
-import com.ssafy.b108.walletslot.backend.global.error.AppException;
-import com.ssafy.b108.walletslot.backend.global.error.ErrorCode;
-import com.ssafy.b108.walletslot.backend.infrastructure.fcm.util.GoogleAccessTokenUtil;
+import com.ssafy.b108.walletslot.backend.infrastructure.fcm.dto.FcmSendResult;
+import com.ssafy.b108.walletslot.backend.infrastructure.fcm.util.FcmErrorCode;
+import com.ssafy.b108.walletslot.backend.infrastructure.fcm.util.FcmPayloadWriter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -11,9 +12,9 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
 import reactor.core.publisher.Mono;
 
-import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -24,76 +25,35 @@ public class FcmService {
     @Qualifier("fcmWebClient")
     private final WebClient fcmWebClient;
 
-    private final GoogleAccessTokenUtil googleAccessTokenUtil;
+    private final MeterRegistry meterRegistry;
 
     // Method
-    public Mono<String> sendMessage(String targetFcmToken, String title, String body) {
-
-        // AccessToken 발급
-        String accessToken = googleAccessTokenUtil.getAccessToken();
-
-        // 전송할 메시지 구조 (FCM v1)
-        Map<String, Object> message = Map.of(
-                "message", Map.of(
-                        "token", targetFcmToken,
-                        "notification", Map.of(
-                                "title", title,
-                                "body", body
-                        )
-                )
-        );
-
-        try {
-            // WebClient 호출
-            return fcmWebClient.post()
-                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .body(Mono.just(message), Map.class)
-                    .retrieve()
-                    .bodyToMono(String.class);
-        } catch (Exception e) {
-            e.printStackTrace();
-            throw new AppException(ErrorCode.INTERNAL_SERVER_ERROR, "FcmService - 000");
-        }
-    }
-
-    public void sendMessageNotification(String targetFcmToken, Notification notification) {
-
-        // AccessToken 발급
-        String accessToken = googleAccessTokenUtil.getAccessToken();
-
-        // 전송할 메시지 구조 (FCM v1)
-        Map<String, Object> message = Map.of(
-                "message", Map.of(
-                        "token", targetFcmToken,
-                        "notification", Map.of(
-                                "title", notification.getTitle(),
-                                "body", notification.getBody()
-                        )
-                )
-        );
-
-        try {
-            // WebClient 호출
-            fcmWebClient.post()
-                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .body(Mono.just(message), Map.class)
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .subscribe(
-                            response -> {
-                                System.out.println("✅ [FCMService] 알림발송 성공 " + response);
-                                notification.updateIsDelivered(true);
-                            },
-                            error -> {
-                                System.err.println("❌ [FCMService] 알림발송 실패 " + error.getMessage());
-                                notification.updateIsDelivered(false);
-                            }
-                    );
-        } catch (Exception e) {
-            e.printStackTrace();
-            throw new AppException(ErrorCode.INTERNAL_SERVER_ERROR, "FcmService - 000");
-        }
+    /**
+     * 토큰 1개로 전송하고 결과를 FcmSendResult로 돌려줍니다. (에러를 던지지 않음)
+     * 팬아웃 전송 시 accessToken은 호출하는 쪽에서 한 번만 발급받아 재사용합니다.
+     * 전송 지연시간과 실패 원인은 fcm.send 타이머(outcome, error 태그)로 기록합니다.
+     */
+    public Mono<FcmSendResult> send(String accessToken, String targetFcmToken, String title, String body) {
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+
+        return fcmWebClient.post()
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(FcmPayloadWriter.inserter(targetFcmToken, title, body))
+                .retrieve()
+                .bodyToMono(String.class)
+                .map(response -> FcmSendResult.success(targetFcmToken, response))
+                .onErrorResume(WebClientResponseException.class, e -> Mono.just(FcmSendResult.failure(
+                        targetFcmToken,
+                        FcmErrorCode.classify(e.getStatusCode().value(), e.getResponseBodyAsString()),
+                        e.getResponseBodyAsString()
+                )))
+                .onErrorResume(e -> Mono.just(FcmSendResult.failure(targetFcmToken, FcmErrorCode.TRANSPORT, e.getMessage())))
+                .doOnNext(result -> sample.stop(meterRegistry.timer(
+                        "fcm.send",
+                        "outcome", result.isSuccess() ? "success" : "failure",
+                        "error", result.getErrorCode() == null ? "none" : result.getErrorCode().name()
+                )));
     }
 }
@@ -0,0 +1,97 @@
+package com.ssafy.b108.walletslot.backend.infrastructure.fcm.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * FCM v1 에러 응답 분류기 입니다.
+ * FCM은 실패 시 error.details[].errorCode (FcmError) 또는 error.status (google.rpc.Code) 로 원인을 알려줍니다.
+ * 토큰이 죽은 경우(UNREGISTERED 등)는 재시도해도 의미가 없으므로 엔드포인트에서 토큰을 제거해야 합니다.
+ */
+public enum FcmErrorCode {
+
+    // 토큰 자체가 더 이상 유효하지 않음 → 토큰 제거 대상
+    UNREGISTERED(true, false),
+    SENDER_ID_MISMATCH(true, false),
+
+    // 요청 자체가 잘못됨 (페이로드/토큰 형식 오류) → 재시도 X
+    INVALID_ARGUMENT(false, false),
+
+    // 일시적 오류 → 재시도 가능
+    QUOTA_EXCEEDED(false, true),
+    UNAVAILABLE(false, true),
+    INTERNAL(false, true),
+
+    // 서버 인증(APNs 인증서, 서비스계정 등) 문제
+    THIRD_PARTY_AUTH_ERROR(false, false),
+    UNAUTHENTICATED(false, false),
+
+    // 세부 코드 없는 403: 우리 서비스계정 권한/프로젝트 설정 문제일 수 있으므로 토큰은 건드리지 않음 (설정 확인 후 재시도)
+    PERMISSION_DENIED(false, true),
+
+    // 네트워크 오류/타임아웃 등 응답 자체를 못 받은 경우
+    TRANSPORT(false, true),
+
+    UNKNOWN(false, false);
+
+    // Field
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final boolean tokenDead;
+    private final boolean retryable;
+
+    FcmErrorCode(boolean tokenDead, boolean retryable) {
+        this.tokenDead = tokenDead;
+        this.retryable = retryable;
+    }
+
+    // Method
+    public boolean isTokenDead() { return tokenDead; }
+    public boolean isRetryable() { return retryable; }
+
+    /**
+     * FCM 에러 응답 바디와 HTTP 상태코드로 에러코드를 분류합니다.
+     * details[].errorCode 가 있으면 우선 사용하고, 없으면 error.status, 그것도 없으면 HTTP 상태코드로 판단합니다.
+     * 토큰 제거는 details 의 UNREGISTERED / SENDER_ID_MISMATCH 또는 404 일 때만 합니다 (403 만으로는 토큰 문제인지 알 수 없음).
+     */
+    public static FcmErrorCode classify(int httpStatus, String responseBody) {
+        if (responseBody != null && !responseBody.isBlank()) {
+            try {
+                JsonNode error = OBJECT_MAPPER.readTree(responseBody).path("error");
+
+                for (JsonNode detail : error.path("details")) {
+                    FcmErrorCode code = fromName(detail.path("errorCode").asText(null));
+                    if (code != null) return code;
+                }
+
+                // 404 NOT_FOUND 는 FCM에서 UNREGISTERED 와 같은 의미로 내려오는 경우가 있음
+                String status = error.path("status").asText(null);
+                if ("NOT_FOUND".equals(status)) return UNREGISTERED;
+                FcmErrorCode code = fromName(status);
+                if (code != null) return code;
+            } catch (Exception ignored) {
+                // JSON이 아니면 HTTP 상태코드로 판단
+            }
+        }
+
+        return switch (httpStatus) {
+            case 400 -> INVALID_ARGUMENT;
+            case 401 -> UNAUTHENTICATED;
+            case 403 -> PERMISSION_DENIED;
+            case 404 -> UNREGISTERED;
+            case 429 -> QUOTA_EXCEEDED;
+            case 500 -> INTERNAL;
+            case 503 -> UNAVAILABLE;
+            default -> UNKNOWN;
+        };
+    }
+
+    private static FcmErrorCode fromName(String name) {
+        if (name == null || name.isBlank()) return null;
+        try {
+            return FcmErrorCode.valueOf(name);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
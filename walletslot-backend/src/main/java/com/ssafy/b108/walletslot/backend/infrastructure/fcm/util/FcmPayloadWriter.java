@@ -0,0 +1,95 @@
+package com.ssafy.b108.walletslot.backend.infrastructure.fcm.util;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.ReactiveHttpOutputMessage;
+import org.springframework.web.reactive.function.BodyInserter;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * FCM v1 메시지 JSON 을 Jackson 없이 바로 요청 버퍼에 써 넣는 writer 입니다.
+ * 메시지 구조가 {"message":{"token":..,"notification":{"title":..,"body":..}}} 로 고정이라
+ * 푸시마다 중첩 Map 을 만들고 ObjectMapper 로 직렬화할 필요가 없습니다.
+ * 버퍼는 요청의 bufferFactory(Netty 풀링 버퍼)에서 할당받고, 전송이 끝나면 Netty 가 반납합니다.
+ */
+public final class FcmPayloadWriter {
+
+    // Field
+    private static final String PREFIX = "{\"message\":{\"token\":\"";
+    private static final String TITLE = "\",\"notification\":{\"title\":\"";
+    private static final String BODY = "\",\"body\":\"";
+    private static final String SUFFIX = "\"}}}";
+
+    private static final int FIXED_LENGTH = PREFIX.length() + TITLE.length() + BODY.length() + SUFFIX.length();
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private FcmPayloadWriter() {}
+
+    // Method
+    /** WebClient 의 body(...)에 그대로 넘기는 inserter */
+    public static BodyInserter<Object, ReactiveHttpOutputMessage> inserter(String token, String title, String body) {
+        return (outputMessage, context) -> {
+            DataBuffer buffer = outputMessage.bufferFactory().allocateBuffer(estimateSize(token, title, body));
+            try {
+                write(buffer, token, title, body);
+            } catch (RuntimeException e) {
+                DataBufferUtils.release(buffer);
+                throw e;
+            }
+            outputMessage.getHeaders().setContentLength(buffer.readableByteCount());
+            return outputMessage.writeWith(Mono.just(buffer));
+        };
+    }
+
+    public static void write(DataBuffer buffer, String token, String title, String body) {
+        buffer.write(PREFIX, StandardCharsets.UTF_8);
+        writeEscaped(buffer, token);
+        buffer.write(TITLE, StandardCharsets.UTF_8);
+        writeEscaped(buffer, title);
+        buffer.write(BODY, StandardCharsets.UTF_8);
+        writeEscaped(buffer, body);
+        buffer.write(SUFFIX, StandardCharsets.UTF_8);
+    }
+
+    // 한글은 UTF-8 로 3바이트라 문자 수 * 3 으로 잡으면 대부분 재할당 없이 들어감
+    private static int estimateSize(String token, String title, String body) {
+        return FIXED_LENGTH + 3 * (length(token) + length(title) + length(body));
+    }
+
+    /** JSON 문자열 이스케이프: 이스케이프가 필요 없는 구간은 통째로 쓰고, 필요한 문자만 바꿔 씀 */
+    private static void writeEscaped(DataBuffer buffer, String s) {
+        if (s == null) return;
+
+        int start = 0;
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            String replacement = switch (c) {
+                case '"' -> "\\\"";
+                case '\\' -> "\\\\";
+                case '\n' -> "\\n";
+                case '\r' -> "\\r";
+                case '\t' -> "\\t";
+                case '\b' -> "\\b";
+                case '\f' -> "\\f";
+                default -> c < 0x20 ? unicodeEscape(c) : null;
+            };
+            if (replacement == null) continue;
+
+            if (i > start) buffer.write(s.subSequence(start, i), StandardCharsets.UTF_8);
+            buffer.write(replacement, StandardCharsets.UTF_8);
+            start = i + 1;
+        }
+        if (start < s.length()) buffer.write(start == 0 ? s : s.subSequence(start, s.length()), StandardCharsets.UTF_8);
+    }
+
+    private static String unicodeEscape(char c) {
+        return "\\u00" + HEX[(c >> 4) & 0xF] + HEX[c & 0xF];
+    }
+
+    private static int length(String s) {
+        return s == null ? 0 : s.length();
+    }
+}
@@ -0,0 +1,125 @@
+package com.ssafy.b108.walletslot.backend.infrastructure.llm.service;
+
+import com.ssafy.b108.walletslot.backend.infrastructure.llm.util.LlmCircuitBreaker;
+import com.ssafy.b108.walletslot.backend.infrastructure.llm.util.LlmUpstream;
+import com.ssafy.b108.walletslot.backend.infrastructure.llm.util.LlmUseCase;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 모든 LLM(GMS/OpenAI) 호출이 거쳐가는 게이트웨이 입니다.
+ * - 용도별 마감시간: 넘으면 호출을 끊고 폴백 (무기한 block 금지)
+ * - 용도별 동시 호출 수 제한: 자리가 없으면 기다리지 않고 폴백
+ * - 대상별 서킷 브레이커: 실패가 몰리면 일정 시간 호출 없이 즉시 폴백
+ * 폴백은 호출하는 쪽이 정합니다. (휴리스틱 문구, 캐시된 응답, 추천 없음 등)
+ */
+@Slf4j
+@Service
+public class LlmGateway {
+
+    // Field
+    private final Map<LlmUpstream, WebClient> clients = new EnumMap<>(LlmUpstream.class);
+    private final Map<LlmUpstream, LlmCircuitBreaker> breakers = new EnumMap<>(LlmUpstream.class);
+    private final Map<LlmUseCase, Semaphore> bulkheads = new EnumMap<>(LlmUseCase.class);
+    private final Map<LlmUseCase, Duration> deadlines = new EnumMap<>(LlmUseCase.class);
+    private final MeterRegistry meterRegistry;
+
+    public LlmGateway(@Qualifier("ssafyGmsWebClient") WebClient ssafyGmsWebClient,
+                      @Qualifier("gptWebClient") WebClient gptWebClient,
+                      MeterRegistry meterRegistry,
+                      Environment environment,
+                      @Value("${llm.circuit.window-size:20}") int windowSize,
+                      @Value("${llm.circuit.min-calls:10}") int minCalls,
+                      @Value("${llm.circuit.failure-rate:0.5}") double failureRate,
+                      @Value("${llm.circuit.open-ms:30000}") long openMs) {
+        this.meterRegistry = meterRegistry;
+        clients.put(LlmUpstream.GMS, ssafyGmsWebClient);
+        clients.put(LlmUpstream.OPENAI, gptWebClient);
+
+        for (LlmUpstream upstream : LlmUpstream.values()) {
+            LlmCircuitBreaker breaker = new LlmCircuitBreaker(windowSize, minCalls, failureRate, openMs);
+            breakers.put(upstream, breaker);
+            Gauge.builder("llm.circuit.state", breaker, b -> b.state().ordinal())
+                    .description("0=CLOSED, 1=OPEN, 2=HALF_OPEN")
+                    .tag("upstream", upstream.name())
+                    .register(meterRegistry);
+        }
+
+        for (LlmUseCase useCase : LlmUseCase.values()) {
+            String prefix = "llm.use-case." + useCase.getKey();
+            long timeoutMs = environment.getProperty(prefix + ".timeout-ms", Long.class, useCase.getDefaultTimeoutMs());
+            int maxConcurrent = environment.getProperty(prefix + ".max-concurrent", Integer.class, useCase.getDefaultMaxConcurrent());
+            deadlines.put(useCase, Duration.ofMillis(timeoutMs));
+            bulkheads.put(useCase, new Semaphore(maxConcurrent));
+        }
+    }
+
+    // Method
+    /**
+     * LLM 을 호출하고 결과를 돌려줍니다. 실패/타임아웃/서킷 OPEN/동시 호출 초과면 fallback 결과를 돌려줍니다.
+     * @param request  대상 WebClient 로 요청 Mono 를 만드는 함수
+     * @param fallback 호출하지 못했거나 실패했을 때의 결과 (null 가능)
+     */
+    public <T> T call(LlmUseCase useCase, LlmUpstream upstream, Function<WebClient, Mono<T>> request, Supplier<T> fallback) {
+        Semaphore bulkhead = bulkheads.get(useCase);
+        if (!bulkhead.tryAcquire()) {
+            count(useCase, upstream, "rejected");
+            log.warn("[LLM][GATEWAY] {} concurrency limit reached, fallback", useCase);
+            return fallback.get();
+        }
+
+        LlmCircuitBreaker breaker = breakers.get(upstream);
+        try {
+            if (!breaker.tryAcquire(System.currentTimeMillis())) {
+                count(useCase, upstream, "short_circuit");
+                return fallback.get();
+            }
+
+            Timer.Sample sample = Timer.start(meterRegistry);
+            String outcome = "error";
+            boolean recorded = false; // 브레이커에 결과를 남겼는지 (HALF_OPEN 시험 호출 자리를 반드시 돌려주기 위해)
+            try {
+                T result = request.apply(clients.get(upstream))
+                        .timeout(deadlines.get(useCase))
+                        .block();
+                breaker.onSuccess();
+                recorded = true;
+                outcome = "success";
+                return (result != null) ? result : fallback.get();
+            } catch (Exception e) {
+                outcome = (e.getCause() instanceof TimeoutException || e instanceof TimeoutException) ? "timeout" : "failure";
+                breaker.onFailure(System.currentTimeMillis());
+                recorded = true;
+                log.warn("[LLM][GATEWAY] {} via {} {}: {}", useCase, upstream, outcome, e.toString());
+                return fallback.get();
+            } finally {
+                // Error 등 위에서 못 잡은 경우도 실패로 남김 (안 남기면 HALF_OPEN 에서 영영 못 빠져나옴)
+                if (!recorded) breaker.onFailure(System.currentTimeMillis());
+                sample.stop(meterRegistry.timer("llm.call.latency", "use_case", useCase.name(), "upstream", upstream.name(), "outcome", outcome));
+                count(useCase, upstream, outcome);
+            }
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    private void count(LlmUseCase useCase, LlmUpstream upstream, String outcome) {
+        meterRegistry.counter("llm.call", "use_case", useCase.name(), "upstream", upstream.name(), "outcome", outcome).increment();
+    }
+}
@@ -0,0 +1,104 @@
+package com.ssafy.b108.walletslot.backend.infrastructure.llm.util;
+
+import java.util.Arrays;
+
+/**
+ * 최근 N회 호출 기준 실패율 서킷 브레이커 입니다.
+ * - CLOSED: 실패율이 임계치를 넘으면(최소 호출 수 이상일 때) OPEN
+ * - OPEN: openDuration 동안 호출하지 않고 바로 폴백
+ * - HALF_OPEN: 시험 호출 1건만 통과, 성공하면 CLOSED / 실패하면 다시 OPEN
+ */
+public final class LlmCircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    // Field
+    private final boolean[] window;   // true = 실패
+    private final int minCalls;
+    private final double failureRateThreshold;
+    private final long openDurationMs;
+
+    private int index;
+    private int calls;
+    private int failures;
+    private State state = State.CLOSED;
+    private long openedAt;
+    private boolean trialInFlight;
+
+    public LlmCircuitBreaker(int windowSize, int minCalls, double failureRateThreshold, long openDurationMs) {
+        this.window = new boolean[windowSize];
+        this.minCalls = minCalls;
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDurationMs = openDurationMs;
+    }
+
+    // Method
+    /** 호출해도 되는지. false 면 바로 폴백 */
+    public synchronized boolean tryAcquire(long nowMs) {
+        switch (state) {
+            case CLOSED -> {
+                return true;
+            }
+            case OPEN -> {
+                if (nowMs - openedAt < openDurationMs) return false;
+                state = State.HALF_OPEN;
+                trialInFlight = true;
+                return true;
+            }
+            default -> { // HALF_OPEN
+                if (trialInFlight) return false;
+                trialInFlight = true;
+                return true;
+            }
+        }
+    }
+
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            reset();
+            return;
+        }
+        record(false);
+    }
+
+    public synchronized void onFailure(long nowMs) {
+        if (state == State.HALF_OPEN) {
+            open(nowMs);
+            return;
+        }
+        record(true);
+        if (calls >= minCalls && (double) failures / calls >= failureRateThreshold) {
+            open(nowMs);
+        }
+    }
+
+    public synchronized State state() {
+        return state;
+    }
+
+    private void record(boolean failed) {
+        if (calls == window.length) {
+            if (window[index]) failures--;
+        } else {
+            calls++;
+        }
+        window[index] = failed;
+        if (failed) failures++;
+        index = (index + 1) % window.length;
+    }
+
+    private void open(long nowMs) {
+        state = State.OPEN;
+        openedAt = nowMs;
+        trialInFlight = false;
+    }
+
+    private void reset() {
+        state = State.CLOSED;
+        trialInFlight = false;
+        index = 0;
+        calls = 0;
+        failures = 0;
+        Arrays.fill(window, false);
+    }
+}
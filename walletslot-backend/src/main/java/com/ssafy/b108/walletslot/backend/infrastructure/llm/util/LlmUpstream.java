@@ -0,0 +1,7 @@
+package com.ssafy.b108.walletslot.backend.infrastructure.llm.util;
+
+/** LLM 호출 대상 (서킷은 대상별로 따로 엽니다) */
+public enum LlmUpstream {
+    GMS,     // SSAFY GMS 프록시
+    OPENAI   // OpenAI 직접 호출
+}
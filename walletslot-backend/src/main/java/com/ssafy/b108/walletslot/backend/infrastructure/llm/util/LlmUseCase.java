@@ -0,0 +1,21 @@
+package com.ssafy.b108.walletslot.backend.infrastructure.llm.util;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * LLM 호출 용도별 기본 정책 (마감시간, 동시 호출 수) 입니다.
+ * llm.use-case.{key}.timeout-ms / llm.use-case.{key}.max-concurrent 로 덮어쓸 수 있습니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum LlmUseCase {
+
+    AI_REPORT_INSIGHT("ai-report-insight", 20_000L, 4),   // 리포트 요약/실행항목
+    SLOT_RECOMMEND("slot-recommend", 15_000L, 8),         // 슬롯/예산 추천 (사용자 요청)
+    MERCHANT_SLOT("merchant-slot", 8_000L, 4);            // 거래처 → 슬롯 분류 (동기화)
+
+    private final String key;
+    private final long defaultTimeoutMs;
+    private final int defaultMaxConcurrent;
+}
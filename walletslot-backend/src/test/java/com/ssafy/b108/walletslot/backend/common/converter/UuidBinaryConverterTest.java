@@ -0,0 +1,49 @@
+package com.ssafy.b108.walletslot.backend.common.converter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HexFormat;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UuidBinaryConverterTest {
+
+    private final UuidBinaryConverter converter = new UuidBinaryConverter();
+
+    @Test
+    @DisplayName("바이트 순서가 MySQL UUID_TO_BIN(uuid) (swap 없음) 과 같음")
+    void matchesMysqlUuidToBin() {
+        // SELECT HEX(UUID_TO_BIN('3f06af63-a93c-11e4-9797-00505690773f')) → 3F06AF63A93C11E4979700505690773F
+        byte[] bytes = converter.convertToDatabaseColumn("3f06af63-a93c-11e4-9797-00505690773f");
+
+        assertThat(HexFormat.of().withUpperCase().formatHex(bytes)).isEqualTo("3F06AF63A93C11E4979700505690773F");
+    }
+
+    @Test
+    @DisplayName("문자열 → 16바이트 → 문자열 왕복 시 같은 값 (소문자 표준 형식)")
+    void roundTrip() {
+        for (int i = 0; i < 1_000; i++) {
+            String uuid = UUID.randomUUID().toString();
+            byte[] bytes = converter.convertToDatabaseColumn(uuid);
+
+            assertThat(bytes).hasSize(16);
+            assertThat(converter.convertToEntityAttribute(bytes)).isEqualTo(uuid);
+        }
+        String upper = "3F06AF63-A93C-11E4-9797-00505690773F";
+        assertThat(converter.convertToEntityAttribute(converter.convertToDatabaseColumn(upper))).isEqualTo(upper.toLowerCase());
+    }
+
+    @Test
+    @DisplayName("null 과 UUID 형식이 아닌 문자열은 null (조회 조건이면 404 로 이어짐)")
+    void invalidInputsBecomeNull() {
+        assertThat(converter.convertToDatabaseColumn(null)).isNull();
+        assertThat(converter.convertToDatabaseColumn("not-a-uuid")).isNull();
+        assertThat(converter.convertToDatabaseColumn("")).isNull();
+
+        assertThat(converter.convertToEntityAttribute(null)).isNull();
+        assertThat(converter.convertToEntityAttribute(new byte[15])).isNull();
+        assertThat(converter.convertToEntityAttribute(new byte[17])).isNull();
+    }
+}
@@ -0,0 +1,167 @@
+package com.ssafy.b108.walletslot.backend.config.datasource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 인메모리 H2 두 개를 primary / replica 로 띄워서 라우팅을 확인합니다.
+ * 각 DB 의 db_name 테이블에 자기 이름을 넣어 두고, 어느 쪽에서 읽혔는지로 판단합니다.
+ * replica 지연은 replica_lag 테이블 값을 lag-query 로 읽게 해서 테스트 안에서 바꿉니다.
+ */
+class DataSourceRoutingConfigTest {
+
+    private String primaryUrl;
+    private String replicaUrl;
+    private ApplicationContextRunner runner;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString();
+        primaryUrl = "jdbc:h2:mem:primary-" + suffix + ";DB_CLOSE_DELAY=-1";
+        replicaUrl = "jdbc:h2:mem:replica-" + suffix + ";DB_CLOSE_DELAY=-1";
+
+        JdbcTemplate primary = new JdbcTemplate(new DriverManagerDataSource(primaryUrl, "sa", ""));
+        primary.execute("CREATE TABLE db_name (name VARCHAR(16))");
+        primary.update("INSERT INTO db_name VALUES ('primary')");
+
+        JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(replicaUrl, "sa", ""));
+        replica.execute("CREATE TABLE db_name (name VARCHAR(16))");
+        replica.update("INSERT INTO db_name VALUES ('replica')");
+        replica.execute("CREATE TABLE replica_lag (seconds BIGINT)");
+        replica.update("INSERT INTO replica_lag VALUES (0)");
+
+        runner = new ApplicationContextRunner()
+                .withUserConfiguration(TestConfig.class, DataSourceRoutingConfig.class)
+                .withPropertyValues(
+                        "spring.datasource.url=" + primaryUrl,
+                        "spring.datasource.username=sa",
+                        "spring.datasource.password=",
+                        "spring.datasource.replica.url=" + replicaUrl,
+                        "spring.datasource.replica.lag-query=SELECT seconds FROM replica_lag",
+                        "spring.datasource.replica.max-lag-seconds=5");
+    }
+
+    @Test
+    @DisplayName("replica url 이 없으면 라우팅 설정이 빠짐")
+    void disabledWithoutReplicaUrl() {
+        new ApplicationContextRunner()
+                .withUserConfiguration(TestConfig.class, DataSourceRoutingConfig.class)
+                .withPropertyValues("spring.datasource.url=" + primaryUrl)
+                .run(context -> assertThat(context).doesNotHaveBean(ReplicaLagGuard.class));
+    }
+
+    @Test
+    @DisplayName("readOnly 트랜잭션은 replica, 쓰기 트랜잭션은 primary 에서 읽고 씀")
+    void readOnlyGoesToReplicaAndWritesToPrimary() {
+        runner.run(context -> {
+            DataSource dataSource = context.getBean("dataSource", DataSource.class);
+            MeterRegistry meterRegistry = context.getBean(MeterRegistry.class);
+            context.getBean(ReplicaLagGuard.class).check();
+            // LazyConnectionDataSourceProxy 가 첫 커넥션에서 기본 속성을 읽느라 primary 를 한 번 잡으므로 그 뒤부터 셈
+            currentDbName(dataSource, false);
+
+            double readsBefore = routed(meterRegistry, "replica", "read_only");
+            double writesBefore = routed(meterRegistry, "primary", "write");
+
+            assertThat(currentDbName(dataSource, true)).isEqualTo("replica");
+            assertThat(currentDbName(dataSource, false)).isEqualTo("primary");
+
+            inTransaction(dataSource, false, jdbc -> jdbc.update("INSERT INTO db_name VALUES ('written')"));
+            assertThat(countWritten(primaryUrl)).isEqualTo(1);
+            assertThat(countWritten(replicaUrl)).isZero();
+
+            assertThat(routed(meterRegistry, "replica", "read_only") - readsBefore).isEqualTo(1);
+            assertThat(routed(meterRegistry, "primary", "write") - writesBefore).isEqualTo(2);
+        });
+    }
+
+    @Test
+    @DisplayName("replica 지연이 max-lag-seconds 를 넘으면 readOnly 도 primary 로, 다시 따라잡으면 replica 로")
+    void lagFallsBackToPrimary() {
+        runner.run(context -> {
+            DataSource dataSource = context.getBean("dataSource", DataSource.class);
+            MeterRegistry meterRegistry = context.getBean(MeterRegistry.class);
+            ReplicaLagGuard guard = context.getBean(ReplicaLagGuard.class);
+
+            new JdbcTemplate(new DriverManagerDataSource(replicaUrl, "sa", "")).update("UPDATE replica_lag SET seconds = 30");
+            guard.check();
+            double fallbackBefore = routed(meterRegistry, "primary", "replica_unavailable");
+
+            assertThat(guard.isReplicaUsable()).isFalse();
+            assertThat(currentDbName(dataSource, true)).isEqualTo("primary");
+            assertThat(routed(meterRegistry, "primary", "replica_unavailable") - fallbackBefore).isEqualTo(1);
+            assertThat(meterRegistry.get("datasource.replica.lag.seconds").gauge().value()).isEqualTo(30);
+
+            new JdbcTemplate(new DriverManagerDataSource(replicaUrl, "sa", "")).update("UPDATE replica_lag SET seconds = 1");
+            guard.check();
+
+            assertThat(guard.isReplicaUsable()).isTrue();
+            assertThat(currentDbName(dataSource, true)).isEqualTo("replica");
+        });
+    }
+
+    @Test
+    @DisplayName("지연 확인 쿼리가 실패하면 readOnly 도 primary 로")
+    void lagCheckFailureFallsBackToPrimary() {
+        runner.withPropertyValues("spring.datasource.replica.lag-query=SELECT seconds FROM no_such_table")
+                .run(context -> {
+                    DataSource dataSource = context.getBean("dataSource", DataSource.class);
+                    ReplicaLagGuard guard = context.getBean(ReplicaLagGuard.class);
+                    guard.check();
+
+                    assertThat(guard.isReplicaUsable()).isFalse();
+                    assertThat(currentDbName(dataSource, true)).isEqualTo("primary");
+                });
+    }
+
+    private static String currentDbName(DataSource dataSource, boolean readOnly) {
+        String[] name = new String[1];
+        inTransaction(dataSource, readOnly,
+                jdbc -> name[0] = jdbc.queryForObject("SELECT name FROM db_name WHERE name <> 'written'", String.class));
+        return name[0];
+    }
+
+    private static void inTransaction(DataSource dataSource, boolean readOnly, Consumer<JdbcTemplate> work) {
+        TransactionTemplate tx = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        tx.setReadOnly(readOnly);
+        tx.executeWithoutResult(status -> work.accept(new JdbcTemplate(dataSource)));
+    }
+
+    private static int countWritten(String url) {
+        Integer count = new JdbcTemplate(new DriverManagerDataSource(url, "sa", ""))
+                .queryForObject("SELECT COUNT(*) FROM db_name WHERE name = 'written'", Integer.class);
+        return count == null ? 0 : count;
+    }
+
+    private static double routed(MeterRegistry meterRegistry, String target, String reason) {
+        return meterRegistry.get("datasource.routing").tag("target", target).tag("reason", reason).counter().count();
+    }
+
+    @Configuration
+    @EnableConfigurationProperties(DataSourceProperties.class)
+    static class TestConfig {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
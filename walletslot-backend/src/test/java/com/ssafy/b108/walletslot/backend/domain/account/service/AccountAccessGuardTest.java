@@ -0,0 +1,95 @@
+package com.ssafy.b108.walletslot.backend.domain.account.service;
+
+import com.ssafy.b108.walletslot.backend.domain.account.entity.Account;
+import com.ssafy.b108.walletslot.backend.domain.account.repository.AccountRepository;
+import com.ssafy.b108.walletslot.backend.domain.user.entity.User;
+import com.ssafy.b108.walletslot.backend.global.error.AppException;
+import com.ssafy.b108.walletslot.backend.global.error.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+class AccountAccessGuardTest {
+
+    private static final Long USER_ID = 1L;
+    private static final Long ACCOUNT_ID = 10L;
+    private static final String ACCOUNT_UUID = "4f9a7c2e-0000-4000-8000-000000000001";
+
+    private final AccountRepository accountRepository = mock(AccountRepository.class);
+    private final AccountAccessGuard guard = new AccountAccessGuard(accountRepository, new SimpleMeterRegistry());
+
+    private Account account;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(guard, "ttlMs", 60_000L);
+        ReflectionTestUtils.setField(guard, "maxUsers", 100);
+        account = Account.builder().id(ACCOUNT_ID).uuid(ACCOUNT_UUID).user(User.builder().id(USER_ID).build()).build();
+    }
+
+    @Test
+    @DisplayName("캐시에 있으면 uuid 조회 없이 PK 로 실제 엔티티를 읽음 (프록시 아님)")
+    void cacheHitLoadsEntityByPk() {
+        when(accountRepository.findByUserIdAndUuid(USER_ID, ACCOUNT_UUID)).thenReturn(Optional.of(account));
+        when(accountRepository.findById(ACCOUNT_ID)).thenReturn(Optional.of(account));
+
+        guard.getOwnedAccount(USER_ID, ACCOUNT_UUID);
+        Account second = guard.getOwnedAccount(USER_ID, ACCOUNT_UUID);
+
+        assertThat(second).isSameAs(account);
+        verify(accountRepository, times(1)).findByUserIdAndUuid(USER_ID, ACCOUNT_UUID);
+        verify(accountRepository, never()).getReferenceById(any());
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스에서 계좌가 지워져 캐시가 낡았으면 500 이 아니라 404")
+    void staleCacheAfterDeletionIsNotFound() {
+        when(accountRepository.findByUserIdAndUuid(USER_ID, ACCOUNT_UUID))
+                .thenReturn(Optional.of(account))
+                .thenReturn(Optional.empty());
+        guard.getOwnedAccount(USER_ID, ACCOUNT_UUID);
+
+        // 다른 인스턴스에서 삭제 (이 인스턴스 캐시는 그대로)
+        when(accountRepository.findById(ACCOUNT_ID)).thenReturn(Optional.empty());
+        when(accountRepository.existsByUuid(ACCOUNT_UUID)).thenReturn(false);
+
+        assertThatThrownBy(() -> guard.getOwnedAccount(USER_ID, ACCOUNT_UUID))
+                .isInstanceOfSatisfying(AppException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.ACCOUNT_NOT_FOUND));
+    }
+
+    @Test
+    @DisplayName("낡은 캐시는 버려지고 다음 확인은 처음부터 다시 함")
+    void staleEntryIsEvicted() {
+        when(accountRepository.findByUserIdAndUuid(USER_ID, ACCOUNT_UUID))
+                .thenReturn(Optional.of(account))
+                .thenReturn(Optional.empty());
+        guard.getOwnedAccount(USER_ID, ACCOUNT_UUID);
+        when(accountRepository.findById(ACCOUNT_ID)).thenReturn(Optional.empty());
+        when(accountRepository.existsByUuid(ACCOUNT_UUID)).thenReturn(false);
+        when(accountRepository.findIdByUserIdAndUuid(USER_ID, ACCOUNT_UUID)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> guard.getOwnedAccount(USER_ID, ACCOUNT_UUID)).isInstanceOf(AppException.class);
+        assertThatThrownBy(() -> guard.getOwnedAccountId(USER_ID, ACCOUNT_UUID)).isInstanceOf(AppException.class);
+        verify(accountRepository).findIdByUserIdAndUuid(USER_ID, ACCOUNT_UUID);
+    }
+
+    @Test
+    @DisplayName("남의 계좌면 403")
+    void otherUsersAccountIsForbidden() {
+        when(accountRepository.findByUserIdAndUuid(2L, ACCOUNT_UUID)).thenReturn(Optional.empty());
+        when(accountRepository.existsByUuid(ACCOUNT_UUID)).thenReturn(true);
+
+        assertThatThrownBy(() -> guard.getOwnedAccount(2L, ACCOUNT_UUID))
+                .isInstanceOfSatisfying(AppException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.FORBIDDEN));
+    }
+}
@@ -0,0 +1,185 @@
+package com.ssafy.b108.walletslot.backend.domain.ai_report.repository;
+
+import com.ssafy.b108.walletslot.backend.domain.transaction.entity.Transaction;
+import com.ssafy.b108.walletslot.backend.domain.transaction.repository.SlotDailySpendRepository;
+import com.ssafy.b108.walletslot.backend.domain.transaction.repository.TransactionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * AI 리포트 통계 쿼리가 예전 Java 집계(기간 내 거래 엔티티를 전부 읽어 spentByAsId / dowByAsId / merchantSum 에 더하던 루프)와 같은 값을 내는지 실제 MySQL 에서 확인합니다.
+ * 슬롯×요일 합계는 slot_daily_spend 를 읽으므로, 거래를 넣은 뒤 야간 재집계와 같은 rebuildRange 로 집계를 만들고 비교합니다.
+ * 기간 끝날 23:59:59 / 다음날 00:00:00 경계, 빈 적요, 다른 계좌 거래를 일부러 섞습니다. Docker 가 없는 환경에서는 건너뜁니다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@TestPropertySource(properties = "spring.jpa.hibernate.ddl-auto=none")
+class AiReportStatsRepositoryParityTest {
+
+    private static final long ACCOUNT_ID = 1L;
+    private static final int TOP_MERCHANTS = 5;
+
+    // 2025-06-02 (월) ~ 2025-06-15 (일): 요일마다 두 번씩
+    private static final LocalDate START_DATE = LocalDate.of(2025, 6, 2);
+    private static final LocalDate END_DATE = LocalDate.of(2025, 6, 15);
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0")
+            .withDatabaseName("walletslotdb")
+            .withUsername("root")
+            .withPassword("test")
+            .withInitScript("db/schema.sql");
+
+    @Autowired private AiReportStatsRepository statsRepository;
+    @Autowired private TransactionRepository transactionRepository;
+    @Autowired private SlotDailySpendRepository slotDailySpendRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM `user`"); // account, account_slot, transaction, slot_daily_spend 는 FK CASCADE
+        jdbcTemplate.update("DELETE FROM bank");
+        jdbcTemplate.update("DELETE FROM slot");
+        jdbcTemplate.update("INSERT INTO `user` (id, uuid, name, phone_number, gender, birth_date) VALUES (1, 'u-1', '테스트', '01000000000', 'MAN', '1990-01-01')");
+        jdbcTemplate.update("INSERT INTO bank (id, uuid, name, code) VALUES (1, 'b-1', '테스트은행', '999')");
+        jdbcTemplate.update("INSERT INTO slot (id, uuid, name) VALUES (1, 's-1', '식비'), (2, 's-2', '교통비'), (3, 's-3', '쇼핑')");
+        jdbcTemplate.update("""
+                INSERT INTO account (id, uuid, user_id, bank_id, encrypted_account_no)
+                VALUES (1, UUID_TO_BIN(UUID()), 1, 1, 'enc-1'), (2, UUID_TO_BIN(UUID()), 1, 1, 'enc-2')
+                """);
+        jdbcTemplate.update("""
+                INSERT INTO account_slot (id, uuid, account_id, slot_id, initial_budget, current_budget)
+                VALUES (1, UUID_TO_BIN(UUID()), 1, 1, 0, 0), (2, UUID_TO_BIN(UUID()), 1, 2, 0, 0),
+                       (3, UUID_TO_BIN(UUID()), 1, 3, 0, 0), (4, UUID_TO_BIN(UUID()), 2, 1, 0, 0)
+                """);
+
+        // (id, account_id, account_slot_id, type, summary, amount, transaction_at)
+        jdbcTemplate.update("""
+                INSERT INTO `transaction` (id, uuid, account_id, account_slot_id, unique_no, type, summary, amount, balance, transaction_at)
+                SELECT v.id, UUID_TO_BIN(UUID()), v.account_id, v.account_slot_id, v.id, v.type, v.summary, v.amount, 1000000, v.transaction_at
+                FROM (
+                    SELECT  1 AS id, 1 AS account_id, 1 AS account_slot_id, '출금' AS type, '김밥천국' AS summary, 8000 AS amount, TIMESTAMP('2025-06-01 23:59:59') AS transaction_at
+                    UNION ALL SELECT  2, 1, 1, '출금', '김밥천국',   7000, '2025-06-02 00:00:00'
+                    UNION ALL SELECT  3, 1, 1, '출금', '스타벅스',   5600, '2025-06-02 12:30:00'
+                    UNION ALL SELECT  4, 1, 2, '출금', '지하철',     1400, '2025-06-03 08:10:00'
+                    UNION ALL SELECT  5, 1, 2, '출금', '지하철',     1400, '2025-06-03 18:40:00'
+                    UNION ALL SELECT  6, 1, 3, '출금', '쿠팡',      45000, '2025-06-04 21:00:00'
+                    UNION ALL SELECT  7, 1, 1, '출금', '',           3000, '2025-06-05 13:00:00'
+                    UNION ALL SELECT  8, 1, 3, '출금', '   ',        2500, '2025-06-06 19:00:00'
+                    UNION ALL SELECT  9, 1, 1, '입금', '환불',       5600, '2025-06-07 10:00:00'
+                    UNION ALL SELECT 10, 1, 3, '출금', '무신사',    39000, '2025-06-08 15:00:00'
+                    UNION ALL SELECT 11, 1, 1, '출금', '스타벅스',   4800, '2025-06-09 09:00:00'
+                    UNION ALL SELECT 12, 1, 2, '출금', '카카오T',   12000, '2025-06-10 23:30:00'
+                    UNION ALL SELECT 13, 1, 1, '출금', '김밥천국',   9000, '2025-06-11 12:00:00'
+                    UNION ALL SELECT 14, 1, 3, '출금', '쿠팡',      23000, '2025-06-12 22:00:00'
+                    UNION ALL SELECT 15, 1, 1, '출금', '배달의민족', 21000, '2025-06-13 20:00:00'
+                    UNION ALL SELECT 16, 1, 2, '출금', '지하철',     1400, '2025-06-14 11:00:00'
+                    UNION ALL SELECT 17, 1, 1, '출금', '배달의민족', 18500, '2025-06-15 23:59:59'
+                    UNION ALL SELECT 18, 1, 3, '출금', '무신사',    60000, '2025-06-16 00:00:00'
+                    UNION ALL SELECT 19, 2, 4, '출금', '스타벅스',  99000, '2025-06-09 09:00:00'
+                ) v
+                """);
+
+        // 야간 재집계(SlotDailySpendRebuildScheduler)와 같은 경로로 일별 집계를 만듦
+        slotDailySpendRepository.deleteRange(LocalDate.of(2025, 5, 1), LocalDate.of(2025, 6, 30));
+        slotDailySpendRepository.rebuildRange(LocalDateTime.of(2025, 5, 1, 0, 0), LocalDateTime.of(2025, 7, 1, 0, 0));
+    }
+
+    @Test
+    @DisplayName("슬롯×요일 합계: slot_daily_spend 집계가 예전 거래 루프의 dowByAsId / spentByAsId 와 같음")
+    void slotDaySumsMatchLegacyLoop() {
+        Legacy legacy = legacyLoop();
+
+        Map<Long, Map<Integer, Long>> dowByAsId = new HashMap<>();
+        Map<Long, Long> spentByAsId = new HashMap<>();
+        for (AiReportStatsRepository.SlotDaySpend row : statsRepository.sumBySlotAndDayOfWeek(ACCOUNT_ID, START_DATE, END_DATE)) {
+            dowByAsId.computeIfAbsent(row.getAccountSlotId(), k -> new HashMap<>()).merge(row.getDayOfWeek(), row.getAmount(), Long::sum);
+            spentByAsId.merge(row.getAccountSlotId(), row.getAmount(), Long::sum);
+        }
+
+        assertThat(dowByAsId).isEqualTo(legacy.dowByAsId);
+        assertThat(spentByAsId).isEqualTo(legacy.spentByAsId);
+
+        // 경계: 시작일 00:00:00 / 끝날 23:59:59 는 포함, 전날 23:59:59 / 다음날 00:00:00 은 제외
+        assertThat(dowByAsId.get(1L)).containsEntry(1, 7_000L + 5_600L + 4_800L).containsEntry(7, 18_500L);
+        assertThat(spentByAsId).containsEntry(3L, 45_000L + 2_500L + 39_000L + 23_000L).doesNotContainKey(4L);
+    }
+
+    @Test
+    @DisplayName("거래처 Top-N: 예전 merchantSum 정렬 결과와 같고, 빈 적요와 기간 밖 거래는 빠짐")
+    void topMerchantsMatchLegacyLoop() {
+        Legacy legacy = legacyLoop();
+        LocalDateTime start = START_DATE.atStartOfDay();
+        LocalDateTime end = END_DATE.plusDays(1).atStartOfDay().minusSeconds(1);
+
+        List<AiReportStatsRepository.MerchantSpend> merchants = statsRepository.findTopMerchants(ACCOUNT_ID, start, end, TOP_MERCHANTS);
+
+        List<Map.Entry<String, Long>> expected = legacy.merchantSum.entrySet().stream()
+                .sorted((a, b) -> Long.compare(b.getValue(), a.getValue()))
+                .limit(TOP_MERCHANTS)
+                .toList();
+        assertThat(merchants).extracting(AiReportStatsRepository.MerchantSpend::getName)
+                .containsExactlyElementsOf(expected.stream().map(Map.Entry::getKey).toList());
+        assertThat(merchants).extracting(AiReportStatsRepository.MerchantSpend::getAmount)
+                .containsExactlyElementsOf(expected.stream().map(Map.Entry::getValue).toList());
+        assertThat(merchants).allSatisfy(m -> assertThat(m.getCount()).isEqualTo(legacy.merchantCount.get(m.getName())));
+
+        // 다음날 00:00:00 의 무신사 60,000 / 다른 계좌의 스타벅스 99,000 은 순위에 영향 없음
+        assertThat(merchants).extracting(AiReportStatsRepository.MerchantSpend::getName)
+                .startsWith("쿠팡", "배달의민족", "무신사")
+                .doesNotContain("", "   ");
+    }
+
+    // 예전 AiReportServiceImpl#getReportByPeriod 의 집계 루프 그대로 (기간 끝은 endDate 23:59:59)
+    private Legacy legacyLoop() {
+        LocalDateTime start = START_DATE.atStartOfDay();
+        LocalDateTime end = END_DATE.plusDays(1).atStartOfDay().minusSeconds(1);
+        List<Transaction> rangeTx = transactionRepository.findByAccountIdAndTransactionAtBetween(ACCOUNT_ID, start, end);
+
+        Legacy legacy = new Legacy();
+        for (Transaction t : rangeTx) {
+            Long asId = t.getAccountSlot().getId();
+            legacy.spentByAsId.merge(asId, nz(t.getAmount()), Long::sum);
+            if (t.getSummary() != null && !t.getSummary().isBlank()) {
+                legacy.merchantSum.merge(t.getSummary(), nz(t.getAmount()), Long::sum);
+                legacy.merchantCount.merge(t.getSummary(), 1L, Long::sum);
+            }
+            int dow = t.getTransactionAt().getDayOfWeek().getValue();
+            legacy.dowByAsId.computeIfAbsent(asId, k -> new HashMap<>()).merge(dow, nz(t.getAmount()), Long::sum);
+        }
+        assertThat(rangeTx.stream().map(Transaction::getId).collect(Collectors.toSet())).doesNotContain(1L, 18L, 19L);
+        return legacy;
+    }
+
+    private static long nz(Long v) {
+        return v == null ? 0L : v;
+    }
+
+    private static class Legacy {
+        final Map<Long, Long> spentByAsId = new HashMap<>();
+        final Map<String, Long> merchantSum = new HashMap<>();
+        final Map<String, Long> merchantCount = new HashMap<>();
+        final Map<Long, Map<Integer, Long>> dowByAsId = new HashMap<>();
+    }
+}
@@ -0,0 +1,118 @@
+package com.ssafy.b108.walletslot.backend.domain.ai_report.support;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BudgetRedistributorTest {
+
+    @Test
+    @DisplayName("초과액 비율대로 천원 단위 배분, 합계는 절약액(천원 내림)과 같음")
+    void allocatesProportionally() {
+        long[] overspend = {30_000, 0, 10_000, 5_000};
+        boolean[] eligible = {true, false, true, false}; // 3번은 미분류
+
+        BudgetRedistributor.Result result = BudgetRedistributor.allocate(overspend, eligible, 20_500, 40_000);
+
+        assertThat(result.savedPool()).isEqualTo(20_000);
+        assertThat(result.oversPool()).isEqualTo(40_000);
+        assertThat(result.allocated()).containsExactly(15_000, 0, 5_000, 0);
+        assertThat(result.recipients()).containsExactly(0, 2);
+        assertThat(result.allocatedTotal()).isEqualTo(20_000);
+    }
+
+    @Test
+    @DisplayName("남은 천원 단위는 잔여(소수부)가 큰 슬롯부터, 같으면 슬롯 순서")
+    void remainderGoesToLargestFraction() {
+        // 몫: 3333.3 / 3333.3 / 3333.3 → 1차 3,000 씩, 남은 1,000 은 동률이라 첫 슬롯
+        BudgetRedistributor.Result tie = BudgetRedistributor.allocate(new long[]{1, 1, 1}, new boolean[]{true, true, true}, 10_000, 3_000);
+        assertThat(tie.allocated()).containsExactly(4_000, 3_000, 3_000);
+
+        // 몫: 5714.3 / 2857.1 / 1428.6 → 1차 5,000 / 2,000 / 1,000, 잔여 714 / 857 / 429 → 남은 2,000 은 2번, 1번 순
+        BudgetRedistributor.Result ranked = BudgetRedistributor.allocate(new long[]{4_000, 2_000, 1_000}, new boolean[]{true, true, true}, 10_000, 7_000);
+        assertThat(ranked.allocated()).containsExactly(6_000, 3_000, 1_000);
+    }
+
+    @Test
+    @DisplayName("절약액이나 초과액이 천원 미만이면 배분 없음")
+    void emptyPools() {
+        BudgetRedistributor.Result noSaving = BudgetRedistributor.allocate(new long[]{5_000}, new boolean[]{true}, 999, 5_000);
+        assertThat(noSaving.allocatedTotal()).isZero();
+        assertThat(noSaving.recipients()).isEmpty();
+
+        BudgetRedistributor.Result noOver = BudgetRedistributor.allocate(new long[]{500}, new boolean[]{true}, 10_000, 500);
+        assertThat(noOver.allocatedTotal()).isZero();
+    }
+
+    @Test
+    @DisplayName("무작위 입력에서 이전 구현(1,000원씩 돌아가며 배분)과 결과가 같음")
+    void matchesLegacyAllocation() {
+        Random random = new Random(7);
+        for (int round = 0; round < 2_000; round++) {
+            int n = 1 + random.nextInt(40);
+            long[] overspend = new long[n];
+            boolean[] eligible = new boolean[n];
+            long oversTotal = 0;
+            for (int i = 0; i < n; i++) {
+                eligible[i] = random.nextInt(4) != 0;
+                overspend[i] = random.nextInt(5) == 0 ? 0 : 1 + random.nextInt(500_000);
+                if (eligible[i]) oversTotal += overspend[i];
+            }
+            long savedTotal = random.nextInt(3) == 0 ? random.nextInt(50_000) : random.nextLong(100_000_000L);
+
+            BudgetRedistributor.Result result = BudgetRedistributor.allocate(overspend, eligible, savedTotal, oversTotal);
+            long[] legacy = legacyAllocate(overspend, eligible, savedTotal, oversTotal);
+
+            assertThat(result.allocated()).as("round %d", round).containsExactly(legacy);
+            if (result.oversPool() > 0 && result.recipients().length > 0) {
+                assertThat(result.allocatedTotal()).isGreaterThanOrEqualTo(result.savedPool() - 999);
+            }
+            for (long allocated : result.allocated()) {
+                assertThat(allocated % 1_000).isZero();
+            }
+        }
+    }
+
+    /**
+     * 이전 AiReportServiceImpl 의 배분 로직 (Map 조회와 while 루프만 배열로 옮김).
+     * 잔여 정렬은 이전처럼 안정 정렬이고, 동률 순서는 슬롯 순서로 고정했습니다.
+     */
+    private static long[] legacyAllocate(long[] overspend, boolean[] eligible, long savedTotal, long oversTotal) {
+        long savedPool = floorK(savedTotal);
+        long oversPool = floorK(oversTotal);
+        long[] alloc = new long[overspend.length];
+        List<double[]> frac = new ArrayList<>(); // [slot, frac]
+        long allocatedSum = 0L;
+
+        if (savedPool > 0 && oversPool > 0) {
+            for (int i = 0; i < overspend.length; i++) {
+                if (eligible[i] && overspend[i] > 0) {
+                    double share = ((double) overspend[i] / (double) oversPool) * (double) savedPool;
+                    long a = floorK(Math.round(share));
+                    alloc[i] = a;
+                    allocatedSum += a;
+                    frac.add(new double[]{i, Math.max(0d, share - a)});
+                }
+            }
+        }
+        long remain = savedPool - allocatedSum;
+        if (remain > 0 && !frac.isEmpty()) {
+            frac.sort(Comparator.comparingDouble((double[] f) -> f[1]).reversed());
+            int i = 0;
+            while (remain >= 1_000) {
+                alloc[(int) frac.get(i % frac.size())[0]] += 1_000L;
+                remain -= 1_000L;
+                i++;
+            }
+        }
+        return alloc;
+    }
+
+    private static long floorK(long v) { return (v <= 0) ? 0L : (v / 1000) * 1000; }
+}
@@ -0,0 +1,38 @@
+package com.ssafy.b108.walletslot.backend.domain.notification.service;
+
+import com.ssafy.b108.walletslot.backend.domain.notification.entity.Notification;
+import com.ssafy.b108.walletslot.backend.domain.notification.repository.NotificationEventRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class NotificationCoalescerTest {
+
+    private final NotificationEventRepository eventRepository = mock(NotificationEventRepository.class);
+    private final NotificationGroupEmitter groupEmitter = mock(NotificationGroupEmitter.class);
+    private final NotificationCoalescer coalescer = new NotificationCoalescer(eventRepository, mock(NotificationWriter.class), groupEmitter);
+
+    @Test
+    @DisplayName("한 묶음이 실패해도 나머지 묶음은 각자 트랜잭션으로 계속 발송")
+    void failingGroupDoesNotStopTheSweep() {
+        when(eventRepository.findClosedPendingGroups(any())).thenReturn(List.of(group(1L), group(2L), group(3L)));
+        when(groupEmitter.emit(eq(2L), any(), any(), any())).thenThrow(new IllegalStateException("boom"));
+
+        coalescer.flush();
+
+        verify(groupEmitter).emit(eq(1L), eq(Notification.Type.SLOT), anyString(), any());
+        verify(groupEmitter).emit(eq(2L), eq(Notification.Type.SLOT), anyString(), any());
+        verify(groupEmitter).emit(eq(3L), eq(Notification.Type.SLOT), anyString(), any());
+    }
+
+    private static NotificationEventRepository.PendingGroup group(Long userId) {
+        return new NotificationEventRepository.PendingGroup() {
+            @Override public Long getUserId() { return userId; }
+            @Override public Notification.Type getType() { return Notification.Type.SLOT; }
+        };
+    }
+}
@@ -0,0 +1,105 @@
+package com.ssafy.b108.walletslot.backend.domain.notification.service;
+
+import com.ssafy.b108.walletslot.backend.domain.notification.entity.Notification;
+import com.ssafy.b108.walletslot.backend.domain.notification.entity.NotificationEvent;
+import com.ssafy.b108.walletslot.backend.domain.notification.repository.NotificationEventRepository;
+import com.ssafy.b108.walletslot.backend.domain.notification.repository.NotificationRepository;
+import com.ssafy.b108.walletslot.backend.domain.user.entity.User;
+import com.ssafy.b108.walletslot.backend.infrastructure.fcm.service.FcmFanoutService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class NotificationGroupEmitterTest {
+
+    private static final String OWNER = "instance-1";
+
+    private final NotificationEventRepository eventRepository = mock(NotificationEventRepository.class);
+    private final NotificationRepository notificationRepository = mock(NotificationRepository.class);
+    private final FcmFanoutService fcmFanoutService = mock(FcmFanoutService.class);
+    private final NotificationGroupEmitter emitter = new NotificationGroupEmitter(eventRepository, notificationRepository,
+            mock(NotificationWriter.class), fcmFanoutService);
+
+    private final User user = User.builder().id(1L).build();
+
+    // 트랜잭션 역할: emit 안에서 등록한 동기화 콜백을 모아뒀다가 커밋 / 롤백을 흉내냄
+    @BeforeEach
+    void beginTransaction() {
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void endTransaction() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    @DisplayName("요약 알림 푸시는 묶음 트랜잭션이 커밋된 뒤에만 나감")
+    void pushIsSentOnlyAfterCommit() {
+        givenClaimedEvents(event("식비"), event("교통비"));
+        when(notificationRepository.save(any(Notification.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        int events = emitter.emit(user.getId(), Notification.Type.SLOT, OWNER, LocalDateTime.now());
+
+        assertThat(events).isEqualTo(2);
+        verifyNoInteractions(fcmFanoutService);
+
+        commit();
+        verify(fcmFanoutService).sendNotification(argThat((Notification n) -> n.getTitle().contains("2건")));
+    }
+
+    @Test
+    @DisplayName("묶음 트랜잭션이 롤백되면 푸시도 나가지 않음 (다음 flush 에서 다시 보내도 중복 없음)")
+    void rolledBackGroupSendsNothing() {
+        givenClaimedEvents(event("식비"), event("교통비"));
+        when(notificationRepository.save(any(Notification.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        emitter.emit(user.getId(), Notification.Type.SLOT, OWNER, LocalDateTime.now());
+        rollback();
+
+        verifyNoInteractions(fcmFanoutService);
+    }
+
+    @Test
+    @DisplayName("다른 서버가 이미 잡은 묶음은 아무것도 하지 않음")
+    void groupClaimedElsewhereIsSkipped() {
+        when(eventRepository.claimPending(eq(1L), eq("SLOT"), eq(OWNER), any())).thenReturn(0);
+
+        assertThat(emitter.emit(user.getId(), Notification.Type.SLOT, OWNER, LocalDateTime.now())).isZero();
+
+        verify(eventRepository, never()).findByUser_IdAndTypeAndNotificationIsNullAndClaimedByOrderByIdAsc(any(), any(), any());
+        assertThat(TransactionSynchronizationManager.getSynchronizations()).isEmpty();
+    }
+
+    private void givenClaimedEvents(NotificationEvent... events) {
+        when(eventRepository.claimPending(eq(1L), eq("SLOT"), eq(OWNER), any())).thenReturn(events.length);
+        when(eventRepository.findByUser_IdAndTypeAndNotificationIsNullAndClaimedByOrderByIdAsc(1L, Notification.Type.SLOT, OWNER))
+                .thenReturn(List.of(events));
+    }
+
+    private NotificationEvent event(String label) {
+        return NotificationEvent.builder().user(user).type(Notification.Type.SLOT).title("지출").body(label).label(label).build();
+    }
+
+    private static void commit() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+    }
+
+    private static void rollback() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+    }
+}
@@ -0,0 +1,122 @@
+package com.ssafy.b108.walletslot.backend.domain.notification.service;
+
+import com.ssafy.b108.walletslot.backend.domain.notification.dto.notification.GetNotificationPageResponseDto;
+import com.ssafy.b108.walletslot.backend.domain.notification.dto.notification.NotificationDto;
+import com.ssafy.b108.walletslot.backend.domain.notification.entity.Notification;
+import com.ssafy.b108.walletslot.backend.domain.notification.entity.NotificationArchive;
+import com.ssafy.b108.walletslot.backend.domain.notification.repository.NotificationArchiveRepository;
+import com.ssafy.b108.walletslot.backend.domain.notification.repository.NotificationEventRepository;
+import com.ssafy.b108.walletslot.backend.domain.notification.repository.NotificationRepository;
+import com.ssafy.b108.walletslot.backend.domain.transaction.repository.TransactionRepository;
+import com.ssafy.b108.walletslot.backend.domain.user.entity.User;
+import com.ssafy.b108.walletslot.backend.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class NotificationServiceImplTest {
+
+    private static final long USER_ID = 1L;
+    private static final int SIZE = 3;
+
+    private final NotificationRepository repo = mock(NotificationRepository.class);
+    private final NotificationArchiveRepository archiveRepo = mock(NotificationArchiveRepository.class);
+    private final UserRepository userRepo = mock(UserRepository.class);
+    private final NotificationServiceImpl service = new NotificationServiceImpl(repo, mock(NotificationEventRepository.class), archiveRepo,
+            mock(NotificationWriter.class), userRepo, mock(TransactionRepository.class));
+
+    @Test
+    @DisplayName("첫 페이지가 archive 최대 id 보다 위에서 꽉 차면 archive 는 조회하지 않음")
+    void recentPageStaysInHotTier() {
+        givenUser(50L);
+        when(repo.findPageBelow(USER_ID, Long.MAX_VALUE, SIZE)).thenReturn(List.of(hot(100), hot(99), hot(98)));
+
+        GetNotificationPageResponseDto.Data page = service.getNotificationPage(USER_ID, null, null, SIZE).getData();
+
+        assertThat(uuids(page)).containsExactly("n-100", "n-99", "n-98");
+        assertThat(page.getHasNext()).isTrue();
+        assertThat(page.getNextCursor()).isEqualTo("n-98");
+        verifyNoInteractions(archiveRepo);
+    }
+
+    @Test
+    @DisplayName("archive 로 옮긴 알림이 없는 사용자는 hot 이 모자라도 archive 를 조회하지 않음")
+    void userWithoutArchiveNeverTouchesArchive() {
+        givenUser(null);
+        when(repo.findPageBelow(USER_ID, Long.MAX_VALUE, SIZE)).thenReturn(List.of(hot(10)));
+
+        GetNotificationPageResponseDto.Data page = service.getNotificationPage(USER_ID, null, null, SIZE).getData();
+
+        assertThat(uuids(page)).containsExactly("n-10");
+        assertThat(page.getHasNext()).isFalse();
+        assertThat(page.getNextCursor()).isNull();
+        verifyNoInteractions(archiveRepo);
+    }
+
+    @Test
+    @DisplayName("커서가 archive 구간에 닿으면 두 티어를 id 순으로 합침 (오래된 안 읽은 알림이 hot 에 섞여 있어도 빠짐없이)")
+    void pageCrossingBoundaryMergesTiersById() {
+        User user = givenUser(60L);
+        when(repo.findIdByUuidAndUser("n-70", user)).thenReturn(Optional.of(70L));
+        // hot: 65 다음은 오래된 안 읽은 알림 20 → 마지막 id(20) 가 archive 최대 id(60) 보다 작으므로 archive 도 읽음
+        when(repo.findPageBelow(USER_ID, 70L, SIZE)).thenReturn(List.of(hot(65), hot(20), hot(5)));
+        when(archiveRepo.findPageBelow(USER_ID, 70L, SIZE)).thenReturn(List.of(archived(60), archived(40), archived(30)));
+
+        GetNotificationPageResponseDto.Data page = service.getNotificationPage(USER_ID, null, "n-70", SIZE).getData();
+
+        assertThat(uuids(page)).containsExactly("n-65", "n-60", "n-40");
+        assertThat(page.getNextCursor()).isEqualTo("n-40");
+    }
+
+    @Test
+    @DisplayName("type 필터는 티어별 type 전용 쿼리로 조회")
+    void typeFilterUsesTypedQueries() {
+        givenUser(60L);
+        when(repo.findPageBelowByType(USER_ID, "BUDGET", Long.MAX_VALUE, SIZE)).thenReturn(List.of(hot(80)));
+        when(archiveRepo.findPageBelowByType(USER_ID, "BUDGET", Long.MAX_VALUE, SIZE)).thenReturn(List.of(archived(55)));
+
+        GetNotificationPageResponseDto.Data page = service.getNotificationPage(USER_ID, Notification.Type.BUDGET, null, SIZE).getData();
+
+        assertThat(uuids(page)).containsExactly("n-80", "n-55");
+        verify(repo, never()).findPageBelow(anyLong(), anyLong(), anyInt());
+        verify(archiveRepo, never()).findPageBelow(anyLong(), anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("커서 알림이 그 사이 archive 로 옮겨졌으면 archive 에서 id 를 찾음")
+    void cursorMovedToArchiveIsStillResolved() {
+        User user = givenUser(60L);
+        when(repo.findIdByUuidAndUser("n-50", user)).thenReturn(Optional.empty());
+        when(archiveRepo.findIdByUuidAndUser("n-50", user)).thenReturn(Optional.of(50L));
+        when(repo.findPageBelow(USER_ID, 50L, SIZE)).thenReturn(List.of());
+        when(archiveRepo.findPageBelow(USER_ID, 50L, SIZE)).thenReturn(List.of(archived(49)));
+
+        GetNotificationPageResponseDto.Data page = service.getNotificationPage(USER_ID, null, "n-50", SIZE).getData();
+
+        assertThat(uuids(page)).containsExactly("n-49");
+    }
+
+    private User givenUser(Long archiveMaxId) {
+        User user = User.builder().id(USER_ID).notificationArchiveMaxId(archiveMaxId).build();
+        when(userRepo.findById(USER_ID)).thenReturn(Optional.of(user));
+        return user;
+    }
+
+    private static Notification hot(long id) {
+        return Notification.builder().id(id).uuid("n-" + id).title("hot").build();
+    }
+
+    private static NotificationArchive archived(long id) {
+        return NotificationArchive.builder().id(id).uuid("n-" + id).title("archive").isRead(true).build();
+    }
+
+    private static List<String> uuids(GetNotificationPageResponseDto.Data page) {
+        return page.getContent().stream().map(NotificationDto::getUuid).toList();
+    }
+}
@@ -0,0 +1,120 @@
+package com.ssafy.b108.walletslot.backend.domain.slot.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.b108.walletslot.backend.domain.slot.entity.SlotRecommendSample;
+import com.ssafy.b108.walletslot.backend.domain.slot.repository.SlotRecommendSampleRepository;
+import com.ssafy.b108.walletslot.backend.domain.slot.support.ProfileKey;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ProfileRecommendEvaluatorTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final SlotRecommendSampleRepository sampleRepository = mock(SlotRecommendSampleRepository.class);
+    private final ProfileSlotRecommender recommender = mock(ProfileSlotRecommender.class);
+    private final ProfileRecommendEvaluator evaluator = new ProfileRecommendEvaluator(sampleRepository, recommender);
+
+    private static final ProfileKey TWENTIES = new ProfileKey("20", "FEMALE", "STUDENT");
+    private static final ProfileKey FORTIES = new ProfileKey("40", "MALE", "OFFICE_WORKER");
+
+    @Test
+    @DisplayName("GPT 표본과 같은 추천이면 자카드 / 정밀도 / 재현율 1, 비중 차이 0")
+    void identicalRecommendation() {
+        samples(sample(TWENTIES, Map.of("식비", 300_000L, "카페", 100_000L)));
+        baseline(TWENTIES, Map.of("식비", 300_000L, "카페", 100_000L));
+
+        ProfileRecommendEvaluator.Report report = evaluator.evaluate(10);
+
+        assertThat(report.evaluated()).isEqualTo(1);
+        assertThat(report.jaccard()).isEqualTo(1.0);
+        assertThat(report.precision()).isEqualTo(1.0);
+        assertThat(report.recall()).isEqualTo(1.0);
+        assertThat(report.shareDistance()).isCloseTo(0.0, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("슬롯 구성이 일부만 겹치면 겹친 만큼의 지표, 예산 비중 차이는 total variation distance")
+    void partialOverlap() {
+        // GPT: 식비 50%, 카페 50% / 통계: 식비 50%, 교통 50%
+        samples(sample(TWENTIES, Map.of("식비", 200_000L, "카페", 200_000L)));
+        baseline(TWENTIES, Map.of("식비", 100_000L, "교통", 100_000L));
+
+        ProfileRecommendEvaluator.Report report = evaluator.evaluate(10);
+
+        assertThat(report.jaccard()).isCloseTo(1.0 / 3, within(1e-9));
+        assertThat(report.precision()).isCloseTo(0.5, within(1e-9));
+        assertThat(report.recall()).isCloseTo(0.5, within(1e-9));
+        assertThat(report.shareDistance()).isCloseTo(0.5, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("통계가 없는 프로필은 uncovered 로 세고 평균에서 빠짐")
+    void uncoveredSamplesAreCountedSeparately() {
+        samples(
+                sample(TWENTIES, Map.of("식비", 100_000L)),
+                sample(FORTIES, Map.of("식비", 100_000L))
+        );
+        baseline(TWENTIES, Map.of("식비", 100_000L));
+        when(recommender.recommend(eq(FORTIES), any(), any())).thenReturn(Optional.empty());
+
+        ProfileRecommendEvaluator.Report report = evaluator.evaluate(10);
+
+        assertThat(report.samples()).isEqualTo(2);
+        assertThat(report.evaluated()).isEqualTo(1);
+        assertThat(report.uncovered()).isEqualTo(1);
+        assertThat(report.jaccard()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("GPT 표본이 비었거나 배열이 아니면 건너뜀")
+    void skipsEmptySamples() {
+        SlotRecommendSample broken = SlotRecommendSample.builder()
+                .ageBand(TWENTIES.ageBand()).gender(TWENTIES.gender()).job(TWENTIES.job())
+                .recommended(MAPPER.createObjectNode())
+                .build();
+        samples(broken, sample(TWENTIES, Map.of()));
+
+        ProfileRecommendEvaluator.Report report = evaluator.evaluate(10);
+
+        assertThat(report.samples()).isEqualTo(2);
+        assertThat(report.evaluated()).isZero();
+        assertThat(report.uncovered()).isZero();
+    }
+
+    private void samples(SlotRecommendSample... samples) {
+        when(sampleRepository.findAllByOrderByIdDesc(any())).thenReturn(List.of(samples));
+    }
+
+    private void baseline(ProfileKey key, Map<String, Long> budgets) {
+        List<ProfileSlotRecommender.Item> items = budgets.entrySet().stream()
+                .map(e -> new ProfileSlotRecommender.Item(0L, e.getKey(), e.getValue()))
+                .toList();
+        when(recommender.recommend(eq(key), any(), any()))
+                .thenReturn(Optional.of(new ProfileSlotRecommender.Recommendation(key, 10, items)));
+    }
+
+    private static SlotRecommendSample sample(ProfileKey key, Map<String, Long> budgets) {
+        var recommended = MAPPER.createArrayNode();
+        budgets.forEach((name, budget) -> recommended.addObject().put("name", name).put("initialBudget", budget));
+        return SlotRecommendSample.builder()
+                .ageBand(key.ageBand())
+                .gender(key.gender())
+                .job(key.job())
+                .income(1_000_000L)
+                .balance(2_000_000L)
+                .recommended(recommended)
+                .build();
+    }
+}
@@ -0,0 +1,161 @@
+package com.ssafy.b108.walletslot.backend.domain.slot.service;
+
+import com.ssafy.b108.walletslot.backend.domain.account.entity.Account;
+import com.ssafy.b108.walletslot.backend.domain.account.service.AccountAccessGuard;
+import com.ssafy.b108.walletslot.backend.domain.bank.entity.Bank;
+import com.ssafy.b108.walletslot.backend.domain.notification.service.NotificationCoalescer;
+import com.ssafy.b108.walletslot.backend.domain.slot.entity.AccountSlot;
+import com.ssafy.b108.walletslot.backend.domain.slot.entity.Slot;
+import com.ssafy.b108.walletslot.backend.domain.slot.entity.SlotHistory;
+import com.ssafy.b108.walletslot.backend.domain.transaction.entity.Transaction;
+import com.ssafy.b108.walletslot.backend.domain.transaction.service.SlotDailySpendService;
+import com.ssafy.b108.walletslot.backend.domain.transaction.service.TransactionService;
+import com.ssafy.b108.walletslot.backend.domain.user.entity.User;
+import com.ssafy.b108.walletslot.backend.infrastructure.fcm.service.FcmFanoutService;
+import com.ssafy.b108.walletslot.backend.infrastructure.llm.service.LlmGateway;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import javax.crypto.SecretKey;
+import java.time.LocalDateTime;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 슬롯 리스트(5-1-4) / 슬롯 히스토리(5-1-5) / 거래 상세(6-1-3) 화면이 정해진 쿼리 수 안에서 끝나는지 확인합니다.
+ * Hibernate 통계의 prepareStatementCount 를 서비스 호출 전후로 비교하고, 응답 DTO 를 만드는 동안의 lazy 로딩까지 포함해서 셉니다.
+ * 예산: 소유권 확인 1 + 화면 데이터 1 (슬롯 / 히스토리 행 수와 무관)
+ * DB 는 인메모리 H2 (엔티티로 스키마 생성), 화면과 상관없는 외부 연동 빈은 mock 입니다.
+ */
+@DataJpaTest
+@Import({SlotService.class, TransactionService.class, AccountAccessGuard.class, SlotSpendCounter.class, ReadModelQueryBudgetTest.TestConfig.class})
+@TestPropertySource(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "api.ssafy.finance.apiKey=test",
+        "api.ssafy.gms.key=test"
+})
+class ReadModelQueryBudgetTest {
+
+    private static final int QUERY_BUDGET = 2;
+    private static final int ROWS = 10; // 슬롯 / 히스토리 행 수 (N+1 이면 쿼리 수가 이만큼 늘어남)
+
+    @MockitoBean private SlotCatalog slotCatalog;
+    @MockitoBean private RestTemplate restTemplate;
+    @MockitoBean private SecretKey encryptionKey;
+    @MockitoBean private SlotDailySpendService slotDailySpendService;
+    @MockitoBean private FcmFanoutService fcmFanoutService;
+    @MockitoBean private LlmGateway llmGateway;
+    @MockitoBean private ProfileSlotRecommender profileSlotRecommender;
+    @MockitoBean private SlotRecommendSampleWriter slotRecommendSampleWriter;
+    @MockitoBean private SlotTransactionMover slotTransactionMover;
+    @MockitoBean private NotificationCoalescer notificationCoalescer;
+    @MockitoBean private WebClient fcmWebClient;
+
+    @Autowired private SlotService slotService;
+    @Autowired private TransactionService transactionService;
+    @Autowired private EntityManager entityManager;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    private Statistics statistics;
+    private User user;
+    private Account account;
+    private AccountSlot accountSlot;
+    private Transaction transaction;
+
+    @BeforeEach
+    void setUp() {
+        // DB 기본값으로 채우는 컬럼 (insertable = false) 은 엔티티로 만든 스키마에 기본값이 없어서 추가
+        jdbcTemplate.execute("ALTER TABLE \"user\" ALTER COLUMN created_at SET DEFAULT CURRENT_TIMESTAMP");
+        jdbcTemplate.execute("ALTER TABLE account ALTER COLUMN last_synced_at SET DEFAULT CURRENT_TIMESTAMP");
+        jdbcTemplate.execute("ALTER TABLE account_slot ALTER COLUMN created_at SET DEFAULT CURRENT_TIMESTAMP");
+        jdbcTemplate.execute("ALTER TABLE slot_history ALTER COLUMN changed_at SET DEFAULT CURRENT_TIMESTAMP");
+
+        user = persist(User.builder().name("테스트").phoneNumber("01000000000").gender(User.Gender.MAN)
+                .birthDate(LocalDateTime.of(1990, 1, 1, 0, 0)).baseDay((short) 1).build());
+        Bank bank = persist(Bank.builder().name("테스트은행").code("999").color("#000000").build());
+        account = persist(Account.builder().user(user).bank(bank).encryptedAccountNo("enc").build());
+
+        for (int i = 0; i < ROWS; i++) {
+            Slot slot = persist(Slot.builder().name("슬롯" + i).rank(i).build());
+            AccountSlot created = persist(AccountSlot.builder().account(account).slot(slot)
+                    .initialBudget(100_000L).currentBudget(100_000L).build());
+            if (i == 0) accountSlot = created;
+        }
+        for (int i = 0; i < ROWS; i++) {
+            persist(SlotHistory.builder().accountSlot(accountSlot).oldBudget(100_000L + i).newBudget(100_000L + i + 1).build());
+        }
+        transaction = persist(Transaction.builder().account(account).accountSlot(accountSlot).uniqueNo(1L).type("출금")
+                .summary("스타벅스").amount(5_000L).balance(1_000_000L).transactionAt(LocalDateTime.of(2025, 6, 1, 12, 0)).build());
+
+        entityManager.flush();
+        entityManager.clear(); // 1차 캐시에서 안 읽도록
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @Test
+    @DisplayName("5-1-4 슬롯 리스트: 슬롯 수와 무관하게 쿼리 2번")
+    void accountSlotList() {
+        long queries = countQueries(() -> slotService.getAccountSlotList(user.getId(), account.getUuid()));
+
+        assertThat(queries).isLessThanOrEqualTo(QUERY_BUDGET);
+    }
+
+    @Test
+    @DisplayName("5-1-5 슬롯 히스토리: 히스토리 수와 무관하게 쿼리 2번")
+    void slotHistory() {
+        long queries = countQueries(() -> slotService.getSlotHistory(user.getId(), account.getUuid(), accountSlot.getUuid()));
+
+        assertThat(queries).isLessThanOrEqualTo(QUERY_BUDGET);
+    }
+
+    @Test
+    @DisplayName("6-1-3 거래 상세: 쿼리 2번")
+    void transactionDetail() {
+        long queries = countQueries(() -> transactionService.getAccountSlotTransactionDetail(
+                user.getId(), account.getUuid(), accountSlot.getUuid(), transaction.getUuid()));
+
+        assertThat(queries).isLessThanOrEqualTo(QUERY_BUDGET);
+    }
+
+    private long countQueries(Supplier<?> call) {
+        statistics.clear();
+        Object response = call.get();
+        assertThat(response).isNotNull();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private <T> T persist(T entity) {
+        entityManager.persist(entity);
+        return entity;
+    }
+
+    @TestConfiguration
+    static class TestConfig {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
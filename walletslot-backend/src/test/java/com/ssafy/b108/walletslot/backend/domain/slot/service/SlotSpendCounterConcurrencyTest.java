@@ -0,0 +1,196 @@
+package com.ssafy.b108.walletslot.backend.domain.slot.service;
+
+import com.ssafy.b108.walletslot.backend.domain.slot.entity.AccountSlot;
+import com.ssafy.b108.walletslot.backend.domain.slot.repository.AccountSlotRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 실제 MySQL 에서 여러 스레드가 같은 슬롯 지출금액을 동시에 증감해도 잃어버리는 증감이 없는지 확인합니다.
+ * 스키마는 저장소 루트의 schema.sql 을 그대로 씁니다 (build.gradle 의 processTestResources 가 db/schema.sql 로 복사).
+ * Docker 가 없는 환경에서는 건너뜁니다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 스레드마다 자기 트랜잭션으로 커밋해야 해서 테스트 트랜잭션은 끔
+@Import({SlotSpendCounter.class, SlotSpendCounterConcurrencyTest.TestConfig.class})
+@TestPropertySource(properties = "spring.jpa.hibernate.ddl-auto=none")
+class SlotSpendCounterConcurrencyTest {
+
+    private static final long SLOT_A = 1L;
+    private static final long SLOT_B = 2L;
+    private static final long BUDGET = 100_000L;
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0")
+            .withDatabaseName("walletslotdb")
+            .withUsername("root")
+            .withPassword("test")
+            .withInitScript("db/schema.sql");
+
+    @Autowired private SlotSpendCounter slotSpendCounter;
+    @Autowired private AccountSlotRepository accountSlotRepository;
+    @Autowired private PlatformTransactionManager transactionManager;
+    @Autowired private DataSource dataSource;
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate tx;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        tx = new TransactionTemplate(transactionManager);
+
+        jdbcTemplate.update("DELETE FROM `user`"); // account, account_slot 은 FK CASCADE
+        jdbcTemplate.update("DELETE FROM bank");
+        jdbcTemplate.update("DELETE FROM slot");
+        jdbcTemplate.update("INSERT INTO `user` (id, uuid, name, phone_number, gender, birth_date) VALUES (1, 'u-1', '테스트', '01000000000', 'MAN', '1990-01-01')");
+        jdbcTemplate.update("INSERT INTO bank (id, uuid, name, code) VALUES (1, 'b-1', '테스트은행', '999')");
+        jdbcTemplate.update("INSERT INTO slot (id, uuid, name) VALUES (1, 's-1', '식비'), (2, 's-2', '교통비')");
+        jdbcTemplate.update("INSERT INTO account (id, uuid, user_id, bank_id, encrypted_account_no) VALUES (1, UUID_TO_BIN(UUID()), 1, 1, 'enc')");
+        jdbcTemplate.update("""
+                INSERT INTO account_slot (id, uuid, account_id, slot_id, initial_budget, current_budget)
+                VALUES (?, UUID_TO_BIN(UUID()), 1, 1, ?, ?), (?, UUID_TO_BIN(UUID()), 1, 2, ?, ?)
+                """, SLOT_A, BUDGET, BUDGET, SLOT_B, BUDGET, BUDGET);
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 같은 슬롯에 동시에 더해도 합계가 맞고, 예산초과 전이는 정확히 한 번")
+    void parallelIncrementsAreNotLost() throws Exception {
+        int threads = 16;
+        int perThread = 50;
+        long amount = 1_000L; // 합계 800,000 → 예산 100,000 을 한 번 넘김
+        AtomicInteger crossings = new AtomicInteger();
+
+        runConcurrently(threads, () -> {
+            for (int i = 0; i < perThread; i++) {
+                tx.executeWithoutResult(status -> {
+                    AccountSlot slot = accountSlotRepository.findById(SLOT_A).orElseThrow();
+                    if (slotSpendCounter.add(slot, amount).becameExceeded()) {
+                        crossings.incrementAndGet();
+                    }
+                });
+            }
+            return null;
+        });
+
+        assertThat(spent(SLOT_A)).isEqualTo(threads * perThread * amount);
+        assertThat(budgetExceeded(SLOT_A)).isTrue();
+        assertThat(crossings).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("배치가 슬롯 두 개를 서로 반대 순서로 예약해도 id 순으로 잠가서 데드락 없이 모두 반영")
+    void parallelBatchesDoNotDeadlock() throws Exception {
+        int threads = 8;
+        int perThread = 25;
+        AtomicInteger worker = new AtomicInteger();
+
+        runConcurrently(threads, () -> {
+            boolean reversed = worker.getAndIncrement() % 2 == 1;
+            for (int i = 0; i < perThread; i++) {
+                tx.executeWithoutResult(status -> {
+                    AccountSlot a = accountSlotRepository.findById(SLOT_A).orElseThrow();
+                    AccountSlot b = accountSlotRepository.findById(SLOT_B).orElseThrow();
+                    SlotSpendCounter.Batch batch = slotSpendCounter.batch();
+                    if (reversed) {
+                        batch.add(b, 300);
+                        batch.add(a, 100);
+                    } else {
+                        batch.add(a, 100);
+                        batch.add(b, 300);
+                    }
+                    batch.flush();
+                });
+            }
+            return null;
+        });
+
+        assertThat(spent(SLOT_A)).isEqualTo(threads * perThread * 100L);
+        assertThat(spent(SLOT_B)).isEqualTo(threads * perThread * 300L);
+    }
+
+    @Test
+    @DisplayName("예산 변경은 DB 의 spent 기준으로 예산초과 여부를 다시 계산")
+    void updateBudgetRecomputesFromDatabaseSpent() {
+        jdbcTemplate.update("UPDATE account_slot SET spent = 50000 WHERE id = ?", SLOT_A);
+
+        tx.executeWithoutResult(status -> accountSlotRepository.updateBudget(SLOT_A, 40_000L));
+        assertThat(budgetExceeded(SLOT_A)).isTrue();
+
+        tx.executeWithoutResult(status -> accountSlotRepository.updateBudget(SLOT_A, 60_000L));
+        assertThat(budgetExceeded(SLOT_A)).isFalse();
+    }
+
+    private static void runConcurrently(int threads, Callable<Void> work) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Void>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    return work.call();
+                }));
+            }
+            start.countDown();
+            for (Future<Void> future : futures) {
+                future.get(120, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private long spent(long accountSlotId) {
+        Long spent = jdbcTemplate.queryForObject("SELECT spent FROM account_slot WHERE id = ?", Long.class, accountSlotId);
+        return spent == null ? 0 : spent;
+    }
+
+    private boolean budgetExceeded(long accountSlotId) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject("SELECT is_budget_exceeded FROM account_slot WHERE id = ?", Boolean.class, accountSlotId));
+    }
+
+    @TestConfiguration
+    static class TestConfig {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
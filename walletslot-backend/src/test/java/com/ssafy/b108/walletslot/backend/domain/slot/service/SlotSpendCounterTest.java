@@ -0,0 +1,145 @@
+package com.ssafy.b108.walletslot.backend.domain.slot.service;
+
+import com.ssafy.b108.walletslot.backend.domain.slot.entity.AccountSlot;
+import com.ssafy.b108.walletslot.backend.domain.slot.repository.AccountSlotRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class SlotSpendCounterTest {
+
+    private final AccountSlotRepository accountSlotRepository = mock(AccountSlotRepository.class);
+    private final SlotSpendCounter counter = new SlotSpendCounter(accountSlotRepository, new SimpleMeterRegistry());
+
+    // DB 역할: 슬롯 id → [spent, currentBudget]
+    private final Map<Long, long[]> rows = new HashMap<>();
+
+    @Test
+    @DisplayName("SpendResult: 반영 전 값과 예산초과 전이 계산")
+    void spendResultTransitions() {
+        SlotSpendCounter.SpendResult crossed = new SlotSpendCounter.SpendResult(1L, 3_000, 11_000, 10_000, true);
+        assertThat(crossed.previousSpent()).isEqualTo(8_000);
+        assertThat(crossed.wasExceeded()).isFalse();
+        assertThat(crossed.becameExceeded()).isTrue();
+
+        SlotSpendCounter.SpendResult already = new SlotSpendCounter.SpendResult(1L, 1_000, 12_000, 10_000, true);
+        assertThat(already.wasExceeded()).isTrue();
+        assertThat(already.becameExceeded()).isFalse();
+
+        SlotSpendCounter.SpendResult refund = new SlotSpendCounter.SpendResult(1L, -5_000, 7_000, 10_000, false);
+        assertThat(refund.wasExceeded()).isTrue();
+        assertThat(refund.becameExceeded()).isFalse();
+    }
+
+    @Test
+    @DisplayName("SpendResult.crossedBy: 배치 안에서 예산을 처음 넘긴 거래 하나만 true")
+    void crossedByPicksTheCrossingTransaction() {
+        // 반영 전 8,000 / 예산 10,000, 배치 안 거래 1,000 → 1,000 → 1,000 (합 3,000)
+        SlotSpendCounter.SpendResult result = new SlotSpendCounter.SpendResult(1L, 3_000, 11_000, 10_000, true);
+
+        assertThat(result.crossedBy(0, 1_000)).isFalse();      // 9,000
+        assertThat(result.crossedBy(1_000, 2_000)).isFalse();  // 10,000 (같으면 초과 아님)
+        assertThat(result.crossedBy(2_000, 3_000)).isTrue();   // 11,000
+        assertThat(result.spentAfter(3_000)).isEqualTo(11_000);
+    }
+
+    @Test
+    @DisplayName("SpendResult.crossedBy: 메모리 값이 오래돼도 DB 의 반영 전 값 기준으로 판단")
+    void crossedByUsesDatabaseState() {
+        // 메모리에서는 0 원이었지만 다른 인스턴스가 이미 9,500 까지 올려둔 상태 → 첫 거래에서 바로 초과
+        SlotSpendCounter.SpendResult result = new SlotSpendCounter.SpendResult(1L, 2_000, 11_500, 10_000, true);
+
+        assertThat(result.crossedBy(0, 1_000)).isTrue();
+        assertThat(result.crossedBy(1_000, 2_000)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Batch: 슬롯별 증감을 합쳐서 슬롯당 UPDATE 한 번, id 오름차순으로 반영")
+    void batchMergesAndOrdersById() {
+        AccountSlot slot7 = slot(7L, 0, 10_000);
+        AccountSlot slot3 = slot(3L, 0, 10_000);
+        stubDatabase();
+
+        SlotSpendCounter.Batch batch = counter.batch();
+        batch.add(slot7, 1_000);
+        batch.add(slot3, 500);
+        batch.add(slot7, 2_000);
+        assertThat(batch.pending(7L)).isEqualTo(3_000);
+        assertThat(batch.pending(3L)).isEqualTo(500);
+
+        Map<Long, SlotSpendCounter.SpendResult> results = batch.flush();
+
+        InOrder inOrder = inOrder(accountSlotRepository);
+        inOrder.verify(accountSlotRepository).addSpent(3L, 500);
+        inOrder.verify(accountSlotRepository).addSpent(7L, 3_000);
+        verify(accountSlotRepository, times(2)).addSpent(anyLong(), anyLong());
+
+        assertThat(results.keySet()).containsExactly(3L, 7L);
+        assertThat(results.get(7L).spent()).isEqualTo(3_000);
+        assertThat(slot7.getSpent()).isEqualTo(3_000); // 엔티티도 DB 값으로 맞춰짐
+    }
+
+    @Test
+    @DisplayName("Batch: 합이 0 이면 UPDATE 안 함, flush 뒤에는 비워짐")
+    void batchSkipsZeroAndClears() {
+        AccountSlot slot = slot(1L, 4_000, 10_000);
+        stubDatabase();
+
+        SlotSpendCounter.Batch batch = counter.batch();
+        batch.add(slot, 1_000);
+        batch.add(slot, -1_000);
+        Map<Long, SlotSpendCounter.SpendResult> results = batch.flush();
+
+        verify(accountSlotRepository, never()).addSpent(anyLong(), anyLong());
+        assertThat(results.get(1L).delta()).isZero();
+        assertThat(batch.pending(1L)).isZero();
+        assertThat(batch.flush()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Batch: 예산초과 여부는 메모리의 spent 가 아니라 flush 결과로")
+    void batchResultComesFromDatabase() {
+        AccountSlot stale = slot(1L, 0, 10_000); // 메모리: 0 원
+        stubDatabase();
+        rows.get(1L)[0] = 9_000;                  // DB: 다른 곳에서 이미 9,000 원
+
+        SlotSpendCounter.Batch batch = counter.batch();
+        long expected = batch.add(stale, 2_000);
+        SlotSpendCounter.SpendResult result = batch.flush().get(1L);
+
+        assertThat(expected).isEqualTo(2_000);   // 예약 시 추정치는 예산 안
+        assertThat(result.spent()).isEqualTo(11_000);
+        assertThat(result.becameExceeded()).isTrue();
+        assertThat(stale.isBudgetExceeded()).isTrue();
+    }
+
+    private AccountSlot slot(Long id, long spent, long budget) {
+        rows.put(id, new long[]{spent, budget});
+        return AccountSlot.builder().id(id).spent(spent).currentBudget(budget).build();
+    }
+
+    // addSpent / findSpendState 를 rows 위에서 흉내냄
+    private void stubDatabase() {
+        when(accountSlotRepository.addSpent(anyLong(), anyLong())).thenAnswer(invocation -> {
+            long[] row = rows.get(invocation.<Long>getArgument(0));
+            row[0] += invocation.<Long>getArgument(1);
+            return 1;
+        });
+        when(accountSlotRepository.findSpendState(anyLong())).thenAnswer(invocation -> {
+            long[] row = rows.get(invocation.<Long>getArgument(0));
+            return Optional.of(new AccountSlotRepository.SpendState() {
+                public Long getSpent() { return row[0]; }
+                public Long getCurrentBudget() { return row[1]; }
+                public Boolean getBudgetExceeded() { return row[0] > row[1]; }
+            });
+        });
+    }
+}
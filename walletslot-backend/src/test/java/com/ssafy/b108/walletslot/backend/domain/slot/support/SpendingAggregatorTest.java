@@ -0,0 +1,122 @@
+package com.ssafy.b108.walletslot.backend.domain.slot.support;
+
+import com.ssafy.b108.walletslot.backend.domain.slot.dto.external.SSAFYGetTransactionListResponseDto.Transaction;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SpendingAggregatorTest {
+
+    private static final LocalDate START = LocalDate.of(2025, 6, 1);
+    private static final LocalDate END = LocalDate.of(2025, 8, 31); // 3개월
+
+    @Test
+    @DisplayName("매핑된 거래는 슬롯별, 안 된 거래는 거래처별로 월평균")
+    void splitsBySlotAndMerchant() {
+        List<Transaction> txs = List.of(
+                tx("스타벅스", "9000"),
+                tx("스타벅스", "3000"),
+                tx("GS25", "6000"),
+                tx("동네빵집", "3000")
+        );
+
+        SpendingAggregator.Summary summary = SpendingAggregator.aggregate(txs, Map.of("스타벅스", "카페", "GS25", "편의점"), START, END, 5);
+
+        assertThat(summary.months()).isEqualTo(3);
+        assertThat(summary.transactionCount()).isEqualTo(4);
+        assertThat(summary.monthlyAverageTotal()).isEqualTo(7000);
+        assertThat(summary.slotRows()).containsExactly(
+                new SpendingAggregator.Row("카페", 4000),
+                new SpendingAggregator.Row("편의점", 2000));
+        assertThat(summary.merchantRows()).containsExactly(new SpendingAggregator.Row("동네빵집", 1000));
+    }
+
+    @Test
+    @DisplayName("금액이 같으면 이름 순으로 정렬 (같은 입력 → 같은 표)")
+    void tieBreaksByName() {
+        List<Transaction> txs = List.of(tx("나", "3000"), tx("가", "3000"), tx("다", "6000"));
+
+        SpendingAggregator.Summary summary = SpendingAggregator.aggregate(txs, Map.of(), START, END, 5);
+
+        assertThat(summary.merchantRows()).extracting(SpendingAggregator.Row::name).containsExactly("다", "가", "나");
+    }
+
+    @Test
+    @DisplayName("maxMerchants 를 넘는 거래처는 \"기타 (n곳)\" 한 줄로 합침")
+    void overflowMerchantsCollapseIntoOneRow() {
+        List<Transaction> txs = List.of(tx("A", "9000"), tx("B", "6000"), tx("C", "3000"), tx("D", "3000"));
+
+        SpendingAggregator.Summary summary = SpendingAggregator.aggregate(txs, Map.of(), START, END, 2);
+
+        assertThat(summary.merchantRows()).containsExactly(
+                new SpendingAggregator.Row("A", 3000),
+                new SpendingAggregator.Row("B", 2000),
+                new SpendingAggregator.Row("기타 (2곳)", 2000));
+    }
+
+    @Test
+    @DisplayName("거래처명 없는 거래는 넘친 거래처와 같은 기타 행 하나로 합쳐짐 (기타 행이 두 개 생기지 않음)")
+    void unnamedMerchantJoinsOverflowRow() {
+        List<Transaction> txs = List.of(
+                tx("A", "9000"),
+                tx("B", "6000"),
+                tx("", "3000"),
+                tx(null, "3000"),
+                tx("   ", "3000")
+        );
+
+        SpendingAggregator.Summary summary = SpendingAggregator.aggregate(txs, Map.of(), START, END, 1);
+
+        assertThat(summary.merchantRows()).containsExactly(
+                new SpendingAggregator.Row("A", 3000),
+                new SpendingAggregator.Row("기타 (1곳)", 5000));
+        assertThat(summary.merchantRows()).extracting(SpendingAggregator.Row::name)
+                .filteredOn(name -> name.startsWith("기타"))
+                .hasSize(1);
+    }
+
+    @Test
+    @DisplayName("넘친 거래처가 없어도 거래처명 없는 거래는 마지막 기타 행으로")
+    void unnamedOnlyBecomesPlainOthersRow() {
+        List<Transaction> txs = List.of(tx("", "6000"), tx("A", "3000"));
+
+        SpendingAggregator.Summary summary = SpendingAggregator.aggregate(txs, Map.of(), START, END, 5);
+
+        assertThat(summary.merchantRows()).containsExactly(
+                new SpendingAggregator.Row("A", 1000),
+                new SpendingAggregator.Row("기타", 2000));
+    }
+
+    @Test
+    @DisplayName("금액이 비었거나 숫자가 아니거나 0 이하면 건너뜀")
+    void skipsInvalidAmounts() {
+        List<Transaction> txs = List.of(tx("A", null), tx("A", "abc"), tx("A", "0"), tx("A", "-100"), tx("A", "300"));
+
+        SpendingAggregator.Summary summary = SpendingAggregator.aggregate(txs, Map.of(), START, END, 5);
+
+        assertThat(summary.transactionCount()).isEqualTo(1);
+        assertThat(summary.merchantRows()).containsExactly(new SpendingAggregator.Row("A", 100));
+    }
+
+    @Test
+    @DisplayName("기간 개월 수는 최소 1")
+    void monthsAtLeastOne() {
+        assertThat(SpendingAggregator.months(START, START)).isEqualTo(1);
+        assertThat(SpendingAggregator.months(START, LocalDate.of(2025, 6, 30))).isEqualTo(1);
+        assertThat(SpendingAggregator.months(START, END)).isEqualTo(3);
+    }
+
+    private static Transaction tx(String summary, String amount) {
+        return Transaction.builder()
+                .transactionDate("20250601")
+                .transactionTime("120000")
+                .transactionBalance(amount)
+                .transactionSummary(summary)
+                .build();
+    }
+}
@@ -0,0 +1,137 @@
+package com.ssafy.b108.walletslot.backend.domain.transaction.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Method;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 실제 MySQL 에서 거래내역 키셋 페이징 쿼리의 실행 계획을 확인합니다.
+ * 첫 페이지 / 다음 페이지 모두 (account_id | account_slot_id, transaction_at, id) 인덱스를 역순으로 읽고 filesort 가 없어야 합니다.
+ * 쿼리는 TransactionRepository 의 @Query 를 그대로 읽어서 EXPLAIN 하므로, 쿼리를 바꾸면 이 테스트가 같이 확인합니다.
+ * 스키마는 저장소 루트의 schema.sql 을 그대로 씁니다. Docker 가 없는 환경에서는 건너뜁니다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // ANALYZE TABLE 이 커밋된 행을 보도록 테스트 트랜잭션은 끔
+@TestPropertySource(properties = "spring.jpa.hibernate.ddl-auto=none")
+class TransactionRepositoryExplainTest {
+
+    private static final String ACCOUNT_INDEX = "idx_tx_account_time";
+    private static final String SLOT_INDEX = "idx_tx_slot_time_id";
+    private static final int PAGE_SIZE = 20;
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0")
+            .withDatabaseName("walletslotdb")
+            .withUsername("root")
+            .withPassword("test")
+            .withInitScript("db/schema.sql");
+
+    @Autowired private DataSource dataSource;
+
+    private JdbcTemplate jdbcTemplate;
+    private NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        namedJdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+
+        jdbcTemplate.update("DELETE FROM `user`"); // account, account_slot, transaction 은 FK CASCADE
+        jdbcTemplate.update("DELETE FROM bank");
+        jdbcTemplate.update("DELETE FROM slot");
+        jdbcTemplate.update("INSERT INTO `user` (id, uuid, name, phone_number, gender, birth_date) VALUES (1, 'u-1', '테스트', '01000000000', 'MAN', '1990-01-01')");
+        jdbcTemplate.update("INSERT INTO bank (id, uuid, name, code) VALUES (1, 'b-1', '테스트은행', '999')");
+        jdbcTemplate.update("INSERT INTO slot (id, uuid, name) VALUES (1, 's-1', '식비'), (2, 's-2', '교통비'), (3, 's-3', '쇼핑')");
+        jdbcTemplate.update("""
+                INSERT INTO account (id, uuid, user_id, bank_id, encrypted_account_no)
+                VALUES (1, UUID_TO_BIN(UUID()), 1, 1, 'enc-1'), (2, UUID_TO_BIN(UUID()), 1, 1, 'enc-2')
+                """);
+        jdbcTemplate.update("""
+                INSERT INTO account_slot (id, uuid, account_id, slot_id, initial_budget, current_budget)
+                VALUES (1, UUID_TO_BIN(UUID()), 1, 1, 0, 0), (2, UUID_TO_BIN(UUID()), 1, 2, 0, 0), (3, UUID_TO_BIN(UUID()), 2, 3, 0, 0)
+                """);
+
+        // 5,000 건: 슬롯 3개에 고루, transaction_at 은 7건씩 같은 값
+        jdbcTemplate.update("""
+                INSERT INTO `transaction` (id, uuid, account_id, account_slot_id, unique_no, type, summary, amount, balance, transaction_at)
+                WITH RECURSIVE seq (n) AS (SELECT 0 UNION ALL SELECT n + 1 FROM seq WHERE n < 999)
+                SELECT r.i + 1, UUID_TO_BIN(UUID()), IF(r.i % 3 = 2, 2, 1), r.i % 3 + 1, r.i, '출금', '가맹점', 1000, 1000000,
+                       TIMESTAMP('2025-06-01') + INTERVAL (r.i DIV 7) MINUTE
+                FROM (SELECT a.n * 5 + b.k AS i FROM seq a
+                      CROSS JOIN (SELECT 0 AS k UNION ALL SELECT 1 UNION ALL SELECT 2 UNION ALL SELECT 3 UNION ALL SELECT 4) b) r
+                """);
+        jdbcTemplate.execute("ANALYZE TABLE `transaction`");
+    }
+
+    @Test
+    @DisplayName("계좌 거래내역 첫 페이지 / 다음 페이지: idx_tx_account_time 으로 읽고 filesort 없음")
+    void accountPagesUseIndexWithoutFilesort() {
+        MapSqlParameterSource first = new MapSqlParameterSource("accountId", 1L).addValue("size", PAGE_SIZE);
+        MapSqlParameterSource next = new MapSqlParameterSource(first.getValues()).addValue("cursorAt", cursorAt()).addValue("cursorId", 2_500L);
+
+        assertUsesIndexInOrder(explain("findFirstPageByAccountId", first), ACCOUNT_INDEX);
+        assertUsesIndexInOrder(explain("findNextPageByAccountId", next), ACCOUNT_INDEX);
+    }
+
+    @Test
+    @DisplayName("슬롯 거래내역 첫 페이지 / 다음 페이지: idx_tx_slot_time_id 로 읽고 filesort 없음")
+    void accountSlotPagesUseIndexWithoutFilesort() {
+        MapSqlParameterSource first = new MapSqlParameterSource("accountSlotId", 1L).addValue("size", PAGE_SIZE);
+        MapSqlParameterSource next = new MapSqlParameterSource(first.getValues()).addValue("cursorAt", cursorAt()).addValue("cursorId", 2_500L);
+
+        assertUsesIndexInOrder(explain("findFirstPageByAccountSlotId", first), SLOT_INDEX);
+        Map<String, Object> plan = explain("findNextPageByAccountSlotId", next);
+        assertUsesIndexInOrder(plan, SLOT_INDEX);
+        assertThat(plan.get("type")).isEqualTo("range"); // 커서 조건이 인덱스 범위로 들어감 (읽고 버리는 행 없음)
+    }
+
+    private static void assertUsesIndexInOrder(Map<String, Object> plan, String index) {
+        assertThat(plan.get("key")).as("plan: %s", plan).isEqualTo(index);
+        assertThat(plan.get("type")).as("plan: %s", plan).isIn("ref", "range");
+        assertThat(String.valueOf(plan.get("Extra"))).as("plan: %s", plan).doesNotContain("filesort");
+    }
+
+    private Map<String, Object> explain(String repositoryMethod, MapSqlParameterSource params) {
+        List<Map<String, Object>> rows = namedJdbcTemplate.queryForList("EXPLAIN " + nativeQuery(repositoryMethod), params);
+        assertThat(rows).hasSize(1);
+        return rows.get(0);
+    }
+
+    private static String nativeQuery(String repositoryMethod) {
+        Method method = Arrays.stream(TransactionRepository.class.getMethods())
+                .filter(m -> m.getName().equals(repositoryMethod))
+                .findFirst().orElseThrow();
+        return method.getAnnotation(Query.class).value();
+    }
+
+    // 5,000 건 중 가운데쯤 (i = 2,499 → 356분)
+    private static LocalDateTime cursorAt() {
+        return LocalDateTime.of(2025, 6, 1, 0, 0).plusMinutes(2_499 / 7);
+    }
+}
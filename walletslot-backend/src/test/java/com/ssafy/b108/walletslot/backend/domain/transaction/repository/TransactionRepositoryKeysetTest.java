@@ -0,0 +1,124 @@
+package com.ssafy.b108.walletslot.backend.domain.transaction.repository;
+
+import com.ssafy.b108.walletslot.backend.domain.account.entity.Account;
+import com.ssafy.b108.walletslot.backend.domain.bank.entity.Bank;
+import com.ssafy.b108.walletslot.backend.domain.slot.entity.AccountSlot;
+import com.ssafy.b108.walletslot.backend.domain.slot.entity.Slot;
+import com.ssafy.b108.walletslot.backend.domain.transaction.entity.Transaction;
+import com.ssafy.b108.walletslot.backend.domain.user.entity.User;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 거래내역 목록 키셋 페이징 (transaction_at DESC, id DESC) 이 페이지 경계에서 빠지거나 겹치는 행 없이 전체를 한 번씩 돌려주는지 확인합니다.
+ * transaction_at 이 같은 행을 일부러 많이 만들고 (분할 / 더치페이처럼), id 순서와 시간 순서가 엇갈리도록 섞어서 넣습니다.
+ * DB 는 인메모리 H2 입니다. 실제 MySQL 에서 인덱스 범위 스캔을 타는지는 TransactionRepositoryExplainTest 에서 봅니다.
+ */
+@DataJpaTest
+class TransactionRepositoryKeysetTest {
+
+    private static final int ROWS = 250;
+    private static final int SAME_TIME = 7; // transaction_at 이 같은 행 묶음 크기
+    private static final int PAGE_SIZE = 20; // SAME_TIME 의 배수가 아니라서 묶음 중간에서 페이지가 끊김
+
+    @Autowired private TransactionRepository transactionRepository;
+    @Autowired private EntityManager entityManager;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    private Account account;
+    private AccountSlot slotA;
+    private AccountSlot slotB;
+
+    @BeforeEach
+    void setUp() {
+        // DB 기본값으로 채우는 컬럼 (insertable = false) 은 엔티티로 만든 스키마에 기본값이 없어서 추가
+        jdbcTemplate.execute("ALTER TABLE \"user\" ALTER COLUMN created_at SET DEFAULT CURRENT_TIMESTAMP");
+        jdbcTemplate.execute("ALTER TABLE account ALTER COLUMN last_synced_at SET DEFAULT CURRENT_TIMESTAMP");
+        jdbcTemplate.execute("ALTER TABLE account_slot ALTER COLUMN created_at SET DEFAULT CURRENT_TIMESTAMP");
+
+        User user = persist(User.builder().name("테스트").phoneNumber("01000000000").gender(User.Gender.MAN)
+                .birthDate(LocalDateTime.of(1990, 1, 1, 0, 0)).baseDay((short) 1).build());
+        Bank bank = persist(Bank.builder().name("테스트은행").code("999").color("#000000").build());
+        account = persist(Account.builder().user(user).bank(bank).encryptedAccountNo("enc").build());
+        slotA = persist(AccountSlot.builder().account(account).slot(persist(Slot.builder().name("식비").rank(1).build()))
+                .initialBudget(100_000L).currentBudget(100_000L).build());
+        slotB = persist(AccountSlot.builder().account(account).slot(persist(Slot.builder().name("교통비").rank(2).build()))
+                .initialBudget(100_000L).currentBudget(100_000L).build());
+
+        List<Integer> order = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) order.add(i);
+        Collections.shuffle(order, new Random(42));
+
+        LocalDateTime base = LocalDateTime.of(2025, 6, 1, 0, 0);
+        for (int i : order) {
+            persist(Transaction.builder().account(account).accountSlot(i % 3 == 0 ? slotB : slotA).uniqueNo((long) i).type("출금")
+                    .summary("가맹점" + i).amount(1_000L).balance(1_000_000L).transactionAt(base.plusMinutes(i / SAME_TIME)).build());
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("계좌 거래내역: 모든 페이지를 이어 붙이면 (transaction_at, id) 내림차순 전체와 같음")
+    void accountPagesCoverEveryRowOnce() {
+        List<Long> paged = walk(
+                () -> transactionRepository.findFirstPageByAccountId(account.getId(), PAGE_SIZE),
+                last -> transactionRepository.findNextPageByAccountId(account.getId(), last.getTransactionAt(), last.getId(), PAGE_SIZE));
+
+        assertThat(paged).containsExactlyElementsOf(expected(t -> true));
+    }
+
+    @Test
+    @DisplayName("슬롯 거래내역: 모든 페이지를 이어 붙이면 그 슬롯 거래의 (transaction_at, id) 내림차순 전체와 같음")
+    void accountSlotPagesCoverEveryRowOnce() {
+        for (AccountSlot slot : List.of(slotA, slotB)) {
+            List<Long> paged = walk(
+                    () -> transactionRepository.findFirstPageByAccountSlotId(slot.getId(), PAGE_SIZE),
+                    last -> transactionRepository.findNextPageByAccountSlotId(slot.getId(), last.getTransactionAt(), last.getId(), PAGE_SIZE));
+
+            assertThat(paged).containsExactlyElementsOf(expected(t -> t.getAccountSlot().getId().equals(slot.getId())));
+        }
+    }
+
+    // 서비스와 같은 방식: 꽉 찬 페이지면 마지막 행을 커서로 다음 페이지
+    private List<Long> walk(Supplier<List<Transaction>> first, Function<Transaction, List<Transaction>> next) {
+        List<Long> ids = new ArrayList<>();
+        List<Transaction> page = first.get();
+        while (true) {
+            page.forEach(t -> ids.add(t.getId()));
+            if (page.size() < PAGE_SIZE) return ids;
+            page = next.apply(page.get(page.size() - 1));
+        }
+    }
+
+    private List<Long> expected(Predicate<Transaction> filter) {
+        return transactionRepository.findAll().stream()
+                .filter(filter)
+                .sorted(Comparator.comparing(Transaction::getTransactionAt).thenComparing(Transaction::getId).reversed())
+                .map(Transaction::getId)
+                .toList();
+    }
+
+    private <T> T persist(T entity) {
+        entityManager.persist(entity);
+        return entity;
+    }
+}
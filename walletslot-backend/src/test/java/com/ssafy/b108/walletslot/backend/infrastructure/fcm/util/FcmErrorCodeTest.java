@@ -0,0 +1,60 @@
+package com.ssafy.b108.walletslot.backend.infrastructure.fcm.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FcmErrorCodeTest {
+
+    @Test
+    @DisplayName("details[].errorCode 가 UNREGISTERED / SENDER_ID_MISMATCH 면 토큰 제거 대상")
+    void detailsErrorCodeMarksTokenDead() {
+        String unregistered = error(404, "NOT_FOUND", "UNREGISTERED");
+        String mismatch = error(403, "PERMISSION_DENIED", "SENDER_ID_MISMATCH");
+
+        assertThat(FcmErrorCode.classify(404, unregistered)).isEqualTo(FcmErrorCode.UNREGISTERED);
+        assertThat(FcmErrorCode.classify(403, mismatch)).isEqualTo(FcmErrorCode.SENDER_ID_MISMATCH);
+        assertThat(FcmErrorCode.classify(403, mismatch).isTokenDead()).isTrue();
+    }
+
+    @Test
+    @DisplayName("세부 코드 없는 403 은 토큰을 지우지 않음 (서비스계정 권한 문제일 수 있음)")
+    void bare403IsNotTokenDead() {
+        FcmErrorCode byBody = FcmErrorCode.classify(403, "{\"error\":{\"code\":403,\"status\":\"PERMISSION_DENIED\"}}");
+        FcmErrorCode byStatus = FcmErrorCode.classify(403, "");
+
+        assertThat(byBody).isEqualTo(FcmErrorCode.PERMISSION_DENIED);
+        assertThat(byStatus).isEqualTo(FcmErrorCode.PERMISSION_DENIED);
+        assertThat(byBody.isTokenDead()).isFalse();
+        assertThat(byBody.isRetryable()).isTrue();
+    }
+
+    @Test
+    @DisplayName("404 는 바디가 없어도 UNREGISTERED")
+    void bare404IsUnregistered() {
+        assertThat(FcmErrorCode.classify(404, null)).isEqualTo(FcmErrorCode.UNREGISTERED);
+        assertThat(FcmErrorCode.classify(404, "{\"error\":{\"status\":\"NOT_FOUND\"}}")).isEqualTo(FcmErrorCode.UNREGISTERED);
+    }
+
+    @Test
+    @DisplayName("JSON 이 아닌 바디는 HTTP 상태코드로 판단")
+    void nonJsonBodyFallsBackToHttpStatus() {
+        assertThat(FcmErrorCode.classify(503, "<html>Service Unavailable</html>")).isEqualTo(FcmErrorCode.UNAVAILABLE);
+        assertThat(FcmErrorCode.classify(429, "oops")).isEqualTo(FcmErrorCode.QUOTA_EXCEEDED);
+        assertThat(FcmErrorCode.classify(418, null)).isEqualTo(FcmErrorCode.UNKNOWN);
+    }
+
+    @Test
+    @DisplayName("알 수 없는 details 코드는 건너뛰고 error.status 로 판단")
+    void unknownDetailFallsBackToStatus() {
+        String body = "{\"error\":{\"status\":\"UNAVAILABLE\",\"details\":[{\"errorCode\":\"SOMETHING_NEW\"}]}}";
+
+        assertThat(FcmErrorCode.classify(503, body)).isEqualTo(FcmErrorCode.UNAVAILABLE);
+    }
+
+    private static String error(int code, String status, String errorCode) {
+        return "{\"error\":{\"code\":" + code + ",\"status\":\"" + status + "\","
+                + "\"details\":[{\"@type\":\"type.googleapis.com/google.firebase.fcm.v1.FcmError\",\"errorCode\":\"" + errorCode + "\"}]}}";
+    }
+}
@@ -0,0 +1,71 @@
+package com.ssafy.b108.walletslot.backend.infrastructure.fcm.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FcmPayloadWriterTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @Test
+    @DisplayName("FCM v1 메시지 구조로 쓰고, 한글은 UTF-8 그대로")
+    void writesMessageStructure() throws Exception {
+        JsonNode message = write("token-123", "[💸지출알림] 스타벅스", "(남은 예산: 12,000원)").path("message");
+
+        assertThat(message.path("token").asText()).isEqualTo("token-123");
+        assertThat(message.path("notification").path("title").asText()).isEqualTo("[💸지출알림] 스타벅스");
+        assertThat(message.path("notification").path("body").asText()).isEqualTo("(남은 예산: 12,000원)");
+    }
+
+    @Test
+    @DisplayName("따옴표/역슬래시/줄바꿈/제어문자를 이스케이프해서 Jackson 으로 다시 읽어도 원문과 같음")
+    void escapesSpecialCharacters() throws Exception {
+        String body = "he said \"hi\"\\ \n\r\t\b\f end \u0001";
+
+        JsonNode message = write("t", "title", body).path("message");
+
+        assertThat(message.path("notification").path("body").asText()).isEqualTo(body);
+    }
+
+    @Test
+    @DisplayName("null 값은 빈 문자열로 씀")
+    void writesNullAsEmpty() throws Exception {
+        JsonNode message = write("t", null, null).path("message");
+
+        assertThat(message.path("notification").path("title").asText()).isEmpty();
+        assertThat(message.path("notification").path("body").asText()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Jackson 직렬화 결과와 같은 바이트")
+    void matchesJacksonOutput() throws Exception {
+        String token = "abc:DEF_123";
+        String title = "[⚠️예산초과] \"식비\" 슬롯";
+        String body = "(초과금액: 3,000원)\n확인해 주세요";
+
+        String expected = OBJECT_MAPPER.writeValueAsString(
+                OBJECT_MAPPER.createObjectNode().set("message", OBJECT_MAPPER.createObjectNode()
+                        .put("token", token)
+                        .set("notification", OBJECT_MAPPER.createObjectNode().put("title", title).put("body", body))));
+
+        assertThat(writeString(token, title, body)).isEqualTo(expected);
+    }
+
+    private static JsonNode write(String token, String title, String body) throws Exception {
+        return OBJECT_MAPPER.readTree(writeString(token, title, body));
+    }
+
+    private static String writeString(String token, String title, String body) {
+        DataBuffer buffer = DefaultDataBufferFactory.sharedInstance.allocateBuffer(64);
+        FcmPayloadWriter.write(buffer, token, title, body);
+        return buffer.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,95 @@
+package com.ssafy.b108.walletslot.backend.infrastructure.llm.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LlmCircuitBreakerTest {
+
+    private static final long OPEN_MS = 1_000;
+
+    // 최근 4회 중 최소 4회, 실패율 50% 이상이면 OPEN
+    private final LlmCircuitBreaker breaker = new LlmCircuitBreaker(4, 4, 0.5, OPEN_MS);
+
+    @Test
+    @DisplayName("최소 호출 수 전에는 실패해도 열리지 않음")
+    void staysClosedBelowMinCalls() {
+        breaker.onFailure(0);
+        breaker.onFailure(0);
+        breaker.onFailure(0);
+
+        assertThat(breaker.state()).isEqualTo(LlmCircuitBreaker.State.CLOSED);
+        assertThat(breaker.tryAcquire(0)).isTrue();
+    }
+
+    @Test
+    @DisplayName("실패율이 임계치를 넘으면 OPEN, openDuration 동안 호출 차단")
+    void opensOnFailureRate() {
+        breaker.onSuccess();
+        breaker.onSuccess();
+        breaker.onFailure(100);
+        breaker.onFailure(100);
+
+        assertThat(breaker.state()).isEqualTo(LlmCircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquire(100 + OPEN_MS - 1)).isFalse();
+    }
+
+    @Test
+    @DisplayName("오래된 결과는 창 밖으로 밀려나서 실패율에 반영되지 않음")
+    void slidingWindowForgetsOldResults() {
+        breaker.onFailure(0);
+        breaker.onSuccess();
+        breaker.onSuccess();
+        breaker.onSuccess();
+        // 창: [F, S, S, S] → 25%
+        breaker.onFailure(0);
+        // 창: [S, S, S, F] → 25% (첫 실패는 밀려남)
+
+        assertThat(breaker.state()).isEqualTo(LlmCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("openDuration 이 지나면 HALF_OPEN 으로 시험 호출 1건만 통과")
+    void halfOpenAllowsSingleTrial() {
+        open(0);
+
+        assertThat(breaker.tryAcquire(OPEN_MS)).isTrue();
+        assertThat(breaker.state()).isEqualTo(LlmCircuitBreaker.State.HALF_OPEN);
+        assertThat(breaker.tryAcquire(OPEN_MS)).isFalse();
+    }
+
+    @Test
+    @DisplayName("시험 호출이 성공하면 CLOSED 로 돌아가고 창도 비움")
+    void trialSuccessCloses() {
+        open(0);
+        breaker.tryAcquire(OPEN_MS);
+
+        breaker.onSuccess();
+
+        assertThat(breaker.state()).isEqualTo(LlmCircuitBreaker.State.CLOSED);
+        // 창이 비워져서 실패 3번으로는 다시 열리지 않음
+        breaker.onFailure(OPEN_MS);
+        breaker.onFailure(OPEN_MS);
+        breaker.onFailure(OPEN_MS);
+        assertThat(breaker.state()).isEqualTo(LlmCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("시험 호출이 실패하면 다시 OPEN, 다음 openDuration 후 다시 시험 가능")
+    void trialFailureReopens() {
+        open(0);
+        breaker.tryAcquire(OPEN_MS);
+
+        breaker.onFailure(OPEN_MS);
+
+        assertThat(breaker.state()).isEqualTo(LlmCircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquire(OPEN_MS + 1)).isFalse();
+        assertThat(breaker.tryAcquire(2 * OPEN_MS)).isTrue();
+    }
+
+    private void open(long nowMs) {
+        for (int i = 0; i < 4; i++) breaker.onFailure(nowMs);
+        assertThat(breaker.state()).isEqualTo(LlmCircuitBreaker.State.OPEN);
+    }
+}